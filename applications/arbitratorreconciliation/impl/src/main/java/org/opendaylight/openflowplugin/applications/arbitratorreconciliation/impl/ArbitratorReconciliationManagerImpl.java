@@ -18,12 +18,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -106,14 +103,12 @@ public final class ArbitratorReconciliationManagerImpl implements Reconciliation
             .build()).build())
         .build();
 
-    // FIXME: use CM to control this constant
-    private static final int THREAD_POOL_SIZE = 4;
     // FIXME: use CM to control this constant
     private static final int ARBITRATOR_RECONCILIATION_PRIORITY =
         Integer.getInteger("arbitrator.reconciliation.manager.priority", 0 /*default*/);
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
     private final Map<Uint64, BundleDetails> bundleIdMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Uint64, ListenableFuture<Boolean>> reconciliationFutures = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Registration> rpcRegistrations = new ConcurrentHashMap<>();
 
     private final RpcProviderService rpcProviderService;
@@ -139,7 +134,7 @@ public final class ArbitratorReconciliationManagerImpl implements Reconciliation
     @PreDestroy
     @Override
     public void close() throws Exception {
-        executor.shutdown();
+        reconciliationFutures.values().forEach(future -> future.cancel(true));
         registration.close();
     }
 
@@ -202,6 +197,11 @@ public final class ArbitratorReconciliationManagerImpl implements Reconciliation
     public ListenableFuture<Boolean> endReconciliation(final DeviceInfo node) {
         Uint64 datapathId = node.getDatapathId();
         LOG.trace("Stopping arbitrator reconciliation for node {}", datapathId);
+        // Abort the bundle setup if it is still in progress, the switch discards the bundle on disconnect
+        final var future = reconciliationFutures.remove(datapathId);
+        if (future != null) {
+            future.cancel(true);
+        }
         bundleIdMap.remove(datapathId);
         deregisterRpc(node);
         return FluentFutures.immediateTrueFluentFuture();
@@ -232,19 +232,28 @@ public final class ArbitratorReconciliationManagerImpl implements Reconciliation
     }
 
     private ListenableFuture<Boolean> reconcileConfiguration(final DeviceInfo node) {
-        LOG.info("Triggering arbitrator reconciliation for device {}", node.getDatapathId());
-        return Futures.submit(new ArbitratorReconciliationTask(node), executor);
+        final var datapathId = node.getDatapathId();
+        LOG.info("Triggering arbitrator reconciliation for device {}", datapathId);
+        final var future = new ArbitratorReconciliationTask(node).start();
+        reconciliationFutures.put(datapathId, future);
+        future.addListener(() -> reconciliationFutures.remove(datapathId, future), MoreExecutors.directExecutor());
+        return future;
     }
 
-    private final class ArbitratorReconciliationTask implements Callable<Boolean> {
+    /**
+     * Opens a bundle on the device and seeds it with messages deleting all flows and groups. Applications then push
+     * the node's configuration into the bundle while an upgrade is in progress, until it is committed via the
+     * {@link CommitActiveBundle} RPC. All steps are asynchronous, so that no thread is held while waiting for the
+     * device and the setup can be cancelled at any point.
+     */
+    private final class ArbitratorReconciliationTask {
         private final DeviceInfo deviceInfo;
 
         ArbitratorReconciliationTask(final DeviceInfo deviceInfo) {
             this.deviceInfo = requireNonNull(deviceInfo);
         }
 
-        @Override
-        public Boolean call() {
+        ListenableFuture<Boolean> start() {
             final var nodeInstance = deviceInfo.getNodeInstanceIdentifier();
 
 
@@ -277,20 +286,19 @@ public final class ArbitratorReconciliationManagerImpl implements Reconciliation
                         .build())
                     : FluentFutures.immediateNullFluentFuture(), MoreExecutors.directExecutor());
             final var nodeId = getDpnIdFromNodeName(node);
-            try {
-                if (addBundleMessagesFuture.get().isSuccessful()) {
+            return Futures.catching(Futures.transform(addBundleMessagesFuture, rpcResult -> {
+                if (rpcResult != null && rpcResult.isSuccessful()) {
                     bundleIdMap.put(nodeId, new BundleDetails(bundleIdValue,
                         FluentFutures.immediateNullFluentFuture()));
                     LOG.debug("Arbitrator reconciliation initial task has been completed for node {} ", nodeId);
                     return true;
-                } else {
-                    LOG.error("Error while performing arbitrator reconciliation for device:{}", nodeId);
-                    return false;
                 }
-            } catch (InterruptedException | ExecutionException e) {
+                LOG.error("Error while performing arbitrator reconciliation for device:{}", nodeId);
+                return false;
+            }, MoreExecutors.directExecutor()), Exception.class, e -> {
                 LOG.error("Error while performing arbitrator reconciliation for device:{}", nodeId, e);
                 return false;
-            }
+            }, MoreExecutors.directExecutor());
         }
     }
 
@@ -200,6 +200,14 @@ public interface ForwardingRulesManager extends ConfigurationListener {
      */
     boolean isBundleBasedReconciliationEnabled();
 
+    /**
+     * Return maximum number of flows and groups pushed to a bundle in a single request during bundle based
+     * reconciliation.
+     *
+     * @return chunk size
+     */
+    int getBundleMessageChunkSize();
+
     /**
      * Return the NodeConfigurator which could be used to serialize jobs.
      *
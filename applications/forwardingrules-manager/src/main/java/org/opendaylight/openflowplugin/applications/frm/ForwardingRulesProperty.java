@@ -16,7 +16,8 @@ public enum ForwardingRulesProperty {
     DISABLE_RECONCILIATION,
     STALE_MARKING_ENABLED,
     RECONCILIATION_RETRY_COUNT,
-    BUNDLE_BASED_RECONCILIATION_ENABLED;
+    BUNDLE_BASED_RECONCILIATION_ENABLED,
+    BUNDLE_MESSAGE_CHUNK_SIZE;
 
 
     private static final Map<String, ForwardingRulesProperty> KEY_VALUE_MAP;
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frm.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowplugin.applications.frm.util.FrmUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.Message;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.MessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddGroupCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.add.flow._case.AddFlowCaseDataBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.add.group._case.AddGroupCaseDataBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bundle add messages for all groups and flows of a node, produced in chunks of bounded size as the node's
+ * configuration is walked, so that only one chunk of messages is held at a time. Groups are produced ahead of flows,
+ * so that all groups a flow may depend on are already part of the bundle. Flows depending on a group which is not
+ * present in the configuration are skipped.
+ *
+ * <p>
+ * The configuration itself is read as a whole. Groups, meters and the list of tables can only be reached by reading the
+ * node, so the number of messages built from the configuration is bounded, not the read.
+ *
+ * <p>
+ * A chunk is produced again until it is {@link #acknowledge() acknowledged}, so that pushing the messages can resume
+ * with the first chunk the switch has not received after a failure.
+ *
+ * <p>
+ * This class is not thread-safe, chunks are expected to be requested one at a time.
+ */
+final class BundleMessageStream {
+    private static final Logger LOG = LoggerFactory.getLogger(BundleMessageStream.class);
+
+    private final Set<Uint32> groupIds = new HashSet<>();
+    private final Iterator<Group> groups;
+    private final Iterator<Table> tables;
+    private final NodeRef nodeRef;
+    private final String nodeId;
+    private final int chunkSize;
+
+    private Iterator<Flow> flows = Collections.emptyIterator();
+    private List<Message> pending = List.of();
+    private long produced;
+    private long acknowledged;
+
+    /**
+     * Create a stream.
+     *
+     * @param flowNode node configuration
+     * @param nodeRef node reference to place into messages
+     * @param nodeId node identifier, for logging
+     * @param chunkSize maximum number of messages in a chunk
+     */
+    BundleMessageStream(final FlowCapableNode flowNode, final NodeRef nodeRef, final String nodeId,
+            final int chunkSize) {
+        checkArgument(chunkSize > 0, "Chunk size must be positive, not %s", chunkSize);
+        groups = flowNode.nonnullGroup().values().iterator();
+        tables = flowNode.nonnullTable().values().iterator();
+        this.nodeRef = requireNonNull(nodeRef);
+        this.nodeId = requireNonNull(nodeId);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Produce the next chunk of messages, or the last one again if it has not been acknowledged.
+     *
+     * @return next chunk, empty if all messages were produced and acknowledged
+     */
+    @NonNull List<Message> nextChunk() {
+        if (!pending.isEmpty()) {
+            return pending;
+        }
+
+        final var chunk = new ArrayList<Message>(chunkSize);
+        while (chunk.size() < chunkSize && groups.hasNext()) {
+            final var group = groups.next();
+            groupIds.add(group.getGroupId().getValue());
+            chunk.add(new MessageBuilder()
+                .setNode(nodeRef)
+                .setBundleInnerMessage(new BundleAddGroupCaseBuilder()
+                    .setAddGroupCaseData(new AddGroupCaseDataBuilder(group).build())
+                    .build())
+                .build());
+        }
+
+        while (chunk.size() < chunkSize) {
+            final var flow = nextFlow();
+            if (flow == null) {
+                break;
+            }
+
+            final var groupId = FrmUtil.isFlowDependentOnGroup(flow);
+            if (groupId != null && !groupIds.contains(groupId)) {
+                LOG.debug("Group {} not present in the config inventory, skipping flow {} for node {}", groupId,
+                    flow.getId(), nodeId);
+                continue;
+            }
+            chunk.add(new MessageBuilder()
+                .setNode(nodeRef)
+                .setBundleInnerMessage(new BundleAddFlowCaseBuilder()
+                    .setAddFlowCaseData(new AddFlowCaseDataBuilder(flow).build())
+                    .build())
+                .build());
+        }
+
+        produced += chunk.size();
+        pending = Collections.unmodifiableList(chunk);
+        return pending;
+    }
+
+    /**
+     * Acknowledge the last chunk produced, so that the next one can be produced.
+     */
+    void acknowledge() {
+        acknowledged += pending.size();
+        pending = List.of();
+    }
+
+    /**
+     * Return the number of messages produced so far.
+     *
+     * @return number of messages
+     */
+    long produced() {
+        return produced;
+    }
+
+    /**
+     * Return the number of messages acknowledged so far, which is where pushing them resumes after a failure.
+     *
+     * @return number of messages
+     */
+    long acknowledged() {
+        return acknowledged;
+    }
+
+    /**
+     * Return identifiers of groups produced so far.
+     *
+     * @return group identifiers
+     */
+    @NonNull Set<Uint32> groupIds() {
+        return Collections.unmodifiableSet(groupIds);
+    }
+
+    private Flow nextFlow() {
+        while (!flows.hasNext()) {
+            if (!tables.hasNext()) {
+                return null;
+            }
+            flows = tables.next().nonnullFlow().values().iterator();
+        }
+        return flows.next();
+    }
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -76,6 +77,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.N
 import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesOutputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.ControlBundleInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.Messages;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.MessagesBuilder;
@@ -92,7 +94,9 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow
 import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.TableFeatures;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.TableFeaturesKey;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
 import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -119,12 +123,16 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
     private static final long ADD_GROUP_TIMEOUT = TimeUnit.SECONDS.toNanos(3);
     // The maximum number of nanoseconds to wait for completion of add-group RPCs.
     private static final long MAX_ADD_GROUP_TIMEOUT = TimeUnit.SECONDS.toNanos(20);
+    // The number of nanoseconds to wait before resending a rejected chunk of bundle messages, times the attempt.
+    private static final long BUNDLE_CHUNK_RETRY_DELAY = TimeUnit.MILLISECONDS.toNanos(100);
 
     private final ConcurrentMap<DeviceInfo, ListenableFuture<Boolean>> futureMap = new ConcurrentHashMap<>();
-    private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final ExecutorService executor;
     private static final BundleFlags BUNDLE_FLAGS = new BundleFlags(true, true);
     private static final AtomicLong BUNDLE_ID = new AtomicLong();
     private final Map<String, ReconciliationState> reconciliationStates;
+    // Number of flows, groups and meters configured for each node when it was last reconciled, kept across reconnects
+    private final ConcurrentMap<String, Long> nodeSizes = new ConcurrentHashMap<>();
     private final DataBroker dataBroker;
     private final ForwardingRulesManager provider;
     private final String serviceName;
@@ -133,13 +141,19 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
 
     public FlowNodeReconciliationImpl(final ForwardingRulesManager manager, final DataBroker db,
                                       final String serviceName, final int priority, final ResultState resultState,
-                                      final FlowGroupCacheManager flowGroupCacheManager) {
+                                      final FlowGroupCacheManager flowGroupCacheManager,
+                                      final boolean useVirtualThreads) {
         provider = requireNonNull(manager, "ForwardingRulesManager can not be null!");
         dataBroker = requireNonNull(db, "DataBroker can not be null!");
         this.serviceName = serviceName;
         this.priority = priority;
         this.resultState = resultState;
         reconciliationStates = flowGroupCacheManager.getReconciliationStates();
+        // Reconciliation tasks spend most of their time waiting for add-group RPCs and bundle commits, a virtual
+        // thread per task lets all connected nodes reconcile at once without dedicating a platform thread to each
+        executor = useVirtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("FrmReconciliation-", 0).factory())
+            : Executors.newFixedThreadPool(THREAD_POOL_SIZE);
     }
 
     @Override
@@ -186,8 +200,10 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
             Optional<FlowCapableNode> flowNode = Optional.empty();
             BundleId bundleIdValue = new BundleId(Uint32.valueOf(BUNDLE_ID.getAndIncrement()));
             BigInteger dpnId = getDpnIdFromNodeName(node);
-            ExecutorService service = Executors.newSingleThreadExecutor(THREAD_FACTORY);
+            ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY);
             LOG.info("Triggering bundle based reconciliation for device : {}", dpnId);
+            // Groups and meters can only be listed by reading the node, hence it is read as a whole. Only the bundle
+            // messages built from it are streamed in chunks.
             try (ReadTransaction trans = provider.getReadTransaction()) {
                 flowNode = trans.read(LogicalDatastoreType.CONFIGURATION, nodeIdentity).get();
             } catch (ExecutionException | InterruptedException e) {
@@ -195,6 +211,7 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
             }
 
             if (flowNode.isPresent()) {
+                recordNodeSize(dpnId, flowNode.orElseThrow());
                 final var reconciliationState = new ReconciliationState(STARTED, LocalDateTime.now());
                 //put the dpn info into the map
                 reconciliationStates.put(dpnId.toString(), reconciliationState);
@@ -244,8 +261,8 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
                 final var addbundlesFuture = Futures.transformAsync(deleteAllFlowGroupsFuture, rpcResult -> {
                     if (rpcResult.isSuccessful()) {
                         LOG.debug("Adding delete all flow/group message is successful for device {}", dpnId);
-                        return Futures.allAsList(addBundleMessages(finalFlowNode.orElseThrow(), bundleIdValue,
-                            nodeIdentity));
+                        return addBundleMessages(finalFlowNode.orElseThrow(), bundleIdValue, nodeIdentity,
+                            reconciliationState, service);
                     }
                     return Futures.immediateFuture(null);
                 }, service);
@@ -282,7 +299,16 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
                     LOG.error("commit bundle failed for device {} with error {}", dpnId,
                             commitBundleFuture.get().getErrors());
                     return false;
-                } catch (InterruptedException | ExecutionException e) {
+                } catch (InterruptedException e) {
+                    // Cancelled, most likely because the node disconnected, which discards the open bundle on the
+                    // switch. Stop streaming messages into it, the next connection starts over with a new bundle.
+                    Thread.currentThread().interrupt();
+                    commitBundleFuture.cancel(true);
+                    reconciliationState.setState(FAILED, LocalDateTime.now());
+                    LOG.info("Bundle based reconciliation for device ID:{} aborted after {} messages", dpnId,
+                        reconciliationState.getProgress());
+                    return false;
+                } catch (ExecutionException e) {
                     reconciliationState.setState(FAILED, LocalDateTime.now());
                     LOG.error("Error while doing bundle based reconciliation for device ID:{}", dpnId, e);
                     return false;
@@ -328,6 +354,27 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
         return resultState;
     }
 
+    /**
+     * Return the number of flows, groups and meters the node had configured when it was last reconciled by this
+     * controller, so that the largest nodes are reconciled first. Nodes which have not been reconciled here yet weigh
+     * nothing.
+     *
+     * @param node the node to be reconciled
+     * @return the weight of the node
+     */
+    @Override
+    public long getNodeWeight(final DeviceInfo node) {
+        return nodeSizes.getOrDefault(node.getDatapathId().toString(), 0L);
+    }
+
+    private void recordNodeSize(final BigInteger dpnId, final FlowCapableNode flowNode) {
+        long size = flowNode.nonnullGroup().size() + flowNode.nonnullMeter().size();
+        for (var table : flowNode.nonnullTable().values()) {
+            size += table.nonnullFlow().size();
+        }
+        nodeSizes.put(dpnId.toString(), size);
+    }
+
     private class ReconciliationTask implements Callable<Boolean> {
         private final DataObjectIdentifier<FlowCapableNode> nodeIdentity;
 
@@ -360,6 +407,7 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
                 reconciliationStates.put(dpnId.toString(), reconciliationState);
                 LOG.debug("Triggering reconciliation for node {} with state: {}", dpnId, STARTED);
                 FlowCapableNode flowNode = optFlowNode.orElseThrow();
+                recordNodeSize(dpnId, flowNode);
                 Collection<TableFeatures> tableList = flowNode.nonnullTableFeatures().values();
                 for (TableFeatures tableFeaturesItem : tableList) {
                     TableFeaturesKey tableKey = tableFeaturesItem.key();
@@ -679,23 +727,88 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
             .build();
     }
 
-    private List<ListenableFuture<RpcResult<AddBundleMessagesOutput>>> addBundleMessages(final FlowCapableNode flowNode,
-            final BundleId bundleIdValue, final DataObjectIdentifier<FlowCapableNode> nodeIdentity) {
-        List<ListenableFuture<RpcResult<AddBundleMessagesOutput>>> futureList = new ArrayList<>();
-        for (Group group : flowNode.nonnullGroup().values()) {
-            final var groupIdent = nodeIdentity.toBuilder().child(Group.class, group.key()).build();
-            futureList.add(provider.getBundleGroupListener().add(groupIdent, group, nodeIdentity, bundleIdValue));
-        }
+    /**
+     * Push all groups and flows of a node into a bundle. Messages are streamed as a sequence of
+     * {@code add-bundle-messages} requests of bounded size, each one sent only after the previous one completed, so
+     * that neither the messages built for a large node nor the requests in flight pile up in memory. Groups are placed
+     * ahead of flows, see {@link BundleMessageStream}.
+     *
+     * <p>
+     * A chunk rejected because the request quota of the node was exhausted never reached the switch. Pushing resumes
+     * with that chunk after a delay, up to {@link ForwardingRulesManager#getReconciliationRetryCount()} times. Any
+     * other failure may have left part of the chunk in the bundle and fails the reconciliation.
+     */
+    private ListenableFuture<RpcResult<AddBundleMessagesOutput>> addBundleMessages(final FlowCapableNode flowNode,
+            final BundleId bundleIdValue, final DataObjectIdentifier<FlowCapableNode> nodeIdentity,
+            final ReconciliationState reconciliationState, final ScheduledExecutorService executor) {
+        final var nodeId = FrmUtil.getNodeIdValueFromNodeIdentifier(nodeIdentity);
+        final var stream = new BundleMessageStream(flowNode, new NodeRef(nodeIdentity.trimTo(Node.class)), nodeId,
+            Math.max(1, provider.getBundleMessageChunkSize()));
+        final var resultFuture = addBundleChunks(stream, bundleIdValue, nodeIdentity, reconciliationState, executor,
+            0);
+        Futures.addCallback(resultFuture, new FutureCallback<RpcResult<AddBundleMessagesOutput>>() {
+            @Override
+            public void onSuccess(final RpcResult<AddBundleMessagesOutput> result) {
+                if (result.isSuccessful()) {
+                    OF_EVENT_LOG.debug("Flow/Group count is {}", stream.produced());
+                    for (var groupId : stream.groupIds()) {
+                        provider.getDevicesGroupRegistry().storeGroup(nodeId, groupId);
+                    }
+                } else {
+                    LOG.error("Adding flows and groups to bundle {} failed for node {} after {} messages with "
+                        + "error: {}", bundleIdValue.getValue(), nodeId, stream.acknowledged(), result.getErrors());
+                }
+            }
 
-        for (Table table : flowNode.nonnullTable().values()) {
-            final var tableIdent = nodeIdentity.toBuilder().child(Table.class, table.key()).build();
-            for (Flow flow : table.nonnullFlow().values()) {
-                final var flowIdent = tableIdent.toBuilder().child(Flow.class, flow.key()).build();
-                futureList.add(provider.getBundleFlowListener().add(flowIdent, flow, nodeIdentity, bundleIdValue));
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.error("Service call for adding flows and groups to bundle {} failed for node {} after {} messages",
+                    bundleIdValue.getValue(), nodeId, stream.acknowledged(), throwable);
             }
+        }, MoreExecutors.directExecutor());
+        return resultFuture;
+    }
+
+    private ListenableFuture<RpcResult<AddBundleMessagesOutput>> addBundleChunks(final BundleMessageStream stream,
+            final BundleId bundleIdValue, final DataObjectIdentifier<FlowCapableNode> nodeIdentity,
+            final ReconciliationState reconciliationState, final ScheduledExecutorService executor,
+            final int attempt) {
+        final var messages = stream.nextChunk();
+        if (messages.isEmpty()) {
+            return RpcResultBuilder.success(new AddBundleMessagesOutputBuilder().build()).buildFuture();
         }
-        OF_EVENT_LOG.debug("Flow/Group count is {}", futureList.size());
-        return futureList;
+
+        final var nodeId = FrmUtil.getNodeIdValueFromNodeIdentifier(nodeIdentity);
+        final var input = new AddBundleMessagesInputBuilder()
+            .setNode(new NodeRef(nodeIdentity.trimTo(Node.class)))
+            .setBundleId(bundleIdValue)
+            .setFlags(BUNDLE_FLAGS)
+            .setMessages(new MessagesBuilder().setMessage(messages).build())
+            .build();
+        return Futures.transformAsync(provider.getNodeConfigurator().enqueueJob(nodeId,
+            () -> provider.addBundleMessages().invoke(input)), result -> {
+                if (result.isSuccessful()) {
+                    stream.acknowledge();
+                    reconciliationState.setProgress(stream.acknowledged());
+                    LOG.debug("Added {} messages to bundle {} for node {}", stream.acknowledged(),
+                        bundleIdValue.getValue(), nodeId);
+                    return addBundleChunks(stream, bundleIdValue, nodeIdentity, reconciliationState, executor, 0);
+                }
+                if (attempt < provider.getReconciliationRetryCount() && isRejected(result)) {
+                    LOG.debug("Request quota of node {} exhausted, resuming bundle {} after {} messages, attempt {}",
+                        nodeId, bundleIdValue.getValue(), stream.acknowledged(), attempt + 1);
+                    return Futures.scheduleAsync(() -> addBundleChunks(stream, bundleIdValue, nodeIdentity,
+                        reconciliationState, executor, attempt + 1), BUNDLE_CHUNK_RETRY_DELAY * (attempt + 1),
+                        TimeUnit.NANOSECONDS, executor);
+                }
+                return Futures.immediateFuture(result);
+            }, executor);
+    }
+
+    // Requests rejected because the request quota was exhausted are failed before any message is sent
+    private static boolean isRejected(final RpcResult<?> result) {
+        final var errors = result.getErrors();
+        return !errors.isEmpty() && errors.stream().allMatch(error -> ErrorTag.ACCESS_DENIED.equals(error.getTag()));
     }
 
     private static void handleStaleEntityDeletionResultFuture(final FluentFuture<? extends CommitInfo> submitFuture) {
@@ -22,6 +22,7 @@ import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.binding.api.RpcService;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.api.openflow.FlowGroupCacheManager;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationProperty;
 import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
 import org.opendaylight.openflowplugin.api.openflow.mastership.MastershipChangeServiceManager;
 import org.opendaylight.openflowplugin.applications.frm.BundleMessagesCommiter;
@@ -93,6 +94,7 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
     private boolean staleMarkingEnabled;
     private int reconciliationRetryCount;
     private boolean isBundleBasedReconciliationEnabled;
+    private int bundleMessageChunkSize;
 
     private final @NonNull AddFlow addFlow;
     private final @NonNull RemoveFlow removeFlow;
@@ -123,6 +125,7 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         staleMarkingEnabled = config.getStaleMarkingEnabled();
         reconciliationRetryCount = config.getReconciliationRetryCount().toJava();
         isBundleBasedReconciliationEnabled = config.getBundleBasedReconciliationEnabled();
+        bundleMessageChunkSize = config.getBundleMessageChunkSize().toJava();
         configurationServiceRegistration = configurationService.registerListener(this);
         dataService = requireNonNull(dataBroker);
         this.openflowServiceRecoveryHandler = requireNonNull(openflowServiceRecoveryHandler);
@@ -143,7 +146,9 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         getActiveBundle = rpcRegistry.getRpc(GetActiveBundle.class);
 
         flowNodeReconciliation = new FlowNodeReconciliationImpl(this, dataService, SERVICE_NAME,
-                FRM_RECONCILIATION_PRIORITY, ResultState.DONOTHING, flowGroupCacheManager);
+                FRM_RECONCILIATION_PRIORITY, ResultState.DONOTHING, flowGroupCacheManager,
+                Boolean.TRUE.equals(configurationService.getProperty(
+                    ConfigurationProperty.ENABLE_VIRTUAL_THREADS.toString(), Boolean::valueOf)));
         if (isReconciliationDisabled()) {
             LOG.debug("Reconciliation is disabled by user");
         } else {
@@ -371,6 +376,11 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         return isBundleBasedReconciliationEnabled;
     }
 
+    @Override
+    public int getBundleMessageChunkSize() {
+        return bundleMessageChunkSize;
+    }
+
     @Override
     public boolean isNodeOwner(final DataObjectIdentifier<FlowCapableNode> ident) {
         return ident != null && deviceMastershipManager.isDeviceMastered(ident.getFirstKeyOf(Node.class).getId());
@@ -398,6 +408,9 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
                 case BUNDLE_BASED_RECONCILIATION_ENABLED:
                     isBundleBasedReconciliationEnabled = Boolean.parseBoolean(propertyValue);
                     break;
+                case BUNDLE_MESSAGE_CHUNK_SIZE:
+                    bundleMessageChunkSize = Integer.parseInt(propertyValue);
+                    break;
                 default:
                     LOG.warn("No forwarding rule property found.");
                     break;
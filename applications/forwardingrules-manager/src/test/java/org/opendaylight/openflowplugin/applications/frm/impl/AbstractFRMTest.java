@@ -137,6 +137,7 @@ public abstract class AbstractFRMTest extends AbstractDataBrokerTest {
                 .setStaleMarkingEnabled(false)
                 .setReconciliationRetryCount(Uint16.ZERO)
                 .setBundleBasedReconciliationEnabled(false)
+                .setBundleMessageChunkSize(Uint16.valueOf(1000))
                 .build();
     }
 
@@ -159,6 +160,9 @@ public abstract class AbstractFRMTest extends AbstractDataBrokerTest {
         lenient().when(configurationService.getProperty(eq("bundle-based-reconciliation-enabled"),
                 any())).thenReturn(config.getBundleBasedReconciliationEnabled());
 
+        lenient().when(configurationService.getProperty(eq("bundle-message-chunk-size"),
+                any())).thenReturn(config.getBundleMessageChunkSize());
+
         return configurationService;
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frm.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.GroupActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.group.action._case.GroupActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.InstructionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.ApplyActionsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.apply.actions._case.ApplyActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.GroupBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.Message;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddFlowCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddGroupCase;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link BundleMessageStream}.
+ */
+public class BundleMessageStreamTest {
+    private static final NodeRef NODE_REF = new NodeRef(DataObjectIdentifier.builder(Nodes.class)
+        .child(Node.class, new NodeKey(new NodeId("openflow:1")))
+        .build());
+
+    @Test
+    public void testChunks() {
+        final var stream = new BundleMessageStream(flowNode(), NODE_REF, "openflow:1", 4);
+
+        final var first = stream.nextChunk();
+        assertEquals(4, first.size());
+        assertEquals(List.of(BundleAddGroupCase.class, BundleAddGroupCase.class, BundleAddGroupCase.class,
+            BundleAddFlowCase.class), types(first));
+        assertEquals(4, stream.produced());
+        stream.acknowledge();
+
+        // the flow depending on a missing group is skipped
+        final var second = stream.nextChunk();
+        assertEquals(4, second.size());
+        assertTrue(second.stream().allMatch(message -> message.getBundleInnerMessage() instanceof BundleAddFlowCase));
+        stream.acknowledge();
+
+        assertTrue(stream.nextChunk().isEmpty());
+        stream.acknowledge();
+        assertTrue(stream.nextChunk().isEmpty());
+        assertEquals(8, stream.produced());
+        assertEquals(8, stream.acknowledged());
+        assertEquals(Set.of(Uint32.ONE, Uint32.TWO, Uint32.valueOf(3)), stream.groupIds());
+    }
+
+    @Test
+    public void testSingleChunk() {
+        final var stream = new BundleMessageStream(flowNode(), NODE_REF, "openflow:1", 1000);
+        assertEquals(8, stream.nextChunk().size());
+        stream.acknowledge();
+        assertTrue(stream.nextChunk().isEmpty());
+    }
+
+    @Test
+    public void testResume() {
+        final var stream = new BundleMessageStream(flowNode(), NODE_REF, "openflow:1", 4);
+        stream.nextChunk();
+        stream.acknowledge();
+
+        // an unacknowledged chunk is produced again
+        final var second = stream.nextChunk();
+        assertSame(second, stream.nextChunk());
+        assertEquals(8, stream.produced());
+        assertEquals(4, stream.acknowledged());
+
+        stream.acknowledge();
+        assertTrue(stream.nextChunk().isEmpty());
+        assertEquals(8, stream.acknowledged());
+    }
+
+    @Test
+    public void testEmptyNode() {
+        final var stream = new BundleMessageStream(new FlowCapableNodeBuilder().build(), NODE_REF, "openflow:1", 4);
+        assertTrue(stream.nextChunk().isEmpty());
+        assertEquals(0, stream.produced());
+    }
+
+    private static FlowCapableNode flowNode() {
+        final var groups = new ArrayList<Group>();
+        for (int i = 1; i <= 3; i++) {
+            groups.add(new GroupBuilder().setGroupId(new GroupId(Uint32.valueOf(i))).build());
+        }
+
+        final var tables = new ArrayList<Table>();
+        for (int t = 0; t < 2; t++) {
+            final var flows = new ArrayList<Flow>();
+            for (int f = 0; f < 3; f++) {
+                flows.add(flow("flow" + t + f, Uint32.valueOf(f + 1)));
+            }
+            tables.add(new TableBuilder().setId(Uint8.valueOf(t)).setFlow(BindingMap.ordered(flows)).build());
+        }
+        // one flow refers to a group which is not configured
+        tables.set(1, new TableBuilder(tables.get(1))
+            .setFlow(BindingMap.ordered(flow("flow10", Uint32.ONE), flow("flow11", Uint32.TWO),
+                flow("flow12", Uint32.TEN)))
+            .build());
+
+        return new FlowCapableNodeBuilder().setGroup(BindingMap.ordered(groups))
+            .setTable(BindingMap.ordered(tables)).build();
+    }
+
+    private static Flow flow(final String id, final Uint32 groupId) {
+        return new FlowBuilder()
+            .setId(new FlowId(id))
+            .setInstructions(new InstructionsBuilder()
+                .setInstruction(BindingMap.of(new InstructionBuilder()
+                    .setOrder(0)
+                    .setInstruction(new ApplyActionsCaseBuilder()
+                        .setApplyActions(new ApplyActionsBuilder()
+                            .setAction(BindingMap.of(new ActionBuilder()
+                                .setOrder(0)
+                                .setAction(new GroupActionCaseBuilder()
+                                    .setGroupAction(new GroupActionBuilder().setGroupId(groupId).build())
+                                    .build())
+                                .build()))
+                            .build())
+                        .build())
+                    .build()))
+                .build())
+            .build();
+    }
+
+    private static List<Class<?>> types(final List<Message> messages) {
+        return messages.stream()
+            .<Class<?>>map(message -> message.getBundleInnerMessage().implementedInterface())
+            .toList();
+    }
+}
@@ -30,4 +30,12 @@ public interface ReconciliationManager {
      * @return the Map containing registered services with priority as Key
      */
     Map<Integer, List<ReconciliationNotificationListener>> getRegisteredServices();
+
+    /*
+     * API exposed by RF to get the durations of node reconciliations for each priority, measured from the first
+     * service of a priority starting to the last one completing
+     *
+     * @return the Map containing summaries of the durations with priority as Key
+     */
+    Map<Integer, String> getTierTimings();
 }
@@ -63,4 +63,17 @@ public interface ReconciliationNotificationListener extends AutoCloseable {
      * @return the intent of the service if the reconciliation fails
      */
     ResultState getResultState();
+
+    /*
+     * Hint on the amount of reconciliation work a node represents for this service, such as the number of its flows,
+     * or on how critical the node is. When the number of nodes reconciled at the same time is limited, waiting nodes
+     * with the highest sum of weights reported by all services are reconciled first.
+     *
+     * @param node - the node to be reconciled
+     *
+     * @return the weight of the node, zero if unknown
+     */
+    default long getNodeWeight(final DeviceInfo node) {
+        return 0;
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.reconciliation.cli;
+
+import org.apache.karaf.shell.api.action.Action;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Reference;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.opendaylight.openflowplugin.applications.reconciliation.ReconciliationManager;
+
+/*
+ * CLI to display the durations of node reconciliations for each service priority
+ */
+@Service
+@Command(scope = "reconciliation", name = "getTierTimings",
+         description = "displaying reconciliation durations for each priority of Reconciliation Framework")
+public class GetTierTimings implements Action {
+    @Reference
+    private ReconciliationManager reconciliationManager;
+
+    @Override
+    @SuppressWarnings("checkstyle:RegexpSinglelineJava")
+    public Object execute() {
+        final var timings = reconciliationManager.getTierTimings();
+        if (timings.isEmpty()) {
+            System.out.println("No node reconciliations have completed");
+        } else {
+            timings.forEach((priority, timing) -> System.out.println(String.format("%d %s", priority, timing)));
+        }
+        return null;
+    }
+}
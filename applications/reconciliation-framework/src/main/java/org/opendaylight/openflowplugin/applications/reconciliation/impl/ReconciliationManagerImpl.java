@@ -8,6 +8,8 @@
 package org.opendaylight.openflowplugin.applications.reconciliation.impl;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -18,11 +20,15 @@ import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationListener;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationProperty;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.mastership.MastershipChangeException;
 import org.opendaylight.openflowplugin.api.openflow.mastership.MastershipChangeServiceManager;
@@ -42,20 +48,26 @@ import org.slf4j.LoggerFactory;
 @Singleton
 @Component(service = ReconciliationManager.class, immediate = true)
 public final class ReconciliationManagerImpl
-        implements ReconciliationManager, ReconciliationFrameworkEvent, AutoCloseable {
+        implements ReconciliationManager, ReconciliationFrameworkEvent, ConfigurationListener, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(ReconciliationManagerImpl.class);
+    private static final long NOT_STARTED = Long.MIN_VALUE;
 
     private final AtomicReference<ResultState> decidedResultState = new AtomicReference<>(ResultState.DONOTHING);
     private final ConcurrentMap<Integer, List<ReconciliationNotificationListener>> registeredServices =
             new ConcurrentSkipListMap<>();
     private final ConcurrentMap<DeviceInfo, ListenableFuture<ResultState>> futureMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<ResultState, Integer> resultStateMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, TimingHistogram> tierTimings = new ConcurrentSkipListMap<>();
+    // Limits are set once the configuration service replays its properties
+    private final ReconciliationScheduler scheduler = new ReconciliationScheduler(0, 0);
+    private final AutoCloseable configurationServiceRegistration;
     private final Registration reg;
 
     @Inject
     @Activate
-    public ReconciliationManagerImpl(@Reference final MastershipChangeServiceManager mastershipChangeServiceManager)
-            throws MastershipChangeException {
+    public ReconciliationManagerImpl(@Reference final MastershipChangeServiceManager mastershipChangeServiceManager,
+            @Reference final ConfigurationService configurationService) throws MastershipChangeException {
+        configurationServiceRegistration = configurationService.registerListener(this);
         reg = mastershipChangeServiceManager.reconciliationFrameworkRegistration(this);
         LOG.info("ReconciliationManager started");
     }
@@ -63,11 +75,33 @@ public final class ReconciliationManagerImpl
     @PreDestroy
     @Deactivate
     @Override
-    public void close() {
+    public void close() throws Exception {
         reg.close();
+        configurationServiceRegistration.close();
+        scheduler.close();
         LOG.info("ReconciliationManager stopped");
     }
 
+    @Override
+    public void onPropertyChanged(final String propertyName, final String propertyValue) {
+        final ConfigurationProperty property = ConfigurationProperty.forValue(propertyName);
+        if (property != null) {
+            switch (property) {
+                case RECONCILIATION_CONCURRENCY_LIMIT:
+                    LOG.info("Reconciliation concurrency limit set to {}", propertyValue);
+                    scheduler.setConcurrencyLimit(Integer.parseInt(propertyValue));
+                    break;
+                case RECONCILIATION_SERVICE_RATE_LIMIT:
+                    LOG.info("Reconciliation service rate limit set to {}/s", propertyValue);
+                    scheduler.setServiceRateLimit(Integer.parseInt(propertyValue));
+                    break;
+                default:
+                    // Not a reconciliation property
+                    break;
+            }
+        }
+    }
+
     @Override
     public NotificationRegistration registerService(final ReconciliationNotificationListener reconciliationTask) {
         LOG.debug("Registered service {} with priority {} and intent {}", reconciliationTask.getName(),
@@ -78,6 +112,7 @@ public final class ReconciliationManagerImpl
             LOG.debug("Service un-registered from Reconciliation framework {}", reconciliationTask.getName());
             registeredServices.computeIfPresent(reconciliationTask.getPriority(), (priority, services) -> services)
                     .remove(reconciliationTask);
+            scheduler.forgetService(reconciliationTask);
             decideResultState(reconciliationTask.getResultState());
         });
         decideResultState(reconciliationTask.getResultState());
@@ -102,10 +137,16 @@ public final class ReconciliationManagerImpl
         return ImmutableMap.copyOf(registeredServices);
     }
 
+    @Override
+    public Map<Integer, String> getTierTimings() {
+        return ImmutableMap.copyOf(Maps.transformValues(tierTimings, TimingHistogram::toString));
+    }
+
     @Override
     public ListenableFuture<ResultState> onDevicePrepared(final DeviceInfo node) {
         LOG.debug("Triggering reconciliation for node : {}", node.getNodeId());
-        return futureMap.computeIfAbsent(node, value -> reconcileNode(node));
+        return futureMap.computeIfAbsent(node,
+            value -> scheduler.schedule(node, nodeWeight(node), () -> reconcileNode(node)));
     }
 
     @Override
@@ -114,24 +155,63 @@ public final class ReconciliationManagerImpl
         return futureMap.containsKey(node) ? cancelNodeReconciliation(node) : Futures.immediateVoidFuture();
     }
 
-    private ListenableFuture<ResultState> reconcileNode(final DeviceInfo node) {
-        var lastFuture = Futures.<ResultState>immediateFuture(null);
+    private long nodeWeight(final DeviceInfo node) {
+        long weight = 0;
         for (var services : registeredServices.values()) {
-            lastFuture = reconcileServices(lastFuture, services, node);
+            for (var service : services) {
+                weight += service.getNodeWeight(node);
+            }
         }
-        return lastFuture;
+        return weight;
     }
 
-    private ListenableFuture<ResultState> reconcileServices(final ListenableFuture<ResultState> prevFuture,
-            final List<ReconciliationNotificationListener> servicesForPriority, final DeviceInfo node) {
-        return Futures.transformAsync(prevFuture,
-            prevResult -> Futures.transform(Futures.allAsList(servicesForPriority.stream()
-                .map(service -> service.startReconciliation(node)).collect(Collectors.toList())),
-                results -> decidedResultState.get(),
-                MoreExecutors.directExecutor()),
+    private ListenableFuture<ResultState> reconcileNode(final DeviceInfo node) {
+        if (registeredServices.isEmpty()) {
+            return Futures.immediateFuture(null);
+        }
+
+        // Services of a priority start together, once all services of higher priorities are done
+        final var allFutures = new ArrayList<ListenableFuture<Boolean>>();
+        for (var entry : registeredServices.entrySet()) {
+            final var prerequisites = List.copyOf(allFutures);
+            final var tierStart = new AtomicLong(NOT_STARTED);
+            final var tierFutures = new ArrayList<ListenableFuture<Boolean>>();
+            for (var service : List.copyOf(entry.getValue())) {
+                tierFutures.add(Futures.whenAllSucceed(prerequisites).callAsync(() -> {
+                    tierStart.compareAndSet(NOT_STARTED, System.nanoTime());
+                    return scheduler.startService(service, node);
+                }, MoreExecutors.directExecutor()));
+            }
+
+            recordTierTiming(entry.getKey(), tierStart, tierFutures);
+            allFutures.addAll(tierFutures);
+        }
+
+        return Futures.transform(Futures.allAsList(allFutures), results -> decidedResultState.get(),
             MoreExecutors.directExecutor());
     }
 
+    private void recordTierTiming(final Integer priority, final AtomicLong tierStart,
+            final List<ListenableFuture<Boolean>> tierFutures) {
+        Futures.addCallback(Futures.allAsList(tierFutures), new FutureCallback<>() {
+            @Override
+            public void onSuccess(final List<Boolean> results) {
+                final long start = tierStart.get();
+                if (start == NOT_STARTED) {
+                    // No services left in this priority
+                    return;
+                }
+                tierTimings.computeIfAbsent(priority, unused -> new TimingHistogram())
+                    .record(System.nanoTime() - start);
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                // Failed and cancelled reconciliations are not timed
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
     private ListenableFuture<Void> cancelNodeReconciliation(final DeviceInfo node) {
         var lastFuture = Futures.immediateVoidFuture();
         futureMap.get(node).cancel(true);
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.reconciliation.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.applications.reconciliation.ReconciliationNotificationListener;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.rf.state.rev170713.ResultState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admission control of node reconciliations. At most a configured number of nodes are reconciled at the same time,
+ * the others wait in a queue ordered by their weight, heaviest first, and by arrival among nodes of equal weight.
+ * Independently of that, each service is asked to start at most a configured number of node reconciliations per
+ * second, later starts being delayed rather than rejected. Both limits can be changed at any time.
+ */
+final class ReconciliationScheduler implements AutoCloseable {
+    private static final class Pending {
+        final SettableFuture<ResultState> result = SettableFuture.create();
+        final Supplier<ListenableFuture<ResultState>> task;
+        final DeviceInfo node;
+        final long weight;
+        final long sequence;
+
+        Pending(final DeviceInfo node, final long weight, final long sequence,
+                final Supplier<ListenableFuture<ResultState>> task) {
+            this.node = requireNonNull(node);
+            this.weight = weight;
+            this.sequence = sequence;
+            this.task = requireNonNull(task);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReconciliationScheduler.class);
+    private static final Comparator<Pending> ORDER = Comparator.<Pending>comparingLong(pending -> -pending.weight)
+        .thenComparingLong(pending -> pending.sequence);
+
+    private final ConcurrentMap<ReconciliationNotificationListener, AtomicLong> nextStartNanos =
+        new ConcurrentHashMap<>();
+    @GuardedBy("this")
+    private final PriorityQueue<Pending> queue = new PriorityQueue<>(ORDER);
+
+    @GuardedBy("this")
+    private ScheduledExecutorService delayExecutor;
+    @GuardedBy("this")
+    private int concurrencyLimit;
+    @GuardedBy("this")
+    private long sequence;
+    @GuardedBy("this")
+    private int running;
+    private volatile long startIntervalNanos;
+
+    /**
+     * Create a scheduler.
+     *
+     * @param concurrencyLimit maximum number of nodes reconciled at the same time, zero for no limit
+     * @param serviceRateLimit maximum number of reconciliations started by a service per second, zero for no limit
+     */
+    ReconciliationScheduler(final int concurrencyLimit, final int serviceRateLimit) {
+        setConcurrencyLimit(concurrencyLimit);
+        setServiceRateLimit(serviceRateLimit);
+    }
+
+    /**
+     * Change the maximum number of nodes reconciled at the same time. Raising the limit admits waiting nodes right
+     * away, lowering it lets running reconciliations finish and admits no more nodes until they drop below it.
+     *
+     * @param limit maximum number of nodes reconciled at the same time, zero for no limit
+     */
+    void setConcurrencyLimit(final int limit) {
+        final var admitted = new ArrayList<Pending>();
+        synchronized (this) {
+            concurrencyLimit = limit > 0 ? limit : Integer.MAX_VALUE;
+            while (running < concurrencyLimit && !queue.isEmpty()) {
+                admitted.add(queue.poll());
+                running++;
+            }
+        }
+
+        for (var pending : admitted) {
+            LOG.debug("Node {} admitted for reconciliation", pending.node.getNodeId());
+            start(pending);
+        }
+    }
+
+    /**
+     * Change the maximum number of node reconciliations each service is asked to start per second. Starts which were
+     * already delayed keep their delay.
+     *
+     * @param limit maximum number of reconciliations started by a service per second, zero for no limit
+     */
+    void setServiceRateLimit(final int limit) {
+        if (limit > 0) {
+            synchronized (this) {
+                if (delayExecutor == null) {
+                    delayExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                        .setNameFormat("ReconciliationScheduler-%d")
+                        .setDaemon(true)
+                        .build());
+                }
+            }
+            startIntervalNanos = TimeUnit.SECONDS.toNanos(1) / limit;
+        } else {
+            startIntervalNanos = 0;
+            nextStartNanos.clear();
+        }
+    }
+
+    /**
+     * Reconcile a node as soon as the concurrency limit allows. Cancelling the returned future removes a waiting node
+     * from the queue, or cancels its reconciliation if it is already running.
+     *
+     * @param node node to reconcile
+     * @param weight node weight, heavier nodes are admitted first
+     * @param task starts the reconciliation of the node
+     * @return future result of the reconciliation
+     */
+    @NonNull ListenableFuture<ResultState> schedule(final @NonNull DeviceInfo node, final long weight,
+            final @NonNull Supplier<ListenableFuture<ResultState>> task) {
+        final Pending pending;
+        synchronized (this) {
+            pending = new Pending(node, weight, sequence++, task);
+            if (running >= concurrencyLimit) {
+                LOG.debug("Node {} with weight {} queued for reconciliation, {} nodes waiting", node.getNodeId(),
+                    weight, queue.size() + 1);
+                queue.add(pending);
+                pending.result.addListener(() -> dequeue(pending), MoreExecutors.directExecutor());
+                return pending.result;
+            }
+            running++;
+        }
+
+        start(pending);
+        return pending.result;
+    }
+
+    /**
+     * Ask a service to start reconciling a node, delaying the start if the service exceeded its rate.
+     *
+     * @param service service to start
+     * @param node node to reconcile
+     * @return future result of the service's reconciliation
+     */
+    @NonNull ListenableFuture<Boolean> startService(final @NonNull ReconciliationNotificationListener service,
+            final @NonNull DeviceInfo node) {
+        final long interval = startIntervalNanos;
+        if (interval == 0) {
+            return service.startReconciliation(node);
+        }
+
+        final long now = System.nanoTime();
+        final long startAt = nextStartNanos.computeIfAbsent(service, key -> new AtomicLong(now))
+            .getAndAccumulate(now, (next, current) -> Math.max(next, current) + interval);
+        final long delay = startAt - now;
+        if (delay <= 0) {
+            return service.startReconciliation(node);
+        }
+
+        LOG.debug("Delaying reconciliation of node {} by service {} by {}us", node.getNodeId(), service.getName(),
+            TimeUnit.NANOSECONDS.toMicros(delay));
+        final ScheduledExecutorService executor;
+        synchronized (this) {
+            executor = delayExecutor;
+        }
+        return Futures.scheduleAsync(() -> service.startReconciliation(node), delay, TimeUnit.NANOSECONDS, executor);
+    }
+
+    /**
+     * Forget the rate state of an unregistered service.
+     *
+     * @param service unregistered service
+     */
+    void forgetService(final @NonNull ReconciliationNotificationListener service) {
+        nextStartNanos.remove(service);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (delayExecutor != null) {
+            delayExecutor.shutdownNow();
+        }
+    }
+
+    private void start(final Pending first) {
+        // Reconciliations which complete immediately hand their slot over in a loop rather than recursively
+        var pending = first;
+        while (pending != null) {
+            final var future = invoke(pending);
+            if (!pending.result.setFuture(future)) {
+                // Cancelled after the check in invoke(), make sure the reconciliation does not continue unobserved
+                LOG.debug("Reconciliation of node {} cancelled while starting", pending.node.getNodeId());
+                future.cancel(false);
+            }
+            if (!future.isDone()) {
+                future.addListener(this::release, MoreExecutors.directExecutor());
+                return;
+            }
+            pending = next();
+        }
+    }
+
+    private void release() {
+        final var next = next();
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    private synchronized Pending next() {
+        final var next = running <= concurrencyLimit ? queue.poll() : null;
+        if (next == null) {
+            running--;
+        } else {
+            LOG.debug("Node {} admitted for reconciliation", next.node.getNodeId());
+        }
+        return next;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static ListenableFuture<ResultState> invoke(final Pending pending) {
+        if (pending.result.isCancelled()) {
+            // Cancelled while being admitted
+            return Futures.immediateCancelledFuture();
+        }
+        try {
+            return pending.task.get();
+        } catch (RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    private synchronized void dequeue(final Pending pending) {
+        if (pending.result.isCancelled() && queue.remove(pending)) {
+            LOG.debug("Queued reconciliation of node {} cancelled", pending.node.getNodeId());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.reconciliation.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations, with power-of-two millisecond buckets. Bucket {@code i} counts durations below
+ * {@code 2^i} milliseconds which do not fit into bucket {@code i - 1}, the last bucket counts everything longer.
+ */
+final class TimingHistogram {
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    void record(final long durationNanos) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, durationNanos));
+        buckets.incrementAndGet(Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(millis)));
+        count.incrementAndGet();
+        sumMillis.addAndGet(millis);
+        maxMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    long count() {
+        return count.get();
+    }
+
+    /**
+     * Return an upper bound of a percentile of recorded durations.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return upper bound in milliseconds, or 0 if nothing was recorded
+     */
+    long percentileMillis(final int percentile) {
+        final long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (total * percentile + 99) / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(maxMillis.get(), (1L << i) - 1);
+            }
+        }
+        return maxMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        final long total = count.get();
+        return String.format("count=%d, mean=%dms, p50<=%dms, p99<=%dms, max=%dms", total,
+            total == 0 ? 0 : sumMillis.get() / total, percentileMillis(50), percentileMillis(99), maxMillis.get());
+    }
+}
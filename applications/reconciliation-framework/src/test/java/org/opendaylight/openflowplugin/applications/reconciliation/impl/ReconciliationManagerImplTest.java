@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.reconciliation.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationProperty;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.mastership.MastershipChangeServiceManager;
+import org.opendaylight.openflowplugin.applications.reconciliation.ReconciliationNotificationListener;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.rf.state.rev170713.ResultState;
+import org.opendaylight.yangtools.concepts.Registration;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReconciliationManagerImplTest {
+    @Mock
+    private MastershipChangeServiceManager mastershipChangeServiceManager;
+    @Mock
+    private ConfigurationService configurationService;
+    @Mock
+    private Registration frameworkRegistration;
+    @Mock
+    private AutoCloseable configurationRegistration;
+    @Mock
+    private DeviceInfo node1;
+    @Mock
+    private DeviceInfo node2;
+
+    private ReconciliationManagerImpl manager;
+
+    @Before
+    public void setUp() throws Exception {
+        doReturn(frameworkRegistration).when(mastershipChangeServiceManager).reconciliationFrameworkRegistration(any());
+        doReturn(configurationRegistration).when(configurationService).registerListener(any());
+        manager = new ReconciliationManagerImpl(mastershipChangeServiceManager, configurationService);
+        verify(configurationService).registerListener(manager);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        manager.close();
+        verify(configurationRegistration).close();
+        verify(frameworkRegistration).close();
+    }
+
+    @Test
+    public void testConcurrencyLimitUpdate() {
+        manager.onPropertyChanged(ConfigurationProperty.RECONCILIATION_CONCURRENCY_LIMIT.toString(), "1");
+        final var service = new TestService("service", 1);
+        manager.registerService(service);
+
+        manager.onDevicePrepared(node1);
+        manager.onDevicePrepared(node2);
+        assertEquals(List.of(node1), service.started);
+
+        // properties of other components are ignored
+        manager.onPropertyChanged(ConfigurationProperty.IS_STATISTICS_POLLING_ON.toString(), "true");
+        assertEquals(List.of(node1), service.started);
+
+        manager.onPropertyChanged(ConfigurationProperty.RECONCILIATION_CONCURRENCY_LIMIT.toString(), "0");
+        assertEquals(List.of(node1, node2), service.started);
+    }
+
+    @Test
+    public void testPriorityTiers() {
+        final var first = new TestService("first", 0);
+        final var second = new TestService("second", 0);
+        final var last = new TestService("last", 1);
+        manager.registerService(first);
+        manager.registerService(second);
+        manager.registerService(last);
+
+        final ListenableFuture<ResultState> result = manager.onDevicePrepared(node1);
+        assertEquals(List.of(node1), first.started);
+        assertEquals(List.of(node1), second.started);
+        assertEquals(List.of(), last.started);
+
+        // lower priorities wait for all services of higher priorities
+        first.results.get(0).set(true);
+        assertEquals(List.of(), last.started);
+        second.results.get(0).set(true);
+        assertEquals(List.of(node1), last.started);
+        assertFalse(result.isDone());
+
+        last.results.get(0).set(true);
+        assertTrue(result.isDone());
+        assertEquals(List.of(0, 1), List.copyOf(manager.getTierTimings().keySet()));
+    }
+
+    private static final class TestService implements ReconciliationNotificationListener {
+        final List<DeviceInfo> started = new ArrayList<>();
+        final List<SettableFuture<Boolean>> results = new ArrayList<>();
+        private final String name;
+        private final int priority;
+
+        TestService(final String name, final int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public ListenableFuture<Boolean> startReconciliation(final DeviceInfo node) {
+            started.add(node);
+            final SettableFuture<Boolean> result = SettableFuture.create();
+            results.add(result);
+            return result;
+        }
+
+        @Override
+        public ListenableFuture<Boolean> endReconciliation(final DeviceInfo node) {
+            return SettableFuture.create();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public ResultState getResultState() {
+            return ResultState.DONOTHING;
+        }
+
+        @Override
+        public void close() {
+            // No-op
+        }
+    }
+}
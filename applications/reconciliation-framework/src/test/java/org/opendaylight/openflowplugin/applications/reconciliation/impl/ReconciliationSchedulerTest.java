@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.reconciliation.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.rf.state.rev170713.ResultState;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReconciliationSchedulerTest {
+    @Mock
+    private DeviceInfo node;
+
+    private final List<String> started = new ArrayList<>();
+    private final List<SettableFuture<ResultState>> running = new ArrayList<>();
+    private final ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 0);
+
+    @After
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    public void testHeaviestFirst() {
+        scheduler.schedule(node, 1, task("first"));
+        scheduler.schedule(node, 1, task("light"));
+        scheduler.schedule(node, 5, task("heavy"));
+        scheduler.schedule(node, 5, task("heavy later"));
+        scheduler.schedule(node, 1, task("light later"));
+        assertEquals(List.of("first"), started);
+
+        for (int i = 0; i < 4; i++) {
+            running.get(i).set(ResultState.DONOTHING);
+        }
+        assertEquals(List.of("first", "heavy", "heavy later", "light", "light later"), started);
+    }
+
+    @Test
+    public void testImmediateCompletion() {
+        scheduler.schedule(node, 1, task("first"));
+        scheduler.schedule(node, 1, () -> {
+            started.add("immediate");
+            return Futures.immediateFuture(ResultState.DONOTHING);
+        });
+        scheduler.schedule(node, 1, task("last"));
+
+        running.get(0).set(ResultState.DONOTHING);
+        assertEquals(List.of("first", "immediate", "last"), started);
+    }
+
+    @Test
+    public void testCancelQueued() {
+        scheduler.schedule(node, 1, task("first"));
+        final ListenableFuture<ResultState> queued = scheduler.schedule(node, 1, task("cancelled"));
+        assertTrue(queued.cancel(false));
+
+        running.get(0).set(ResultState.DONOTHING);
+        assertEquals(List.of("first"), started);
+
+        // the slot was released
+        scheduler.schedule(node, 1, task("next"));
+        assertEquals(List.of("first", "next"), started);
+    }
+
+    @Test
+    public void testCancelRunning() {
+        final ListenableFuture<ResultState> result = scheduler.schedule(node, 1, task("first"));
+        scheduler.schedule(node, 1, task("next"));
+        assertTrue(result.cancel(false));
+
+        // cancellation reaches the reconciliation and releases the slot
+        assertTrue(running.get(0).isCancelled());
+        assertEquals(List.of("first", "next"), started);
+    }
+
+    @Test
+    public void testCancelWhileStarting() {
+        final List<ListenableFuture<ResultState>> results = new ArrayList<>();
+        scheduler.schedule(node, 1, task("first"));
+        results.add(scheduler.schedule(node, 1, () -> {
+            // the node is cancelled after it was admitted, but before its reconciliation was handed over
+            assertTrue(results.get(0).cancel(false));
+            return task("cancelled").get();
+        }));
+
+        running.get(0).set(ResultState.DONOTHING);
+        assertEquals(List.of("first", "cancelled"), started);
+        assertTrue(running.get(1).isCancelled());
+    }
+
+    @Test
+    public void testRaiseConcurrencyLimit() {
+        scheduler.schedule(node, 1, task("first"));
+        scheduler.schedule(node, 1, task("second"));
+        scheduler.schedule(node, 1, task("third"));
+        scheduler.schedule(node, 1, task("fourth"));
+        assertEquals(List.of("first"), started);
+
+        // waiting nodes are admitted right away
+        scheduler.setConcurrencyLimit(3);
+        assertEquals(List.of("first", "second", "third"), started);
+
+        // and no limit admits the rest
+        scheduler.setConcurrencyLimit(0);
+        assertEquals(List.of("first", "second", "third", "fourth"), started);
+    }
+
+    @Test
+    public void testLowerConcurrencyLimit() {
+        scheduler.setConcurrencyLimit(3);
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(node, 1, task("node" + i));
+        }
+        assertEquals(List.of("node0", "node1", "node2"), started);
+
+        // running reconciliations finish, but do not hand over their slots until below the new limit
+        scheduler.setConcurrencyLimit(1);
+        running.get(0).set(ResultState.DONOTHING);
+        running.get(1).set(ResultState.DONOTHING);
+        assertEquals(List.of("node0", "node1", "node2"), started);
+        running.get(2).set(ResultState.DONOTHING);
+        assertEquals(List.of("node0", "node1", "node2", "node3"), started);
+        running.get(3).set(ResultState.DONOTHING);
+        assertEquals(List.of("node0", "node1", "node2", "node3", "node4"), started);
+    }
+
+    private Supplier<ListenableFuture<ResultState>> task(final String name) {
+        return () -> {
+            started.add(name);
+            final SettableFuture<ResultState> future = SettableFuture.create();
+            running.add(future);
+            return future;
+        };
+    }
+}
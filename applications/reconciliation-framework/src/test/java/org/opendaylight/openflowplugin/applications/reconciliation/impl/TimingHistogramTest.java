@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.reconciliation.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class TimingHistogramTest {
+    private final TimingHistogram histogram = new TimingHistogram();
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileMillis(50));
+        assertEquals("count=0, mean=0ms, p50<=0ms, p99<=0ms, max=0ms", histogram.toString());
+    }
+
+    @Test
+    public void testBuckets() {
+        // sub-millisecond durations fall into the first bucket
+        record(0);
+        assertEquals(0, histogram.percentileMillis(100));
+
+        // 1ms is the only duration of bucket 1, 2-3ms make up bucket 2, 4-7ms bucket 3
+        record(3);
+        assertEquals(3, histogram.percentileMillis(100));
+        record(5);
+        record(6);
+        assertEquals(4, histogram.count());
+        assertEquals(0, histogram.percentileMillis(25));
+        assertEquals(3, histogram.percentileMillis(50));
+        assertEquals(6, histogram.percentileMillis(100));
+
+        // a percentile is bounded by the upper end of its bucket
+        record(9);
+        assertEquals(7, histogram.percentileMillis(80));
+        assertEquals(9, histogram.percentileMillis(100));
+    }
+
+    @Test
+    public void testLastBucket() {
+        record(Long.MAX_VALUE / 1_000_000);
+        record(1);
+        assertEquals(1, histogram.percentileMillis(50));
+        assertEquals(Long.MAX_VALUE / 1_000_000, histogram.percentileMillis(99));
+    }
+
+    @Test
+    public void testNegativeDuration() {
+        histogram.record(-1);
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.percentileMillis(100));
+    }
+
+    private void record(final long millis) {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -7,10 +7,13 @@
  */
 package org.opendaylight.openflowplugin.applications.southboundcli;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -20,10 +23,13 @@ import org.opendaylight.mdsal.binding.api.DataObjectModified;
 import org.opendaylight.mdsal.binding.api.DataObjectWritten;
 import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.binding.api.WithDataAfter;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.southboundcli.util.OFNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeConnector;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.DataObjectReference;
@@ -35,6 +41,10 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Index of connected nodes and their ports, maintained incrementally from the operational inventory, so that CLI
+ * commands do not have to read whole nodes, including all their flows, from the datastore.
+ */
 @Singleton
 @Component(service = DpnTracker.class, immediate = true)
 public final class DefaultDpnTracker implements DpnTracker, DataTreeChangeListener<FlowCapableNode>, AutoCloseable {
@@ -42,8 +52,19 @@ public final class DefaultDpnTracker implements DpnTracker, DataTreeChangeListen
     public static final String DEFAULT_DPN_NAME = "UNKNOWN";
     public static final String SEPARATOR = ":";
 
+    /**
+     * Orders node connector IDs, such as {@code openflow:1:10}, by their port number, with logical ports, such as
+     * {@code openflow:1:LOCAL}, following all numbered ports in name order.
+     */
+    @VisibleForTesting
+    static final Comparator<String> PORT_ORDER = Comparator.comparingLong(DefaultDpnTracker::portNumber)
+        .thenComparing(Comparator.naturalOrder());
+
     private final Map<Long, String> dpnIdToNameCache = new HashMap<>();
+    // node connector ID to port name, in PORT_ORDER
+    private final Map<Long, Map<String, String>> dpnIdToPortsCache = new HashMap<>();
     private final Registration listenerReg;
+    private final Registration portListenerReg;
 
     @Inject
     @Activate
@@ -51,12 +72,17 @@ public final class DefaultDpnTracker implements DpnTracker, DataTreeChangeListen
         listenerReg = dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL,
             DataObjectReference.builder(Nodes.class).child(Node.class).augmentation(FlowCapableNode.class).build(),
             this);
+        portListenerReg = dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL,
+            DataObjectReference.builder(Nodes.class).child(Node.class).child(NodeConnector.class)
+                .augmentation(FlowCapableNodeConnector.class).build(),
+            new PortListener());
     }
 
     @PreDestroy
     @Deactivate
     @Override
     public void close() {
+        portListenerReg.close();
         listenerReg.close();
     }
 
@@ -72,6 +98,16 @@ public final class DefaultDpnTracker implements DpnTracker, DataTreeChangeListen
         return dpnList;
     }
 
+    @Override
+    public synchronized OFNode currentNode(final long nodeId) {
+        final var name = dpnIdToNameCache.get(nodeId);
+        if (name == null) {
+            return null;
+        }
+        final var ports = dpnIdToPortsCache.get(nodeId);
+        return new OFNode(nodeId, name, ports == null ? List.of() : List.copyOf(ports.values()));
+    }
+
     @Override
     public synchronized void onDataTreeChanged(final List<DataTreeModification<FlowCapableNode>> changes) {
         for (var change : changes) {
@@ -98,7 +134,9 @@ public final class DefaultDpnTracker implements DpnTracker, DataTreeChangeListen
         if (node.length < 2) {
             LOG.error("Failed to remove Unexpected nodeId {}", nodeId);
         } else {
-            dpnIdToNameCache.remove(Long.parseLong(node[1]));
+            final long dpnId = Long.parseLong(node[1]);
+            dpnIdToNameCache.remove(dpnId);
+            dpnIdToPortsCache.remove(dpnId);
         }
     }
 
@@ -136,4 +174,49 @@ public final class DefaultDpnTracker implements DpnTracker, DataTreeChangeListen
         }
         dpnIdToNameCache.put(dpnId, dpnName);
     }
+
+    private final class PortListener implements DataTreeChangeListener<FlowCapableNodeConnector> {
+        @Override
+        public void onDataTreeChanged(final List<DataTreeModification<FlowCapableNodeConnector>> changes) {
+            onPortsChanged(changes);
+        }
+    }
+
+    private synchronized void onPortsChanged(final List<DataTreeModification<FlowCapableNodeConnector>> changes) {
+        for (var change : changes) {
+            final var path = change.path();
+            final var nodeId = path.getFirstKeyOf(Node.class).getId().getValue();
+            final var node = nodeId.split(SEPARATOR);
+            if (node.length < 2) {
+                LOG.error("Failed to update ports of unexpected nodeId {}", nodeId);
+                continue;
+            }
+            final long dpnId = Long.parseLong(node[1]);
+            final var portId = path.getFirstKeyOf(NodeConnector.class).getId().getValue();
+            switch (change.getRootNode()) {
+                case DataObjectDeleted<?> deleted -> {
+                    final var ports = dpnIdToPortsCache.get(dpnId);
+                    if (ports != null) {
+                        ports.remove(portId);
+                    }
+                }
+                case WithDataAfter<FlowCapableNodeConnector> present -> {
+                    LOG.trace("Updating port {} of DPNID {} in cache", portId, dpnId);
+                    final var portName = present.dataAfter().getName();
+                    dpnIdToPortsCache.computeIfAbsent(dpnId, k -> new TreeMap<>(PORT_ORDER))
+                        .put(portId, portName != null ? portName : portId);
+                }
+            }
+        }
+    }
+
+    private static long portNumber(final String nodeConnectorId) {
+        final var port = nodeConnectorId.substring(nodeConnectorId.lastIndexOf(':') + 1);
+        try {
+            return Long.parseUnsignedLong(port);
+        } catch (NumberFormatException e) {
+            // Logical ports sort last
+            return Long.MAX_VALUE;
+        }
+    }
 }
@@ -13,18 +13,21 @@ import static org.opendaylight.openflowplugin.api.openflow.ReconciliationState.R
 import static org.opendaylight.openflowplugin.api.openflow.ReconciliationState.ReconciliationStatus.STARTED;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.lang.management.ManagementFactory;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
-import java.util.Date;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -38,6 +41,7 @@ import javax.management.ObjectName;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.api.openflow.FlowGroupCacheManager;
 import org.opendaylight.openflowplugin.api.openflow.ReconciliationState;
@@ -79,6 +83,21 @@ import org.slf4j.LoggerFactory;
 public final class DefaultReconcileService implements Reconcile, ReconcileService, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultReconcileService.class);
     private static final ObjectName ALARM_NAME;
+    // Maximum number of nodes being reconciled at any time, further nodes are queued
+    private static final int MAX_CONCURRENT_RECONCILIATIONS = 10;
+    private static final DateTimeFormatter DATE_AND_TIME_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    private static final ProgressListener NOOP_LISTENER = new ProgressListener() {
+        @Override
+        public void onScheduled(final Set<Uint64> nodes) {
+            // No-op
+        }
+
+        @Override
+        public void onReconciled(final Uint64 node, final boolean success) {
+            // No-op
+        }
+    };
 
     static {
         try {
@@ -94,7 +113,12 @@ public final class DefaultReconcileService implements Reconcile, ReconcileServic
     private final DpnTracker dpnTracker;
     private final DataBroker broker;
 
-    private ExecutorService executor = Executors.newWorkStealingPool(10);
+    private final AtomicInteger startRequests = new AtomicInteger();
+    // Guarded by this
+    private final ArrayDeque<ReconciliationTask> pendingTasks = new ArrayDeque<>();
+    private int runningTasks;
+    private boolean closed;
+
     private boolean unregister = false;
 
     @Inject
@@ -131,14 +155,29 @@ public final class DefaultReconcileService implements Reconcile, ReconcileServic
             }
         }
 
-        if (executor != null) {
-            executor.shutdownNow();
-            executor = null;
+        final List<ReconciliationTask> cancelled;
+        synchronized (this) {
+            closed = true;
+            cancelled = List.copyOf(pendingTasks);
+            pendingTasks.clear();
         }
+        // Queued nodes are reported as started, make sure they do not stay that way
+        cancelled.forEach(ReconciliationTask::cancel);
     }
 
     @Override
     public ListenableFuture<RpcResult<ReconcileOutput>> reconcile(final Set<Uint64> nodes) {
+        return reconcile(nodes, NOOP_LISTENER);
+    }
+
+    @Override
+    public ListenableFuture<RpcResult<ReconcileOutput>> reconcileAll() {
+        return reconcileAll(NOOP_LISTENER);
+    }
+
+    @Override
+    public ListenableFuture<RpcResult<ReconcileOutput>> reconcile(final Set<Uint64> nodes,
+            final ProgressListener listener) {
         if (nodes == null || nodes.isEmpty()) {
             return buildErrorResponse("Error executing command reconcile. No Node information was specified.");
         }
@@ -150,41 +189,101 @@ public final class DefaultReconcileService implements Reconcile, ReconcileServic
             return buildErrorResponse("Error executing command reconcile. "
                 + "Node(s) not found: " + String.join(", ", unresolvedNodes.toString()));
         }
-        return doReconcile(nodes.stream().map(Uint64::longValue).collect(Collectors.toList()));
+        return doReconcile(nodes.stream().map(Uint64::longValue).collect(Collectors.toList()), listener);
     }
 
     @Override
-    public ListenableFuture<RpcResult<ReconcileOutput>> reconcileAll() {
-        return doReconcile(getAllNodes());
+    public ListenableFuture<RpcResult<ReconcileOutput>> reconcileAll(final ProgressListener listener) {
+        return doReconcile(getAllNodes(), listener);
     }
 
-    private @NonNull ListenableFuture<RpcResult<ReconcileOutput>> doReconcile(final List<Long> nodes) {
-        if (!nodes.isEmpty()) {
+    private @NonNull ListenableFuture<RpcResult<ReconcileOutput>> doReconcile(final List<Long> nodes,
+            final ProgressListener listener) {
+        if (nodes.isEmpty()) {
             return buildErrorResponse(
                 "Error executing command reconcile. No node information is found for reconciliation");
         }
         final var inprogressNodes = ImmutableSet.<Uint64>builder();
-        nodes.parallelStream().forEach(nodeId -> {
-            ReconciliationState state = getReconciliationState(nodeId);
-            if (state != null && state.getState().equals(STARTED)) {
-                inprogressNodes.add(Uint64.valueOf(nodeId));
-            } else {
-                final var alarmText = getAlarmText(nodeId,  " started reconciliation");
-                final var source = getSourceText(nodeId);
-                LOG.debug("Raising NodeReconciliationOperationOngoing alarm, alarmText {} source {}", alarmText,
-                    source);
-                alarm.raiseAlarm("NodeReconciliationOperationOngoing", alarmText, source);
-                LOG.info("Executing reconciliation for node {} with state ", nodeId);
-                NodeKey nodeKey = new NodeKey(new NodeId("openflow:" + nodeId));
-                executor.execute(new ReconciliationTask(Uint64.valueOf(nodeId), nodeKey));
+        final var scheduledNodes = ImmutableSet.<Uint64>builder();
+        final var tasks = new ArrayList<ReconciliationTask>();
+        synchronized (this) {
+            for (var nodeId : nodes) {
+                final var node = Uint64.valueOf(nodeId);
+                final var state = getReconciliationState(nodeId);
+                if (state != null && state.getState().equals(STARTED)) {
+                    inprogressNodes.add(node);
+                } else {
+                    // Queued nodes are reported as started, so that they are not queued again
+                    reconciliationStates.put(nodeId.toString(), new ReconciliationState(STARTED,
+                        LocalDateTime.now()));
+                    scheduledNodes.add(node);
+                    tasks.add(new ReconciliationTask(node, new NodeKey(new NodeId("openflow:" + nodeId)), listener));
+                }
             }
-        });
+        }
+
+        listener.onScheduled(scheduledNodes.build());
+        schedule(tasks);
         return RpcResultBuilder.success(new ReconcileOutputBuilder()
             .setInprogressNodes(inprogressNodes.build())
             .build())
             .buildFuture();
     }
 
+    private void schedule(final List<ReconciliationTask> tasks) {
+        final boolean accepted;
+        synchronized (this) {
+            accepted = !closed;
+            if (accepted) {
+                pendingTasks.addAll(tasks);
+            }
+        }
+        if (accepted) {
+            startTasks();
+        } else {
+            tasks.forEach(ReconciliationTask::cancel);
+        }
+    }
+
+    private void taskFinished() {
+        synchronized (this) {
+            runningTasks--;
+        }
+        startTasks();
+    }
+
+    private void startTasks() {
+        // Tasks completing synchronously while being started end up here again, in which case the outermost
+        // invocation picks up their replacements instead of recursing
+        if (startRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int requests = 1;
+        do {
+            final List<ReconciliationTask> toStart;
+            synchronized (this) {
+                toStart = closed ? List.of() : startableTasks();
+            }
+            toStart.forEach(ReconciliationTask::start);
+            requests = startRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    // Must be invoked while holding this object's lock
+    private List<ReconciliationTask> startableTasks() {
+        final var ret = new ArrayList<ReconciliationTask>();
+        while (runningTasks < MAX_CONCURRENT_RECONCILIATIONS) {
+            final var task = pendingTasks.poll();
+            if (task == null) {
+                break;
+            }
+            runningTasks++;
+            ret.add(task);
+        }
+        return ret;
+    }
+
     @Override
     public ListenableFuture<RpcResult<ReconcileOutput>> invoke(final ReconcileInput input) {
         final var reconcileAllNodes = input.getReconcileAllNodes();
@@ -233,58 +332,109 @@ public final class DefaultReconcileService implements Reconcile, ReconcileServic
         return "Dpn=" + nodeId;
     }
 
-    private final class ReconciliationTask implements Runnable {
-        private static final String DATE_AND_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    /**
+     * Reconciliation of a single node. Tasks do not block any thread: they are started by {@link #startTasks()} and
+     * complete once FRM reports the result.
+     */
+    private final class ReconciliationTask implements FutureCallback<Boolean> {
+        private final ProgressListener listener;
         private final NodeKey nodeKey;
         private final Uint64 nodeId;
 
-        private ReconciliationTask(final Uint64 nodeId, final NodeKey nodeKey) {
+        private ReconciliationTask(final Uint64 nodeId, final NodeKey nodeKey, final ProgressListener listener) {
             this.nodeId = nodeId;
             this.nodeKey = nodeKey;
+            this.listener = listener;
         }
 
-        @Override
-        public void run() {
+        void start() {
+            final var dpnId = nodeId.longValue();
+            final var alarmText = getAlarmText(dpnId, " started reconciliation");
+            final var source = getSourceText(dpnId);
+            LOG.debug("Raising NodeReconciliationOperationOngoing alarm, alarmText {} source {}", alarmText, source);
+            alarm.raiseAlarm("NodeReconciliationOperationOngoing", alarmText, source);
+            LOG.info("Executing reconciliation for node {}", nodeId);
+
             updateReconciliationState(STARTED);
-            final var reconOutput = flowNodeReconciliation.reconcileConfiguration(
-                DataObjectIdentifier.builder(Nodes.class)
-                    .child(Node.class, nodeKey)
-                    .augmentation(FlowCapableNode.class)
-                    .build());
+            final ListenableFuture<Boolean> reconOutput;
             try {
-                final boolean rpcResult = reconOutput.get();
-                increaseReconcileCount(rpcResult);
-                if (rpcResult) {
-                    updateReconciliationState(COMPLETED);
-                    LOG.info("Reconciliation successfully completed for node {}", nodeId);
-                } else {
-                    updateReconciliationState(FAILED);
-                    LOG.error("Reconciliation failed for node {}", nodeId);
-                }
-            } catch (ExecutionException | InterruptedException e) {
-                increaseReconcileCount(false);
-                updateReconciliationState(FAILED);
-                LOG.error("Error occurred while invoking reconcile RPC for node {}", nodeId, e);
-            } finally {
+                reconOutput = flowNodeReconciliation.reconcileConfiguration(
+                    DataObjectIdentifier.builder(Nodes.class)
+                        .child(Node.class, nodeKey)
+                        .augmentation(FlowCapableNode.class)
+                        .build());
+            } catch (RuntimeException e) {
+                onFailure(e);
+                return;
+            }
+            Futures.addCallback(reconOutput, this, MoreExecutors.directExecutor());
+        }
+
+        void cancel() {
+            LOG.info("Reconciliation of node {} cancelled", nodeId);
+            updateReconciliationState(FAILED);
+            listener.onReconciled(nodeId, false);
+        }
+
+        @Override
+        public void onSuccess(final Boolean result) {
+            final boolean success = Boolean.TRUE.equals(result);
+            if (success) {
+                LOG.info("Reconciliation successfully completed for node {}", nodeId);
+            } else {
+                LOG.error("Reconciliation failed for node {}", nodeId);
+            }
+            finish(success);
+        }
+
+        @Override
+        public void onFailure(final Throwable cause) {
+            LOG.error("Error occurred while invoking reconcile RPC for node {}", nodeId, cause);
+            finish(false);
+        }
+
+        private void finish(final boolean success) {
+            try {
+                updateReconciliationState(success ? COMPLETED : FAILED);
+                increaseReconcileCount(success);
+
                 final var dpnId = nodeId.longValue();
                 final var alarmText = getAlarmText(dpnId, " finished reconciliation");
                 final var source = getSourceText(dpnId);
                 LOG.debug("Clearing NodeReconciliationOperationOngoing alarm of source {}", source);
                 alarm.clearAlarm("NodeReconciliationOperationOngoing", alarmText, source);
+                listener.onReconciled(nodeId, success);
+            } finally {
+                taskFinished();
             }
         }
 
         private void increaseReconcileCount(final boolean isSuccess) {
-            // FIXME: do not use SimpleDateFormat
-            final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(DATE_AND_TIME_FORMAT);
             final var instanceIdentifier = DataObjectIdentifier.builder(ReconciliationCounter.class)
                 .child(ReconcileCounter.class, new ReconcileCounterKey(nodeId))
                 .build();
-            ReadWriteTransaction tx = broker.newReadWriteTransaction();
-            Optional<ReconcileCounter> count = getReconciliationCount(tx, instanceIdentifier);
+            final var tx = broker.newReadWriteTransaction();
+            Futures.addCallback(tx.read(LogicalDatastoreType.OPERATIONAL, instanceIdentifier),
+                new FutureCallback<Optional<ReconcileCounter>>() {
+                    @Override
+                    public void onSuccess(final Optional<ReconcileCounter> count) {
+                        mergeReconcileCount(tx, instanceIdentifier, count, isSuccess);
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable cause) {
+                        LOG.error("Exception while reading counter for node: {}", nodeId, cause);
+                        mergeReconcileCount(tx, instanceIdentifier, Optional.empty(), isSuccess);
+                    }
+                }, MoreExecutors.directExecutor());
+        }
+
+        private void mergeReconcileCount(final ReadWriteTransaction tx,
+                final DataObjectIdentifier<ReconcileCounter> instanceIdentifier,
+                final Optional<ReconcileCounter> count, final boolean isSuccess) {
             ReconcileCounterBuilder counterBuilder = new ReconcileCounterBuilder()
                     .withKey(new ReconcileCounterKey(nodeId))
-                    .setLastRequestTime(new DateAndTime(simpleDateFormat.format(new Date())));
+                    .setLastRequestTime(new DateAndTime(DATE_AND_TIME_FORMAT.format(OffsetDateTime.now())));
 
             if (isSuccess) {
                 if (count.isPresent()) {
@@ -301,22 +451,18 @@ public final class DefaultReconcileService implements Reconcile, ReconcileServic
             } else {
                 counterBuilder.setFailureCount(Uint32.ONE);
             }
-            try {
-                tx.merge(LogicalDatastoreType.OPERATIONAL, instanceIdentifier, counterBuilder.build());
-                tx.commit().get();
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.error("Exception while submitting counter for {}", nodeId, e);
-            }
-        }
+            tx.merge(LogicalDatastoreType.OPERATIONAL, instanceIdentifier, counterBuilder.build());
+            tx.commit().addCallback(new FutureCallback<CommitInfo>() {
+                @Override
+                public void onSuccess(final CommitInfo result) {
+                    LOG.trace("Reconcile counter updated for {}", nodeId);
+                }
 
-        private Optional<ReconcileCounter> getReconciliationCount(final ReadWriteTransaction tx,
-                final DataObjectIdentifier<ReconcileCounter> instanceIdentifier) {
-            try {
-                return tx.read(LogicalDatastoreType.OPERATIONAL, instanceIdentifier).get();
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.error("Exception while reading counter for node: {}", nodeId, e);
-                return Optional.empty();
-            }
+                @Override
+                public void onFailure(final Throwable cause) {
+                    LOG.error("Exception while submitting counter for {}", nodeId, cause);
+                }
+            }, MoreExecutors.directExecutor());
         }
 
         private void updateReconciliationState(final ReconciliationState.ReconciliationStatus status) {
@@ -8,9 +8,18 @@
 package org.opendaylight.openflowplugin.applications.southboundcli;
 
 import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.applications.southboundcli.util.OFNode;
 
 public interface DpnTracker {
 
     List<OFNode> currentNodes();
+
+    /**
+     * Return a connected node along with its ports.
+     *
+     * @param nodeId datapath ID of the node
+     * @return the node, or {@code null} if it is not connected
+     */
+    @Nullable OFNode currentNode(long nodeId);
 }
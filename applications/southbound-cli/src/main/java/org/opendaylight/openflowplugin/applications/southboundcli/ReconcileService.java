@@ -16,8 +16,32 @@ import org.opendaylight.yangtools.yang.common.Uint64;
 
 @NonNullByDefault
 public interface ReconcileService {
+    /**
+     * Receives progress of reconciliations triggered through this service.
+     */
+    interface ProgressListener {
+        /**
+         * Invoked once reconciliation of the specified nodes has been scheduled, before the request completes.
+         * Nodes which are already being reconciled are not included.
+         *
+         * @param nodes scheduled nodes
+         */
+        void onScheduled(Set<Uint64> nodes);
+
+        /**
+         * Invoked when reconciliation of a scheduled node finishes.
+         *
+         * @param node the node
+         * @param success {@code true} if reconciliation succeeded
+         */
+        void onReconciled(Uint64 node, boolean success);
+    }
 
     ListenableFuture<RpcResult<ReconcileOutput>> reconcile(Set<Uint64> nodes);
 
     ListenableFuture<RpcResult<ReconcileOutput>> reconcileAll();
+
+    ListenableFuture<RpcResult<ReconcileOutput>> reconcile(Set<Uint64> nodes, ProgressListener listener);
+
+    ListenableFuture<RpcResult<ReconcileOutput>> reconcileAll(ProgressListener listener);
 }
@@ -12,7 +12,9 @@ import static org.opendaylight.openflowplugin.applications.southboundcli.util.Sh
 import java.util.Formatter;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.karaf.shell.api.action.Action;
 import org.apache.karaf.shell.api.action.Argument;
@@ -42,6 +44,35 @@ public final class ReconcileCommand implements Action {
     @Option(name = "-all", description = "Reconcile all operative NODEs")
     boolean reconcileAllNodes;
 
+    @Option(name = "-w", aliases = "--wait", description = "Wait for reconciliation to finish, reporting progress")
+    boolean waitForCompletion;
+
+    /**
+     * Reports completion of each node to the console, as it happens.
+     */
+    private final class ProgressReporter implements ReconcileService.ProgressListener {
+        private final AtomicInteger completed = new AtomicInteger();
+        private volatile CountDownLatch remaining = new CountDownLatch(0);
+        private volatile int total;
+
+        @Override
+        public void onScheduled(final Set<Uint64> nodes) {
+            total = nodes.size();
+            remaining = new CountDownLatch(total);
+        }
+
+        @Override
+        public void onReconciled(final Uint64 node, final boolean success) {
+            session.getConsole().println(String.format("Reconciliation %s for node %s (%d/%d)",
+                success ? "completed" : "failed", node, completed.incrementAndGet(), total));
+            remaining.countDown();
+        }
+
+        void await() throws InterruptedException {
+            remaining.await();
+        }
+    }
+
     @Override
     public Object execute() throws Exception {
         if (reconciliationService == null) {
@@ -51,14 +82,18 @@ public final class ReconcileCommand implements Action {
 
         final var nodes = nodeIds == null ? Set.<Uint64>of()
             : nodeIds.stream().map(Uint64::valueOf).collect(Collectors.toSet());
-        final var rpcOutput = reconcileAllNodes ? reconciliationService.reconcileAll()
-            : reconciliationService.reconcile(nodes);
+        final var reporter = new ProgressReporter();
+        final var rpcOutput = reconcileAllNodes ? reconciliationService.reconcileAll(reporter)
+            : reconciliationService.reconcile(nodes, reporter);
         LOG.debug("Triggering reconciliation for nodes {}", nodes);
         try {
             final var rpcResult = rpcOutput.get();
             if (rpcResult.isSuccessful()) {
                 session.getConsole().println("Reconciliation triggered for the node(s)");
                 printInProgressNodes(rpcResult.getResult());
+                if (waitForCompletion) {
+                    awaitCompletion(reporter);
+                }
             } else {
                 session.getConsole().println(rpcResult.getErrors().stream().findFirst().orElseThrow().getMessage());
             }
@@ -68,6 +103,16 @@ public final class ReconcileCommand implements Action {
         return null;
     }
 
+    private void awaitCompletion(final ProgressReporter reporter) {
+        try {
+            reporter.await();
+            session.getConsole().println("Reconciliation finished for the node(s)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            session.getConsole().println("Stopped waiting, reconciliation continues in background");
+        }
+    }
+
     private void printInProgressNodes(final ReconcileOutput reconcileOutput) {
         final var inprogressNodes = reconcileOutput.getInprogressNodes();
         if (inprogressNodes != null && !inprogressNodes.isEmpty()) {
@@ -16,9 +16,8 @@ import org.apache.karaf.shell.api.action.Option;
 import org.apache.karaf.shell.api.action.lifecycle.Reference;
 import org.apache.karaf.shell.api.action.lifecycle.Service;
 import org.apache.karaf.shell.api.console.Session;
-import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowplugin.applications.southboundcli.DpnTracker;
 import org.opendaylight.openflowplugin.applications.southboundcli.util.OFNode;
-import org.opendaylight.openflowplugin.applications.southboundcli.util.ShellUtil;
 
 @Service
 @Command(scope = "openflow", name = "shownode", description = "shownode -d <NodeID>")
@@ -32,15 +31,19 @@ public class ShowNodeCommand implements Action {
     @Reference
     Session session;
     @Reference
-    DataBroker dataBroker;
+    DpnTracker dpnTracker;
 
     @Override
     public Object execute() {
+        if (dpnTracker == null) {
+            // not initialized
+            return null;
+        }
         if (nodeId == null) {
             session.getConsole().println("NodeID not specified");
             return null;
         }
-        OFNode node = ShellUtil.getNode(Long.parseLong(nodeId), dataBroker);
+        OFNode node = dpnTracker.currentNode(Long.parseLong(nodeId));
         if (node != null) {
             printNodeHeaderOutput();
             session.getConsole().println(LINE_SEPARATOR);
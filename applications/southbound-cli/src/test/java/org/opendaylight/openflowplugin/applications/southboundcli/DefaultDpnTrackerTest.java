@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.southboundcli;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectDeleted;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectWritten;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeConnector;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeConnectorBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnectorKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+
+/**
+ * Unit tests for {@link DefaultDpnTracker}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultDpnTrackerTest {
+    private static final NodeKey NODE_KEY = new NodeKey(new NodeId("openflow:1"));
+
+    @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private Registration registration;
+
+    private DefaultDpnTracker tracker;
+    private DataTreeChangeListener<FlowCapableNodeConnector> portListener;
+
+    @Before
+    public void before() {
+        doReturn(registration).when(dataBroker).registerTreeChangeListener(eq(LogicalDatastoreType.OPERATIONAL),
+            any(), any());
+        tracker = new DefaultDpnTracker(dataBroker);
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<DataTreeChangeListener<FlowCapableNodeConnector>> captor =
+            ArgumentCaptor.forClass(DataTreeChangeListener.class);
+        verify(dataBroker, times(2)).registerTreeChangeListener(
+            eq(LogicalDatastoreType.OPERATIONAL), any(), captor.capture());
+        portListener = captor.getAllValues().get(1);
+
+        final DataObjectWritten<FlowCapableNode> node = mock();
+        doReturn(new FlowCapableNodeBuilder().setDescription("switch1").build()).when(node).dataAfter();
+        tracker.onDataTreeChanged(List.of(modification(
+            DataObjectIdentifier.builder(Nodes.class).child(Node.class, NODE_KEY)
+                .augmentation(FlowCapableNode.class).build(), node)));
+    }
+
+    @After
+    public void after() {
+        tracker.close();
+    }
+
+    @Test
+    public void testPortOrder() {
+        final var ids = new ArrayList<>(List.of("openflow:1:LOCAL", "openflow:1:10", "openflow:1:2",
+            "openflow:1:CONTROLLER", "openflow:1:1", "openflow:1:4294967040"));
+        ids.sort(DefaultDpnTracker.PORT_ORDER);
+        assertEquals(List.of("openflow:1:1", "openflow:1:2", "openflow:1:10", "openflow:1:4294967040",
+            "openflow:1:CONTROLLER", "openflow:1:LOCAL"), ids);
+    }
+
+    @Test
+    public void testPortsInPortNumberOrder() {
+        writePort("openflow:1:10", "eth10");
+        writePort("openflow:1:LOCAL", null);
+        writePort("openflow:1:2", "eth2");
+        writePort("openflow:1:1", "eth1");
+        assertEquals(List.of("eth1", "eth2", "eth10", "openflow:1:LOCAL"), tracker.currentNode(1).getPorts());
+
+        final DataObjectDeleted<FlowCapableNodeConnector> deleted = mock();
+        portListener.onDataTreeChanged(List.of(modification(portPath("openflow:1:2"), deleted)));
+        assertEquals(List.of("eth1", "eth10", "openflow:1:LOCAL"), tracker.currentNode(1).getPorts());
+    }
+
+    private void writePort(final String id, final String name) {
+        final DataObjectWritten<FlowCapableNodeConnector> written = mock();
+        doReturn(new FlowCapableNodeConnectorBuilder().setName(name).build()).when(written).dataAfter();
+        portListener.onDataTreeChanged(List.of(modification(portPath(id), written)));
+    }
+
+    private static DataObjectIdentifier<FlowCapableNodeConnector> portPath(final String id) {
+        return DataObjectIdentifier.builder(Nodes.class).child(Node.class, NODE_KEY)
+            .child(NodeConnector.class, new NodeConnectorKey(new NodeConnectorId(id)))
+            .augmentation(FlowCapableNodeConnector.class).build();
+    }
+
+    private static <T extends DataObject> DataTreeModification<T> modification(
+            final DataObjectIdentifier<T> path, final DataObjectModification<T> root) {
+        final DataTreeModification<T> modification = mock();
+        doReturn(root).when(modification).getRootNode();
+        doReturn(path).when(modification).path();
+        return modification;
+    }
+}
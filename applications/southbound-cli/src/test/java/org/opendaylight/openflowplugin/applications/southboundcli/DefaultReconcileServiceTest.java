@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.southboundcli;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowplugin.api.openflow.FlowGroupCacheManager;
+import org.opendaylight.openflowplugin.api.openflow.ReconciliationState;
+import org.opendaylight.openflowplugin.api.openflow.ReconciliationState.ReconciliationStatus;
+import org.opendaylight.openflowplugin.applications.frm.FlowNodeReconciliation;
+import org.opendaylight.openflowplugin.applications.frm.ForwardingRulesManager;
+import org.opendaylight.openflowplugin.applications.southboundcli.ReconcileService.ProgressListener;
+import org.opendaylight.openflowplugin.applications.southboundcli.util.OFNode;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Unit tests for {@link DefaultReconcileService}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultReconcileServiceTest {
+    // One more than the number of concurrent reconciliations
+    private static final int NODE_COUNT = 11;
+
+    private final Map<String, ReconciliationState> states = new ConcurrentHashMap<>();
+
+    @Mock
+    private DataBroker broker;
+    @Mock
+    private ForwardingRulesManager frm;
+    @Mock
+    private FlowNodeReconciliation flowNodeReconciliation;
+    @Mock
+    private DpnTracker dpnTracker;
+    @Mock
+    private FlowGroupCacheManager flowGroupCacheManager;
+    @Mock
+    private ProgressListener listener;
+
+    private DefaultReconcileService service;
+
+    @Before
+    public void before() {
+        doReturn(flowNodeReconciliation).when(frm).getFlowNodeReconciliation();
+        doReturn(states).when(flowGroupCacheManager).getReconciliationStates();
+        doReturn(LongStream.rangeClosed(1, NODE_COUNT).mapToObj(id -> new OFNode(id, "node" + id)).toList())
+            .when(dpnTracker).currentNodes();
+        service = new DefaultReconcileService(broker, frm, dpnTracker, flowGroupCacheManager);
+    }
+
+    @After
+    public void after() {
+        service.close();
+    }
+
+    @Test
+    public void testCloseFailsPendingNodes() {
+        // Reconciliations never complete, hence the last node stays queued
+        doReturn(SettableFuture.create()).when(flowNodeReconciliation).reconcileConfiguration(any());
+
+        service.reconcileAll(listener);
+        verify(flowNodeReconciliation, times(NODE_COUNT - 1)).reconcileConfiguration(any());
+        for (int i = 1; i <= NODE_COUNT; i++) {
+            assertEquals(ReconciliationStatus.STARTED, states.get(String.valueOf(i)).getState());
+        }
+
+        service.close();
+        final var last = Uint64.valueOf(NODE_COUNT);
+        verify(listener).onReconciled(last, false);
+        assertEquals(ReconciliationStatus.FAILED, states.get(last.toString()).getState());
+        // Running reconciliations are left to complete on their own
+        verify(listener, never()).onReconciled(Uint64.ONE, false);
+        assertEquals(ReconciliationStatus.STARTED, states.get("1").getState());
+    }
+
+    @Test
+    public void testReconcileAfterClose() {
+        service.close();
+
+        service.reconcile(Set.of(Uint64.ONE), listener);
+        verify(flowNodeReconciliation, never()).reconcileConfiguration(any());
+        verify(listener).onReconciled(Uint64.ONE, false);
+        assertEquals(ReconciliationStatus.FAILED, states.get("1").getState());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerExtensionProvider;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerExtensionProvider;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterIdDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterIdMeterSubTypeSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterIdSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterInstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+import org.opendaylight.openflowplugin.impl.protocol.deserialization.DeserializerInjector;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.SerializerInjector;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.experimenter.core.ExperimenterDataOfChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.meter.band.header.meter.band.MeterBandExperimenterCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.queue.property.header.QueueProperty;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.table.features.properties.grouping.TableFeatureProperties;
+
+/**
+ * Stand-alone equivalent of the serializer/deserializer wiring done by {@code SwitchConnectionProviderImpl}, so that
+ * benchmarks exercise the very same codec instances the plugin registers at runtime without having to bind a
+ * server socket.
+ */
+public final class BenchmarkExtensionProvider implements SerializerExtensionProvider, DeserializerExtensionProvider {
+    private final SerializerRegistry serializerRegistry;
+    private final DeserializerRegistry deserializerRegistry;
+    private final DeserializationFactory deserializationFactory;
+
+    private BenchmarkExtensionProvider() {
+        serializerRegistry = new SerializerRegistryImpl();
+        serializerRegistry.init();
+        deserializerRegistry = new DeserializerRegistryImpl();
+        deserializerRegistry.init();
+        deserializationFactory = new DeserializationFactory(deserializerRegistry);
+    }
+
+    /**
+     * Create a provider holding only the openflowjava codecs.
+     *
+     * @return A new provider
+     */
+    public static BenchmarkExtensionProvider openflowjava() {
+        return new BenchmarkExtensionProvider();
+    }
+
+    /**
+     * Create a provider with the openflowplugin single-layer codecs injected on top of openflowjava ones, as done by
+     * the plugin when {@code use-single-layer-serialization} is enabled.
+     *
+     * @return A new provider
+     */
+    public static BenchmarkExtensionProvider singleLayer() {
+        return singleLayer(0);
+    }
+
+    /**
+     * Create a provider with the openflowplugin single-layer codecs injected on top of openflowjava ones, with flow
+     * statistics decoding configured as by {@code flow-statistics-decode-cache-size}.
+     *
+     * @param flowStatsDecodeCacheSize flow statistics decode cache size, 0 to disable the cache
+     * @return A new provider
+     */
+    public static BenchmarkExtensionProvider singleLayer(final int flowStatsDecodeCacheSize) {
+        final var provider = new BenchmarkExtensionProvider();
+        SerializerInjector.injectSerializers(provider, false);
+        DeserializerInjector.injectDeserializers(provider, flowStatsDecodeCacheSize);
+        return provider;
+    }
+
+    public SerializerRegistry serializerRegistry() {
+        return serializerRegistry;
+    }
+
+    public DeserializerRegistry deserializerRegistry() {
+        return deserializerRegistry;
+    }
+
+    public DeserializationFactory deserializationFactory() {
+        return deserializationFactory;
+    }
+
+    @Override
+    public <K> void registerSerializer(final MessageTypeKey<K> key, final OFGeneralSerializer serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public boolean unregisterSerializer(final ExperimenterSerializerKey key) {
+        return serializerRegistry.unregisterSerializer((MessageTypeKey<?>) key);
+    }
+
+    @Override
+    public void registerActionSerializer(final ActionSerializerKey<?> key, final OFGeneralSerializer serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public void registerInstructionSerializer(final InstructionSerializerKey<?> key,
+            final OFGeneralSerializer serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public <C extends OxmClassBase, F extends MatchField> void registerMatchEntrySerializer(
+            final MatchEntrySerializerKey<C, F> key, final OFGeneralSerializer serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public void registerExperimenterMessageSerializer(
+            final ExperimenterIdSerializerKey<? extends ExperimenterDataOfChoice> key,
+            final OFSerializer<? extends ExperimenterDataOfChoice> serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public void registerMultipartRequestSerializer(
+            final ExperimenterIdSerializerKey<? extends ExperimenterDataOfChoice> key,
+            final OFSerializer<? extends ExperimenterDataOfChoice> serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public void registerMultipartRequestTFSerializer(final ExperimenterIdSerializerKey<TableFeatureProperties> key,
+            final OFGeneralSerializer serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    @Deprecated
+    public void registerMeterBandSerializer(final ExperimenterIdSerializerKey<MeterBandExperimenterCase> key,
+            final OFSerializer<MeterBandExperimenterCase> serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public void registerMeterBandSerializer(
+            final ExperimenterIdMeterSubTypeSerializerKey<MeterBandExperimenterCase> key,
+            final OFSerializer<MeterBandExperimenterCase> serializer) {
+        serializerRegistry.registerSerializer(key, serializer);
+    }
+
+    @Override
+    public void registerDeserializer(final MessageCodeKey key, final OFGeneralDeserializer deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public boolean unregisterDeserializer(final ExperimenterDeserializerKey key) {
+        return deserializerRegistry.unregisterDeserializer((MessageCodeKey) key);
+    }
+
+    @Override
+    public void registerActionDeserializer(final ExperimenterActionDeserializerKey key,
+            final OFGeneralDeserializer deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerInstructionDeserializer(final ExperimenterInstructionDeserializerKey key,
+            final OFGeneralDeserializer deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerMatchEntryDeserializer(final MatchEntryDeserializerKey key,
+            final OFGeneralDeserializer deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerErrorDeserializer(final ExperimenterIdDeserializerKey key,
+            final OFDeserializer<ErrorMessage> deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerExperimenterMessageDeserializer(final ExperimenterIdDeserializerKey key,
+            final OFDeserializer<? extends ExperimenterDataOfChoice> deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerMultipartReplyMessageDeserializer(final ExperimenterIdDeserializerKey key,
+            final OFDeserializer<? extends ExperimenterDataOfChoice> deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerMultipartReplyTFDeserializer(final ExperimenterIdDeserializerKey key,
+            final OFGeneralDeserializer deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerMeterBandDeserializer(final ExperimenterIdDeserializerKey key,
+            final OFDeserializer<MeterBandExperimenterCase> deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerQueuePropertyDeserializer(final ExperimenterIdDeserializerKey key,
+            final OFDeserializer<QueueProperty> deserializer) {
+        deserializerRegistry.registerDeserializer(key, deserializer);
+    }
+
+    @Override
+    public void registerDeserializerMapping(final TypeToClassKey key, final Class<?> clazz) {
+        deserializationFactory.registerMapping(key, clazz);
+    }
+
+    @Override
+    public boolean unregisterDeserializerMapping(final TypeToClassKey key) {
+        return deserializationFactory.unregisterMapping(key);
+    }
+}
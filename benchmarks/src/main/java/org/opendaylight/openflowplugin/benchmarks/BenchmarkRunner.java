@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded benchmarks jar. Accepts the usual JMH command line, but always attaches
+ * {@link GCProfiler}, so every run reports {@code gc.alloc.rate.norm} (bytes allocated per operation) next to the
+ * throughput figures.
+ *
+ * <p>
+ * Typical invocation: {@code java -jar target/benchmarks.jar FlowMod -f 1}.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+        // Hidden on purpose
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.extension.api.TypeVersionKey;
+import org.opendaylight.openflowplugin.extension.onf.converter.BundleAddMessageConverter;
+import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
+import org.opendaylight.openflowplugin.impl.services.sal.AddBundleMessagesImpl;
+import org.opendaylight.openflowplugin.impl.services.sal.SendExperimenterImpl;
+import org.opendaylight.openflowplugin.openflow.md.core.extension.ExtensionConverterManagerImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.MessagesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.Message;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.MessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.add.flow._case.AddFlowCaseDataBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.send.experimenter.input.experimenter.message.of.choice.BundleAddMessageSal;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.rev170124.BundleFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.rev170124.BundleId;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to push {@link #flows} flows into a bundle, from handing them to {@code add-bundle-messages} to the result of
+ * the last message being known. With {@code perMessage} each flow is sent as a separate request, as bundle
+ * reconciliation used to do, while {@code streaming} sends all of them as a single request, written into the outbound
+ * queue chunk by chunk. Messages are converted to their OpenFlow form in both cases, but not encoded. The switch is
+ * simulated by an outbound queue which completes all requests up to a barrier as soon as the barrier is committed,
+ * and issues its own barrier after {@link #QUEUE_BARRIER_INTERVAL} requests and at the very end, standing in for the
+ * barriers the queue manager inserts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class BundleReconciliationBenchmark {
+    private static final int QUEUE_BARRIER_INTERVAL = 25600;
+    private static final NodeRef NODE_REF = new NodeRef(DataObjectIdentifier.builder(Nodes.class)
+        .child(Node.class, new NodeKey(new NodeId("openflow:1")))
+        .build());
+    private static final BundleId BUNDLE_ID = new BundleId(Uint32.ONE);
+    private static final BundleFlags BUNDLE_FLAGS = new BundleFlags(true, true);
+
+    @Param({ "perMessage", "streaming" })
+    public String mode;
+
+    @Param({ "100000" })
+    public int flows;
+
+    private ExtensionConverterManagerImpl extensionConverterProvider;
+    private List<Message> messages;
+    private SimulatedQueue queue;
+    private AddBundleMessagesImpl addBundleMessages;
+
+    /**
+     * An outbound queue which acknowledges requests at barriers, just as a switch not reporting any errors would.
+     */
+    private static final class SimulatedQueue implements OutboundQueue {
+        private final ArrayDeque<FutureCallback<OfHeader>> pending = new ArrayDeque<>();
+        private long nextXid = 1;
+        private int sinceBarrier;
+        private boolean completing;
+
+        @Override
+        public Uint32 reserveEntry() {
+            return Uint32.valueOf(nextXid++ & 0xFFFFFFFFL);
+        }
+
+        @Override
+        public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback) {
+            if (callback != null) {
+                pending.add(callback);
+            }
+            if (message instanceof BarrierInput || ++sinceBarrier == QUEUE_BARRIER_INTERVAL) {
+                barrier();
+            }
+        }
+
+        @Override
+        public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
+                final Function<OfHeader, Boolean> isCompletedFunction) {
+            commitEntry(xid, message, callback);
+        }
+
+        void barrier() {
+            sinceBarrier = 0;
+            if (completing) {
+                // requests committed by callbacks are picked up by the loop below
+                return;
+            }
+            completing = true;
+            try {
+                FutureCallback<OfHeader> callback;
+                while ((callback = pending.poll()) != null) {
+                    callback.onSuccess(null);
+                }
+            } finally {
+                completing = false;
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        extensionConverterProvider = new ExtensionConverterManagerImpl();
+        extensionConverterProvider.registerMessageConvertor(
+            new TypeVersionKey<>(BundleAddMessageSal.class, OFConstants.OFP_VERSION_1_3),
+            new BundleAddMessageConverter());
+
+        messages = new ArrayList<>(flows);
+        for (int i = 0; i < flows; ++i) {
+            messages.add(new MessageBuilder()
+                .setNode(NODE_REF)
+                .setBundleInnerMessage(new BundleAddFlowCaseBuilder()
+                    .setAddFlowCaseData(new AddFlowCaseDataBuilder()
+                        .setTableId(Uint8.valueOf(i % 8))
+                        .setPriority(Uint16.valueOf(i % 1000))
+                        .setMatch(new MatchBuilder()
+                            .setInPort(new NodeConnectorId("openflow:1:" + (i % 48 + 1)))
+                            .build())
+                        .build())
+                    .build())
+                .build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        queue = new SimulatedQueue();
+        final var deviceContext = newDeviceContext(queue);
+        final var requestContextStack = new RequestContextStack() {
+            @Override
+            public <T> RequestContext<T> createRequestContext() {
+                return new AbstractRequestContext<>(queue.reserveEntry()) {
+                    @Override
+                    public void close() {
+                        // No-op
+                    }
+                };
+            }
+        };
+        final var sendExperimenter = new SendExperimenterImpl(requestContextStack, deviceContext,
+            extensionConverterProvider);
+        addBundleMessages = switch (mode) {
+            case "perMessage" -> new AddBundleMessagesImpl(sendExperimenter);
+            case "streaming" -> new AddBundleMessagesImpl(requestContextStack, deviceContext, sendExperimenter,
+                MoreExecutors.directExecutor());
+            default -> throw new IllegalStateException("Unknown mode " + mode);
+        };
+    }
+
+    @Benchmark
+    public List<RpcResult<?>> reconcile() throws InterruptedException, ExecutionException {
+        final var futures = new ArrayList<ListenableFuture<? extends RpcResult<?>>>();
+        if ("perMessage".equals(mode)) {
+            for (var message : messages) {
+                futures.add(addBundleMessages.invoke(newInput(List.of(message))));
+            }
+        } else {
+            futures.add(addBundleMessages.invoke(newInput(messages)));
+        }
+        queue.barrier();
+        return Futures.<RpcResult<?>>allAsList(futures).get();
+    }
+
+    private static AddBundleMessagesInput newInput(final List<Message> messages) {
+        return new AddBundleMessagesInputBuilder()
+            .setNode(NODE_REF)
+            .setBundleId(BUNDLE_ID)
+            .setFlags(BUNDLE_FLAGS)
+            .setMessages(new MessagesBuilder().setMessage(messages).build())
+            .build();
+    }
+
+    private static DeviceContext newDeviceContext(final OutboundQueue queue) {
+        final var messageSpy = proxy(MessageSpy.class, (name, args) -> null);
+        final var deviceInfo = proxy(DeviceInfo.class, (name, args) -> switch (name) {
+            case "getVersion" -> OFConstants.OFP_VERSION_1_3;
+            case "getDatapathId" -> Uint64.ONE;
+            case "reserveXidForDeviceMessage" -> queue.reserveEntry();
+            default -> throw new UnsupportedOperationException(name);
+        });
+        final var connectionContext = proxy(ConnectionContext.class, (name, args) -> switch (name) {
+            case "getOutboundQueueProvider" -> queue;
+            default -> throw new UnsupportedOperationException(name);
+        });
+        return proxy(DeviceContext.class, (name, args) -> switch (name) {
+            case "getDeviceInfo" -> deviceInfo;
+            case "getMessageSpy" -> messageSpy;
+            case "getPrimaryConnectionContext" -> connectionContext;
+            case "registerErrorListener" -> (Registration) () -> {
+                // No errors are reported
+            };
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(String methodName, Object[] args);
+    }
+
+    private static <T> T proxy(final Class<T> type, final Answer answer) {
+        return type.cast(Proxy.newProxyInstance(BundleReconciliationBenchmark.class.getClassLoader(),
+            new Class<?>[] { type }, (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+}
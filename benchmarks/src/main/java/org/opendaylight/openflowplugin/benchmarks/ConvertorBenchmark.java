@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManager;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManagerFactory;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.common.IpConversionUtil;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionConvertorData;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionDatapathIdConvertorData;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInputBuilder;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the multi-layer translators: MD-SAL match and flow to openflowjava structures, plus the IPv4 prefix
+ * handling in {@link IpConversionUtil}, which is on the path of every L3 match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ConvertorBenchmark {
+    @Param({ "1024" })
+    public int corpusSize;
+
+    private ConvertorManager convertorManager;
+    private VersionConvertorData versionData;
+    private VersionDatapathIdConvertorData datapathData;
+    private List<Flow> flows;
+    private Ipv4Prefix[] prefixes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        convertorManager = ConvertorManagerFactory.createDefaultManager();
+        versionData = new VersionConvertorData(OFConstants.OFP_VERSION_1_3);
+        datapathData = new VersionDatapathIdConvertorData(OFConstants.OFP_VERSION_1_3);
+        datapathData.setDatapathId(Uint64.ONE);
+        flows = MessageCorpus.ovsFlows(corpusSize);
+        prefixes = flows.stream()
+            .map(flow -> flow.getMatch().getLayer3Match())
+            .map(l3 -> ((Ipv4Match) l3).getIpv4Destination())
+            .toArray(Ipv4Prefix[]::new);
+    }
+
+    @Benchmark
+    public Optional<List<MatchEntry>> convertMatch() {
+        return convertorManager.convert(flows.get(next++ % corpusSize).getMatch(), versionData);
+    }
+
+    @Benchmark
+    public Optional<List<FlowModInputBuilder>> convertFlow() {
+        return convertorManager.convert(flows.get(next++ % corpusSize), datapathData);
+    }
+
+    @Benchmark
+    public Integer extractIpv4Prefix() {
+        return IpConversionUtil.extractPrefix(prefixes[next++ % corpusSize]);
+    }
+
+    @Benchmark
+    public Object extractIpv4Address() {
+        return IpConversionUtil.extractIpv4Address(prefixes[next++ % corpusSize]);
+    }
+}
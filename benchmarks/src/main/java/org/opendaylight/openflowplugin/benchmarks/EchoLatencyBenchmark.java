@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import com.google.common.util.concurrent.FutureCallback;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterImpl;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageListenerWrapper;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of an echo request committed to the stacked outbound queue right behind a large flow-mod push, with the
+ * echo committed as a bulk or as a control message. Besides the time to drain the whole queue, the number of messages
+ * written ahead of the echo and the time it took for the echo to reach the channel are reported as auxiliary counters.
+ * The channel is an {@link EmbeddedChannel} without encoders, hence the latency reflects only queue management; on a
+ * real connection it scales with the number of messages written ahead of the echo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class EchoLatencyBenchmark {
+    private static final FutureCallback<OfHeader> NOOP_CALLBACK = new FutureCallback<>() {
+        @Override
+        public void onSuccess(final OfHeader result) {
+            // No-op
+        }
+
+        @Override
+        public void onFailure(final Throwable cause) {
+            // No-op
+        }
+    };
+
+    @Param({ "200000" })
+    public int pushSize;
+
+    @Param({ "BULK", "CONTROL" })
+    public OutboundQueuePriority echoPriority;
+
+    private static final class QueueHolder implements OutboundQueueHandler {
+        volatile OutboundQueue queue;
+
+        @Override
+        public void onConnectionQueueChanged(final OutboundQueue newQueue) {
+            queue = newQueue;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class EchoCounters {
+        public long messagesAheadOfEcho;
+        public long echoLatencyMicros;
+    }
+
+    private EmbeddedChannel channel;
+    private OutboundQueueHandlerRegistration<QueueHolder> registration;
+    private OutboundQueue queue;
+    private OfHeader flowMod;
+    private OfHeader echo;
+
+    private long written;
+    private long echoWritten;
+    private long echoAhead;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+                if (msg instanceof MessageListenerWrapper wrapper && wrapper.getMsg() instanceof EchoInput) {
+                    echoWritten = System.nanoTime();
+                    echoAhead = written;
+                }
+                written++;
+                // Nothing to encode, do not let messages pile up in the channel
+                promise.setSuccess();
+            }
+        });
+        channel.pipeline().addLast(PipelineHandlers.DELEGATING_INBOUND_HANDLER.name(),
+            new ChannelInboundHandlerAdapter());
+        final var adapter = new ConnectionAdapterImpl(channel, null, false, pushSize);
+        registration = adapter.registerOutboundQueueHandler(new QueueHolder(), pushSize,
+            TimeUnit.MILLISECONDS.toNanos(1));
+        flowMod = new FlowModInputBuilder().setVersion(EncodeConstants.OF_VERSION_1_3).build();
+        echo = new EchoInputBuilder().setVersion(EncodeConstants.OF_VERSION_1_3).build();
+
+        queue = registration.getInstance().queue;
+        for (int i = 0; i < pushSize; ++i) {
+            queue.commitEntry(queue.reserveEntry(), flowMod, NOOP_CALLBACK);
+        }
+        written = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        registration.close();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void echoBehindPush(final EchoCounters counters) {
+        final long start = System.nanoTime();
+        queue.commitEntry(queue.reserveEntry(), echo, NOOP_CALLBACK, echoPriority);
+        channel.runPendingTasks();
+
+        counters.messagesAheadOfEcho = echoAhead;
+        counters.echoLatencyMicros = TimeUnit.NANOSECONDS.toMicros(echoWritten - start);
+    }
+}
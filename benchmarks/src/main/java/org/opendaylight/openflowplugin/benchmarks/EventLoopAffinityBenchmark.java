@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowplugin.impl.util.ThreadPoolLoggingExecutor;
+import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Latency of processing a message received on a channel's event loop, either inline on that event loop, as done
+ * with {@code enable-event-loop-affinity}, or handed off to the shared plugin thread pool through a
+ * {@link QueuedNotificationManager}, as done for port status messages by default. The per-message work is simulated,
+ * so that the difference is the cost of the hand-off itself.
+ *
+ * <p>
+ * End-to-end flow-add and packet-in latency additionally depends on the switch and datastore, and needs to be
+ * measured against a running controller, for example with cbench in latency mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EventLoopAffinityBenchmark {
+    @Param({ "0", "1000" })
+    public int workTokens;
+
+    private EventLoopGroup group;
+    private ExecutorService executor;
+    private QueuedNotificationManager<String, Runnable> notificationManager;
+
+    @Setup
+    public void setup() {
+        group = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+        // Mirrors the defaults of OpenFlowPluginProviderImpl
+        executor = new ThreadPoolLoggingExecutor(1, 32000, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            "ofppool");
+        notificationManager = QueuedNotificationManager.create(executor, (key, entries) -> {
+            entries.forEach(Runnable::run);
+        }, 2048, "port-status-queue");
+    }
+
+    @TearDown
+    public void tearDown() {
+        group.shutdownGracefully();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object eventLoop() {
+        final var future = new CompletableFuture<>();
+        group.execute(() -> {
+            Blackhole.consumeCPU(workTokens);
+            future.complete(null);
+        });
+        return future.join();
+    }
+
+    @Benchmark
+    public Object handOff() {
+        final var future = new CompletableFuture<>();
+        group.execute(() -> notificationManager.submitNotification("openflow:1", () -> {
+            Blackhole.consumeCPU(workTokens);
+            future.complete(null);
+        }));
+        return future.join();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the single-layer FLOW_MOD serializer over a corpus of OVS-style flows. The output buffer is pooled and
+ * reused, so the reported allocation rate is the one attributable to the serializer itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FlowModSerializationBenchmark {
+    @Param({ "1024" })
+    public int corpusSize;
+
+    private OFSerializer<FlowMessage> serializer;
+    private List<FlowMessage> messages;
+    private ByteBuf out;
+    private int next;
+
+    @Setup
+    public void setup() {
+        serializer = BenchmarkExtensionProvider.singleLayer().serializerRegistry()
+            .getSerializer(new MessageTypeKey<>(EncodeConstants.OF_VERSION_1_3, FlowMessage.class));
+        messages = MessageCorpus.ovsFlows(corpusSize).stream()
+            .map(flow -> MessageCorpus.flowMessage(flow, 42))
+            .toList();
+        out = PooledByteBufAllocator.DEFAULT.buffer(4096);
+    }
+
+    @TearDown
+    public void tearDown() {
+        out.release();
+    }
+
+    @Benchmark
+    public int serializeFlowMod() {
+        out.clear();
+        serializer.serialize(messages.get(next++ % corpusSize), out);
+        return out.writerIndex();
+    }
+}
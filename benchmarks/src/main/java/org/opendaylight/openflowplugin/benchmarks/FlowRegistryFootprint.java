@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
+import org.opendaylight.openflowplugin.impl.registry.flow.CompactDeviceFlowRegistryImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.DeviceFlowRegistryImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowDescriptorFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Retained heap per registered flow of {@link DeviceFlowRegistryImpl} and {@link CompactDeviceFlowRegistryImpl},
+ * measured with JOL by walking the object graph reachable from a registry holding the OVS-style flow corpus.
+ *
+ * <p>
+ * Typical invocation: {@code java -cp target/benchmarks.jar
+ * org.opendaylight.openflowplugin.benchmarks.FlowRegistryFootprint 100000}.
+ */
+public final class FlowRegistryFootprint {
+    private static final DataObjectIdentifier.WithKey<Node, NodeKey> NODE_IID =
+        DataObjectIdentifier.builder(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1"))).build();
+
+    private FlowRegistryFootprint() {
+        // Hidden on purpose
+    }
+
+    public static void main(final String[] args) {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        final var flows = MessageCorpus.ovsFlows(count);
+
+        report("DeviceFlowRegistryImpl", flows, new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3,
+            unusedDataBroker(), NODE_IID, info -> { }));
+        report("CompactDeviceFlowRegistryImpl", flows, new CompactDeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3,
+            unusedDataBroker(), NODE_IID, info -> { }));
+    }
+
+    private static void report(final String name, final List<Flow> flows, final DeviceFlowRegistry registry) {
+        final long empty = GraphLayout.parseInstance(registry).totalSize();
+        for (var flow : flows) {
+            registry.storeDescriptor(registry.createKey(flow),
+                FlowDescriptorFactory.create(flow.getTableId(), flow.getId()));
+        }
+        final long full = GraphLayout.parseInstance(registry).totalSize();
+
+        System.out.printf("%s: %d flows, %d bytes retained, %.1f bytes/flow%n", name, registry.size(), full - empty,
+            (double) (full - empty) / registry.size());
+    }
+
+    private static DataBroker unusedDataBroker() {
+        // We never fill() the registry, hence the broker is never touched
+        return (DataBroker) Proxy.newProxyInstance(FlowRegistryFootprint.class.getClassLoader(),
+            new Class<?>[] { DataBroker.class }, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.toString());
+            });
+    }
+}
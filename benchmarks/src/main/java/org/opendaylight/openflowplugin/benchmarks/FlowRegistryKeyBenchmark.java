@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of building flow registry keys, which involves match normalization, and of the hashCode/equals pair used when
+ * looking them up in the device flow registry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FlowRegistryKeyBenchmark {
+    @Param({ "1024" })
+    public int corpusSize;
+
+    private List<Flow> flows;
+    private FlowRegistryKey[] keys;
+    private FlowRegistryKey[] equalKeys;
+    private int next;
+
+    @Setup
+    public void setup() {
+        flows = MessageCorpus.ovsFlows(corpusSize);
+        keys = flows.stream().map(FlowRegistryKeyFactory.VERSION_1_3::create).toArray(FlowRegistryKey[]::new);
+        equalKeys = MessageCorpus.ovsFlows(corpusSize).stream()
+            .map(FlowRegistryKeyFactory.VERSION_1_3::create)
+            .toArray(FlowRegistryKey[]::new);
+    }
+
+    @Benchmark
+    public FlowRegistryKey createKey() {
+        return FlowRegistryKeyFactory.VERSION_1_3.create(flows.get(next++ % corpusSize));
+    }
+
+    @Benchmark
+    public boolean hashAndEquals() {
+        final int idx = next++ % corpusSize;
+        final var key = keys[idx];
+        final var other = equalKeys[idx];
+        return key.hashCode() == other.hashCode() && key.equals(other);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.impl.registry.flow.DeviceFlowRegistryImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.multipart.reply.multipart.reply.body.MultipartReplyFlowStats;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112.MultipartReply;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CPU time of a single periodic flow statistics poll of a large flow table, with and without
+ * {@code flow-statistics-decode-cache-size}. Each operation decodes a whole reply of {@link #flows} entries, alternating
+ * between two polls which differ only in durations and counters, and resolves the flow registry key of each entry,
+ * as done when the statistics are written to the operational datastore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class FlowStatsPollBenchmark {
+    private static final int MULTIPART_REPLY = 19;
+    private static final DataObjectIdentifier.WithKey<Node, NodeKey> NODE_IID =
+        DataObjectIdentifier.builder(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1"))).build();
+
+    @Param({ "100000" })
+    public int flows;
+
+    @Param({ "0", "131072" })
+    public int decodeCacheSize;
+
+    private OFDeserializer<MultipartReply> deserializer;
+    private DeviceFlowRegistryImpl registry;
+    private ByteBuf[] polls;
+    private int poll;
+
+    @Setup
+    public void setup() {
+        deserializer = BenchmarkExtensionProvider.singleLayer(decodeCacheSize).deserializerRegistry()
+            .getDeserializer(new MessageCodeKey(EncodeConstants.OF_VERSION_1_3, MULTIPART_REPLY,
+                MultipartReply.class));
+        registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, unusedDataBroker(), NODE_IID, info -> { },
+            decodeCacheSize > 0);
+        polls = new ByteBuf[] { MessageCorpus.flowStatsReply(flows, 1), MessageCorpus.flowStatsReply(flows, 2) };
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (var buf : polls) {
+            buf.release();
+        }
+    }
+
+    @Benchmark
+    public void poll(final Blackhole blackhole) {
+        final var buf = polls[poll++ & 1].duplicate();
+        final var reply = (MultipartReplyFlowStats) deserializer.deserialize(buf).getMultipartReplyBody();
+        for (var entry : reply.nonnullFlowAndStatisticsMapList()) {
+            blackhole.consume(registry.createKey(entry));
+        }
+    }
+
+    private static DataBroker unusedDataBroker() {
+        // We never fill() the registry, hence the broker is never touched
+        return (DataBroker) Proxy.newProxyInstance(FlowStatsPollBenchmark.class.getClassLoader(),
+            new Class<?>[] { DataBroker.class }, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.toString());
+            });
+    }
+}
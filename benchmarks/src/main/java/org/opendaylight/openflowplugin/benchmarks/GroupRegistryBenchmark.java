@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryImpl;
+import org.opendaylight.openflowplugin.impl.registry.group.DeviceGroupRegistryImpl;
+import org.opendaylight.openflowplugin.impl.registry.meter.DeviceMeterRegistryImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One statistics cycle of the device group and meter registries, as driven by group-desc and meter-config polls:
+ * every known identifier is marked, marks are processed and all identifiers reported by the device are stored again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GroupRegistryBenchmark {
+    @Param({ "1024", "65536" })
+    public int size;
+
+    private DeviceGroupRegistryImpl groupRegistry;
+    private DeviceMeterRegistryImpl meterRegistry;
+    private GroupId[] groupIds;
+    private MeterId[] meterIds;
+
+    @Setup
+    public void setup() {
+        groupRegistry = new DeviceGroupRegistryImpl(new FlowGroupInfoHistoryImpl(10));
+        meterRegistry = new DeviceMeterRegistryImpl();
+        groupIds = new GroupId[size];
+        meterIds = new MeterId[size];
+        for (int i = 0; i < size; i++) {
+            groupIds[i] = new GroupId(Uint32.valueOf(i + 1));
+            meterIds[i] = new MeterId(Uint32.valueOf(i + 1));
+            groupRegistry.store(groupIds[i]);
+            meterRegistry.store(meterIds[i]);
+        }
+    }
+
+    @Benchmark
+    public int groupStatsCycle() {
+        groupRegistry.forEach(groupRegistry::addMark);
+        groupRegistry.processMarks();
+        for (GroupId groupId : groupIds) {
+            groupRegistry.store(groupId);
+        }
+        return groupRegistry.size();
+    }
+
+    @Benchmark
+    public int meterStatsCycle() {
+        meterRegistry.forEach(meterRegistry::addMark);
+        meterRegistry.processMarks();
+        for (MeterId meterId : meterIds) {
+            meterRegistry.store(meterId);
+        }
+        return meterRegistry.size();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
+import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Steady-state cost of producing the address and node connector objects seen in packet-in, port statistics and flow
+ * statistics processing, where the same {@link #values} distinct values repeat over and over. Each operation
+ * produces {@link #values} objects. Allocation rates are reported by the GC profiler, as configured in
+ * {@link BenchmarkRunner}; {@code gc.alloc.rate.norm} close to zero indicates that all objects were interned. Node
+ * connectors are interned for up to 256 ports per device, hence the larger parameter exercises lookup misses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class InterningBenchmark {
+    private static final Uint64 DATAPATH_ID = Uint64.valueOf(0x0000_0a00_0000_0001L);
+
+    @Param({ "48", "2048" })
+    public int values;
+
+    private ByteBuf ipv4Addresses;
+    private ByteBuf macAddresses;
+    private Uint32[] ports;
+
+    @Setup
+    public void setup() {
+        ipv4Addresses = Unpooled.buffer(values * Integer.BYTES);
+        macAddresses = Unpooled.buffer(values * 6);
+        ports = new Uint32[values];
+        for (int i = 0; i < values; ++i) {
+            ipv4Addresses.writeInt(0x0a000000 | i);
+            macAddresses.writeShort(0x0200).writeInt(i);
+            ports[i] = Uint32.valueOf(i + 1);
+        }
+    }
+
+    @Benchmark
+    public void ipv4Address(final Blackhole blackhole) {
+        final var buf = ipv4Addresses.duplicate();
+        while (buf.isReadable()) {
+            blackhole.consume(ByteBufUtils.readIetfIpv4Address(buf));
+        }
+    }
+
+    @Benchmark
+    public void macAddress(final Blackhole blackhole) {
+        final var buf = macAddresses.duplicate();
+        while (buf.isReadable()) {
+            blackhole.consume(ByteBufUtils.readIetfMacAddress(buf));
+        }
+    }
+
+    @Benchmark
+    public void nodeConnectorId(final Blackhole blackhole) {
+        for (var port : ports) {
+            blackhole.consume(InventoryDataServiceUtil.nodeConnectorIdfromDatapathPortNo(DATAPATH_ID, port,
+                OpenflowVersion.OF13));
+        }
+    }
+
+    @Benchmark
+    public void nodeConnectorRef(final Blackhole blackhole) {
+        for (var port : ports) {
+            blackhole.consume(InventoryDataServiceUtil.nodeConnectorRefFromDatapathIdPortno(DATAPATH_ID, port,
+                OpenflowVersion.OF13));
+        }
+    }
+}
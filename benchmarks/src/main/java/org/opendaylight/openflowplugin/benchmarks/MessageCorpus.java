@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.openflowjava.nx.api.NiciraConstants;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.OutputActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.output.action._case.OutputActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Instructions;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.InstructionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.ApplyActionsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.GoToTableCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.apply.actions._case.ApplyActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.go.to.table._case.GoToTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.l2.types.rev130827.EtherType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.ethernet.match.fields.EthernetTypeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.EthernetMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.IpMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._4.match.TcpMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.ExperimenterId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowModCommand;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.Nxm1Class;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.aug.nx.action.ActionRegLoadBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.aug.nx.action.ActionRegMoveBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.reg.load.grouping.NxActionRegLoadBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.reg.move.grouping.NxActionRegMoveBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxCtState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg0;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxTunId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.aug.nx.match.CtStateCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.aug.nx.match.RegCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.aug.nx.match.TunIdCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.ct.state.grouping.CtStateValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.reg.grouping.RegValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.tun.id.grouping.TunIdValuesBuilder;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Realistic message corpora shared by the benchmarks. Flows follow the shape of an OVS L3 pipeline: an IPv4/TCP match
+ * on a tunnel port, an output action and a goto-table. Wire-format corpora are built by hand, byte-for-byte as a
+ * switch would emit them, so that decoding benchmarks do not depend on the encoders under test.
+ */
+public final class MessageCorpus {
+    private static final int OFPMP_FLOW = 1;
+    private static final int OFPMP_TABLE_FEATURES = 12;
+    private static final int FLOW_STATS_FIXED_LENGTH = 48;
+    private static final int TABLE_FEATURES_FIXED_LENGTH = 64;
+    private static final int OFPIT_GOTO_TABLE = 1;
+    private static final int OFPIT_APPLY_ACTIONS = 4;
+    private static final int OFPAT_OUTPUT = 0;
+    private static final int NXM_NX_REG0_HEADER = 0x00010004;
+    private static final int NXM_NX_REG1_HEADER = 0x00010204;
+
+    private MessageCorpus() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Create an OVS-style flow.
+     *
+     * @param index index of the flow, used to vary the match and cookie
+     * @return A flow
+     */
+    public static Flow ovsFlow(final int index) {
+        return new FlowBuilder()
+            .setId(new FlowId("flow-" + index))
+            .setTableId(Uint8.valueOf(index % 8))
+            .setPriority(Uint16.valueOf(100 + index % 10))
+            .setCookie(new FlowCookie(Uint64.valueOf(0x8000000L + index)))
+            .setIdleTimeout(Uint16.ZERO)
+            .setHardTimeout(Uint16.ZERO)
+            .setMatch(ovsMatch(index))
+            .setInstructions(ovsInstructions(index))
+            .build();
+    }
+
+    /**
+     * Create a list of OVS-style flows.
+     *
+     * @param count number of flows
+     * @return A list of flows
+     */
+    public static List<Flow> ovsFlows(final int count) {
+        final var ret = new ArrayList<Flow>(count);
+        for (int i = 0; i < count; ++i) {
+            ret.add(ovsFlow(i));
+        }
+        return ret;
+    }
+
+    public static Match ovsMatch(final int index) {
+        return new MatchBuilder()
+            .setInPort(new NodeConnectorId("openflow:1:" + (1 + index % 48)))
+            .setEthernetMatch(new EthernetMatchBuilder()
+                .setEthernetType(new EthernetTypeBuilder().setType(new EtherType(Uint32.valueOf(0x0800))).build())
+                .build())
+            .setIpMatch(new IpMatchBuilder().setIpProtocol(Uint8.valueOf(6)).build())
+            .setLayer3Match(new Ipv4MatchBuilder()
+                .setIpv4Destination(new Ipv4Prefix(
+                    "10." + (index >>> 16 & 0xff) + "." + (index >>> 8 & 0xff) + "." + (index & 0xff) + "/32"))
+                .build())
+            .setLayer4Match(new TcpMatchBuilder()
+                .setTcpDestinationPort(new PortNumber(Uint16.valueOf(1024 + index % 60000)))
+                .build())
+            .build();
+    }
+
+    private static Instructions ovsInstructions(final int index) {
+        return new InstructionsBuilder()
+            .setInstruction(BindingMap.ordered(
+                new InstructionBuilder()
+                    .setOrder(0)
+                    .setInstruction(new ApplyActionsCaseBuilder()
+                        .setApplyActions(new ApplyActionsBuilder()
+                            .setAction(BindingMap.of(new ActionBuilder()
+                                .setOrder(0)
+                                .setAction(new OutputActionCaseBuilder()
+                                    .setOutputAction(new OutputActionBuilder()
+                                        .setOutputNodeConnector(new Uri("openflow:1:" + (1 + (index + 1) % 48)))
+                                        .setMaxLength(Uint16.MAX_VALUE)
+                                        .build())
+                                    .build())
+                                .build()))
+                            .build())
+                        .build())
+                    .build(),
+                new InstructionBuilder()
+                    .setOrder(1)
+                    .setInstruction(new GoToTableCaseBuilder()
+                        .setGoToTable(new GoToTableBuilder().setTableId(Uint8.valueOf(index % 8 + 1)).build())
+                        .build())
+                    .build()))
+            .build();
+    }
+
+    /**
+     * Create a flow-mod ADD message for a flow, as handed to the single-layer serializer.
+     *
+     * @param flow flow to install
+     * @param xid transaction id
+     * @return A FlowMessage
+     */
+    public static FlowMessage flowMessage(final Flow flow, final long xid) {
+        return new FlowMessageBuilder()
+            .setVersion(EncodeConstants.OF_VERSION_1_3)
+            .setXid(Uint32.valueOf(xid))
+            .setCommand(FlowModCommand.OFPFCADD)
+            .setTableId(flow.getTableId())
+            .setPriority(flow.getPriority())
+            .setCookie(flow.getCookie())
+            .setIdleTimeout(flow.getIdleTimeout())
+            .setHardTimeout(flow.getHardTimeout())
+            .setMatch(flow.getMatch())
+            .setInstructions(flow.getInstructions())
+            .build();
+    }
+
+    /**
+     * Create the wire format of an OFPMP_FLOW reply, without the OpenFlow header, as seen by multipart reply
+     * deserializers.
+     *
+     * @param flows number of flow-stats entries
+     * @return A buffer containing the reply
+     */
+    public static ByteBuf flowStatsReply(final int flows) {
+        return flowStatsReply(flows, 1);
+    }
+
+    /**
+     * Create the wire format of an OFPMP_FLOW reply, without the OpenFlow header, as returned by a particular poll of
+     * the same flow table. Replies of different polls differ only in durations and counters.
+     *
+     * @param flows number of flow-stats entries
+     * @param poll poll sequence number, positive
+     * @return A buffer containing the reply
+     */
+    public static ByteBuf flowStatsReply(final int flows, final int poll) {
+        final var buf = Unpooled.buffer(16 + flows * 104);
+        writeMultipartHeader(buf, OFPMP_FLOW);
+        for (int i = 0; i < flows; ++i) {
+            final int start = buf.writerIndex();
+            buf.writeShort(0);
+            buf.writeByte(i % 8);
+            buf.writeZero(1);
+            // duration sec/nsec
+            buf.writeInt(3600 * poll + i);
+            buf.writeInt(i * 1000);
+            buf.writeShort(100 + i % 10);
+            buf.writeShort(0);
+            buf.writeShort(0);
+            buf.writeShort(0);
+            buf.writeZero(4);
+            buf.writeLong(0x8000000L + i);
+            buf.writeLong(1000L * i * poll);
+            buf.writeLong(64000L * i * poll);
+
+            writeFlowStatsMatch(buf, i);
+
+            // apply-actions(output) + goto-table
+            buf.writeShort(OFPIT_APPLY_ACTIONS);
+            buf.writeShort(24);
+            buf.writeZero(4);
+            buf.writeShort(OFPAT_OUTPUT);
+            buf.writeShort(16);
+            buf.writeInt(1 + (i + 1) % 48);
+            buf.writeShort(0xffff);
+            buf.writeZero(6);
+            buf.writeShort(OFPIT_GOTO_TABLE);
+            buf.writeShort(8);
+            buf.writeByte(i % 8 + 1);
+            buf.writeZero(3);
+
+            buf.setShort(start, buf.writerIndex() - start);
+        }
+        return buf;
+    }
+
+    private static void writeFlowStatsMatch(final ByteBuf buf, final int index) {
+        final int start = buf.writerIndex();
+        buf.writeShort(1);
+        buf.writeShort(0);
+        writeOxmHeader(buf, OxmMatchConstants.IN_PORT, Integer.BYTES);
+        buf.writeInt(1 + index % 48);
+        writeOxmHeader(buf, OxmMatchConstants.ETH_TYPE, Short.BYTES);
+        buf.writeShort(0x0800);
+        writeOxmHeader(buf, OxmMatchConstants.IP_PROTO, Byte.BYTES);
+        buf.writeByte(6);
+        writeOxmHeader(buf, OxmMatchConstants.IPV4_DST, Integer.BYTES);
+        buf.writeInt(0x0a000000 | index & 0xffffff);
+        writeOxmHeader(buf, OxmMatchConstants.TCP_DST, Short.BYTES);
+        buf.writeShort(1024 + index % 60000);
+
+        final int length = buf.writerIndex() - start;
+        buf.setShort(start + 2, length);
+        final int padding = (EncodeConstants.PADDING - length % EncodeConstants.PADDING) % EncodeConstants.PADDING;
+        buf.writeZero(padding);
+    }
+
+    /**
+     * Create the wire format of an OFPMP_TABLE_FEATURES reply, without the OpenFlow header.
+     *
+     * @param tables number of tables
+     * @return A buffer containing the reply
+     */
+    public static ByteBuf tableFeaturesReply(final int tables) {
+        final var buf = Unpooled.buffer();
+        writeMultipartHeader(buf, OFPMP_TABLE_FEATURES);
+        for (int i = 0; i < tables; ++i) {
+            final int start = buf.writerIndex();
+            buf.writeShort(0);
+            buf.writeByte(i);
+            buf.writeZero(5);
+            final byte[] name = new byte[32];
+            final byte[] str = ("table-" + i).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(str, 0, name, 0, str.length);
+            buf.writeBytes(name);
+            buf.writeLong(-1L);
+            buf.writeLong(-1L);
+            buf.writeInt(0);
+            buf.writeInt(1_000_000);
+
+            // OFPTFPT_INSTRUCTIONS: goto-table, write-metadata, write/apply/clear actions, meter
+            writeProperty(buf, 0, 1, 2, 3, 4, 5, 6);
+            // OFPTFPT_NEXT_TABLES
+            final int nextStart = buf.writerIndex();
+            buf.writeShort(2);
+            buf.writeShort(0);
+            for (int next = i + 1; next < tables; ++next) {
+                buf.writeByte(next);
+            }
+            finishProperty(buf, nextStart);
+            // OFPTFPT_APPLY_ACTIONS: output, push-vlan, pop-vlan, group, set-field
+            writeProperty(buf, 6, 0, 17, 18, 22, 25);
+            // OFPTFPT_MATCH
+            final int matchStart = buf.writerIndex();
+            buf.writeShort(8);
+            buf.writeShort(0);
+            for (int field : new int[] {
+                OxmMatchConstants.IN_PORT, OxmMatchConstants.METADATA, OxmMatchConstants.ETH_DST,
+                OxmMatchConstants.ETH_SRC, OxmMatchConstants.ETH_TYPE, OxmMatchConstants.VLAN_VID,
+                OxmMatchConstants.IP_PROTO, OxmMatchConstants.IPV4_SRC, OxmMatchConstants.IPV4_DST,
+                OxmMatchConstants.TCP_SRC, OxmMatchConstants.TCP_DST, OxmMatchConstants.UDP_SRC,
+                OxmMatchConstants.UDP_DST
+            }) {
+                writeOxmHeader(buf, field, 0);
+            }
+            finishProperty(buf, matchStart);
+
+            buf.setShort(start, buf.writerIndex() - start);
+        }
+        return buf;
+    }
+
+    /**
+     * Create OVS-style Nicira match entries: reg0, tun_id and ct_state.
+     *
+     * @param index index used to vary values
+     * @return A list of match entries
+     */
+    public static List<MatchEntry> niciraMatchEntries(final int index) {
+        return List.of(
+            new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.VALUE)
+                .setOxmMatchField(NxmNxReg0.VALUE)
+                .setHasMask(false)
+                .setMatchEntryValue(new RegCaseValueBuilder()
+                    .setRegValues(new RegValuesBuilder().setValue(Uint32.valueOf(index)).build())
+                    .build())
+                .build(),
+            new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.VALUE)
+                .setOxmMatchField(NxmNxTunId.VALUE)
+                .setHasMask(false)
+                .setMatchEntryValue(new TunIdCaseValueBuilder()
+                    .setTunIdValues(new TunIdValuesBuilder().setValue(Uint64.valueOf(0x1000 + index)).build())
+                    .build())
+                .build(),
+            new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.VALUE)
+                .setOxmMatchField(NxmNxCtState.VALUE)
+                .setHasMask(true)
+                .setMatchEntryValue(new CtStateCaseValueBuilder()
+                    .setCtStateValues(new CtStateValuesBuilder()
+                        .setCtState(Uint32.valueOf(0x22))
+                        .setMask(Uint32.valueOf(0x3f))
+                        .build())
+                    .build())
+                .build());
+    }
+
+    /**
+     * Create OVS-style Nicira actions: reg-load and reg-move.
+     *
+     * @param index index used to vary values
+     * @return A list of actions
+     */
+    public static List<Action> niciraActions(final int index) {
+        final var experimenterId = new ExperimenterId(NiciraConstants.NX_VENDOR_ID);
+        return List.of(
+            new org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping
+                .ActionBuilder()
+                .setExperimenterId(experimenterId)
+                .setActionChoice(new ActionRegLoadBuilder()
+                    .setNxActionRegLoad(new NxActionRegLoadBuilder()
+                        .setOfsNbits(Uint16.valueOf(31))
+                        .setDst(Uint32.valueOf(NXM_NX_REG0_HEADER))
+                        .setValue(Uint64.valueOf(index))
+                        .build())
+                    .build())
+                .build(),
+            new org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping
+                .ActionBuilder()
+                .setExperimenterId(experimenterId)
+                .setActionChoice(new ActionRegMoveBuilder()
+                    .setNxActionRegMove(new NxActionRegMoveBuilder()
+                        .setNBits(Uint16.valueOf(32))
+                        .setSrcOfs(Uint16.ZERO)
+                        .setDstOfs(Uint16.ZERO)
+                        .setSrc(Uint64.valueOf(NXM_NX_REG0_HEADER))
+                        .setDst(Uint64.valueOf(NXM_NX_REG1_HEADER))
+                        .build())
+                    .build())
+                .build());
+    }
+
+    private static void writeMultipartHeader(final ByteBuf buf, final int type) {
+        buf.writeInt(42);
+        buf.writeShort(type);
+        buf.writeShort(0);
+        buf.writeZero(4);
+    }
+
+    private static void writeOxmHeader(final ByteBuf buf, final int field, final int length) {
+        buf.writeShort(OxmMatchConstants.OPENFLOW_BASIC_CLASS);
+        buf.writeByte(field << 1);
+        buf.writeByte(length);
+    }
+
+    private static void writeProperty(final ByteBuf buf, final int type, final int... ids) {
+        final int start = buf.writerIndex();
+        buf.writeShort(type);
+        buf.writeShort(0);
+        for (int id : ids) {
+            buf.writeShort(id);
+            buf.writeShort(4);
+        }
+        finishProperty(buf, start);
+    }
+
+    private static void finishProperty(final ByteBuf buf, final int start) {
+        final int length = buf.writerIndex() - start;
+        buf.setShort(start + 2, length);
+        buf.writeZero((EncodeConstants.PADDING - length % EncodeConstants.PADDING) % EncodeConstants.PADDING);
+    }
+}
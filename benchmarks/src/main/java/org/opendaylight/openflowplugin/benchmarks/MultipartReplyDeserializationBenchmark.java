@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112.MultipartReply;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of multipart reply decoding, for flow statistics (both the openflowjava and the single-layer plugin
+ * deserializers) and for table features. Each operation decodes a whole reply of {@link #entries} records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MultipartReplyDeserializationBenchmark {
+    private static final int MULTIPART_REPLY = 19;
+
+    @Param({ "1", "100" })
+    public int entries;
+
+    private OFDeserializer<MultipartReplyMessage> openflowjava;
+    private OFDeserializer<MultipartReply> singleLayer;
+    private ByteBuf flowStats;
+    private ByteBuf tableFeatures;
+
+    @Setup
+    public void setup() {
+        openflowjava = BenchmarkExtensionProvider.openflowjava().deserializerRegistry()
+            .getDeserializer(new MessageCodeKey(EncodeConstants.OF_VERSION_1_3, MULTIPART_REPLY,
+                MultipartReplyMessage.class));
+        singleLayer = BenchmarkExtensionProvider.singleLayer().deserializerRegistry()
+            .getDeserializer(new MessageCodeKey(EncodeConstants.OF_VERSION_1_3, MULTIPART_REPLY,
+                MultipartReply.class));
+        flowStats = MessageCorpus.flowStatsReply(entries);
+        tableFeatures = MessageCorpus.tableFeaturesReply(entries);
+    }
+
+    @TearDown
+    public void tearDown() {
+        flowStats.release();
+        tableFeatures.release();
+    }
+
+    @Benchmark
+    public MultipartReplyMessage flowStatsOpenflowjava() {
+        return openflowjava.deserialize(flowStats.duplicate());
+    }
+
+    @Benchmark
+    public MultipartReply flowStatsSingleLayer() {
+        return singleLayer.deserialize(flowStats.duplicate());
+    }
+
+    @Benchmark
+    public MultipartReplyMessage tableFeaturesOpenflowjava() {
+        return openflowjava.deserialize(tableFeatures.duplicate());
+    }
+}
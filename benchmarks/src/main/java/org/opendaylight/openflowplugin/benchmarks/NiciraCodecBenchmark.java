@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.nx.codec.action.AbstractActionCodec;
+import org.opendaylight.openflowjava.nx.codec.action.NiciraActionCodecs;
+import org.opendaylight.openflowjava.nx.codec.match.AbstractMatchCodec;
+import org.opendaylight.openflowjava.nx.codec.match.NiciraMatchCodecs;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encode/decode round trips of the Nicira extension codecs most frequently found in OVS pipelines: reg0, tun_id and
+ * ct_state matches, reg_load and reg_move actions. Codecs are exercised directly, which is where the extension
+ * serialization cost lies; plugin-level extension conversion is not covered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class NiciraCodecBenchmark {
+    private static final List<AbstractMatchCodec> MATCH_CODECS = List.of(
+        NiciraMatchCodecs.REG0_CODEC, NiciraMatchCodecs.TUN_ID_CODEC, NiciraMatchCodecs.CT_ST_CODEC);
+    private static final List<AbstractActionCodec> ACTION_CODECS = List.of(
+        NiciraActionCodecs.REG_LOAD_CODEC, NiciraActionCodecs.REG_MOVE_CODEC);
+
+    private List<MatchEntry> matchEntries;
+    private List<Action> actions;
+    private ByteBuf buf;
+
+    @Setup
+    public void setup() {
+        matchEntries = MessageCorpus.niciraMatchEntries(7);
+        actions = MessageCorpus.niciraActions(7);
+        buf = PooledByteBufAllocator.DEFAULT.buffer(256);
+    }
+
+    @TearDown
+    public void tearDown() {
+        buf.release();
+    }
+
+    @Benchmark
+    public int matchRoundTrip() {
+        int ret = 0;
+        for (int i = 0; i < MATCH_CODECS.size(); ++i) {
+            final var codec = MATCH_CODECS.get(i);
+            buf.clear();
+            codec.serialize(matchEntries.get(i), buf);
+            ret += codec.deserialize(buf).hashCode();
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public int actionRoundTrip() {
+        int ret = 0;
+        for (int i = 0; i < ACTION_CODECS.size(); ++i) {
+            final var codec = ACTION_CODECS.get(i);
+            buf.clear();
+            codec.serialize(actions.get(i), buf);
+            ret += codec.deserialize(buf).hashCode();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.nx.api.NiciraConstants;
+import org.opendaylight.openflowjava.nx.codec.match.NiciraMatchCodecs;
+import org.opendaylight.openflowplugin.extension.api.ConvertorActionFromOFJava;
+import org.opendaylight.openflowplugin.extension.api.ConvertorActionToOFJava;
+import org.opendaylight.openflowplugin.extension.api.path.ActionPath;
+import org.opendaylight.openflowplugin.extension.vendor.nicira.convertor.action.LearnConvertor;
+import org.opendaylight.openflowplugin.extension.vendor.nicira.convertor.action.RegLoadConvertor;
+import org.opendaylight.openflowplugin.extension.vendor.nicira.convertor.action.RegMoveConvertor;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.ExperimenterId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.FlowModSpec;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromFieldCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromValueCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModCopyFieldIntoFieldCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModCopyValueIntoFieldCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModOutputToPortCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.add.match.from.field._case.FlowModAddMatchFromFieldBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.add.match.from.value._case.FlowModAddMatchFromValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.copy.field.into.field._case.FlowModCopyFieldIntoFieldBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.copy.value.into.field._case.FlowModCopyValueIntoFieldBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.output.to.port._case.FlowModOutputToPortBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.aug.nx.action.ActionLearnBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.NxActionLearnBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.nx.action.learn.FlowMods;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.nx.action.learn.FlowModsBuilder;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Plugin-level conversion of the Nicira actions found in a Neutron-like pipeline, complementing
+ * {@link NiciraCodecBenchmark}. Each of {@link #flows} flows carries a reg_load, a reg_move and a learn action, the
+ * latter instantiating one of {@link #templates} security group style learn templates. Every action is converted from
+ * its OpenFlowJava form, as when reading flow statistics, and back, as when writing the flow. Each flow holds its own
+ * instances of the actions, as if they were decoded separately.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class NiciraConvertorBenchmark {
+    private static final ExperimenterId EXPERIMENTER_ID = new ExperimenterId(NiciraConstants.NX_VENDOR_ID);
+
+    @Param({ "1000" })
+    public int flows;
+
+    @Param({ "4", "64" })
+    public int templates;
+
+    private final RegLoadConvertor regLoadConvertor = new RegLoadConvertor();
+    private final RegMoveConvertor regMoveConvertor = new RegMoveConvertor();
+    private final LearnConvertor learnConvertor = new LearnConvertor();
+
+    private List<Action> regLoads;
+    private List<Action> regMoves;
+    private List<Action> learns;
+
+    @Setup
+    public void setup() {
+        regLoads = new ArrayList<>(flows);
+        regMoves = new ArrayList<>(flows);
+        learns = new ArrayList<>(flows);
+        for (int i = 0; i < flows; ++i) {
+            final var actions = MessageCorpus.niciraActions(i);
+            regLoads.add(actions.get(0));
+            regMoves.add(actions.get(1));
+            learns.add(learnAction(i % templates, i));
+        }
+    }
+
+    @Benchmark
+    public int roundTrip() {
+        int ret = 0;
+        for (int i = 0; i < flows; ++i) {
+            ret += roundTrip(regLoadConvertor, regLoads.get(i));
+            ret += roundTrip(regMoveConvertor, regMoves.get(i));
+            ret += roundTrip(learnConvertor, learns.get(i));
+        }
+        return ret;
+    }
+
+    private static <T extends ConvertorActionFromOFJava<Action, ActionPath>
+            & ConvertorActionToOFJava<org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action
+                .Action, Action>> int roundTrip(final T convertor, final Action action) {
+        return convertor.convert(convertor.convert(action, ActionPath.FLOWS_STATISTICS_UPDATE_APPLY_ACTIONS))
+            .hashCode();
+    }
+
+    // learn(table=41, idle_timeout=..., eth_type, nw_proto, reversed addresses and ports, the zone loaded into reg6,
+    // output to the ingress port), the template being selected by the protocol and the zone
+    private static Action learnAction(final int template, final int index) {
+        final boolean tcp = template % 2 == 0;
+        final long srcPort = (tcp ? NiciraMatchCodecs.TCP_SRC_CODEC : NiciraMatchCodecs.UDP_SRC_CODEC)
+            .getHeaderWithoutHasMask().toLong();
+        final long dstPort = (tcp ? NiciraMatchCodecs.TCP_DST_CODEC : NiciraMatchCodecs.UDP_DST_CODEC)
+            .getHeaderWithoutHasMask().toLong();
+        final long ipSrc = NiciraMatchCodecs.IP_SRC_CODEC.getHeaderWithoutHasMask().toLong();
+        final long ipDst = NiciraMatchCodecs.IP_DST_CODEC.getHeaderWithoutHasMask().toLong();
+        final long reg6 = NiciraMatchCodecs.REG6_CODEC.getHeaderWithoutHasMask().toLong();
+
+        return new ActionBuilder()
+            .setExperimenterId(EXPERIMENTER_ID)
+            .setActionChoice(new ActionLearnBuilder()
+                .setNxActionLearn(new NxActionLearnBuilder()
+                    .setIdleTimeout(Uint16.valueOf(300 + index % 60))
+                    .setHardTimeout(Uint16.ZERO)
+                    .setPriority(Uint16.valueOf(61010))
+                    .setCookie(Uint64.valueOf(0x7D0 + index))
+                    .setFlags(Uint16.ZERO)
+                    .setTableId(Uint8.valueOf(41))
+                    .setFinIdleTimeout(Uint16.ZERO)
+                    .setFinHardTimeout(Uint16.ZERO)
+                    .setFlowMods(List.of(
+                        addMatchFromValue(NiciraMatchCodecs.ETH_TYPE_CODEC.getHeaderWithoutHasMask().toLong(), 0x0800,
+                            16),
+                        addMatchFromField(ipDst, ipSrc, 32),
+                        addMatchFromField(ipSrc, ipDst, 32),
+                        addMatchFromField(dstPort, srcPort, 16),
+                        addMatchFromField(srcPort, dstPort, 16),
+                        copyFieldIntoField(reg6, reg6, 32),
+                        copyValueIntoField(NiciraMatchCodecs.REG5_CODEC.getHeaderWithoutHasMask().toLong(),
+                            template / 2 + 1, 16),
+                        outputToPort(NiciraMatchCodecs.NXM_OF_IN_PORT_CODEC.getHeaderWithoutHasMask().toLong(), 16)))
+                    .build())
+                .build())
+            .build();
+    }
+
+    private static FlowMods addMatchFromField(final long srcField, final long dstField, final int numBits) {
+        return flowMods(new FlowModAddMatchFromFieldCaseBuilder()
+            .setFlowModAddMatchFromField(new FlowModAddMatchFromFieldBuilder()
+                .setSrcField(Uint32.valueOf(srcField))
+                .setSrcOfs(Uint16.ZERO)
+                .setDstField(Uint32.valueOf(dstField))
+                .setDstOfs(Uint16.ZERO)
+                .setFlowModNumBits(Uint16.valueOf(numBits))
+                .build())
+            .build());
+    }
+
+    private static FlowMods addMatchFromValue(final long srcField, final int value, final int numBits) {
+        return flowMods(new FlowModAddMatchFromValueCaseBuilder()
+            .setFlowModAddMatchFromValue(new FlowModAddMatchFromValueBuilder()
+                .setValue(Uint16.valueOf(value))
+                .setSrcField(Uint32.valueOf(srcField))
+                .setSrcOfs(Uint16.ZERO)
+                .setFlowModNumBits(Uint16.valueOf(numBits))
+                .build())
+            .build());
+    }
+
+    private static FlowMods copyFieldIntoField(final long srcField, final long dstField, final int numBits) {
+        return flowMods(new FlowModCopyFieldIntoFieldCaseBuilder()
+            .setFlowModCopyFieldIntoField(new FlowModCopyFieldIntoFieldBuilder()
+                .setSrcField(Uint32.valueOf(srcField))
+                .setSrcOfs(Uint16.ZERO)
+                .setDstField(Uint32.valueOf(dstField))
+                .setDstOfs(Uint16.ZERO)
+                .setFlowModNumBits(Uint16.valueOf(numBits))
+                .build())
+            .build());
+    }
+
+    private static FlowMods copyValueIntoField(final long dstField, final int value, final int numBits) {
+        return flowMods(new FlowModCopyValueIntoFieldCaseBuilder()
+            .setFlowModCopyValueIntoField(new FlowModCopyValueIntoFieldBuilder()
+                .setValue(Uint16.valueOf(value))
+                .setDstField(Uint32.valueOf(dstField))
+                .setDstOfs(Uint16.ZERO)
+                .setFlowModNumBits(Uint16.valueOf(numBits))
+                .build())
+            .build());
+    }
+
+    private static FlowMods outputToPort(final long srcField, final int numBits) {
+        return flowMods(new FlowModOutputToPortCaseBuilder()
+            .setFlowModOutputToPort(new FlowModOutputToPortBuilder()
+                .setSrcField(Uint32.valueOf(srcField))
+                .setSrcOfs(Uint16.ZERO)
+                .setFlowModNumBits(Uint16.valueOf(numBits))
+                .build())
+            .build());
+    }
+
+    private static FlowMods flowMods(final FlowModSpec flowModSpec) {
+        return new FlowModsBuilder().setFlowModSpec(flowModSpec).build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the stacked outbound queue: reserving and committing entries, then flushing them to the channel on
+ * its event loop. The channel is an {@link EmbeddedChannel} without encoders, so only queue management is measured.
+ * The no-barrier flavor of the queue is used, as there is no switch to answer barriers and retire segments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OutboundQueueBenchmark {
+    private static final int BATCH = 1024;
+
+    private EmbeddedChannel channel;
+    private OutboundQueueHandlerRegistration<QueueHolder> registration;
+    private OfHeader message;
+
+    private static final class QueueHolder implements OutboundQueueHandler {
+        volatile OutboundQueue queue;
+
+        @Override
+        public void onConnectionQueueChanged(final OutboundQueue newQueue) {
+            queue = newQueue;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(PipelineHandlers.DELEGATING_INBOUND_HANDLER.name(),
+            new ChannelInboundHandlerAdapter());
+        final var adapter = new ConnectionAdapterImpl(channel, null, false, BATCH);
+        registration = adapter.registerOutboundQueueHandler(new QueueHolder(), BATCH, TimeUnit.MILLISECONDS.toNanos(1));
+        message = new EchoInputBuilder().setVersion(EncodeConstants.OF_VERSION_1_3).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        registration.close();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void reserveCommitFlush() {
+        final var queue = registration.getInstance().queue;
+        for (int i = 0; i < BATCH; ++i) {
+            final var xid = queue.reserveEntry();
+            queue.commitEntry(xid, message, null);
+        }
+        channel.runPendingTasks();
+        channel.releaseOutbound();
+    }
+}
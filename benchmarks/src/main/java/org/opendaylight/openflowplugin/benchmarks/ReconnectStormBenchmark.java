@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.openflowplugin.impl.util.ThreadPoolLoggingExecutor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to converge after {@link #switches} switches connect at once, with plugin tasks running either on the shared
+ * thread pool or on virtual threads, as selected by {@code enable-virtual-threads}. Each switch's initialization is
+ * simulated as {@link #blockingSteps} sequential waits for a datastore commit or switch reply completing after
+ * {@link #stepLatencyMillis}, which is how device initialization, synchronous transaction submits and reconciliation
+ * occupy a thread. A task rejected by a saturated pool is resubmitted after {@link #RECONNECT_DELAY_MILLIS}, as a
+ * switch whose connection was dropped reconnects. The number of rejections per operation is reported as an auxiliary
+ * counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xss256k")
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class ReconnectStormBenchmark {
+    private static final long RECONNECT_DELAY_MILLIS = 500;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Rejections {
+        public int rejections;
+    }
+
+    @Param({ "pool", "virtual" })
+    public String executor;
+
+    // Only applies to the pool, as with thread-pool-max-threads
+    @Param({ "512", "32000" })
+    public int threadPoolMaxThreads;
+
+    @Param({ "2000" })
+    public int switches;
+
+    @Param({ "4" })
+    public int blockingSteps;
+
+    @Param({ "20" })
+    public int stepLatencyMillis;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setupScheduler() {
+        scheduler = Executors.newScheduledThreadPool(4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        // Mirrors OpenFlowPluginProviderImpl, a new executor per iteration so that each one starts cold, as after
+        // a controller restart
+        executorService = switch (executor) {
+            case "pool" -> new ThreadPoolLoggingExecutor(1, threadPoolMaxThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), "ofppool");
+            case "virtual" -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ofppool-virtual-", 0)
+                .factory());
+            default -> throw new IllegalStateException("Unknown executor " + executor);
+        };
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public void converge(final Rejections counters) throws InterruptedException {
+        final var converged = new CountDownLatch(switches);
+        final var rejections = new AtomicInteger();
+        for (int i = 0; i < switches; ++i) {
+            connect(converged, rejections);
+        }
+        converged.await();
+        counters.rejections += rejections.get();
+    }
+
+    private void connect(final CountDownLatch converged, final AtomicInteger rejections) {
+        try {
+            executorService.execute(() -> {
+                for (int step = 0; step < blockingSteps; ++step) {
+                    awaitStep();
+                }
+                converged.countDown();
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.incrementAndGet();
+            scheduler.schedule(() -> connect(converged, rejections), RECONNECT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void awaitStep() {
+        final var future = SettableFuture.<Void>create();
+        scheduler.schedule(() -> future.set(null), stepLatencyMillis, TimeUnit.MILLISECONDS);
+        try {
+            future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+/**
+ * Barrier insertion parameters currently chosen for a single switch connection by an adaptive barrier policy.
+ */
+public interface BarrierWindow {
+    /**
+     * Returns the number of non-barrier messages after which a barrier is inserted.
+     *
+     * @return number of messages between barriers
+     */
+    int getMessageCount();
+
+    /**
+     * Returns the time after which a barrier is inserted if there are unconfirmed messages.
+     *
+     * @return barrier interval in nanoseconds
+     */
+    long getIntervalNanos();
+
+    /**
+     * Returns the smoothed round-trip time of barrier requests, or zero if none was measured yet.
+     *
+     * @return barrier round-trip time in nanoseconds
+     */
+    long getRoundTripNanos();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+/**
+ * Live transport counters of a single switch connection. Counters are cumulative since the connection was
+ * established.
+ */
+public interface ChannelStatistics {
+    /**
+     * Returns the number of bytes received from the switch, including TLS framing.
+     *
+     * @return number of bytes received
+     */
+    long getBytesRead();
+
+    /**
+     * Returns the number of bytes handed to the transport for sending to the switch, including TLS framing.
+     *
+     * @return number of bytes sent
+     */
+    long getBytesWritten();
+
+    /**
+     * Returns the number of OpenFlow messages decoded from the switch.
+     *
+     * @return number of messages received
+     */
+    long getMessagesRead();
+
+    /**
+     * Returns the number of OpenFlow messages submitted for encoding towards the switch.
+     *
+     * @return number of messages sent
+     */
+    long getMessagesWritten();
+
+    /**
+     * Returns the number of times the channel transitioned between writable and non-writable states. A steadily
+     * growing value indicates the switch does not keep up with the outbound message rate.
+     *
+     * @return number of writability changes
+     */
+    long getWritabilityChanges();
+
+    /**
+     * Returns the number of bytes currently queued in the transport, waiting to be written to the socket.
+     *
+     * @return number of pending outbound bytes
+     */
+    long getPendingOutboundBytes();
+}
@@ -13,6 +13,7 @@ import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.security.cert.X509Certificate;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import org.eclipse.jdt.annotation.NonNull;
@@ -218,6 +219,51 @@ public interface ConnectionAdapter {
     <T extends OutboundQueueHandler> OutboundQueueHandlerRegistration<T> registerOutboundQueueHandler(T handler,
         int maxQueueDepth, long maxBarrierNanos);
 
+    /**
+     * Registers a new bypass outbound queue, optionally adapting barrier insertion to the switch. An adaptive queue
+     * tunes the number of messages and the time between barriers from measured barrier round-trip times, using
+     * {@code maxQueueDepth} and {@code maxBarrierNanos} as upper bounds.
+     *
+     * @param <T> handler type
+     * @param handler queue handler
+     * @param maxQueueDepth max amount of not confirmed messaged in queue (i.e. edge for barrier message)
+     * @param maxBarrierNanos regular base for barrier message
+     * @param adaptiveBarrier {@code true} to adapt barrier insertion
+     * @return An {@link OutboundQueueHandlerRegistration}
+     */
+    @Beta
+    default <T extends OutboundQueueHandler> OutboundQueueHandlerRegistration<T> registerOutboundQueueHandler(
+            final T handler, final int maxQueueDepth, final long maxBarrierNanos, final boolean adaptiveBarrier) {
+        return registerOutboundQueueHandler(handler, maxQueueDepth, maxBarrierNanos);
+    }
+
+    /**
+     * Returns transport counters of this connection.
+     *
+     * @return channel statistics
+     */
+    @Beta
+    @NonNull ChannelStatistics getChannelStatistics();
+
+    /**
+     * Returns barrier insertion parameters currently in effect, if the outbound queue adapts them.
+     *
+     * @return current barrier window, or {@code null} if barrier insertion is not adaptive
+     */
+    @Beta
+    default @Nullable BarrierWindow getBarrierWindow() {
+        return null;
+    }
+
+    /**
+     * Returns the executor servicing I/O of this connection. Tasks submitted to it execute one at a time, in
+     * submission order, on the thread which delivers messages received from the switch. Tasks must not block.
+     *
+     * @return I/O executor
+     */
+    @Beta
+    @NonNull Executor getIoExecutor();
+
     /**
      * Set filtering of PacketIn messages. By default these messages are not filtered.
      * @param enabled True if PacketIn messages should be filtered, false if they should be reported.
@@ -86,4 +86,93 @@ public interface ConnectionConfiguration {
      * @return Configurable queue size
      */
     int getChannelOutboundQueueSize();
+
+    /**
+     * Returns the listening socket backlog, i.e. the number of accepted connections the kernel queues before they are
+     * picked up. Raise this when large numbers of switches reconnect at the same time.
+     *
+     * @return listen backlog
+     */
+    default int getBacklog() {
+        return 128;
+    }
+
+    /**
+     * Returns the socket receive buffer size ({@code SO_RCVBUF}).
+     *
+     * @return receive buffer size in bytes, 0 to use the operating system default
+     */
+    default int getReceiveBufferSize() {
+        return 0;
+    }
+
+    /**
+     * Returns the socket send buffer size ({@code SO_SNDBUF}).
+     *
+     * @return send buffer size in bytes, 0 to use the operating system default
+     */
+    default int getSendBufferSize() {
+        return 0;
+    }
+
+    /**
+     * Returns the low write watermark. A channel becomes writable again once its pending outbound bytes drop below
+     * this value.
+     *
+     * @return low write watermark in bytes
+     */
+    default int getWriteBufferLowWatermark() {
+        return 128 * 1024;
+    }
+
+    /**
+     * Returns the high write watermark. A channel becomes non-writable once its pending outbound bytes reach this
+     * value. The difference to {@link #getWriteBufferLowWatermark()} should stay above 64KiB, so an entire outbound
+     * queue segment can be flushed in jam-packed TCP segments.
+     *
+     * @return high write watermark in bytes
+     */
+    default int getWriteBufferHighWatermark() {
+        return 256 * 1024;
+    }
+
+    /**
+     * Returns the number of times a non-blocking write is retried before the event loop goes back to polling.
+     *
+     * @return write spin count
+     */
+    default int getWriteSpinCount() {
+        return 16;
+    }
+
+    /**
+     * Determines if {@code TCP_QUICKACK} should be enabled on switch connections. Only honored by the epoll transport.
+     * The option is set once when a connection is accepted. Linux does not keep it permanently, the kernel may fall
+     * back to delayed acknowledgements later on, hence this only speeds up acknowledgements of the initial exchange.
+     *
+     * @return true if delayed acknowledgements should be disabled
+     */
+    default boolean isTcpQuickAck() {
+        return false;
+    }
+
+    /**
+     * Returns the busy-poll timeout ({@code SO_BUSY_POLL}) of switch connections. Only honored by the epoll
+     * transport.
+     *
+     * @return busy-poll timeout in microseconds, 0 to disable busy polling
+     */
+    default int getBusyPollMicros() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of channels bound to the listening UDP port with {@code SO_REUSEPORT}, each served by its
+     * own event loop. Only honored by the epoll transport.
+     *
+     * @return number of UDP channels
+     */
+    default int getUdpChannelCount() {
+        return 1;
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+/**
+ * I/O transport used by switch connection event loops.
+ */
+public enum IoTransport {
+    /**
+     * Use epoll when it is available, NIO otherwise.
+     */
+    AUTO,
+    /**
+     * Use the portable Java NIO transport.
+     */
+    NIO,
+    /**
+     * Use the Linux epoll transport, falling back to NIO if it is not available.
+     */
+    EPOLL,
+    /**
+     * Use the Linux io_uring transport, falling back to {@link #AUTO} if it is not available.
+     */
+    IO_URING
+}
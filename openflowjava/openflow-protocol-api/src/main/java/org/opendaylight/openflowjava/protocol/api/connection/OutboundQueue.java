@@ -80,4 +80,48 @@ public interface OutboundQueue {
             @Nullable OfHeader message,
             @Nullable FutureCallback<OfHeader> callback,
             @Nullable Function<OfHeader, Boolean> isComplete);
+
+    /**
+     * Commit the specified offset using a message with a specified priority class. Messages of other than
+     * {@link OutboundQueuePriority#BULK} priority may be written to the device before previously-committed messages.
+     * Otherwise this method behaves just like {@link #commitEntry(Uint32, OfHeader, FutureCallback)}. Default
+     * implementation ignores the priority.
+     *
+     * @param xid Previously-reserved XID
+     * @param message Message which should be sent out, or null if the reservation
+     *                should be cancelled.
+     * @param callback Callback to be invoked, or null if no callback should be invoked.
+     * @param priority Priority class of the message
+     * @throws IllegalArgumentException if the slot is already committed or was never reserved.
+     */
+    default void commitEntry(
+            final @NonNull Uint32 xid,
+            final @Nullable OfHeader message,
+            final @Nullable FutureCallback<OfHeader> callback,
+            final @NonNull OutboundQueuePriority priority) {
+        commitEntry(xid, message, callback);
+    }
+
+    /**
+     * Commit the specified offset using a message with a specified priority class. Messages of other than
+     * {@link OutboundQueuePriority#BULK} priority may be written to the device before previously-committed messages.
+     * Otherwise this method behaves just like {@link #commitEntry(Uint32, OfHeader, FutureCallback, Function)}.
+     * Default implementation ignores the priority.
+     *
+     * @param xid Previously-reserved XID
+     * @param message Message which should be sent out, or null if the reservation
+     *                should be cancelled.
+     * @param callback Callback to be invoked, or null if no callback should be invoked.
+     * @param isComplete Function to determine if OfHeader is processing is complete
+     * @param priority Priority class of the message
+     * @throws IllegalArgumentException if the slot is already committed or was never reserved.
+     */
+    default void commitEntry(
+            final @NonNull Uint32 xid,
+            final @Nullable OfHeader message,
+            final @Nullable FutureCallback<OfHeader> callback,
+            final @Nullable Function<OfHeader, Boolean> isComplete,
+            final @NonNull OutboundQueuePriority priority) {
+        commitEntry(xid, message, callback, isComplete);
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Priority class of a message committed to an {@link OutboundQueue}. Messages of {@link #CONTROL} and
+ * {@link #INTERACTIVE} classes may be written to the device ahead of previously-committed {@link #BULK} messages, as
+ * long as that does not move them across a barrier or ahead of a message which has not been committed yet. Barrier
+ * requests themselves are always written in order.
+ */
+@Beta
+public enum OutboundQueuePriority {
+    /**
+     * Connection maintenance messages, such as echo requests. These are written as soon as possible. Messages whose
+     * effect depends on preceding messages, such as role requests, should not use this class.
+     */
+    CONTROL,
+    /**
+     * Latency-sensitive messages, such as packet-outs. These share the channel with bulk messages in a weighted
+     * fashion.
+     */
+    INTERACTIVE,
+    /**
+     * Everything else. Bulk messages are written in the order of their XIDs.
+     */
+    BULK
+}
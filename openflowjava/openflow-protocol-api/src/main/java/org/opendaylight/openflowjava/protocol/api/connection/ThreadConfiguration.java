@@ -28,4 +28,13 @@ public interface ThreadConfiguration {
      * @return desired number of bossThreads registering incoming Openflow connections
      */
     int getBossThreadCount();
+
+    /**
+     * Returns the I/O transport backing the event loops.
+     *
+     * @return requested I/O transport
+     */
+    default IoTransport getIoTransport() {
+        return IoTransport.AUTO;
+    }
 }
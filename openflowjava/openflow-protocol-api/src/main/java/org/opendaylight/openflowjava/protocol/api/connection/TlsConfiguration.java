@@ -89,4 +89,49 @@ public interface TlsConfiguration {
      * @return list of cipher suites for TLS connection
      */
     List<String> getCipherSuites();
+
+    /**
+     * Returns the TLS implementation.
+     *
+     * @return requested TLS implementation
+     */
+    default TlsProvider getTlsProvider() {
+        return TlsProvider.JDK;
+    }
+
+    /**
+     * Returns the maximum number of sessions cached for resumption.
+     *
+     * @return session cache size, 0 for the provider default
+     */
+    default long getSessionCacheSize() {
+        return 0;
+    }
+
+    /**
+     * Returns the lifetime of cached sessions.
+     *
+     * @return session timeout in seconds, 0 for the provider default
+     */
+    default long getSessionTimeout() {
+        return 0;
+    }
+
+    /**
+     * Returns whether sessions may be resumed through session tickets.
+     *
+     * @return {@code true} if session tickets are enabled
+     */
+    default boolean isSessionTicketEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns the number of threads running handshake tasks.
+     *
+     * @return number of handshake threads, 0 to run handshake tasks on the I/O threads
+     */
+    default int getHandshakeThreadCount() {
+        return 0;
+    }
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+/**
+ * TLS implementation used by switch connections.
+ */
+public enum TlsProvider {
+    /**
+     * Use the JDK implementation.
+     */
+    JDK,
+    /**
+     * Use OpenSSL through netty-tcnative, falling back to {@link #JDK} if it is not available.
+     */
+    OPENSSL
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.Channel;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowjava.protocol.api.connection.IoTransport;
+import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty classes backing a particular {@link IoTransport}.
+ *
+ * <p>
+ * The io_uring transport is an optional dependency, hence its classes are only ever accessed reflectively, once
+ * {@code IoUring.isAvailable()} confirms both the classes and the native library are present.
+ *
+ * @param transport effective transport, never {@link IoTransport#AUTO}
+ * @param serverChannel server socket channel class
+ * @param socketChannel socket channel class
+ * @param datagramChannel datagram channel class
+ * @param ioHandlerFactory supplier of {@link IoHandlerFactory} instances
+ */
+record ChannelTransport(
+        @NonNull IoTransport transport,
+        @NonNull Class<? extends ServerChannel> serverChannel,
+        @NonNull Class<? extends Channel> socketChannel,
+        @NonNull Class<? extends Channel> datagramChannel,
+        @NonNull Supplier<IoHandlerFactory> ioHandlerFactory) {
+    private static final Logger LOG = LoggerFactory.getLogger(ChannelTransport.class);
+
+    private static final String IO_URING_PACKAGE = "io.netty.channel.uring.";
+
+    private static final ChannelTransport NIO = new ChannelTransport(IoTransport.NIO, NioServerSocketChannel.class,
+        NioSocketChannel.class, NioDatagramChannel.class, NioIoHandler::newFactory);
+    private static final ChannelTransport EPOLL = new ChannelTransport(IoTransport.EPOLL,
+        EpollServerSocketChannel.class, EpollSocketChannel.class, EpollDatagramChannel.class,
+        EpollIoHandler::newFactory);
+
+    ChannelTransport {
+        requireNonNull(transport);
+        requireNonNull(serverChannel);
+        requireNonNull(socketChannel);
+        requireNonNull(datagramChannel);
+        requireNonNull(ioHandlerFactory);
+    }
+
+    /**
+     * Select the transport requested by a thread configuration, falling back to the best available one.
+     *
+     * @param threadConfig thread configuration, may be null
+     * @param epollEnabled whether epoll may be used when no particular transport is requested
+     * @return selected transport
+     */
+    static @NonNull ChannelTransport select(final @Nullable ThreadConfiguration threadConfig,
+            final boolean epollEnabled) {
+        final var requested = threadConfig == null ? IoTransport.AUTO : threadConfig.getIoTransport();
+        return switch (requested) {
+            case NIO -> NIO;
+            case EPOLL -> {
+                if (Epoll.isAvailable()) {
+                    yield EPOLL;
+                }
+                LOG.warn("Epoll transport requested but not available, using NIO", Epoll.unavailabilityCause());
+                yield NIO;
+            }
+            case IO_URING -> {
+                final var ioUring = ioUring();
+                yield ioUring != null ? ioUring : auto(epollEnabled);
+            }
+            case AUTO -> auto(epollEnabled);
+        };
+    }
+
+    private static ChannelTransport auto(final boolean epollEnabled) {
+        return epollEnabled && Epoll.isAvailable() ? EPOLL : NIO;
+    }
+
+    private static @Nullable ChannelTransport ioUring() {
+        final Class<?> ioUring;
+        try {
+            ioUring = Class.forName(IO_URING_PACKAGE + "IoUring");
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOG.warn("io_uring transport requested but not present, falling back", e);
+            return null;
+        }
+
+        try {
+            if (!(Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+                LOG.warn("io_uring transport requested but not available, falling back",
+                    (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null));
+                return null;
+            }
+
+            final var newFactory = Class.forName(IO_URING_PACKAGE + "IoUringIoHandler").getMethod("newFactory");
+            return new ChannelTransport(IoTransport.IO_URING,
+                Class.forName(IO_URING_PACKAGE + "IoUringServerSocketChannel").asSubclass(ServerChannel.class),
+                Class.forName(IO_URING_PACKAGE + "IoUringSocketChannel").asSubclass(Channel.class),
+                Class.forName(IO_URING_PACKAGE + "IoUringDatagramChannel").asSubclass(Channel.class),
+                () -> {
+                    try {
+                        return (IoHandlerFactory) newFactory.invoke(null);
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("Failed to create io_uring handler factory", e);
+                    }
+                });
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOG.warn("io_uring transport requested but cannot be loaded, falling back", e);
+            return null;
+        }
+    }
+
+    /**
+     * Return a new {@link IoHandlerFactory} for this transport.
+     *
+     * @return an IoHandlerFactory
+     */
+    @NonNull IoHandlerFactory newIoHandlerFactory() {
+        return ioHandlerFactory.get();
+    }
+}
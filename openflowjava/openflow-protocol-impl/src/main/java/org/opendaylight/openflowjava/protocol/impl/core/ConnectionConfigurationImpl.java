@@ -12,14 +12,17 @@ import static java.util.Objects.requireNonNull;
 import java.net.InetAddress;
 import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.IoTransport;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.TlsProvider;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.KeystoreType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.TransportProtocol;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506.SwitchConnectionConfig;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Threads;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Tls;
+import org.opendaylight.yangtools.yang.common.Uint32;
 
 final class ConnectionConfigurationImpl implements ConnectionConfiguration {
     private final SwitchConnectionConfig config;
@@ -110,6 +113,38 @@ final class ConnectionConfigurationImpl implements ConnectionConfiguration {
             public List<String> getCipherSuites() {
                 return tlsConfig.getCipherSuites();
             }
+
+            @Override
+            public TlsProvider getTlsProvider() {
+                final var provider = tlsConfig.getProvider();
+                return provider == null ? TlsProvider.JDK : switch (provider) {
+                    case Jdk -> TlsProvider.JDK;
+                    case Openssl -> TlsProvider.OPENSSL;
+                };
+            }
+
+            @Override
+            public long getSessionCacheSize() {
+                final var size = tlsConfig.getSessionCacheSize();
+                return size != null ? size.toJava() : TlsConfiguration.super.getSessionCacheSize();
+            }
+
+            @Override
+            public long getSessionTimeout() {
+                final var timeout = tlsConfig.getSessionTimeout();
+                return timeout != null ? timeout.toJava() : TlsConfiguration.super.getSessionTimeout();
+            }
+
+            @Override
+            public boolean isSessionTicketEnabled() {
+                return !Boolean.FALSE.equals(tlsConfig.getSessionTickets());
+            }
+
+            @Override
+            public int getHandshakeThreadCount() {
+                final var threads = tlsConfig.getHandshakeThreads();
+                return threads != null ? threads.toJava() : TlsConfiguration.super.getHandshakeThreadCount();
+            }
         };
     }
 
@@ -140,9 +175,74 @@ final class ConnectionConfigurationImpl implements ConnectionConfiguration {
             public int getBossThreadCount() {
                 return threads.getBossThreads().toJava();
             }
+
+            @Override
+            public IoTransport getIoTransport() {
+                final var transport = threads.getIoTransport();
+                return transport == null ? IoTransport.AUTO : switch (transport) {
+                    case Auto -> IoTransport.AUTO;
+                    case Nio -> IoTransport.NIO;
+                    case Epoll -> IoTransport.EPOLL;
+                    case IoUring -> IoTransport.IO_URING;
+                };
+            }
         };
     }
 
+    @Override
+    public int getBacklog() {
+        final var backlog = config.getBacklog();
+        return backlog != null ? saturatedInt(backlog) : ConnectionConfiguration.super.getBacklog();
+    }
+
+    @Override
+    public int getReceiveBufferSize() {
+        final var size = config.getReceiveBufferSize();
+        return size != null ? saturatedInt(size) : ConnectionConfiguration.super.getReceiveBufferSize();
+    }
+
+    @Override
+    public int getSendBufferSize() {
+        final var size = config.getSendBufferSize();
+        return size != null ? saturatedInt(size) : ConnectionConfiguration.super.getSendBufferSize();
+    }
+
+    @Override
+    public int getWriteBufferLowWatermark() {
+        final var watermark = config.getWriteBufferLowWatermark();
+        return watermark != null ? saturatedInt(watermark) : ConnectionConfiguration.super.getWriteBufferLowWatermark();
+    }
+
+    @Override
+    public int getWriteBufferHighWatermark() {
+        final var watermark = config.getWriteBufferHighWatermark();
+        return watermark != null ? saturatedInt(watermark)
+            : ConnectionConfiguration.super.getWriteBufferHighWatermark();
+    }
+
+    @Override
+    public int getWriteSpinCount() {
+        final var spinCount = config.getWriteSpinCount();
+        return spinCount != null ? spinCount.toJava() : ConnectionConfiguration.super.getWriteSpinCount();
+    }
+
+    @Override
+    public boolean isTcpQuickAck() {
+        return Boolean.TRUE.equals(config.getTcpQuickack());
+    }
+
+    @Override
+    public int getBusyPollMicros() {
+        final var busyPoll = config.getBusyPoll();
+        return busyPoll != null ? saturatedInt(busyPoll) : ConnectionConfiguration.super.getBusyPollMicros();
+    }
+
+    @Override
+    public int getUdpChannelCount() {
+        final var channels = config.getUdpChannels();
+        return channels != null ? channels.toJava() : ConnectionConfiguration.super.getUdpChannelCount();
+    }
+
     @Override
     public boolean useBarrier() {
         return config.getUseBarrier();
@@ -152,4 +252,9 @@ final class ConnectionConfigurationImpl implements ConnectionConfiguration {
     public boolean isGroupAddModEnabled() {
         return config.getGroupAddModEnabled();
     }
+
+    // uint32 leaves may exceed what Netty's int options can hold, clamp them instead of wrapping around
+    private static int saturatedInt(final Uint32 value) {
+        return (int) Math.min(value.toJava(), Integer.MAX_VALUE);
+    }
 }
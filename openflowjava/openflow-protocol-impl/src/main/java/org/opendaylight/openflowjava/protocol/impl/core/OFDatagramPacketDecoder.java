@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import static java.util.Objects.requireNonNull;
+
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageConsumer;
@@ -25,8 +27,19 @@ import org.slf4j.LoggerFactory;
 public class OFDatagramPacketDecoder extends SimpleChannelInboundHandler<VersionMessageUdpWrapper> {
     private static final Logger LOG = LoggerFactory.getLogger(OFDatagramPacketDecoder.class);
 
+    private final UdpConnectionMap connectionMap;
+
     private DeserializationFactory deserializationFactory = null;
 
+    /**
+     * Default constructor.
+     *
+     * @param connectionMap connections of the listener this decoder belongs to
+     */
+    public OFDatagramPacketDecoder(final UdpConnectionMap connectionMap) {
+        this.connectionMap = requireNonNull(connectionMap);
+    }
+
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void channelRead0(final ChannelHandlerContext ctx, final VersionMessageUdpWrapper msg) {
@@ -39,7 +52,7 @@ public class OFDatagramPacketDecoder extends SimpleChannelInboundHandler<Version
             if (dataObject == null) {
                 LOG.warn("Translated POJO is null");
             } else {
-                MessageConsumer consumer = UdpConnectionMap.getMessageConsumer(msg.getAddress());
+                MessageConsumer consumer = connectionMap.getMessageConsumer(msg.getAddress());
                 consumer.consume(dataObject);
             }
         } catch (RuntimeException e) {
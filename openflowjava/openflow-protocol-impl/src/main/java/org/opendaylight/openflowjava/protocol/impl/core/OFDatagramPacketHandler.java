@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import static java.util.Objects.requireNonNull;
 import static org.opendaylight.yangtools.yang.common.netty.ByteBufUtils.readUint8;
 
 import io.netty.buffer.ByteBuf;
@@ -40,17 +41,21 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
     private final ConnectionAdapterFactory adapterFactory = new ConnectionAdapterFactoryImpl();
     private final SwitchConnectionHandler connectionHandler;
     private final int channelOutboundQueueSize;
+    private final UdpConnectionMap connectionMap;
 
     /**
      * Default constructor.
      *
      * @param sch the switchConnectionHandler that decides what to do with incomming message / channel
      * @param channelOutboundQueueSize the queue size is made configurable
+     * @param connectionMap connections of the listener this handler belongs to
      */
 
-    public OFDatagramPacketHandler(final SwitchConnectionHandler sch, final int channelOutboundQueueSize) {
+    public OFDatagramPacketHandler(final SwitchConnectionHandler sch, final int channelOutboundQueueSize,
+            final UdpConnectionMap connectionMap) {
         this.connectionHandler = sch;
         this.channelOutboundQueueSize = channelOutboundQueueSize;
+        this.connectionMap = requireNonNull(connectionMap);
     }
 
     @Override
@@ -64,14 +69,14 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
     protected void decode(final ChannelHandlerContext ctx, final DatagramPacket msg,
            final List<Object> out) {
         LOG.debug("OFDatagramPacketFramer");
-        MessageConsumer consumer = UdpConnectionMap.getMessageConsumer(msg.sender());
+        MessageConsumer consumer = connectionMap.getMessageConsumer(msg.sender());
         if (consumer == null) {
             ConnectionFacade connectionFacade =
                     adapterFactory.createConnectionFacade(ctx.channel(), msg.sender(), false,
                             channelOutboundQueueSize);
             connectionHandler.onSwitchConnected(connectionFacade);
             connectionFacade.checkListeners();
-            UdpConnectionMap.addConnection(msg.sender(), connectionFacade);
+            connectionMap.addConnection(msg.sender(), connectionFacade);
         }
         ByteBuf bb = msg.content();
         int readableBytes = bb.readableBytes();
@@ -15,6 +15,21 @@ package org.opendaylight.openflowjava.protocol.impl.core;
  */
 public enum PipelineHandlers {
 
+    /**
+     * Counts bytes passing through the channel.
+     */
+    CHANNEL_BYTE_STATISTICS,
+
+    /**
+     * Counts OpenFlow messages passing through the channel.
+     */
+    CHANNEL_MESSAGE_STATISTICS,
+
+    /**
+     * Coalesces flushes of datagrams to different switches into a single write.
+     */
+    FLUSH_CONSOLIDATION,
+
     /**
      * Detects switch idle state.
      */
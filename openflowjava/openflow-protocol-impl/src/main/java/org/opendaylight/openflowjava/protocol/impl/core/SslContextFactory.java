@@ -10,26 +10,29 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 
 import static java.util.Objects.requireNonNull;
 
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslContextOption;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
 import java.io.IOException;
-import java.net.Socket;
-import java.security.KeyManagementException;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.security.Security;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.List;
 import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLEngine;
-import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
-import javax.net.ssl.X509ExtendedTrustManager;
-import javax.net.ssl.X509TrustManager;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.TlsProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,14 +44,10 @@ import org.slf4j.LoggerFactory;
 public class SslContextFactory {
     private static final Logger LOG = LoggerFactory.getLogger(SslContextFactory.class);
 
-    // "TLS" - supports some version of TLS
-    // Use "TLSv1", "TLSv1.1", "TLSv1.2" for specific TLS version
-    private static final String PROTOCOL = "TLS";
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     private final TlsConfiguration tlsConfig;
 
-    private volatile List<X509Certificate> switchCertificateChain;
-
     /**
      * Sets the TlsConfiguration.
      *
@@ -60,145 +59,103 @@ public class SslContextFactory {
         this.tlsConfig = requireNonNull(tlsConfig);
     }
 
-    @Nullable List<X509Certificate> getSwitchCertificateChain() {
-        return switchCertificateChain;
-    }
-
-    void setSwitchCertificateChain(final X509Certificate[] chain) {
-        switchCertificateChain = List.of(chain);
-    }
-
-    public SSLContext getServerContext() {
-        String algorithm = Security.getProperty("ssl.KeyManagerFactory.algorithm");
-        if (algorithm == null) {
-            algorithm = "SunX509";
-        }
-        SSLContext serverContext = null;
+    /**
+     * Creates a server-side Netty SSL context requiring client authentication. The context is meant to be shared by
+     * all connections, so that reconnecting switches can resume their sessions rather than perform a full handshake.
+     * Switch certificates are taken from the handshake session.
+     *
+     * @return SSL context, or {@code null} if it could not be initialized
+     */
+    public @Nullable SslContext getNettyServerContext() {
+        final SslProvider provider = sslProvider();
+        final SslContext serverContext;
         try {
-            KeyStore ks = KeyStore.getInstance(tlsConfig.getTlsKeystoreType().name());
-            ks.load(SslKeyStore.asInputStream(tlsConfig.getTlsKeystore(), tlsConfig.getTlsKeystorePathType()),
-                    tlsConfig.getKeystorePassword().toCharArray());
-            KeyManagerFactory kmf = KeyManagerFactory.getInstance(algorithm);
-            kmf.init(ks, tlsConfig.getCertificatePassword().toCharArray());
-
-            KeyStore ts = KeyStore.getInstance(tlsConfig.getTlsTruststoreType().name());
-            ts.load(SslKeyStore.asInputStream(tlsConfig.getTlsTruststore(), tlsConfig.getTlsTruststorePathType()),
-                    tlsConfig.getTruststorePassword().toCharArray());
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance(algorithm);
-            tmf.init(ts);
-
-            serverContext = SSLContext.getInstance(PROTOCOL);
-
-            // A bit ugly: intercept trust checks to establish switch certificate
-            final TrustManager[] delegates = tmf.getTrustManagers();
-            final TrustManager[] proxies;
-            if (delegates != null) {
-                proxies = new TrustManager[delegates.length];
-                for (int i = 0; i < delegates.length; i++) {
-                    final TrustManager delegate = delegates[i];
-                    if (delegate instanceof X509ExtendedTrustManager) {
-                        proxies[i] = new ProxyExtendedTrustManager((X509ExtendedTrustManager) delegate);
-                    } else if (delegate instanceof X509TrustManager) {
-                        proxies[i] = new ProxyTrustManager((X509TrustManager) delegate);
-                    } else {
-                        LOG.debug("Cannot handle trust manager {}, passing through", delegate);
-                        proxies[i] = delegate;
-                    }
-                }
-            } else {
-                proxies = null;
+            final SslContextBuilder builder = SslContextBuilder.forServer(keyManagerFactory())
+                .trustManager(trustManagerFactory())
+                .clientAuth(ClientAuth.REQUIRE)
+                .sslProvider(provider);
+            final List<String> suites = tlsConfig.getCipherSuites();
+            if (suites != null && !suites.isEmpty()) {
+                builder.ciphers(suites);
+            }
+            final long cacheSize = tlsConfig.getSessionCacheSize();
+            if (cacheSize > 0) {
+                builder.sessionCacheSize(cacheSize);
+            }
+            final long timeout = tlsConfig.getSessionTimeout();
+            if (timeout > 0) {
+                builder.sessionTimeout(timeout);
             }
-            serverContext.init(kmf.getKeyManagers(), proxies, null);
+            if (provider == SslProvider.OPENSSL && tlsConfig.getHandshakeThreadCount() > 0) {
+                // Run certificate verification and key selection as delegated tasks, so they can be offloaded
+                builder.option(OpenSslContextOption.USE_TASKS, true);
+            }
+            serverContext = builder.build();
         } catch (IOException e) {
             LOG.warn("IOException - Failed to load keystore / truststore."
-                    + " Failed to initialize the server-side SSLContext", e);
-        } catch (NoSuchAlgorithmException e) {
-            LOG.warn("NoSuchAlgorithmException - Unsupported algorithm."
-                    + " Failed to initialize the server-side SSLContext", e);
-        } catch (CertificateException e) {
-            LOG.warn("CertificateException - Unable to access certificate (check password)."
-                    + " Failed to initialize the server-side SSLContext", e);
-        } catch (KeyManagementException | KeyStoreException | UnrecoverableKeyException e) {
-            LOG.warn("Exception - Failed to initialize the server-side SSLContext", e);
-        }
-        return serverContext;
-    }
-
-    private final class ProxyTrustManager implements X509TrustManager {
-        private final X509TrustManager delegate;
-
-        ProxyTrustManager(final X509TrustManager delegate) {
-            this.delegate = requireNonNull(delegate);
-        }
-
-        @Override
-        public void checkClientTrusted(final X509Certificate[] chain, final String authType)
-                throws CertificateException {
-            setSwitchCertificateChain(chain);
-            delegate.checkClientTrusted(chain, authType);
-        }
-
-        @Override
-        public void checkServerTrusted(final X509Certificate[] chain, final String authType)
-                throws CertificateException {
-            delegate.checkServerTrusted(chain, authType);
+                    + " Failed to initialize the server-side SslContext", e);
+            return null;
+        } catch (GeneralSecurityException e) {
+            LOG.warn("Exception - Failed to initialize the server-side SslContext", e);
+            return null;
         }
 
-        @Override
-        public X509Certificate[] getAcceptedIssuers() {
-            return delegate.getAcceptedIssuers();
+        if (tlsConfig.isSessionTicketEnabled()) {
+            if (serverContext.sessionContext() instanceof OpenSslSessionContext sessionContext) {
+                // OpenSSL contexts issue tickets only once ticket keys are set
+                sessionContext.setTicketKeys(newTicketKey());
+            }
+        } else if (provider == SslProvider.JDK) {
+            LOG.warn("Session tickets of the JDK TLS provider are controlled by the "
+                + "jdk.tls.server.enableSessionTicketExtension system property");
         }
+        LOG.info("Initialized {} server-side SslContext, session cache size {}, timeout {}s", provider,
+            serverContext.sessionCacheSize(), serverContext.sessionTimeout());
+        return serverContext;
     }
 
-    private final class ProxyExtendedTrustManager extends X509ExtendedTrustManager {
-        private final X509ExtendedTrustManager delegate;
-
-        ProxyExtendedTrustManager(final X509ExtendedTrustManager trustManager) {
-            delegate = requireNonNull(trustManager);
-        }
-
-        @Override
-        public void checkClientTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
-                throws CertificateException {
-            setSwitchCertificateChain(chain);
-            delegate.checkClientTrusted(chain, authType, socket);
-        }
-
-        @Override
-        public void checkClientTrusted(final X509Certificate[] chain, final String authType)
-                throws CertificateException {
-            setSwitchCertificateChain(chain);
-            delegate.checkClientTrusted(chain, authType);
-        }
-
-        @Override
-        public void checkClientTrusted(final X509Certificate[] chain, final String authType, final SSLEngine sslEngine)
-                throws CertificateException {
-            setSwitchCertificateChain(chain);
-            delegate.checkClientTrusted(chain, authType, sslEngine);
+    private SslProvider sslProvider() {
+        if (tlsConfig.getTlsProvider() == TlsProvider.OPENSSL) {
+            if (OpenSsl.isAvailable()) {
+                return SslProvider.OPENSSL;
+            }
+            LOG.warn("OpenSSL is not available, falling back to JDK TLS provider", OpenSsl.unavailabilityCause());
         }
+        return SslProvider.JDK;
+    }
 
-        @Override
-        public void checkServerTrusted(final X509Certificate[] chain, final String authType, final SSLEngine sslEngine)
-                throws CertificateException {
-            delegate.checkServerTrusted(chain, authType, sslEngine);
-        }
+    private static OpenSslSessionTicketKey newTicketKey() {
+        final byte[] name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+        final byte[] hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+        final byte[] aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+        RANDOM.nextBytes(name);
+        RANDOM.nextBytes(hmacKey);
+        RANDOM.nextBytes(aesKey);
+        return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+    }
 
-        @Override
-        public void checkServerTrusted(final X509Certificate[] chain, final String authType)
-                throws CertificateException {
-            delegate.checkServerTrusted(chain, authType);
-        }
+    private KeyManagerFactory keyManagerFactory() throws IOException, NoSuchAlgorithmException,
+            CertificateException, KeyStoreException, UnrecoverableKeyException {
+        KeyStore ks = KeyStore.getInstance(tlsConfig.getTlsKeystoreType().name());
+        ks.load(SslKeyStore.asInputStream(tlsConfig.getTlsKeystore(), tlsConfig.getTlsKeystorePathType()),
+                tlsConfig.getKeystorePassword().toCharArray());
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance(algorithm());
+        kmf.init(ks, tlsConfig.getCertificatePassword().toCharArray());
+        return kmf;
+    }
 
-        @Override
-        public void checkServerTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
-                throws CertificateException {
-            delegate.checkServerTrusted(chain, authType, socket);
-        }
+    private TrustManagerFactory trustManagerFactory() throws IOException, NoSuchAlgorithmException,
+            CertificateException, KeyStoreException {
+        KeyStore ts = KeyStore.getInstance(tlsConfig.getTlsTruststoreType().name());
+        ts.load(SslKeyStore.asInputStream(tlsConfig.getTlsTruststore(), tlsConfig.getTlsTruststorePathType()),
+                tlsConfig.getTruststorePassword().toCharArray());
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance(algorithm());
+        tmf.init(ts);
+        return tmf;
+    }
 
-        @Override
-        public X509Certificate[] getAcceptedIssuers() {
-            return delegate.getAcceptedIssuers();
-        }
+    private static String algorithm() {
+        final String algorithm = Security.getProperty("ssl.KeyManagerFactory.algorithm");
+        return algorithm != null ? algorithm : "SunX509";
     }
 }
@@ -218,8 +218,7 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
         factory.setDeserializationFactory(deserializationFactory);
         factory.setUseBarrier(connConfig.useBarrier());
         factory.setChannelOutboundQueueSize(connConfig.getChannelOutboundQueueSize());
-        // Check if Epoll native transport is available.
-        // TODO : Add option to disable Epoll.
+        // Check if Epoll native transport is available. A particular transport can be selected via io-transport.
         boolean isEpollEnabled = Epoll.isAvailable();
 
         return switch (transportProtocol) {
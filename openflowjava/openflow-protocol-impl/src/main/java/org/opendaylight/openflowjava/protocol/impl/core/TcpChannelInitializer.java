@@ -8,17 +8,25 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
 import java.net.InetAddress;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import javax.net.ssl.SSLEngine;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLPeerUnverifiedException;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterFactory;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterFactoryImpl;
@@ -31,11 +39,45 @@ import org.slf4j.LoggerFactory;
  * @author michal.polkorab
  */
 public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChannel> {
+    private static final class TlsContext {
+        final TlsConfiguration config;
+        final SslContext sslContext;
+        final ExecutorService handshakeExecutor;
+        // One for as long as the context is current, plus one for each handshake in progress
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        TlsContext(final TlsConfiguration config, final SslContext sslContext,
+                final ExecutorService handshakeExecutor) {
+            this.config = config;
+            this.sslContext = sslContext;
+            this.handshakeExecutor = handshakeExecutor;
+        }
+
+        boolean tryRetain() {
+            return references.getAndUpdate(refs -> refs == 0 ? 0 : refs + 1) != 0;
+        }
+
+        /*
+         * Resources are released once the context is no longer current and the handshakes started on it finished,
+         * so that a configuration change does not fail handshakes waiting for their delegated tasks.
+         */
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                if (handshakeExecutor != null) {
+                    handshakeExecutor.shutdown();
+                }
+                ReferenceCountUtil.release(sslContext);
+            }
+        }
+    }
 
     private static final Logger LOG = LoggerFactory.getLogger(TcpChannelInitializer.class);
     private final DefaultChannelGroup allChannels;
     private final ConnectionAdapterFactory connectionAdapterFactory;
 
+    // Shared by all connections, so that switches can resume their TLS sessions
+    private volatile TlsContext tlsContext;
+
     /**
      * Default constructor.
      */
@@ -78,25 +120,17 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
             getSwitchConnectionHandler().onSwitchConnected(connectionFacade);
             connectionFacade.checkListeners();
 
+            final var statistics = connectionFacade.getChannelStatistics();
+            ch.pipeline().addFirst(PipelineHandlers.CHANNEL_BYTE_STATISTICS.name(), statistics.byteCounter());
+
             // If this channel is configured to support SSL it will only support SSL
             final TlsConfiguration tlsConfig = getTlsConfiguration();
             if (tlsConfig != null) {
-                final SslContextFactory sslFactory = new SslContextFactory(tlsConfig);
-                final SSLEngine engine = sslFactory.getServerContext().createSSLEngine();
-                engine.setNeedClientAuth(true);
-                engine.setUseClientMode(false);
-                List<String> suitesList = getTlsConfiguration().getCipherSuites();
-                if (suitesList != null && !suitesList.isEmpty()) {
-                    LOG.debug("Requested Cipher Suites are: {}", suitesList);
-                    engine.setEnabledCipherSuites(suitesList.toArray(new String[0]));
-                    LOG.debug("Cipher suites enabled in SSLEngine are: {}",
-                            Arrays.toString(engine.getEnabledCipherSuites()));
-                }
-                final SslHandler ssl = new SslHandler(engine);
+                final SslHandler ssl = newSslHandler(ch, tlsConfig);
                 final Future<Channel> handshakeFuture = ssl.handshakeFuture();
                 final ConnectionFacade finalConnectionFacade = connectionFacade;
                 handshakeFuture.addListener(future -> finalConnectionFacade.onSwitchCertificateIdentified(
-                    sslFactory.getSwitchCertificateChain()));
+                    future.isSuccess() ? switchCertificateChain(ssl) : null));
                 handshakeFuture.addListener(future -> finalConnectionFacade.fireConnectionReadyNotification());
                 ch.pipeline().addLast(PipelineHandlers.SSL_HANDLER.name(), ssl);
             }
@@ -111,6 +145,7 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
             ch.pipeline().addLast(PipelineHandlers.OF_ENCODER.name(), ofEncoder);
             ch.pipeline().addLast(PipelineHandlers.IDLE_HANDLER.name(),
                     new IdleHandler(getSwitchIdleTimeout(), TimeUnit.MILLISECONDS));
+            ch.pipeline().addLast(PipelineHandlers.CHANNEL_MESSAGE_STATISTICS.name(), statistics.messageCounter());
             ch.pipeline().addLast(PipelineHandlers.DELEGATING_INBOUND_HANDLER.name(),
                     new DelegatingInboundHandler(connectionFacade));
 
@@ -123,6 +158,83 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
         }
     }
 
+    private SslHandler newSslHandler(final SocketChannel ch, final TlsConfiguration tlsConfig) {
+        final TlsContext tls = tlsContext(tlsConfig);
+        final SslHandler ssl;
+        try {
+            ssl = tls.handshakeExecutor == null ? tls.sslContext.newHandler(ch.alloc())
+                : tls.sslContext.newHandler(ch.alloc(), tls.handshakeExecutor);
+        } catch (RuntimeException e) {
+            tls.release();
+            throw e;
+        }
+        // The handshake future also completes when the channel closes before the handshake finishes
+        ssl.handshakeFuture().addListener(future -> tls.release());
+        LOG.debug("Cipher suites enabled in SSLEngine are: {}",
+            Arrays.toString(ssl.engine().getEnabledCipherSuites()));
+        return ssl;
+    }
+
+    // Returns a retained context, to be released once the handshake completes
+    private TlsContext tlsContext(final TlsConfiguration tlsConfig) {
+        final TlsContext current = tlsContext;
+        if (current != null && current.config == tlsConfig && current.tryRetain()) {
+            return current;
+        }
+
+        synchronized (this) {
+            final TlsContext existing = tlsContext;
+            if (existing != null) {
+                if (existing.config == tlsConfig && existing.tryRetain()) {
+                    return existing;
+                }
+                tlsContext = null;
+                existing.release();
+            }
+
+            final SslContext sslContext = new SslContextFactory(tlsConfig).getNettyServerContext();
+            if (sslContext == null) {
+                throw new IllegalStateException("Failed to initialize the server-side SslContext");
+            }
+            final int handshakeThreads = tlsConfig.getHandshakeThreadCount();
+            final ExecutorService handshakeExecutor = handshakeThreads <= 0 ? null
+                : Executors.newFixedThreadPool(handshakeThreads, new ThreadFactoryBuilder()
+                    .setNameFormat("openflow-tls-handshake-%d")
+                    .setDaemon(true)
+                    .build());
+            final TlsContext created = new TlsContext(tlsConfig, sslContext, handshakeExecutor);
+            created.tryRetain();
+            tlsContext = created;
+            return created;
+        }
+    }
+
+    private static List<X509Certificate> switchCertificateChain(final SslHandler ssl) {
+        final Certificate[] certificates;
+        try {
+            certificates = ssl.engine().getSession().getPeerCertificates();
+        } catch (SSLPeerUnverifiedException e) {
+            LOG.debug("Switch certificate not available", e);
+            return null;
+        }
+        return Arrays.stream(certificates)
+            .filter(X509Certificate.class::isInstance)
+            .map(X509Certificate.class::cast)
+            .toList();
+    }
+
+    /**
+     * Releases TLS resources shared by connections. Established connections are not affected, handshakes in progress
+     * are allowed to finish.
+     */
+    public synchronized void shutdown() {
+        final TlsContext existing = tlsContext;
+        if (existing != null) {
+            tlsContext = null;
+            existing.release();
+        }
+    }
+
     /**
      * Returns the connection iterator.
      *
@@ -18,22 +18,17 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.IoHandlerFactory;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollIoHandler;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.epoll.EpollSocketChannel;
-import io.netty.channel.nio.NioIoHandler;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import java.net.InetSocketAddress;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.IoTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,17 +40,6 @@ import org.slf4j.LoggerFactory;
 final class TcpServerFacade extends ServerFacade implements ConnectionInitializer {
     private static final Logger LOG = LoggerFactory.getLogger(TcpServerFacade.class);
 
-    /*
-     * High/low write watermarks
-     */
-    private static final int DEFAULT_WRITE_HIGH_WATERMARK = 64 * 1024;
-    private static final int DEFAULT_WRITE_LOW_WATERMARK = 32 * 1024;
-    /*
-     * Write spin count. This tells Netty to immediately retry a non-blocking write this many times before moving on to
-     * selecting.
-     */
-    private static final int DEFAULT_WRITE_SPIN_COUNT = 16;
-
     private final TcpChannelInitializer channelInitializer;
     private final Bootstrap bootstrap;
 
@@ -79,18 +63,47 @@ final class TcpServerFacade extends ServerFacade implements ConnectionInitialize
         final var serverBootstrap = new ServerBootstrap()
             .handler(new LoggingHandler(LogLevel.DEBUG))
             .childHandler(channelInitializer)
-            .option(ChannelOption.SO_BACKLOG, 128)
             .option(ChannelOption.SO_REUSEADDR, true)
             .childOption(ChannelOption.SO_KEEPALIVE, true)
             .childOption(ChannelOption.TCP_NODELAY , true)
-            .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-            .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
-                new WriteBufferWaterMark(DEFAULT_WRITE_LOW_WATERMARK, DEFAULT_WRITE_HIGH_WATERMARK))
-            .childOption(ChannelOption.WRITE_SPIN_COUNT, DEFAULT_WRITE_SPIN_COUNT);
+            .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
 
+        final int backlog = connConfig.getBacklog();
+        if (backlog > 0) {
+            serverBootstrap.option(ChannelOption.SO_BACKLOG, backlog);
+        }
+        final int receiveBufferSize = connConfig.getReceiveBufferSize();
+        if (receiveBufferSize > 0) {
+            // Set on the listening socket as well, so the TCP window scale is negotiated accordingly
+            serverBootstrap.option(ChannelOption.SO_RCVBUF, receiveBufferSize)
+                .childOption(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+        final int sendBufferSize = connConfig.getSendBufferSize();
+        if (sendBufferSize > 0) {
+            serverBootstrap.childOption(ChannelOption.SO_SNDBUF, sendBufferSize);
+        }
         // Client bootstrap configuration
         final var bootstrap = new Bootstrap().handler(channelInitializer);
 
+        /*
+         * Write buffer watermarks. The default writability window ensures we can flush an entire outbound queue
+         * segment in one go.
+         */
+        final var waterMark = writeBufferWaterMark(connConfig);
+        if (waterMark != null) {
+            serverBootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, waterMark);
+            bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, waterMark);
+        }
+        /*
+         * Write spin count. This tells Netty to immediately retry a non-blocking write this many times before moving
+         * on to selecting.
+         */
+        final int writeSpinCount = connConfig.getWriteSpinCount();
+        if (writeSpinCount > 0) {
+            serverBootstrap.childOption(ChannelOption.WRITE_SPIN_COUNT, writeSpinCount);
+            bootstrap.option(ChannelOption.WRITE_SPIN_COUNT, writeSpinCount);
+        }
+
         /*
          * Initialize groups.
          *
@@ -101,22 +114,26 @@ final class TcpServerFacade extends ServerFacade implements ConnectionInitialize
          * executing tasks.
          */
         final var threadConfig = connConfig.getThreadConfiguration();
-
-        // Captured by bindFuture callback below
-
-        final IoHandlerFactory ioFactory;
-        if (Epoll.isAvailable() && epollEnabled) {
-            // Epoll
-            serverBootstrap.channel(EpollServerSocketChannel.class);
-            bootstrap.channel(EpollSocketChannel.class);
-            ioFactory = EpollIoHandler.newFactory();
-        } else {
-            // NIO
-            serverBootstrap.channel(NioServerSocketChannel.class);
-            bootstrap.channel(NioSocketChannel.class);
-            ioFactory = NioIoHandler.newFactory();
+        final var transport = ChannelTransport.select(threadConfig, epollEnabled);
+        serverBootstrap.channel(transport.serverChannel());
+        bootstrap.channel(transport.socketChannel());
+
+        if (transport.transport() == IoTransport.EPOLL) {
+            if (connConfig.isTcpQuickAck()) {
+                // Set once on accept: the kernel clears it on its own, we do not re-arm it on each read, as that
+                // would cost a setsockopt() per read
+                serverBootstrap.childOption(EpollChannelOption.TCP_QUICKACK, true);
+            }
+            final int busyPoll = connConfig.getBusyPollMicros();
+            if (busyPoll > 0) {
+                serverBootstrap.childOption(EpollChannelOption.SO_BUSY_POLL, busyPoll);
+            }
+        } else if (connConfig.isTcpQuickAck() || connConfig.getBusyPollMicros() > 0) {
+            LOG.warn("TCP_QUICKACK and SO_BUSY_POLL are supported by epoll transport only, ignoring them on {}",
+                transport.transport());
         }
 
+        final var ioFactory = transport.newIoHandlerFactory();
         final var parentGroup = new MultiThreadIoEventLoopGroup(
             threadConfig == null ? 0 : threadConfig.getBossThreadCount(), ioFactory);
         final var childGroup = new MultiThreadIoEventLoopGroup(
@@ -152,6 +169,19 @@ final class TcpServerFacade extends ServerFacade implements ConnectionInitialize
         return retFuture;
     }
 
+    static @Nullable WriteBufferWaterMark writeBufferWaterMark(final ConnectionConfiguration connConfig) {
+        final int high = connConfig.getWriteBufferHighWatermark();
+        if (high <= 0) {
+            return null;
+        }
+        final int low = connConfig.getWriteBufferLowWatermark();
+        if (low > high) {
+            LOG.warn("Low write watermark {} exceeds high watermark {}, using {} for both", low, high, high);
+            return new WriteBufferWaterMark(high, high);
+        }
+        return new WriteBufferWaterMark(Math.max(low, 0), high);
+    }
+
     /**
      * Returns the number of connected clients / channels.
      *
@@ -177,6 +207,7 @@ final class TcpServerFacade extends ServerFacade implements ConnectionInitialize
             LOG.info("Cleaning up TCP/TLS connection resources on {}", localAddress());
             childGroup = null;
             local.shutdownGracefully();
+            channelInitializer.shutdown();
         }
         return super.shutdown();
     }
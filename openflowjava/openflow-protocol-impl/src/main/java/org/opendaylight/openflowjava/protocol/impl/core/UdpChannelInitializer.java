@@ -9,6 +9,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.channel.socket.DatagramChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 
 /**
  * UDP implementation of ChannelInitializer.
@@ -16,12 +17,21 @@ import io.netty.channel.socket.DatagramChannel;
  * @author michal.polkorab
  */
 public class UdpChannelInitializer extends ProtocolChannelInitializer<DatagramChannel> {
+    // Shared by all channels bound by this initializer's listener
+    private final UdpConnectionMap connectionMap = new UdpConnectionMap();
+
+    private volatile boolean consolidateFlushes;
 
     @Override
     protected void initChannel(DatagramChannel ch) {
+        if (consolidateFlushes) {
+            ch.pipeline().addLast(PipelineHandlers.FLUSH_CONSOLIDATION.name(), new FlushConsolidationHandler(
+                FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
+        }
         ch.pipeline().addLast(PipelineHandlers.OF_DATAGRAMPACKET_HANDLER.name(),
-                new OFDatagramPacketHandler(getSwitchConnectionHandler(), getChannelOutboundQueueSize()));
-        OFDatagramPacketDecoder ofDatagramPacketDecoder = new OFDatagramPacketDecoder();
+                new OFDatagramPacketHandler(getSwitchConnectionHandler(), getChannelOutboundQueueSize(),
+                    connectionMap));
+        OFDatagramPacketDecoder ofDatagramPacketDecoder = new OFDatagramPacketDecoder(connectionMap);
         ofDatagramPacketDecoder.setDeserializationFactory(getDeserializationFactory());
         ch.pipeline().addLast(PipelineHandlers.OF_DATAGRAMPACKET_DECODER.name(),
                 ofDatagramPacketDecoder);
@@ -29,4 +39,14 @@ public class UdpChannelInitializer extends ProtocolChannelInitializer<DatagramCh
         ofDatagramPacketEncoder.setSerializationFactory(getSerializationFactory());
         ch.pipeline().addLast(PipelineHandlers.OF_ENCODER.name(), ofDatagramPacketEncoder);
     }
+
+    /**
+     * Enables coalescing of flushes issued by switches sharing a channel, so that their datagrams are sent
+     * in a single batch.
+     *
+     * @param consolidateFlushes true to coalesce flushes
+     */
+    public void setConsolidateFlushes(final boolean consolidateFlushes) {
+        this.consolidateFlushes = consolidateFlushes;
+    }
 }
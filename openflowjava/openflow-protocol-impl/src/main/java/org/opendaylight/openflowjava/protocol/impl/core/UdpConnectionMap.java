@@ -13,17 +13,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageConsumer;
 
 /**
- * As UDP communication is handled only by one channel, it is needed
- * to store MessageConsumers, so that we know which consumer handles which channel.
+ * As UDP communication is handled by a few channels shared by all switches, it is needed
+ * to store MessageConsumers, so that we know which consumer handles which switch. Each
+ * UDP listener has its own map.
 
  * @author michal.polkorab
  */
 public final class UdpConnectionMap {
-    private static Map<InetSocketAddress, MessageConsumer> connectionMap = new ConcurrentHashMap<>();
-
-    private UdpConnectionMap() {
-        // Hidden on purpose
-    }
+    private final Map<InetSocketAddress, MessageConsumer> connectionMap = new ConcurrentHashMap<>();
 
     /**
      * Gets the MessageConsumer for the given address.
@@ -31,7 +28,7 @@ public final class UdpConnectionMap {
      * @param address sender's address
      * @return corresponding MessageConsumer
      */
-    public static MessageConsumer getMessageConsumer(InetSocketAddress address) {
+    public MessageConsumer getMessageConsumer(InetSocketAddress address) {
         if (address == null) {
             throw new IllegalArgumentException("Address can not be null");
         }
@@ -44,7 +41,7 @@ public final class UdpConnectionMap {
      * @param address sender's address
      * @param consumer MessageConsumer to be added / paired with specified address
      */
-    public static void addConnection(InetSocketAddress address, MessageConsumer consumer) {
+    public void addConnection(InetSocketAddress address, MessageConsumer consumer) {
         if (address == null) {
             throw new IllegalArgumentException("Address can not be null");
         }
@@ -56,7 +53,7 @@ public final class UdpConnectionMap {
      *
      * @param address sender's address
      */
-    public static void removeConnection(InetSocketAddress address) {
+    public void removeConnection(InetSocketAddress address) {
         if (address == null) {
             throw new IllegalArgumentException("Address can not be null");
         }
@@ -8,21 +8,22 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.IoHandlerFactory;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollDatagramChannel;
-import io.netty.channel.epoll.EpollIoHandler;
-import io.netty.channel.nio.NioIoHandler;
-import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.epoll.EpollChannelOption;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.IoTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,12 +35,16 @@ import org.slf4j.LoggerFactory;
 final class UdpServerFacade extends ServerFacade {
     private static final Logger LOG = LoggerFactory.getLogger(UdpServerFacade.class);
 
-    private UdpServerFacade(final EventLoopGroup group, final InetSocketAddress localAddress) {
+    private final int channelCount;
+
+    private UdpServerFacade(final EventLoopGroup group, final InetSocketAddress localAddress,
+            final int channelCount) {
         super(group, localAddress);
+        this.channelCount = channelCount;
 
         LOG.debug("Address from udpHandler: {}", localAddress);
-        LOG.info("Switch listener started and ready to accept incoming udp connections on port: {}",
-            localAddress.getPort());
+        LOG.info("Switch listener started and ready to accept incoming udp connections on port: {} ({} channels)",
+            localAddress.getPort(), channelCount);
     }
 
     static ListenableFuture<UdpServerFacade> start(final ConnectionConfiguration connConfig, final boolean epollEnabled,
@@ -49,19 +54,43 @@ final class UdpServerFacade extends ServerFacade {
         final var threadConfig = connConfig.getThreadConfiguration();
         final var threadCount = threadConfig == null ? 0 : threadConfig.getWorkerThreadCount();
 
-        // Captured by bindFuture callback below
-        final IoHandlerFactory ioFactory;
-
-        if (Epoll.isAvailable() && epollEnabled) {
-            // Epoll
-            bootstrap.channel(EpollDatagramChannel.class);
-            ioFactory = EpollIoHandler.newFactory();
-        } else {
-            // NIO
-            bootstrap.channel(NioDatagramChannel.class);
-            ioFactory = NioIoHandler.newFactory();
+        final var receiveBufferSize = connConfig.getReceiveBufferSize();
+        if (receiveBufferSize > 0) {
+            bootstrap.option(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+        final var sendBufferSize = connConfig.getSendBufferSize();
+        if (sendBufferSize > 0) {
+            bootstrap.option(ChannelOption.SO_SNDBUF, sendBufferSize);
+        }
+        final var waterMark = TcpServerFacade.writeBufferWaterMark(connConfig);
+        if (waterMark != null) {
+            bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, waterMark);
+        }
+
+        final var transport = ChannelTransport.select(threadConfig, epollEnabled);
+        bootstrap.channel(transport.datagramChannel());
+
+        /*
+         * Multiple channels bound to the same port. The kernel hashes each switch's address to one of them, hence
+         * a switch always lands on the same channel, and each channel is registered with its own event loop. Each
+         * channel is shared by many switches, so we also coalesce their flushes, letting epoll transmit them in
+         * a single sendmmsg() call.
+         */
+        int channelCount = Math.max(1, connConfig.getUdpChannelCount());
+        if (channelCount > 1) {
+            if (transport.transport() == IoTransport.EPOLL) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+                channelInitializer.setConsolidateFlushes(true);
+            } else {
+                LOG.warn("Multiple UDP channels are supported by epoll transport only, using a single channel on {}",
+                    transport.transport());
+                channelCount = 1;
+            }
         }
 
+        // Captured by bindFuture callback below
+        final var ioFactory = transport.newIoHandlerFactory();
+
         final var group = new MultiThreadIoEventLoopGroup(threadCount, ioFactory);
         bootstrap.group(group);
 
@@ -72,15 +101,53 @@ final class UdpServerFacade extends ServerFacade {
 
         // Clean up or hand off to caller
         final var retFuture = SettableFuture.<UdpServerFacade>create();
+        final int channels = channelCount;
         bindFuture.addListener((ChannelFutureListener) future -> {
             final var cause = future.cause();
             if (cause != null) {
                 group.shutdownGracefully();
                 retFuture.setException(cause);
-            } else {
-                retFuture.set(new UdpServerFacade(group, (InetSocketAddress) future.channel().localAddress()));
+                return;
+            }
+
+            // Bind the remaining channels to the actual address, which matters when we have bound an ephemeral port
+            final var localAddress = (InetSocketAddress) future.channel().localAddress();
+            final var binds = new ArrayList<ListenableFuture<Void>>(channels - 1);
+            for (int i = 1; i < channels; ++i) {
+                final var bound = SettableFuture.<Void>create();
+                bootstrap.bind(localAddress).addListener((ChannelFutureListener) bind -> {
+                    final var bindCause = bind.cause();
+                    if (bindCause != null) {
+                        bound.setException(bindCause);
+                    } else {
+                        bound.set(null);
+                    }
+                });
+                binds.add(bound);
             }
+
+            Futures.addCallback(Futures.allAsList(binds), new FutureCallback<>() {
+                @Override
+                public void onSuccess(final List<Void> result) {
+                    retFuture.set(new UdpServerFacade(group, localAddress, channels));
+                }
+
+                @Override
+                public void onFailure(final Throwable failure) {
+                    group.shutdownGracefully();
+                    retFuture.setException(failure);
+                }
+            }, MoreExecutors.directExecutor());
         });
         return retFuture;
     }
+
+    /**
+     * Returns the number of channels bound to the listening port.
+     *
+     * @return number of channels
+     */
+    int channelCount() {
+        return channelCount;
+    }
 }
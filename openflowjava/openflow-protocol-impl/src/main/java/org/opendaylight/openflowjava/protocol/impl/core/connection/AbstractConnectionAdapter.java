@@ -19,6 +19,7 @@ import com.google.common.util.concurrent.SettableFuture;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -94,6 +95,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     protected final InetSocketAddress address;
     protected boolean disconnectOccured = false;
     protected final ChannelOutboundQueue output;
+    private final ChannelStatisticsCollector statistics;
 
     /** expiring cache for future rpcResponses. */
     protected Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache;
@@ -109,6 +111,17 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
         LOG.debug("The channel outbound queue size:{}", channelOutboundQueueSize);
         this.output = new ChannelOutboundQueue(channel, channelOutboundQueueSize, address);
         channel.pipeline().addLast(output);
+        statistics = new ChannelStatisticsCollector(channel);
+    }
+
+    @Override
+    public ChannelStatisticsCollector getChannelStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public Executor getIoExecutor() {
+        return channel.eventLoop();
     }
 
     @Override
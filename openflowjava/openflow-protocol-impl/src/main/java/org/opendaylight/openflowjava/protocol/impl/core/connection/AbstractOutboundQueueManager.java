@@ -56,18 +56,6 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         WRITING,
     }
 
-    /**
-     * Default low write watermark. Channel will become writable when number of outstanding
-     * bytes dips below this value.
-     */
-    private static final int DEFAULT_LOW_WATERMARK = 128 * 1024;
-
-    /**
-     * Default write high watermark. Channel will become un-writable when number of
-     * outstanding bytes hits this value.
-     */
-    private static final int DEFAULT_HIGH_WATERMARK = DEFAULT_LOW_WATERMARK * 2;
-
     private final AtomicBoolean flushScheduled = new AtomicBoolean();
     protected final ConnectionAdapterImpl parent;
     protected final InetSocketAddress address;
@@ -114,20 +102,6 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         return String.format("Channel %s queue [flushing=%s]", parent.getChannel(), flushScheduled.get());
     }
 
-    @Override
-    public void handlerAdded(final ChannelHandlerContext ctx) throws Exception {
-        /*
-         * Tune channel write buffering. We increase the writability window
-         * to ensure we can flush an entire queue segment in one go. We definitely
-         * want to keep the difference above 64k, as that will ensure we use jam-packed
-         * TCP packets. UDP will fragment as appropriate.
-         */
-        ctx.channel().config().setWriteBufferHighWaterMark(DEFAULT_HIGH_WATERMARK);
-        ctx.channel().config().setWriteBufferLowWaterMark(DEFAULT_LOW_WATERMARK);
-
-        super.handlerAdded(ctx);
-    }
-
     @Override
     public void channelActive(final ChannelHandlerContext ctx) throws Exception {
         super.channelActive(ctx);
@@ -11,25 +11,47 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.FutureCallback;
 import io.netty.channel.Channel;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.checkerframework.checker.lock.qual.Holding;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 abstract class AbstractStackedOutboundQueue implements OutboundQueue {
+    /**
+     * A message committed with {@link OutboundQueuePriority#CONTROL} or {@link OutboundQueuePriority#INTERACTIVE}
+     * priority, waiting to be written ahead of its turn.
+     */
+    private record LaneEntry(long xid, OutboundQueueEntry entry) {
+
+    }
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractStackedOutboundQueue.class);
+
+    /**
+     * Maximum number of interactive messages written in a single round of {@link #writeEntries(Channel, long)}.
+     */
+    static final int INTERACTIVE_WEIGHT = 16;
+    /**
+     * Maximum number of in-order messages written in a single round of {@link #writeEntries(Channel, long)}.
+     */
+    static final int BULK_WEIGHT = 64;
+
     protected static final AtomicLongFieldUpdater<AbstractStackedOutboundQueue> LAST_XID_OFFSET_UPDATER =
             AtomicLongFieldUpdater.newUpdater(AbstractStackedOutboundQueue.class, "lastXid");
 
@@ -40,16 +62,33 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     private volatile long lastXid = -1;
     private volatile long allocatedXid = -1;
 
+    private final Queue<LaneEntry> controlLane = new ConcurrentLinkedQueue<>();
+    private final Queue<LaneEntry> interactiveLane = new ConcurrentLinkedQueue<>();
+
     protected @GuardedBy("unflushedSegments") Integer shutdownOffset;
 
     // Accessed from Netty only
     protected int flushOffset;
+    // Queue XIDs are 64-bit counters, which do not wrap around, hence they are compared directly. XIDs on the wire are
+    // their low 32 bits and are mapped back with queueXid() or compared as serial numbers.
+    // Highest XID written early whose segment may not have been flushed yet, -1 if there is none
+    private long lastEarlyXid = -1;
+    // Highest XID up to which all entries are committed and are not barriers waiting to be written. Lane entries
+    // up to one above it may be written early.
+    private long orderedXid = -1;
 
     protected final AbstractOutboundQueueManager<?, ?> manager;
 
     AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager) {
+        this(manager, 0L);
+    }
+
+    @VisibleForTesting
+    AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager, final long firstXid) {
         this.manager = requireNonNull(manager);
-        firstSegment = StackedSegment.create(0L);
+        lastXid = firstXid - 1;
+        allocatedXid = firstXid - 1;
+        firstSegment = StackedSegment.create(firstXid);
         uncompletedSegments.add(firstSegment);
         unflushedSegments.add(firstSegment);
     }
@@ -59,6 +98,51 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         commitEntry(xid, message, callback, OutboundQueueEntry.DEFAULT_IS_COMPLETE);
     }
 
+    @Override
+    public final void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
+            final Function<OfHeader, Boolean> isCompletedFunction) {
+        commitEntry(xid, message, callback, isCompletedFunction, OutboundQueuePriority.BULK);
+    }
+
+    @Override
+    public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
+            final OutboundQueuePriority priority) {
+        commitEntry(xid, message, callback, OutboundQueueEntry.DEFAULT_IS_COMPLETE, priority);
+    }
+
+    @Override
+    public abstract void commitEntry(Uint32 xid, OfHeader message, FutureCallback<OfHeader> callback,
+        Function<OfHeader, Boolean> isCompletedFunction, OutboundQueuePriority priority);
+
+    /**
+     * Record a committed entry with its priority. Expected to be called from multiple threads concurrently, once the
+     * entry is committed and before the flush is requested.
+     *
+     * @param xid entry XID
+     * @param entry committed entry
+     * @param message committed message, null if the reservation was cancelled
+     * @param priority entry priority
+     */
+    protected void entryCommitted(final long xid, final OutboundQueueEntry entry, final OfHeader message,
+            final OutboundQueuePriority priority) {
+        if (message == null || !entry.isCommitted()) {
+            // Reservation was cancelled, commit was refused or the entry was already completed
+            return;
+        }
+        if (entry.isBarrier()) {
+            // Barriers are always written in order
+            return;
+        }
+
+        switch (priority) {
+            case CONTROL -> controlLane.add(new LaneEntry(xid, entry));
+            case INTERACTIVE -> interactiveLane.add(new LaneEntry(xid, entry));
+            default -> {
+                // Written in order
+            }
+        }
+    }
+
     @Holding("unflushedSegments")
     protected void ensureSegment(final StackedSegment first, final int offset) {
         final int segmentOffset = offset / StackedSegment.SEGMENT_SIZE;
@@ -113,40 +197,160 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         }
 
         LOG.trace("Queue {} allocated XID {}", this, xid);
-        // FIXME: reconcile uint32 vs. long overflows
-        return Uint32.valueOf(xid);
+        return Uint32.fromIntBits((int) xid);
+    }
+
+    /**
+     * Map an XID handed out by {@link #reserveEntry()} back to the queue XID it was allocated from. Reserved entries
+     * are never behind the first unflushed segment and at most a few segments ahead of it, hence the queue XID is the
+     * first one at or above the segment's base XID whose low 32 bits match.
+     *
+     * @param xid reserved XID
+     * @return queue XID
+     */
+    protected final long queueXid(final Uint32 xid) {
+        final long baseXid = firstSegment.getBaseXid();
+        return baseXid + (xid.toJava() - baseXid & StackedSegment.XID_MASK);
     }
 
     /**
      * Write some entries from the queue to the channel. Guaranteed to run
-     * in the corresponding EventLoop.
+     * in the corresponding EventLoop. Pending control messages are written
+     * first, then interactive and in-order messages are interleaved according
+     * to {@link #INTERACTIVE_WEIGHT} and {@link #BULK_WEIGHT}.
      *
      * @param channel Channel onto which we are writing
      * @param now time stamp
      * @return Number of entries written out
      */
     int writeEntries(final @NonNull Channel channel, final long now) {
-        // Local cache
-        StackedSegment segment = firstSegment;
         int entries = 0;
 
         while (channel.isWritable()) {
-            final OutboundQueueEntry entry = segment.getEntry(flushOffset);
-            if (!entry.isCommitted()) {
-                LOG.debug("Queue {} XID {} segment {} offset {} not committed yet", this, segment.getBaseXid()
-                        + flushOffset, segment, flushOffset);
+            final int written = writeLaneEntries(controlLane, channel, now, Integer.MAX_VALUE)
+                + writeLaneEntries(interactiveLane, channel, now, INTERACTIVE_WEIGHT)
+                + writeOrderedEntries(channel, now, BULK_WEIGHT);
+            if (written == 0) {
+                break;
+            }
+            entries += written;
+        }
+
+        // Once in-order flush has passed all entries written early, their replies are paired through uncompleted
+        // segments and unflushed segments need not be searched anymore
+        if (lastEarlyXid != -1 && firstSegment.getBaseXid() + flushOffset > lastEarlyXid) {
+            lastEarlyXid = -1;
+        }
+
+        return entries;
+    }
+
+    private int writeLaneEntries(final Queue<LaneEntry> lane, final Channel channel, final long now,
+            final int limit) {
+        int entries = 0;
+
+        while (entries < limit && channel.isWritable()) {
+            final LaneEntry head = lane.peek();
+            if (head == null) {
+                break;
+            }
+
+            // The entry may have been reached by in-order flush, in which case it may already be recycled
+            if (head.xid < firstSegment.getBaseXid() + flushOffset) {
+                lane.poll();
+                continue;
+            }
+
+            // Writing the entry would move it across a barrier, or an entry which has not been committed yet and
+            // may turn out to be a barrier, wait for in-order flush to catch up
+            if (!mayWriteEarly(head.xid)) {
+                LOG.trace("Queue {} XID {} waits for XID {}", this, head.xid, orderedXid + 1);
                 break;
             }
 
-            LOG.trace("Queue {} flushing entry at offset {}", this, flushOffset);
-            final OfHeader message = entry.takeMessage();
-            flushOffset++;
+            lane.poll();
+            LOG.trace("Queue {} flushing XID {} ahead of offset {}", this, head.xid, flushOffset);
+            final OfHeader message = head.entry.takeMessageEarly();
+            lastEarlyXid = Math.max(lastEarlyXid, head.xid);
             entries++;
+            manager.writeMessage(message, now);
+        }
+
+        return entries;
+    }
 
-            if (message != null) {
-                manager.writeMessage(message, now);
+    /**
+     * Check whether all entries preceding an XID are committed and none of them is a barrier which has not been
+     * written yet, advancing {@link #orderedXid} as far as possible towards the XID. Entries do not change once
+     * committed, hence each entry is examined at most once.
+     *
+     * @param xid XID of the entry to be written early
+     * @return true if the entry may be written early
+     */
+    private boolean mayWriteEarly(final long xid) {
+        final StackedSegment first = firstSegment;
+        long next = Math.max(orderedXid + 1, first.getBaseXid() + flushOffset);
+        if (next < first.getEndXid()) {
+            next = advanceOrdered(first, next, xid);
+        }
+        if (next < xid && next >= first.getEndXid()) {
+            // Slow path: the entry lies beyond the first segment
+            synchronized (unflushedSegments) {
+                for (int i = 1; next < xid && i < unflushedSegments.size(); ++i) {
+                    final StackedSegment segment = unflushedSegments.get(i);
+                    if (next < segment.getEndXid()) {
+                        next = advanceOrdered(segment, next, xid);
+                        if (next < segment.getEndXid()) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        orderedXid = next - 1;
+        return next >= xid;
+    }
+
+    private static long advanceOrdered(final StackedSegment segment, final long from, final long to) {
+        final long end = Math.min(segment.getEndXid(), to);
+        long xid = from;
+        while (xid < end) {
+            final OutboundQueueEntry entry = segment.getEntry((int) (xid - segment.getBaseXid()));
+            if (!entry.isWrittenEarly() && (!entry.isCommitted() || entry.isBarrier())) {
+                break;
+            }
+            xid++;
+        }
+        return xid;
+    }
+
+    private int writeOrderedEntries(final Channel channel, final long now, final int limit) {
+        // Local cache
+        StackedSegment segment = firstSegment;
+        int entries = 0;
+
+        while (entries < limit && channel.isWritable()) {
+            final OutboundQueueEntry entry = segment.getEntry(flushOffset);
+            if (entry.isWrittenEarly()) {
+                // Skipping is cheap, hence it does not count towards the limit
+                LOG.trace("Queue {} skipping entry at offset {} written early", this, flushOffset);
+                flushOffset++;
+            } else if (!entry.isCommitted()) {
+                LOG.debug("Queue {} XID {} segment {} offset {} not committed yet", this, segment.getBaseXid()
+                        + flushOffset, segment, flushOffset);
+                break;
             } else {
-                entry.complete(null);
+                LOG.trace("Queue {} flushing entry at offset {}", this, flushOffset);
+                final OfHeader message = entry.takeMessage();
+                flushOffset++;
+                entries++;
+
+                if (message != null) {
+                    manager.writeMessage(message, now);
+                } else {
+                    entry.complete(null);
+                }
             }
 
             if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
@@ -165,11 +369,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                     ensureSegment(segment, flushOffset);
 
                     // Remove the segment, update the firstSegment and reset flushOffset
-                    final StackedSegment oldSegment = unflushedSegments.remove(0);
-                    if (oldSegment.isComplete()) {
-                        uncompletedSegments.remove(oldSegment);
-                        oldSegment.recycle();
-                    }
+                    retireFlushedSegment(unflushedSegments.remove(0));
 
                     // Reset the first segment and add it to the uncompleted list
                     segment = unflushedSegments.get(0);
@@ -192,6 +392,19 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         return entries;
     }
 
+    /**
+     * Dispose of a segment whose entries have all been written out.
+     *
+     * @param oldSegment flushed segment
+     */
+    @Holding("unflushedSegments")
+    protected void retireFlushedSegment(final StackedSegment oldSegment) {
+        if (oldSegment.isComplete()) {
+            uncompletedSegments.remove(oldSegment);
+            oldSegment.recycle();
+        }
+    }
+
     boolean pairRequest(final OfHeader message) {
         Iterator<StackedSegment> it = uncompletedSegments.iterator();
         while (it.hasNext()) {
@@ -234,10 +447,46 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             return true;
         }
 
+        // Responses to messages written early may belong to segments which have not been flushed yet
+        if (lastEarlyXid != -1 && isAtOrBefore(message.getXid(), lastEarlyXid) && pairEarlyRequest(message)) {
+            return true;
+        }
+
         LOG.debug("Failed to find completion for message {}", message);
         return false;
     }
 
+    /**
+     * Check whether an XID received from the wire is at or before a queue XID, treating the XIDs as serial numbers,
+     * so that the comparison holds across the wrap-around of the 32-bit XID space.
+     *
+     * @param xid received XID
+     * @param queueXid queue XID
+     * @return true if {@code xid} is at or before {@code queueXid}
+     */
+    static boolean isAtOrBefore(final Uint32 xid, final long queueXid) {
+        return (int) (xid.toJava() - queueXid) <= 0;
+    }
+
+    @VisibleForTesting
+    long lastEarlyXid() {
+        return lastEarlyXid;
+    }
+
+    private boolean pairEarlyRequest(final OfHeader message) {
+        synchronized (unflushedSegments) {
+            // The first unflushed segment is also uncompleted and has been searched already
+            for (int i = 1; i < unflushedSegments.size(); ++i) {
+                final StackedSegment segment = unflushedSegments.get(i);
+                if (segment.pairRequest(message) != null) {
+                    LOG.trace("Queue {} accepted early response {}", segment, message);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     boolean needsFlush() {
         // flushOffset always points to the first entry, which can be changed only
         // from Netty, so we are fine here.
@@ -249,7 +498,8 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             return false;
         }
 
-        return firstSegment.getEntry(flushOffset).isCommitted();
+        final OutboundQueueEntry entry = firstSegment.getEntry(flushOffset);
+        return entry.isCommitted() || entry.isWrittenEarly();
     }
 
     long startShutdown() {
@@ -268,6 +518,11 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, StackedSegment.SEGMENT_SIZE);
             shutdownOffset = (int) (xid - firstSegment.getBaseXid() - StackedSegment.SEGMENT_SIZE);
 
+            // Entries are failed through their segments, there is no point in writing them early
+            controlLane.clear();
+            interactiveLane.clear();
+            lastEarlyXid = -1;
+
             // Fails all uncompleted entries, because they will never be completed due to disconnected channel.
             return lockedFailSegments(uncompletedSegments.iterator());
         }
@@ -300,10 +555,8 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     protected OutboundQueueEntry getEntry(final long xid) {
         final StackedSegment fastSegment = firstSegment;
         final long calcOffset = xid - fastSegment.getBaseXid();
-        checkArgument(calcOffset >= 0, "Commit of XID %s does not match up with base XID %s",
-                xid, fastSegment.getBaseXid());
-
-        verify(calcOffset <= Integer.MAX_VALUE);
+        checkArgument(calcOffset >= 0 && calcOffset <= Integer.MAX_VALUE,
+                "Commit of XID %s does not match up with base XID %s", xid, fastSegment.getBaseXid());
         final int fastOffset = (int) calcOffset;
 
         if (fastOffset >= StackedSegment.SEGMENT_SIZE) {
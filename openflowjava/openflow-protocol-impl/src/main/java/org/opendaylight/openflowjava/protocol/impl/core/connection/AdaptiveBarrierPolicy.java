@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowjava.protocol.api.connection.BarrierWindow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AIMD-style barrier policy of a single connection. The number of messages between barriers grows additively while
+ * barrier round-trip times stay close to the lowest one observed, and is halved when they inflate or when more
+ * messages than the window were sent while waiting for a barrier reply. The barrier interval follows the smoothed
+ * round-trip time. Configured limits act as upper bounds of both.
+ *
+ * <p>
+ * One barrier at a time is sampled for its round-trip time. Apart from {@link #window()}, this class is expected to
+ * be accessed from the channel's event loop only.
+ */
+final class AdaptiveBarrierPolicy {
+    private record Window(int messageCount, long intervalNanos, long roundTripNanos) implements BarrierWindow {
+        @Override
+        public int getMessageCount() {
+            return messageCount;
+        }
+
+        @Override
+        public long getIntervalNanos() {
+            return intervalNanos;
+        }
+
+        @Override
+        public long getRoundTripNanos() {
+            return roundTripNanos;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveBarrierPolicy.class);
+    // Lower bounds and additive increase step, as fractions of the configured limits
+    private static final int MIN_COUNT_SHIFT = 6;
+    private static final int MIN_INTERVAL_SHIFT = 4;
+    private static final int INCREASE_SHIFT = 4;
+    // A round-trip time above this multiple of the lowest one indicates the switch is falling behind
+    private static final int CONGESTION_FACTOR = 2;
+    // The interval is kept at this multiple of the smoothed round-trip time
+    private static final int INTERVAL_RTT_FACTOR = 4;
+    // Smoothing of round-trip times, as in RFC 6298
+    private static final int RTT_SMOOTHING_SHIFT = 3;
+    private static final long NO_SAMPLE = -1;
+
+    private final int maxCount;
+    private final int minCount;
+    private final int increment;
+    private final long maxIntervalNanos;
+    private final long minIntervalNanos;
+
+    private int count;
+    private long intervalNanos;
+    private long smoothedRtt;
+    private long minRtt = Long.MAX_VALUE;
+    private long sampleXid = NO_SAMPLE;
+    private long sampleSentNanos;
+    private long sampleWritten;
+    private long lastSentXid = NO_SAMPLE;
+    private long lastAckedXid = NO_SAMPLE;
+
+    private volatile @NonNull Window window;
+
+    AdaptiveBarrierPolicy(final int maxCount, final long maxIntervalNanos) {
+        checkArgument(maxCount > 0);
+        checkArgument(maxIntervalNanos > 0);
+        this.maxCount = maxCount;
+        this.maxIntervalNanos = maxIntervalNanos;
+        minCount = Math.max(1, maxCount >>> MIN_COUNT_SHIFT);
+        minIntervalNanos = Math.max(1, maxIntervalNanos >>> MIN_INTERVAL_SHIFT);
+        increment = Math.max(1, maxCount >>> INCREASE_SHIFT);
+
+        // Start with the configured limits, which is what a non-adaptive queue uses
+        count = maxCount;
+        intervalNanos = maxIntervalNanos;
+        window = new Window(count, intervalNanos, 0);
+    }
+
+    int count() {
+        return count;
+    }
+
+    long intervalNanos() {
+        return intervalNanos;
+    }
+
+    @NonNull BarrierWindow window() {
+        return window;
+    }
+
+    /**
+     * Check whether a barrier was written and not acknowledged yet.
+     *
+     * @return {@code true} if a barrier is in flight
+     */
+    boolean isBarrierInFlight() {
+        return lastSentXid != lastAckedXid;
+    }
+
+    /**
+     * Record a barrier being written to the channel.
+     *
+     * @param xid barrier XID
+     * @param now time reference
+     * @param written number of non-barrier messages written so far
+     */
+    void barrierSent(final long xid, final long now, final long written) {
+        lastSentXid = xid;
+        if (sampleXid == NO_SAMPLE) {
+            sampleXid = xid;
+            sampleSentNanos = now;
+            sampleWritten = written;
+        }
+    }
+
+    /**
+     * Record an error reply. If it answers a barrier, the barrier is no longer in flight. An errored sampled barrier
+     * does not yield a usable round trip time, so the next barrier is sampled instead.
+     *
+     * @param xid error XID
+     */
+    void errorReceived(final long xid) {
+        if (xid == lastSentXid) {
+            lastAckedXid = xid;
+        }
+        if (xid == sampleXid) {
+            LOG.trace("Sampled barrier XID {} failed, discarding sample", xid);
+            sampleXid = NO_SAMPLE;
+        }
+    }
+
+    /**
+     * Record a barrier reply and adapt the window if it completes the sampled barrier.
+     *
+     * @param xid barrier XID
+     * @param now time reference
+     * @param written number of non-barrier messages written so far
+     */
+    void barrierAcknowledged(final long xid, final long now, final long written) {
+        lastAckedXid = xid;
+        if (xid != sampleXid) {
+            return;
+        }
+
+        sampleXid = NO_SAMPLE;
+        final long rtt = Math.max(1, now - sampleSentNanos);
+        final long outstanding = written - sampleWritten;
+        minRtt = Math.min(minRtt, rtt);
+        smoothedRtt = smoothedRtt == 0 ? rtt : smoothedRtt + (rtt - smoothedRtt >> RTT_SMOOTHING_SHIFT);
+
+        if (rtt > CONGESTION_FACTOR * minRtt || outstanding > count) {
+            count = Math.max(minCount, count >>> 1);
+        } else {
+            count = Math.min(maxCount, count + increment);
+        }
+        intervalNanos = Math.min(maxIntervalNanos, Math.max(minIntervalNanos, INTERVAL_RTT_FACTOR * smoothedRtt));
+        window = new Window(count, intervalNanos, smoothedRtt);
+        LOG.trace("Barrier RTT {}ns with {} messages outstanding, window adapted to {}", rtt, outstanding, window);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowjava.protocol.api.connection.ChannelStatistics;
+
+/**
+ * {@link ChannelStatistics} of a single channel. Counters are maintained by two pipeline handlers: one counting raw
+ * bytes, which is expected to sit at the head of the pipeline, and one counting messages, which is expected to sit
+ * between the OpenFlow codec and the message consumer.
+ */
+public final class ChannelStatisticsCollector implements ChannelStatistics {
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder messagesRead = new LongAdder();
+    private final LongAdder messagesWritten = new LongAdder();
+    private final LongAdder writabilityChanges = new LongAdder();
+    private final ByteCounter byteCounter = new ByteCounter();
+    private final MessageCounter messageCounter = new MessageCounter();
+    private final Channel channel;
+
+    public ChannelStatisticsCollector(final Channel channel) {
+        this.channel = requireNonNull(channel);
+    }
+
+    /**
+     * Returns the handler counting bytes. It needs to be placed at the head of the pipeline, so that it observes
+     * socket-level buffers.
+     *
+     * @return byte counting handler
+     */
+    public @NonNull ChannelHandler byteCounter() {
+        return byteCounter;
+    }
+
+    /**
+     * Returns the handler counting messages. It needs to be placed between the OpenFlow codec and the message
+     * consumer, so that it observes decoded messages.
+     *
+     * @return message counting handler
+     */
+    public @NonNull ChannelHandler messageCounter() {
+        return messageCounter;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getMessagesRead() {
+        return messagesRead.sum();
+    }
+
+    @Override
+    public long getMessagesWritten() {
+        return messagesWritten.sum();
+    }
+
+    @Override
+    public long getWritabilityChanges() {
+        return writabilityChanges.sum();
+    }
+
+    @Override
+    public long getPendingOutboundBytes() {
+        final var outboundBuffer = channel.unsafe().outboundBuffer();
+        return outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("bytesRead", getBytesRead())
+            .add("bytesWritten", getBytesWritten())
+            .add("messagesRead", getMessagesRead())
+            .add("messagesWritten", getMessagesWritten())
+            .add("writabilityChanges", getWritabilityChanges())
+            .add("pendingOutboundBytes", getPendingOutboundBytes())
+            .toString();
+    }
+
+    private final class ByteCounter extends ChannelDuplexHandler {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+            if (msg instanceof ByteBuf buf) {
+                bytesRead.add(buf.readableBytes());
+            }
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+                throws Exception {
+            if (msg instanceof ByteBuf buf) {
+                bytesWritten.add(buf.readableBytes());
+            }
+            super.write(ctx, msg, promise);
+        }
+
+        @Override
+        public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+            writabilityChanges.increment();
+            super.channelWritabilityChanged(ctx);
+        }
+    }
+
+    private final class MessageCounter extends ChannelDuplexHandler {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+            messagesRead.increment();
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+                throws Exception {
+            messagesWritten.increment();
+            super.write(ctx, msg, promise);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 import javax.naming.ldap.Rdn;
 import javax.security.auth.x500.X500Principal;
+import org.opendaylight.openflowjava.protocol.api.connection.BarrierWindow;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
@@ -219,11 +220,17 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
     @Override
     public <T extends OutboundQueueHandler> OutboundQueueHandlerRegistration<T> registerOutboundQueueHandler(
             final T handler, final int maxQueueDepth, final long maxBarrierNanos) {
+        return registerOutboundQueueHandler(handler, maxQueueDepth, maxBarrierNanos, false);
+    }
+
+    @Override
+    public <T extends OutboundQueueHandler> OutboundQueueHandlerRegistration<T> registerOutboundQueueHandler(
+            final T handler, final int maxQueueDepth, final long maxBarrierNanos, final boolean adaptiveBarrier) {
         Preconditions.checkState(outputManager == null, "Manager %s already registered", outputManager);
 
         final AbstractOutboundQueueManager<T, ?> ret;
         if (useBarrier) {
-            ret = new OutboundQueueManager<>(this, address, handler, maxQueueDepth, maxBarrierNanos);
+            ret = new OutboundQueueManager<>(this, address, handler, maxQueueDepth, maxBarrierNanos, adaptiveBarrier);
         } else {
             LOG.warn("OutboundQueueManager without barrier is started.");
             ret = new OutboundQueueManagerNoBarrier<>(this, address, handler);
@@ -248,6 +255,11 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         };
     }
 
+    @Override
+    public BarrierWindow getBarrierWindow() {
+        return outputManager instanceof OutboundQueueManager<?> manager ? manager.barrierWindow() : null;
+    }
+
     Channel getChannel() {
         return channel;
     }
@@ -17,6 +17,6 @@ import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
  * @author michal.polkorab
  */
 public interface ConnectionFacade extends MessageConsumer, ConnectionAdapter {
-
- // empty unifying superinterface
+    @Override
+    ChannelStatisticsCollector getChannelStatistics();
 }
@@ -34,6 +34,8 @@ final class OutboundQueueEntry {
     private OfHeader message;
     private boolean completed;
     private boolean barrier;
+    // Updated from netty only
+    private boolean writtenEarly;
     private volatile boolean committed;
     private Function<OfHeader, Boolean> isCompletedFunction = DEFAULT_IS_COMPLETE;
 
@@ -61,6 +63,7 @@ final class OutboundQueueEntry {
 
     void reset() {
         barrier = false;
+        writtenEarly = false;
         callback = null;
         completed = false;
         message = null;
@@ -81,6 +84,20 @@ final class OutboundQueueEntry {
         return completed;
     }
 
+    boolean isWrittenEarly() {
+        return writtenEarly;
+    }
+
+    /**
+     * Take the message for writing ahead of its turn. The entry will be skipped when the queue flushes it in order.
+     *
+     * @return message to be written
+     */
+    OfHeader takeMessageEarly() {
+        writtenEarly = true;
+        return takeMessage();
+    }
+
     OfHeader takeMessage() {
         final OfHeader ret = message;
         if (!barrier) {
@@ -10,8 +10,12 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 import com.google.common.base.Preconditions;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowjava.protocol.api.connection.BarrierWindow;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
@@ -23,22 +27,46 @@ final class OutboundQueueManager<T extends OutboundQueueHandler> extends
 
     private final int maxNonBarrierMessages;
     private final long maxBarrierNanos;
+    private final @Nullable AdaptiveBarrierPolicy adaptivePolicy;
 
     // Updated from netty only
     private boolean barrierTimerEnabled;
     private long lastBarrierNanos = System.nanoTime();
     private int nonBarrierMessages;
+    private long totalNonBarrierMessages;
+    private boolean barrierDeferred;
 
     // Passed to executor to request a periodic barrier check
     private final Runnable barrierRunnable = this::barrier;
 
     OutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler,
         final int maxNonBarrierMessages, final long maxBarrierNanos) {
+        this(parent, address, handler, maxNonBarrierMessages, maxBarrierNanos, false);
+    }
+
+    OutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler,
+        final int maxNonBarrierMessages, final long maxBarrierNanos, final boolean adaptiveBarrier) {
         super(parent, address, handler);
         Preconditions.checkArgument(maxNonBarrierMessages > 0);
         this.maxNonBarrierMessages = maxNonBarrierMessages;
         Preconditions.checkArgument(maxBarrierNanos > 0);
         this.maxBarrierNanos = maxBarrierNanos;
+        adaptivePolicy = adaptiveBarrier ? new AdaptiveBarrierPolicy(maxNonBarrierMessages, maxBarrierNanos) : null;
+    }
+
+    /**
+     * Return barrier insertion parameters currently in effect, if they are adaptive.
+     *
+     * @return current barrier window, or {@code null}
+     */
+    @Nullable BarrierWindow barrierWindow() {
+        final var local = adaptivePolicy;
+        return local == null ? null : local.window();
+    }
+
+    private long barrierNanos() {
+        final var local = adaptivePolicy;
+        return local == null ? maxBarrierNanos : local.intervalNanos();
     }
 
     @Override
@@ -47,10 +75,11 @@ final class OutboundQueueManager<T extends OutboundQueueHandler> extends
     }
 
     private void scheduleBarrierTimer(final long now) {
-        long next = lastBarrierNanos + maxBarrierNanos;
+        final long barrierNanos = barrierNanos();
+        long next = lastBarrierNanos + barrierNanos;
         if (next < now) {
             LOG.trace("Attempted to schedule barrier in the past, reset maximum)");
-            next = now + maxBarrierNanos;
+            next = now + barrierNanos;
         }
 
         final long delay = next - now;
@@ -107,14 +136,48 @@ final class OutboundQueueManager<T extends OutboundQueueHandler> extends
             LOG.trace("Barrier message seen, resetting counters");
             nonBarrierMessages = 0;
             lastBarrierNanos = now;
+            barrierDeferred = false;
+            if (adaptivePolicy != null) {
+                adaptivePolicy.barrierSent(message.getXid().toJava(), now, totalNonBarrierMessages);
+            }
         } else {
             nonBarrierMessages++;
+            totalNonBarrierMessages++;
             if (nonBarrierMessages >= maxNonBarrierMessages) {
                 LOG.trace("Scheduled barrier request after {} non-barrier messages", nonBarrierMessages);
                 scheduleBarrierMessage();
-            } else if (!barrierTimerEnabled) {
-                scheduleBarrierTimer(now);
+            } else if (adaptivePolicy != null && nonBarrierMessages >= adaptivePolicy.count()
+                    && !adaptivePolicy.isBarrierInFlight()) {
+                LOG.trace("Scheduled adaptive barrier request after {} non-barrier messages", nonBarrierMessages);
+                scheduleBarrierMessage();
+            } else {
+                if (adaptivePolicy != null && nonBarrierMessages >= adaptivePolicy.count()) {
+                    // Do not stack barriers on a switch which has not answered the previous one yet
+                    barrierDeferred = true;
+                }
+                if (!barrierTimerEnabled) {
+                    scheduleBarrierTimer(now);
+                }
+            }
+        }
+    }
+
+    @Override
+    boolean onMessage(final OfHeader message) {
+        if (adaptivePolicy != null && (message instanceof BarrierOutput || message instanceof ErrorMessage)) {
+            if (message instanceof BarrierOutput) {
+                adaptivePolicy.barrierAcknowledged(message.getXid().toJava(), System.nanoTime(),
+                    totalNonBarrierMessages);
+            } else {
+                // A switch may answer a barrier with an error, which must not leave it sampled or in flight
+                adaptivePolicy.errorReceived(message.getXid().toJava());
+            }
+            if (barrierDeferred && !adaptivePolicy.isBarrierInFlight() && !shuttingDown) {
+                LOG.trace("Scheduled deferred barrier request after {} non-barrier messages", nonBarrierMessages);
+                barrierDeferred = false;
+                scheduleBarrierMessage();
             }
         }
+        return super.onMessage(message);
     }
 }
@@ -7,9 +7,11 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.FutureCallback;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Function;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
@@ -26,13 +28,18 @@ final class StackedOutboundQueue extends AbstractStackedOutboundQueue {
         super(manager);
     }
 
+    @VisibleForTesting
+    StackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager, final long firstXid) {
+        super(manager, firstXid);
+    }
+
     /*
      * This method is expected to be called from multiple threads concurrently
      */
     @Override
     public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
-            final Function<OfHeader, Boolean> isCompletedFunction) {
-        final long longXid = xid.toJava();
+            final Function<OfHeader, Boolean> isCompletedFunction, final OutboundQueuePriority priority) {
+        final long longXid = queueXid(xid);
         final OutboundQueueEntry entry = getEntry(longXid);
 
         entry.commit(message, callback, isCompletedFunction);
@@ -51,6 +58,7 @@ final class StackedOutboundQueue extends AbstractStackedOutboundQueue {
             }
         }
 
+        entryCommitted(longXid, entry, message, priority);
         LOG.trace("Queue {} committed XID {}", this, xid);
         manager.ensureFlushing();
     }
@@ -9,8 +9,9 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.util.concurrent.FutureCallback;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.netty.channel.Channel;
 import java.util.function.Function;
+import org.checkerframework.checker.lock.qual.Holding;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.common.Uint32;
@@ -35,8 +36,9 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
     @SuppressFBWarnings(value = "NP_NULL_PARAM_DEREF_ALL_TARGETS_DANGEROUS",
         justification = "null in FutureCallback.success()")
     public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
-            final Function<OfHeader, Boolean> isCompletedFunction) {
-        final OutboundQueueEntry entry = getEntry(xid.toJava());
+            final Function<OfHeader, Boolean> isCompletedFunction, final OutboundQueuePriority priority) {
+        final long longXid = queueXid(xid);
+        final OutboundQueueEntry entry = getEntry(longXid);
 
         if (message instanceof FlowModInput) {
             callback.onSuccess(null);
@@ -45,73 +47,16 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
             entry.commit(message, callback, isCompletedFunction);
         }
 
+        entryCommitted(longXid, entry, message, priority);
         LOG.trace("Queue {} committed XID {}", this, xid);
         manager.ensureFlushing();
     }
 
     @Override
-    int writeEntries(final Channel channel, final long now) {
-        // Local cache
-        StackedSegment segment = firstSegment;
-        int entries = 0;
-
-        while (channel.isWritable()) {
-            final OutboundQueueEntry entry = segment.getEntry(flushOffset);
-            if (!entry.isCommitted()) {
-                LOG.debug("Queue {} XID {} segment {} offset {} not committed yet", this, segment.getBaseXid()
-                        + flushOffset, segment, flushOffset);
-                break;
-            }
-
-            LOG.trace("Queue {} flushing entry at offset {}", this, flushOffset);
-            final OfHeader message = entry.takeMessage();
-            flushOffset++;
-            entries++;
-
-            if (message != null) {
-                manager.writeMessage(message, now);
-            } else {
-                entry.complete(null);
-            }
-
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
-                /*
-                 * Slow path: purge the current segment unless it's the last one.
-                 * If it is, we leave it for replacement when a new reservation
-                 * is run on it.
-                 * This costs us two slow paths, but hey, this should be very rare,
-                 * so let's keep things simple.
-                 */
-                synchronized (unflushedSegments) {
-                    LOG.debug("Flush offset {} unflushed segments {}", flushOffset, unflushedSegments.size());
-
-                    // We may have raced ahead of reservation code and need to allocate a segment
-                    ensureSegment(segment, flushOffset);
-
-                    // Remove the segment, update the firstSegment and reset flushOffset
-                    final StackedSegment oldSegment = unflushedSegments.remove(0);
-                    oldSegment.completeAll();
-                    uncompletedSegments.remove(oldSegment);
-                    oldSegment.recycle();
-
-                    // Reset the first segment and add it to the uncompleted list
-                    segment = unflushedSegments.get(0);
-                    uncompletedSegments.add(segment);
-
-                    // Update the shutdown offset
-                    if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
-                    }
-
-                    // Allow reservations back on the fast path by publishing the new first segment
-                    firstSegment = segment;
-
-                    flushOffset = 0;
-                    LOG.debug("Queue {} flush moved to segment {}", this, segment);
-                }
-            }
-        }
-
-        return entries;
+    @Holding("unflushedSegments")
+    protected void retireFlushedSegment(final StackedSegment oldSegment) {
+        oldSegment.completeAll();
+        uncompletedSegments.remove(oldSegment);
+        oldSegment.recycle();
     }
 }
@@ -38,6 +38,10 @@ final class StackedSegment {
      * Size of each individual segment.
      */
     static final int SEGMENT_SIZE = 4096;
+    /**
+     * Mask of XIDs as they appear on the wire.
+     */
+    static final long XID_MASK = 0xFFFFFFFFL;
 
     private static final Logger LOG = LoggerFactory.getLogger(StackedSegment.class);
     private static final FinalizableReferenceQueue REF_QUEUE = new FinalizableReferenceQueue();
@@ -101,8 +105,11 @@ final class StackedSegment {
         return entries[offset];
     }
 
-    private boolean xidInRange(final long xid) {
-        return xid < endXid && (xid >= baseXid || baseXid > endXid);
+    // Offset of an XID received from the wire, -1 if it is not in this segment. The wire carries the low 32 bits of
+    // queue XIDs, hence the offset is computed modulo 2^32.
+    private int offsetOf(final long xid) {
+        final long offset = xid - baseXid & XID_MASK;
+        return offset < SEGMENT_SIZE ? (int) offset : -1;
     }
 
     private static boolean completeEntry(final OutboundQueueEntry entry, final OfHeader response) {
@@ -117,23 +124,23 @@ final class StackedSegment {
     }
 
     OutboundQueueEntry findEntry(final long xid) {
-        if (! xidInRange(xid)) {
+        final int offset = offsetOf(xid);
+        if (offset == -1) {
             LOG.debug("Queue {} {}/{} ignoring XID {}", this, baseXid, entries.length, xid);
             return null;
         }
-        final int offset = (int)(xid - baseXid);
         return entries[offset];
     }
 
     OutboundQueueEntry pairRequest(final OfHeader response) {
         // Explicitly 'long' to force unboxing before performing operations
         final long xid = response.getXid().toJava();
-        if (!xidInRange(xid)) {
+        final int offset = offsetOf(xid);
+        if (offset == -1) {
             LOG.debug("Queue {} {}/{} ignoring XID {}", this, baseXid, entries.length, xid);
             return null;
         }
 
-        final int offset = (int) (xid - baseXid);
         final OutboundQueueEntry entry = entries[offset];
         if (entry.isCompleted()) {
             LOG.debug("Entry {} already is completed, not accepting response {}", entry, response);
@@ -147,7 +154,7 @@ final class StackedSegment {
             //      to ensure that the requests implied by the barrier are reported as
             //      completed *after* the barrier.
             LOG.trace("Barrier XID {} completed, cascading completion to XIDs {} to {}", xid,
-                    baseXid + lastBarrierOffset + 1, xid - 1);
+                    baseXid + lastBarrierOffset + 1, baseXid + offset - 1);
             completeRequests(offset);
             lastBarrierOffset = offset;
 
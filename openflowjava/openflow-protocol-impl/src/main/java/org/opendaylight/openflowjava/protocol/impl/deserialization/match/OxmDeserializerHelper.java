@@ -8,8 +8,7 @@
 package org.opendaylight.openflowjava.protocol.impl.deserialization.match;
 
 import io.netty.buffer.ByteBuf;
-import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.IetfYangUtil;
+import org.opendaylight.openflowjava.util.IetfAddressInterner;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.MacAddress;
 
 /**
@@ -42,8 +41,6 @@ public final class OxmDeserializerHelper {
      * @return mac address
      */
     public static MacAddress convertMacAddress(final ByteBuf input) {
-        byte[] address = new byte[EncodeConstants.MAC_ADDRESS_LENGTH];
-        input.readBytes(address);
-        return IetfYangUtil.macAddressFor(address);
+        return IetfAddressInterner.readMacAddress(input);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.doReturn;
+
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.IoTransport;
+import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
+
+/**
+ * Unit tests for {@link ChannelTransport}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ChannelTransportTest {
+    @Mock
+    private ThreadConfiguration threadConfig;
+
+    @Test
+    public void testNio() {
+        doReturn(IoTransport.NIO).when(threadConfig).getIoTransport();
+        final var transport = ChannelTransport.select(threadConfig, true);
+        assertEquals(IoTransport.NIO, transport.transport());
+        assertEquals(NioServerSocketChannel.class, transport.serverChannel());
+        assertNotNull(transport.newIoHandlerFactory());
+    }
+
+    @Test
+    public void testIoUringSelectsUsableTransport() {
+        // Either io_uring is usable on this host, or we fall back without touching its classes
+        doReturn(IoTransport.IO_URING).when(threadConfig).getIoTransport();
+        final var transport = ChannelTransport.select(threadConfig, false);
+        assertNotEquals(IoTransport.AUTO, transport.transport());
+        assertNotEquals(IoTransport.EPOLL, transport.transport());
+        assertNotNull(transport.newIoHandlerFactory());
+    }
+}
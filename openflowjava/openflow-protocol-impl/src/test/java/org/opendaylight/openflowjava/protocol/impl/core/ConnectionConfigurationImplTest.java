@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506.SwitchConnectionConfig;
+import org.opendaylight.yangtools.yang.common.Uint32;
+
+/**
+ * Unit tests for {@link ConnectionConfigurationImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConnectionConfigurationImplTest {
+    @Mock
+    private SwitchConnectionConfig config;
+
+    @Test
+    public void testUint32Saturation() {
+        doReturn(Uint32.MAX_VALUE).when(config).getBacklog();
+        doReturn(Uint32.valueOf(Integer.MAX_VALUE + 1L)).when(config).getReceiveBufferSize();
+        doReturn(Uint32.valueOf(65536)).when(config).getSendBufferSize();
+
+        final var impl = new ConnectionConfigurationImpl(config);
+        assertEquals(Integer.MAX_VALUE, impl.getBacklog());
+        assertEquals(Integer.MAX_VALUE, impl.getReceiveBufferSize());
+        assertEquals(65536, impl.getSendBufferSize());
+    }
+}
@@ -35,7 +35,7 @@ public class OFDatagramPacketDecoderTest {
 
     @Test
     public void test() {
-        OFDatagramPacketDecoder decoder = new OFDatagramPacketDecoder();
+        OFDatagramPacketDecoder decoder = new OFDatagramPacketDecoder(new UdpConnectionMap());
         decoder.setDeserializationFactory(deserializationFactory);
         msgWrapper = new VersionMessageUdpWrapper(EncodeConstants.OF_VERSION_1_3, messageBufferMock,
                 new InetSocketAddress("10.0.0.1", 6653));
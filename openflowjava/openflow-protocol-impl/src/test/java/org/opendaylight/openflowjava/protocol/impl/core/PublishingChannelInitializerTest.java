@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +33,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfigurationImpl;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ChannelStatisticsCollector;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterFactory;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -82,6 +84,8 @@ public class PublishingChannelInitializerTest {
 
         when(mockConnAdaptorFactory.createConnectionFacade(mockSocketCh, null, true, CHANNEL_OUTBOUND_QUEUE_SIZE))
                 .thenReturn(mockConnFacade);
+        lenient().when(mockConnFacade.getChannelStatistics())
+                .thenReturn(new ChannelStatisticsCollector(mockSocketCh));
         when(mockSocketCh.remoteAddress()).thenReturn(inetSockAddr) ;
         when(mockSocketCh.localAddress()).thenReturn(inetSockAddr) ;
         when(mockSocketCh.remoteAddress()).thenReturn(inetSockAddr) ;
@@ -153,9 +157,13 @@ public class PublishingChannelInitializerTest {
     }
 
     /**
-     * All paths should install these six handlers.
+     * All paths should install these eight handlers.
      */
     private void verifyCommonHandlers() {
+        verify(mockChPipeline, times(1)).addFirst(eq(PipelineHandlers.CHANNEL_BYTE_STATISTICS.name()),
+                any(ChannelHandler.class));
+        verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.CHANNEL_MESSAGE_STATISTICS.name()),
+                any(ChannelHandler.class));
         verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.IDLE_HANDLER.name()),any(IdleHandler.class)) ;
         verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.OF_DECODER.name()),any(OFDecoder.class)) ;
         verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.OF_ENCODER.name()),any(OFEncoder.class)) ;
@@ -7,10 +7,12 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import io.netty.buffer.ByteBufAllocator;
 import java.util.List;
-import javax.net.ssl.SSLContext;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
@@ -40,9 +42,13 @@ public class SslContextFactoryTest {
     }
 
     @Test
-    public void testGetServerContext() {
-        SSLContext context  = sslContextFactory.getServerContext() ;
+    public void testGetNettyServerContext() {
+        final var context = sslContextFactory.getNettyServerContext();
 
         assertNotNull(context);
+        assertTrue(context.isServer());
+        assertEquals(List.of("TLS_RSA_WITH_AES_128_CBC_SHA", "TLS_RSA_WITH_AES_128_CBC_SHA256"),
+            context.cipherSuites());
+        assertTrue(context.newEngine(ByteBufAllocator.DEFAULT).getNeedClientAuth());
     }
 }
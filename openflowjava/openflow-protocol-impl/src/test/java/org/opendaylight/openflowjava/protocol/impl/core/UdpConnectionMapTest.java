@@ -28,6 +28,8 @@ public class UdpConnectionMapTest {
     @Mock MessageConsumer consumerMock;
     @Mock ByteBuf messageBuffer;
 
+    private final UdpConnectionMap connectionMap = new UdpConnectionMap();
+
     /**
      * Test {@link UdpConnectionMap} - sender address is not null.
      */
@@ -36,12 +38,23 @@ public class UdpConnectionMapTest {
         InetSocketAddress recipientISA = InetSocketAddress.createUnresolved("localhost", 9876);
         InetSocketAddress senderISA = InetSocketAddress.createUnresolved("192.168.15.2", 21021);
         DatagramPacket datagramPacket = new DatagramPacket(messageBuffer, recipientISA, senderISA);
-        UdpConnectionMap.addConnection(datagramPacket.sender(), consumerMock);
+        connectionMap.addConnection(datagramPacket.sender(), consumerMock);
         Assert.assertEquals("Wrong - different object has been returned",
-                consumerMock, UdpConnectionMap.getMessageConsumer(datagramPacket.sender()));
-        UdpConnectionMap.removeConnection(datagramPacket.sender());
+                consumerMock, connectionMap.getMessageConsumer(datagramPacket.sender()));
+        connectionMap.removeConnection(datagramPacket.sender());
         Assert.assertNull("Wrong - object has been returned after remove key-value pair",
-                UdpConnectionMap.getMessageConsumer(datagramPacket.sender()));
+                connectionMap.getMessageConsumer(datagramPacket.sender()));
+    }
+
+    /**
+     * Test {@link UdpConnectionMap} - connections of different maps are independent.
+     */
+    @Test
+    public void testIndependentMaps() {
+        InetSocketAddress senderISA = InetSocketAddress.createUnresolved("192.168.15.3", 21021);
+        connectionMap.addConnection(senderISA, consumerMock);
+        Assert.assertNull("Wrong - object has been returned from another map",
+                new UdpConnectionMap().getMessageConsumer(senderISA));
     }
 
     /**
@@ -49,7 +62,7 @@ public class UdpConnectionMapTest {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testWithoutSenderAddressOnAdd() {
-        UdpConnectionMap.addConnection(null, consumerMock);
+        connectionMap.addConnection(null, consumerMock);
     }
 
     /**
@@ -57,7 +70,7 @@ public class UdpConnectionMapTest {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testWithoutSenderAddressOnGet() {
-        UdpConnectionMap.getMessageConsumer(null);
+        connectionMap.getMessageConsumer(null);
     }
 
     /**
@@ -65,6 +78,6 @@ public class UdpConnectionMapTest {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testWithoutSenderAddressOnRemove() {
-        UdpConnectionMap.removeConnection(null);
+        connectionMap.removeConnection(null);
     }
 }
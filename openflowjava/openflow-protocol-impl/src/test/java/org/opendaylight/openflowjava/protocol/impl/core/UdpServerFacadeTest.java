@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.doReturn;
 
+import io.netty.channel.epoll.Epoll;
 import java.net.InetAddress;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -61,6 +62,18 @@ class UdpServerFacadeTest {
         assertEquals(port, udpHandler.localAddress().getPort());
     }
 
+    /**
+     * Test to create UdpHandler with multiple channels bound to the same port.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testWithMultipleChannels(final boolean epollEnabled) {
+        doReturn(4).when(connConfig).getUdpChannelCount();
+        udpHandler = assertFacade(null, 0, epollEnabled);
+        assertNotEquals(0, udpHandler.localAddress().getPort());
+        assertEquals(epollEnabled && Epoll.isAvailable() ? 4 : 1, udpHandler.channelCount());
+    }
+
     private UdpServerFacade assertFacade(final InetAddress address, final int port, final boolean epollEnabled) {
         doReturn(address).when(connConfig).getAddress();
         doReturn(port).when(connConfig).getPort();
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * Test for {@link AdaptiveBarrierPolicy}.
+ */
+public class AdaptiveBarrierPolicyTest {
+    private static final int MAX_COUNT = 6400;
+    private static final long MAX_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AdaptiveBarrierPolicy policy = new AdaptiveBarrierPolicy(MAX_COUNT, MAX_INTERVAL);
+    private long now;
+    private long written;
+    private long xid;
+
+    @Test
+    public void testStartsAtConfiguredLimits() {
+        assertEquals(MAX_COUNT, policy.count());
+        assertEquals(MAX_INTERVAL, policy.intervalNanos());
+        assertEquals(0, policy.window().getRoundTripNanos());
+        assertFalse(policy.isBarrierInFlight());
+    }
+
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() {
+        // a fast switch keeps the window at its upper bound, the interval follows the RTT
+        roundTrip(MILLI, 100);
+        assertEquals(MAX_COUNT, policy.count());
+        assertEquals(MAX_INTERVAL / 16, policy.intervalNanos());
+
+        // inflated RTT halves the window
+        roundTrip(5 * MILLI, 100);
+        assertEquals(MAX_COUNT / 2, policy.count());
+
+        // as do more outstanding messages than the window
+        roundTrip(MILLI, 5000);
+        assertEquals(MAX_COUNT / 4, policy.count());
+
+        // healthy round trips grow it again, in steps of 1/16 of the limit
+        roundTrip(MILLI, 100);
+        assertEquals(MAX_COUNT / 4 + MAX_COUNT / 16, policy.count());
+
+        final var window = policy.window();
+        assertEquals(policy.count(), window.getMessageCount());
+        assertEquals(policy.intervalNanos(), window.getIntervalNanos());
+        assertTrue(window.getRoundTripNanos() > MILLI);
+    }
+
+    @Test
+    public void testBounds() {
+        roundTrip(MILLI, 0);
+        for (int i = 0; i < 20; i++) {
+            roundTrip(10_000 * MILLI, 0);
+        }
+        assertEquals(MAX_COUNT / 64, policy.count());
+        assertEquals(MAX_INTERVAL, policy.intervalNanos());
+    }
+
+    @Test
+    public void testSingleSample() {
+        policy.barrierSent(1, now, written);
+        policy.barrierSent(2, now + MILLI, written);
+        assertTrue(policy.isBarrierInFlight());
+
+        // only the first barrier is sampled
+        policy.barrierAcknowledged(1, now + MILLI, written);
+        assertTrue(policy.isBarrierInFlight());
+        assertEquals(MILLI, policy.window().getRoundTripNanos());
+
+        policy.barrierAcknowledged(2, now + 100 * MILLI, written);
+        assertFalse(policy.isBarrierInFlight());
+        assertEquals(MILLI, policy.window().getRoundTripNanos());
+        assertEquals(MAX_COUNT, policy.count());
+    }
+
+    @Test
+    public void testFailedSample() {
+        policy.barrierSent(1, now, written);
+        policy.errorReceived(1);
+        assertFalse(policy.isBarrierInFlight());
+
+        // the next barrier is sampled instead
+        policy.barrierSent(2, now + 100 * MILLI, written);
+        policy.barrierAcknowledged(2, now + 101 * MILLI, written);
+        assertEquals(MILLI, policy.window().getRoundTripNanos());
+    }
+
+    @Test
+    public void testUnrelatedError() {
+        policy.barrierSent(2, now, written);
+        policy.errorReceived(1);
+        assertTrue(policy.isBarrierInFlight());
+
+        policy.barrierAcknowledged(2, now + MILLI, written);
+        assertFalse(policy.isBarrierInFlight());
+        assertEquals(MILLI, policy.window().getRoundTripNanos());
+    }
+
+    private void roundTrip(final long rtt, final int outstanding) {
+        policy.barrierSent(++xid, now, written);
+        now += rtt;
+        written += outstanding;
+        policy.barrierAcknowledged(xid, now, written);
+        assertFalse(policy.isBarrierInFlight());
+    }
+}
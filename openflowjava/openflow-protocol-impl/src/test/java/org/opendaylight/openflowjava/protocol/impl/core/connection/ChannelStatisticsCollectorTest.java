@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ChannelStatisticsCollector}.
+ */
+public class ChannelStatisticsCollectorTest {
+
+    @Test
+    public void testCounters() {
+        final var channel = new EmbeddedChannel();
+        final var statistics = new ChannelStatisticsCollector(channel);
+        channel.pipeline().addFirst(statistics.byteCounter());
+        channel.pipeline().addLast(statistics.messageCounter());
+
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[8]));
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[16]));
+        assertEquals(24, statistics.getBytesRead());
+        assertEquals(2, statistics.getMessagesRead());
+
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[32]));
+        assertEquals(32, statistics.getBytesWritten());
+        assertEquals(1, statistics.getMessagesWritten());
+        assertEquals(0, statistics.getPendingOutboundBytes());
+
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(2, 4));
+        channel.write(Unpooled.wrappedBuffer(new byte[8]));
+        channel.runPendingTasks();
+        // Includes per-entry overhead
+        assertTrue(statistics.getPendingOutboundBytes() >= 8);
+        assertEquals(1, statistics.getWritabilityChanges());
+
+        channel.flush();
+        channel.runPendingTasks();
+        assertEquals(0, statistics.getPendingOutboundBytes());
+        assertEquals(2, statistics.getWritabilityChanges());
+        channel.finishAndReleaseAll();
+    }
+}
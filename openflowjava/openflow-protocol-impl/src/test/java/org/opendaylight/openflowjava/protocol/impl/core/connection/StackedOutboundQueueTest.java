@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.FutureCallback;
+import io.netty.channel.Channel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Priority lanes of {@link StackedOutboundQueue}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StackedOutboundQueueTest {
+    private static final Uint8 VERSION = Uint8.valueOf(4);
+
+    @Mock
+    private OutboundQueueManager<?> manager;
+    @Mock
+    private Channel channel;
+    @Mock
+    private FutureCallback<OfHeader> callback;
+
+    private StackedOutboundQueue queue;
+
+    @Before
+    public void setUp() {
+        lenient().doReturn(true).when(channel).isWritable();
+        queue = new StackedOutboundQueue(manager);
+    }
+
+    @Test
+    public void testControlOvertakesBulk() {
+        final Uint32 bulkXid = queue.reserveEntry();
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader flowMod = flowMod(bulkXid);
+        final OfHeader echo = echo(controlXid);
+
+        queue.commitEntry(bulkXid, flowMod, null);
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+        assertEquals(2, queue.writeEntries(channel, 0));
+
+        // the control entry is written first, in-order flush skips it
+        final InOrder inOrder = inOrder(manager);
+        inOrder.verify(manager).writeMessage(echo, 0);
+        inOrder.verify(manager).writeMessage(flowMod, 0);
+        verify(manager, times(2)).writeMessage(any(), anyLong());
+
+        // the reply is still paired
+        assertTrue(queue.pairRequest(new EchoOutputBuilder().setVersion(VERSION).setXid(controlXid).build()));
+        verify(callback).onSuccess(any());
+    }
+
+    @Test
+    public void testControlOvertakesBulkSegments() {
+        final int bulk = StackedSegment.SEGMENT_SIZE + 1;
+        for (int i = 0; i < bulk; ++i) {
+            final Uint32 xid = queue.reserveEntry();
+            queue.commitEntry(xid, flowMod(xid), null);
+        }
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader echo = echo(controlXid);
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+
+        assertEquals(bulk + 1, queue.writeEntries(channel, 0));
+        final ArgumentCaptor<OfHeader> captor = ArgumentCaptor.forClass(OfHeader.class);
+        verify(manager, times(bulk + 1)).writeMessage(captor.capture(), anyLong());
+        assertEquals(echo, captor.getAllValues().get(0));
+    }
+
+    @Test
+    public void testControlWaitsForUncommitted() {
+        final Uint32 bulkXid = queue.reserveEntry();
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader flowMod = flowMod(bulkXid);
+        final OfHeader echo = echo(controlXid);
+
+        // the bulk entry is not committed yet and could turn out to be a barrier
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+        assertEquals(0, queue.writeEntries(channel, 0));
+
+        queue.commitEntry(bulkXid, flowMod, null);
+        assertEquals(2, queue.writeEntries(channel, 0));
+        final InOrder inOrder = inOrder(manager);
+        inOrder.verify(manager).writeMessage(echo, 0);
+        inOrder.verify(manager).writeMessage(flowMod, 0);
+    }
+
+    @Test
+    public void testUncommittedBarrierIsNotCrossed() {
+        final Uint32 bulkXid = queue.reserveEntry();
+        final Uint32 barrierXid = queue.reserveEntry();
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader flowMod = flowMod(bulkXid);
+        final OfHeader barrier = new BarrierInputBuilder().setVersion(VERSION).setXid(barrierXid).build();
+        final OfHeader echo = echo(controlXid);
+
+        queue.commitEntry(bulkXid, flowMod, null);
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+        assertEquals(1, queue.writeEntries(channel, 0));
+        verify(manager).writeMessage(flowMod, 0);
+
+        queue.commitEntry(barrierXid, barrier, null);
+        assertEquals(2, queue.writeEntries(channel, 0));
+
+        final InOrder inOrder = inOrder(manager);
+        inOrder.verify(manager).writeMessage(flowMod, 0);
+        inOrder.verify(manager).writeMessage(barrier, 0);
+        inOrder.verify(manager).writeMessage(echo, 0);
+    }
+
+    @Test
+    public void testLastEarlyXidReset() {
+        final Uint32 bulkXid = queue.reserveEntry();
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader flowMod = flowMod(bulkXid);
+        final OfHeader echo = echo(controlXid);
+
+        // stop writing once the control entry has been written
+        final AtomicBoolean writable = new AtomicBoolean(true);
+        final Channel slowChannel = mock(Channel.class);
+        doAnswer(invocation -> writable.get()).when(slowChannel).isWritable();
+        doAnswer(invocation -> {
+            writable.set(false);
+            return null;
+        }).when(manager).writeMessage(echo, 0);
+
+        queue.commitEntry(bulkXid, flowMod, null);
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+        assertEquals(1, queue.writeEntries(slowChannel, 0));
+        assertEquals(controlXid.toJava(), queue.lastEarlyXid());
+
+        // in-order flush passes the control entry
+        writable.set(true);
+        assertEquals(1, queue.writeEntries(slowChannel, 0));
+        verify(manager).writeMessage(flowMod, 0);
+        assertEquals(-1, queue.lastEarlyXid());
+
+        // the reply is paired through the uncompleted segment
+        assertTrue(queue.pairRequest(new EchoOutputBuilder().setVersion(VERSION).setXid(controlXid).build()));
+        verify(callback).onSuccess(any());
+    }
+
+    @Test
+    public void testBarrierIsNotCrossed() {
+        final Uint32 bulkXid = queue.reserveEntry();
+        final Uint32 barrierXid = queue.reserveEntry();
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader flowMod = flowMod(bulkXid);
+        final OfHeader barrier = new BarrierInputBuilder().setVersion(VERSION).setXid(barrierXid).build();
+        final OfHeader echo = echo(controlXid);
+
+        queue.commitEntry(barrierXid, barrier, null);
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+        assertEquals(0, queue.writeEntries(channel, 0));
+
+        queue.commitEntry(bulkXid, flowMod, null);
+        assertEquals(3, queue.writeEntries(channel, 0));
+
+        final InOrder inOrder = inOrder(manager);
+        inOrder.verify(manager).writeMessage(flowMod, 0);
+        inOrder.verify(manager).writeMessage(barrier, 0);
+        inOrder.verify(manager).writeMessage(echo, 0);
+    }
+
+    @Test
+    public void testInteractiveWeight() {
+        final int bulk = 2 * AbstractStackedOutboundQueue.BULK_WEIGHT;
+        final int interactive = AbstractStackedOutboundQueue.INTERACTIVE_WEIGHT + 1;
+        final List<OfHeader> bulkMessages = new ArrayList<>();
+        final List<OfHeader> interactiveMessages = new ArrayList<>();
+        for (int i = 0; i < bulk; ++i) {
+            final Uint32 xid = queue.reserveEntry();
+            bulkMessages.add(flowMod(xid));
+            queue.commitEntry(xid, bulkMessages.get(i), null);
+        }
+        for (int i = 0; i < interactive; ++i) {
+            final Uint32 xid = queue.reserveEntry();
+            interactiveMessages.add(echo(xid));
+            queue.commitEntry(xid, interactiveMessages.get(i), callback, OutboundQueuePriority.INTERACTIVE);
+        }
+
+        assertEquals(bulk + interactive, queue.writeEntries(channel, 0));
+        final ArgumentCaptor<OfHeader> captor = ArgumentCaptor.forClass(OfHeader.class);
+        verify(manager, times(bulk + interactive)).writeMessage(captor.capture(), anyLong());
+
+        // first round of interactive messages, first round of bulk messages, the rest of both
+        final List<OfHeader> expected = new ArrayList<>();
+        expected.addAll(interactiveMessages.subList(0, AbstractStackedOutboundQueue.INTERACTIVE_WEIGHT));
+        expected.addAll(bulkMessages.subList(0, AbstractStackedOutboundQueue.BULK_WEIGHT));
+        expected.addAll(interactiveMessages.subList(AbstractStackedOutboundQueue.INTERACTIVE_WEIGHT, interactive));
+        expected.addAll(bulkMessages.subList(AbstractStackedOutboundQueue.BULK_WEIGHT, bulk));
+        assertEquals(expected, captor.getAllValues());
+    }
+
+    @Test
+    public void testXidWrap() {
+        queue = new StackedOutboundQueue(manager, (1L << 32) - 2);
+        final Uint32 firstXid = queue.reserveEntry();
+        final Uint32 secondXid = queue.reserveEntry();
+        final Uint32 barrierXid = queue.reserveEntry();
+        assertEquals(Uint32.MAX_VALUE, secondXid);
+        assertEquals(Uint32.ZERO, barrierXid);
+
+        @SuppressWarnings("unchecked")
+        final FutureCallback<OfHeader> flowModCallback = mock(FutureCallback.class);
+        queue.commitEntry(firstXid, flowMod(firstXid), flowModCallback);
+        queue.commitEntry(secondXid, flowMod(secondXid), flowModCallback);
+        queue.commitEntry(barrierXid, new BarrierInputBuilder().setVersion(VERSION).setXid(barrierXid).build(),
+            callback);
+        assertEquals(3, queue.writeEntries(channel, 0));
+
+        // the barrier reply past the wrap completes the entries before it
+        assertTrue(queue.pairRequest(new BarrierOutputBuilder().setVersion(VERSION).setXid(barrierXid).build()));
+        verify(callback).onSuccess(any());
+        verify(flowModCallback, times(2)).onSuccess(null);
+    }
+
+    @Test
+    public void testEarlyReplyAcrossXidWrap() {
+        // the first segment ends at the wrap, the second one starts at XID 0
+        queue = new StackedOutboundQueue(manager, (1L << 32) - StackedSegment.SEGMENT_SIZE);
+        final int bulk = StackedSegment.SEGMENT_SIZE + 1;
+        Uint32 lastBulkXid = null;
+        for (int i = 0; i < bulk; ++i) {
+            lastBulkXid = queue.reserveEntry();
+            queue.commitEntry(lastBulkXid, flowMod(lastBulkXid), null);
+        }
+        assertEquals(Uint32.ZERO, lastBulkXid);
+        final Uint32 controlXid = queue.reserveEntry();
+        final OfHeader echo = echo(controlXid);
+
+        // stop writing once the control entry has been written, leaving both segments unflushed
+        final AtomicBoolean writable = new AtomicBoolean(true);
+        final Channel slowChannel = mock(Channel.class);
+        doAnswer(invocation -> writable.get()).when(slowChannel).isWritable();
+        doAnswer(invocation -> {
+            writable.set(false);
+            return null;
+        }).when(manager).writeMessage(echo, 0);
+
+        queue.commitEntry(controlXid, echo, callback, OutboundQueuePriority.CONTROL);
+        assertEquals(1, queue.writeEntries(slowChannel, 0));
+        assertEquals((1L << 32) + 1, queue.lastEarlyXid());
+
+        // a reply to a request which has not been sent yet is not paired early
+        assertFalse(queue.pairRequest(new EchoOutputBuilder().setVersion(VERSION).setXid(Uint32.valueOf(2)).build()));
+        // the reply, whose XID is numerically lower than any XID in the first segment, is paired early
+        assertTrue(queue.pairRequest(new EchoOutputBuilder().setVersion(VERSION).setXid(controlXid).build()));
+        verify(callback).onSuccess(any());
+    }
+
+    @Test
+    public void testIsAtOrBefore() {
+        assertTrue(AbstractStackedOutboundQueue.isAtOrBefore(Uint32.valueOf(5), 5));
+        assertTrue(AbstractStackedOutboundQueue.isAtOrBefore(Uint32.valueOf(4), 5));
+        assertFalse(AbstractStackedOutboundQueue.isAtOrBefore(Uint32.valueOf(6), 5));
+        // across the wrap, in both directions
+        assertTrue(AbstractStackedOutboundQueue.isAtOrBefore(Uint32.MAX_VALUE, 1L << 32));
+        assertTrue(AbstractStackedOutboundQueue.isAtOrBefore(Uint32.ONE, (1L << 32) + 1));
+        assertFalse(AbstractStackedOutboundQueue.isAtOrBefore(Uint32.ONE, (1L << 32) - 1));
+    }
+
+    private static OfHeader flowMod(final Uint32 xid) {
+        return new FlowModInputBuilder().setVersion(VERSION).setXid(xid).build();
+    }
+
+    private static OfHeader echo(final Uint32 xid) {
+        return new EchoInputBuilder().setVersion(VERSION).setXid(xid).build();
+    }
+}
@@ -20,7 +20,6 @@ import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.IetfYangUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.MacAddress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 
@@ -231,7 +230,7 @@ public abstract class ByteBufUtils {
     }
 
     public static Ipv4Address readIetfIpv4Address(final ByteBuf buf) {
-        return IetfInetUtil.ipv4AddressFor(buf.readInt());
+        return IetfAddressInterner.ipv4Address(buf.readInt());
     }
 
     public static Ipv6Address readIetfIpv6Address(final ByteBuf buf) {
@@ -241,9 +240,7 @@ public abstract class ByteBufUtils {
     }
 
     public static MacAddress readIetfMacAddress(final ByteBuf buf) {
-        final byte[] tmp = new byte[EncodeConstants.MAC_ADDRESS_LENGTH];
-        buf.readBytes(tmp);
-        return IetfYangUtil.macAddressFor(tmp);
+        return IetfAddressInterner.readMacAddress(buf);
     }
 
     public static byte[] serializeList(final List<Short> list) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.util;
+
+import io.netty.buffer.ByteBuf;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.IetfYangUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.MacAddress;
+
+/**
+ * Bounded caches of {@link Ipv4Address} and {@link MacAddress} instances, keyed by their binary form. Decoders see
+ * the same relatively small set of addresses over and over, hence looking them up avoids creating and formatting
+ * a new String-backed object for each of them.
+ *
+ * <p>
+ * Each cache is direct-mapped: an address maps to a single slot, which retains the address looked up last. Lookups
+ * are lock-free and do not allocate on a hit. Slots are replaced without synchronization, which is safe as entries
+ * are immutable and only ever replaced as a whole.
+ *
+ * <p>
+ * Each cache has the number of slots set by the {@value #SLOTS_PROPERTY} system property, 8192 by default, rounded
+ * up to a power of two. That many distinct addresses can be retained at most, fewer in practice as addresses may map to
+ * the same slot. Setting the property to {@code 0} disables interning.
+ */
+public final class IetfAddressInterner {
+    private record Ipv4Entry(int bits, Ipv4Address address) {
+        // Nothing else
+    }
+
+    private record MacEntry(long bits, MacAddress address) {
+        // Nothing else
+    }
+
+    static final String SLOTS_PROPERTY = "openflowjava.address-interner.slots";
+
+    private static final int SLOT_BITS = slotBits(Integer.getInteger(SLOTS_PROPERTY, 8192));
+    private static final int SLOTS = SLOT_BITS == 0 ? 0 : 1 << SLOT_BITS;
+    private static final Ipv4Entry[] IPV4_ADDRESSES = new Ipv4Entry[SLOTS];
+    private static final MacEntry[] MAC_ADDRESSES = new MacEntry[SLOTS];
+
+    private IetfAddressInterner() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Return an {@link Ipv4Address} for its binary form.
+     *
+     * @param bits address bits, in network order
+     * @return an Ipv4Address
+     */
+    public static Ipv4Address ipv4Address(final int bits) {
+        if (SLOTS == 0) {
+            return IetfInetUtil.ipv4AddressFor(bits);
+        }
+        final int slot = slot(bits);
+        final var entry = IPV4_ADDRESSES[slot];
+        if (entry != null && entry.bits == bits) {
+            return entry.address;
+        }
+        final var address = IetfInetUtil.ipv4AddressFor(bits);
+        IPV4_ADDRESSES[slot] = new Ipv4Entry(bits, address);
+        return address;
+    }
+
+    /**
+     * Return a {@link MacAddress} for its binary form.
+     *
+     * @param bits address bits in the lower 48 bits, in network order
+     * @return a MacAddress
+     */
+    public static MacAddress macAddress(final long bits) {
+        final int slot = SLOTS == 0 ? -1 : slot((int) (bits ^ bits >>> 32));
+        if (slot >= 0) {
+            final var entry = MAC_ADDRESSES[slot];
+            if (entry != null && entry.bits == bits) {
+                return entry.address;
+            }
+        }
+
+        final var bytes = new byte[EncodeConstants.MAC_ADDRESS_LENGTH];
+        for (int i = bytes.length - 1, shift = 0; i >= 0; --i, shift += Byte.SIZE) {
+            bytes[i] = (byte) (bits >>> shift);
+        }
+        final var address = IetfYangUtil.macAddressFor(bytes);
+        if (slot >= 0) {
+            MAC_ADDRESSES[slot] = new MacEntry(bits, address);
+        }
+        return address;
+    }
+
+    /**
+     * Read a {@link MacAddress} from a buffer.
+     *
+     * @param buf buffer to read from
+     * @return a MacAddress
+     */
+    public static MacAddress readMacAddress(final ByteBuf buf) {
+        return macAddress((long) buf.readUnsignedShort() << Integer.SIZE | buf.readUnsignedInt());
+    }
+
+    private static int slot(final int hash) {
+        // Fibonacci hashing, so that addresses differing only in their low bits spread over the table
+        return hash * 0x9E3779B9 >>> Integer.SIZE - SLOT_BITS;
+    }
+
+    private static int slotBits(final int slots) {
+        // Zero disables interning, otherwise round up to a power of two of at least two slots
+        return slots <= 0 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(Math.clamp(slots, 2, 1 << 20) - 1);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.MacAddress;
+
+/**
+ * Unit tests for {@link IetfAddressInterner}.
+ */
+public class IetfAddressInternerTest {
+
+    @Test
+    public void testIpv4Address() {
+        final var address = ByteBufUtils.readIetfIpv4Address(Unpooled.wrappedBuffer(new byte[] { 10, 0, 0, 1 }));
+        assertEquals(new Ipv4Address("10.0.0.1"), address);
+        assertSame(address, IetfAddressInterner.ipv4Address(0x0a000001));
+        assertEquals(new Ipv4Address("10.0.0.2"), IetfAddressInterner.ipv4Address(0x0a000002));
+    }
+
+    @Test
+    public void testMacAddress() {
+        final var address = ByteBufUtils.readIetfMacAddress(Unpooled.wrappedBuffer(
+            new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04, (byte) 0xff }));
+        assertEquals(new MacAddress("00:01:02:03:04:ff"), address);
+        assertSame(address, IetfAddressInterner.macAddress(0x0001020304ffL));
+        assertEquals(new MacAddress("ff:01:02:03:04:ff"), IetfAddressInterner.macAddress(0xff01020304ffL));
+    }
+}
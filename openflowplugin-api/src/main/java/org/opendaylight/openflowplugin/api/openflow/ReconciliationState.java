@@ -19,6 +19,7 @@ public class ReconciliationState {
 
     private ReconciliationStatus status;
     private LocalDateTime time;
+    private volatile long progress;
 
     public ReconciliationState(@Nullable ReconciliationStatus status, LocalDateTime time) {
         this.status = status;
@@ -34,8 +35,23 @@ public class ReconciliationState {
         this.time = newTime;
     }
 
+    /**
+     * Return the number of items, such as flows and groups, pushed to the node so far, if tracked.
+     *
+     * @return number of items pushed so far, zero if not tracked
+     */
+    public long getProgress() {
+        return progress;
+    }
+
+    public void setProgress(long newProgress) {
+        this.progress = newProgress;
+    }
+
     @Override
     public String toString() {
-        return String.format("%-25s %-25s", this.status, this.time);
+        final long current = progress;
+        return current == 0 ? String.format("%-25s %-25s", this.status, this.time)
+            : String.format("%-25s %-25s %d", this.status, this.time, current);
     }
 }
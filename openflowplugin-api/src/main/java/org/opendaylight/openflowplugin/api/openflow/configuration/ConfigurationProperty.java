@@ -123,7 +123,71 @@ public enum ConfigurationProperty {
     /**
      * Delay for Device removal from Operational DataStore.
      */
-    DEVICE_DATASTORE_REMOVAL_DELAY;
+    DEVICE_DATASTORE_REMOVAL_DELAY,
+    /**
+     * Transaction write-behind batch size property type.
+     */
+    TRANSACTION_WRITE_BEHIND_BATCH_SIZE,
+    /**
+     * Transaction write-behind maximum delay property type.
+     */
+    TRANSACTION_WRITE_BEHIND_MAX_DELAY,
+    /**
+     * Enable compact flow registry property type.
+     */
+    ENABLE_COMPACT_FLOW_REGISTRY,
+    /**
+     * Enable event loop affinity property type.
+     */
+    ENABLE_EVENT_LOOP_AFFINITY,
+    /**
+     * Flow statistics decode cache size property type.
+     */
+    FLOW_STATISTICS_DECODE_CACHE_SIZE,
+    /**
+     * Enable virtual threads property type.
+     */
+    ENABLE_VIRTUAL_THREADS,
+    /**
+     * Enable pipelined device initialization property type.
+     */
+    ENABLE_PIPELINED_DEVICE_INITIALIZATION,
+    /**
+     * Flow removed batch window property type.
+     */
+    FLOW_REMOVED_BATCH_WINDOW,
+    /**
+     * Enable shared packet-in quota property type.
+     */
+    ENABLE_SHARED_PACKET_IN_QUOTA,
+    /**
+     * Enable adaptive barrier property type.
+     */
+    ENABLE_ADAPTIVE_BARRIER,
+    /**
+     * Direct statistics cache TTL property type.
+     */
+    DIRECT_STATISTICS_CACHE_TTL,
+    /**
+     * Reconciliation concurrency limit property type.
+     */
+    RECONCILIATION_CONCURRENCY_LIMIT,
+    /**
+     * Reconciliation service rate limit property type.
+     */
+    RECONCILIATION_SERVICE_RATE_LIMIT,
+    /**
+     * Enable load aware mastership property type.
+     */
+    ENABLE_LOAD_AWARE_MASTERSHIP,
+    /**
+     * Load aware mastership max delay property type.
+     */
+    LOAD_AWARE_MASTERSHIP_MAX_DELAY,
+    /**
+     * Enable statistics counter store property type.
+     */
+    ENABLE_STATISTICS_COUNTER_STORE;
 
     private static final Map<String, ConfigurationProperty> KEY_VALUE_MAP;
 
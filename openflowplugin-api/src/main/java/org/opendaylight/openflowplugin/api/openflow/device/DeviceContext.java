@@ -9,6 +9,8 @@ package org.opendaylight.openflowplugin.api.openflow.device;
 
 import com.google.common.annotations.Beta;
 import java.util.List;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.openflowplugin.api.openflow.FlowGroupInfoHistory;
@@ -19,7 +21,9 @@ import org.opendaylight.openflowplugin.api.openflow.device.handlers.MultiMsgColl
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainStateListener;
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.DeviceInitializationContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.concepts.Registration;
 
 /**
  * The central entity of OFP is the Device Context, which encapsulate the logical state of a switch
@@ -118,4 +122,15 @@ public interface DeviceContext extends
 
     @Beta
     @Nullable FlowGroupInfoHistory getFlowGroupInfoHistory();
+
+    /**
+     * Register a listener for error messages the device sent in response to requests which have not been matched
+     * to a pending request, such as requests committed to the outbound queue without a callback. The listener is
+     * invoked on the device's event loop and must not block.
+     *
+     * @param listener error message listener
+     * @return a registration, closing it unregisters the listener
+     */
+    @Beta
+    @NonNull Registration registerErrorListener(@NonNull Consumer<ErrorMessage> listener);
 }
@@ -27,4 +27,11 @@ public interface StatisticsContext extends RequestContextStack, OFPContext, Reco
      * Disables statistics gathering.
      */
     void disableGathering();
+
+    /**
+     * Returns the duration of the last completed statistics gathering.
+     *
+     * @return duration in nanoseconds, 0 if no gathering has completed yet
+     */
+    long getLastGatheringNanos();
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.api.openflow.statistics.sink;
+
+import static java.util.Objects.requireNonNull;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+/**
+ * Latest counters of a flow. Counters are unsigned values.
+ *
+ * @param nodeId node the flow is installed on
+ * @param tableId table the flow is installed in
+ * @param flowId flow identifier
+ * @param packetCount number of packets matched by the flow
+ * @param byteCount number of bytes matched by the flow
+ * @param durationSeconds time the flow has been installed, in seconds
+ * @param timestamp time of the last update in milliseconds since the epoch
+ */
+public record FlowCounters(
+        @NonNull NodeId nodeId,
+        short tableId,
+        @NonNull FlowId flowId,
+        long packetCount,
+        long byteCount,
+        long durationSeconds,
+        long timestamp) {
+    public FlowCounters {
+        requireNonNull(nodeId);
+        requireNonNull(flowId);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.api.openflow.statistics.sink;
+
+import static java.util.Objects.requireNonNull;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+/**
+ * Latest counters of a port. Counters are unsigned values.
+ *
+ * @param nodeId node the port belongs to
+ * @param nodeConnectorId node connector identifier of the port
+ * @param receivedPackets number of received packets
+ * @param transmittedPackets number of transmitted packets
+ * @param receivedBytes number of received bytes
+ * @param transmittedBytes number of transmitted bytes
+ * @param receiveDrops number of packets dropped on receive
+ * @param transmitDrops number of packets dropped on transmit
+ * @param receiveErrors number of receive errors
+ * @param transmitErrors number of transmit errors
+ * @param timestamp time of the last update in milliseconds since the epoch
+ */
+public record PortCounters(
+        @NonNull NodeId nodeId,
+        @NonNull NodeConnectorId nodeConnectorId,
+        long receivedPackets,
+        long transmittedPackets,
+        long receivedBytes,
+        long transmittedBytes,
+        long receiveDrops,
+        long transmitDrops,
+        long receiveErrors,
+        long transmitErrors,
+        long timestamp) {
+    public PortCounters {
+        requireNonNull(nodeId);
+        requireNonNull(nodeConnectorId);
+    }
+}
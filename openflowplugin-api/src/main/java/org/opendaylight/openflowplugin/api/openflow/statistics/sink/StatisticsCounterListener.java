@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.api.openflow.statistics.sink;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Listener notified about changed and removed counters in a {@link StatisticsCounterStore}. Notifications are
+ * delivered on the thread processing the statistics, implementations should hand off any expensive work.
+ */
+public interface StatisticsCounterListener {
+    /**
+     * Invoked when the counters of a flow changed.
+     *
+     * @param counters new counters
+     */
+    default void onFlowCountersChanged(final @NonNull FlowCounters counters) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked when the counters of a port changed.
+     *
+     * @param counters new counters
+     */
+    default void onPortCountersChanged(final @NonNull PortCounters counters) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked when a flow was no longer reported by its device.
+     *
+     * @param counters last counters of the flow
+     */
+    default void onFlowCountersRemoved(final @NonNull FlowCounters counters) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked when a port was no longer reported by its device.
+     *
+     * @param counters last counters of the port
+     */
+    default void onPortCountersRemoved(final @NonNull PortCounters counters) {
+        // No-op by default
+    }
+}
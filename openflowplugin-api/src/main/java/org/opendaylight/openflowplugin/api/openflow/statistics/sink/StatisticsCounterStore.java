@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.api.openflow.statistics.sink;
+
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yangtools.concepts.Registration;
+
+/**
+ * {@link StatisticsSink} keeping the latest flow and port counters in memory.
+ */
+public interface StatisticsCounterStore extends StatisticsSink {
+    /**
+     * Returns the latest counters of all flows of a node.
+     *
+     * @param nodeId node identifier
+     * @return flow counters, empty if none are known
+     */
+    @NonNull List<FlowCounters> getFlowCounters(@NonNull NodeId nodeId);
+
+    /**
+     * Returns the latest counters of all ports of a node.
+     *
+     * @param nodeId node identifier
+     * @return port counters, empty if none are known
+     */
+    @NonNull List<PortCounters> getPortCounters(@NonNull NodeId nodeId);
+
+    /**
+     * Registers a listener notified about changed counters.
+     *
+     * @param listener listener
+     * @return registration, closing it unregisters the listener
+     */
+    @NonNull Registration registerListener(@NonNull StatisticsCounterListener listener);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.api.openflow.statistics.sink;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowAndStatisticsMap;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.statistics.types.rev130925.NodeConnectorStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+
+/**
+ * Destination of periodically gathered statistics, replacing the operational datastore for the statistics types it
+ * handles. Statistics of all other types are still written to the operational datastore.
+ *
+ * <p>
+ * Writes of a single device are serialized, writes of different devices may happen concurrently.
+ */
+public interface StatisticsSink {
+    /**
+     * Checks whether this sink stores statistics of a particular type.
+     *
+     * @param type multipart type
+     * @return {@code true} if statistics of this type are stored by this sink
+     */
+    boolean handles(@NonNull MultipartType type);
+
+    /**
+     * Stores statistics of a single flow.
+     *
+     * @param deviceInfo device the flow is installed on
+     * @param flowId flow identifier, as resolved by the device flow registry
+     * @param statistics flow statistics
+     */
+    void writeFlowStatistics(@NonNull DeviceInfo deviceInfo, @NonNull FlowId flowId,
+        @NonNull FlowAndStatisticsMap statistics);
+
+    /**
+     * Stores statistics of a single port.
+     *
+     * @param deviceInfo device the port belongs to
+     * @param nodeConnectorId node connector identifier of the port
+     * @param statistics port statistics
+     */
+    void writePortStatistics(@NonNull DeviceInfo deviceInfo, @NonNull NodeConnectorId nodeConnectorId,
+        @NonNull NodeConnectorStatistics statistics);
+
+    /**
+     * Completes a statistics gathering cycle of a device. Statistics of this type which were not written since the
+     * previous completed cycle belong to flows or ports which are gone and are dropped. Invoked only once all replies
+     * of the cycle were written.
+     *
+     * @param deviceInfo device the statistics were gathered from
+     * @param type multipart type of the gathered statistics
+     */
+    void statisticsGathered(@NonNull DeviceInfo deviceInfo, @NonNull MultipartType type);
+
+    /**
+     * Drops all statistics of a device which is no longer connected. Statistics written by a newer session of the same
+     * node, as identified by its {@link DeviceInfo} instance, are retained.
+     *
+     * @param deviceInfo device info of the disconnected session
+     */
+    void removeDevice(@NonNull DeviceInfo deviceInfo);
+}
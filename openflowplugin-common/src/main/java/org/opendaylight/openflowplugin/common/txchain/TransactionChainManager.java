@@ -17,10 +17,15 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.checkerframework.checker.lock.qual.Holding;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -43,15 +48,35 @@ import org.slf4j.LoggerFactory;
  * package-protected methods for writeToTransaction
  * method (wrapped {@link WriteTransaction#put(LogicalDatastoreType, DataObjectIdentifier, DataObject)})
  * and submitTransaction method (wrapped {@link WriteTransaction#commit()}).
+ *
+ * <p>
+ * When constructed with a {@link WriteBehindPolicy}, modifications are not applied by the calling thread. Writers
+ * only offer them to an MPSC queue and schedule the drainer through a CAS, without taking any lock. The drainer is
+ * the single consumer of the queue: it applies modifications to the current transaction under txLock, which writers
+ * never contend on, and commits it when the policy's size or delay threshold is reached. Modifications issued by any
+ * thread between {@link #acquireWriteTransactionLock()} and the matching {@link #releaseWriteTransactionLock()} form
+ * a batch. The drainer does not apply them before the batch is released and never commits in the middle of one, so
+ * a batch is not split across commits. Synchronous submits and reads drain the queue themselves, so they observe all
+ * modifications issued before them. If one of them is issued while a batch is open, the modifications queued so far
+ * are applied and committed first, which splits that batch. Modifications queued while the manager is not active are
+ * dropped.
  */
 public class TransactionChainManager implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(TransactionChainManager.class);
     private static final String CANNOT_WRITE_INTO_TRANSACTION = "Cannot write into transaction.";
+    // Low half of batchState: depth of open write batches, high half: number of write batches released so far
+    private static final long BATCH_DEPTH_MASK = 0xFFFF_FFFFL;
+    private static final long BATCH_EPOCH_INCREMENT = 1L << 32;
 
     private final ReadWriteLock readWriteTransactionLock = new ReentrantReadWriteLock();
     private final Object txLock = new Object();
     private final DataBroker dataBroker;
     private final String nodeId;
+    private final WriteBehindPolicy writeBehind;
+    private final TransactionCommitStatistics commitStatistics = new TransactionCommitStatistics();
+    private final ConcurrentLinkedQueue<QueuedOperation> pendingOperations = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong batchState = new AtomicLong();
 
     private @GuardedBy("txLock") ReadWriteTransaction writeTx;
     private @GuardedBy("txLock") TransactionChain transactionChain;
@@ -60,12 +85,42 @@ public class TransactionChainManager implements AutoCloseable {
         CommitInfo.emptyFluentFuture();
     private @GuardedBy("txLock") TransactionChainManagerStatus transactionChainManagerStatus =
         TransactionChainManagerStatus.SLEEPING;
+    private @GuardedBy("txLock") int uncommittedOperations;
+    private @GuardedBy("txLock") long oldestUncommittedNanos;
+    private @GuardedBy("txLock") boolean flushTimerArmed;
+    // Incremented by every commit, so that a flush timer armed for an already committed transaction is ignored
+    private @GuardedBy("txLock") long commitGeneration;
+    // Most recent write batch with applied modifications, and most recent batch whose release has been drained
+    private @GuardedBy("txLock") long appliedBatchEpoch = -1;
+    private @GuardedBy("txLock") long releasedBatchEpoch = -1;
 
     private volatile boolean initCommit;
 
     public TransactionChainManager(final DataBroker dataBroker, final String nodeId) {
+        this(dataBroker, nodeId, null);
+    }
+
+    /**
+     * Create a new manager.
+     *
+     * @param dataBroker data broker
+     * @param nodeId node identifier, used for logging
+     * @param writeBehind write-behind policy, {@code null} to apply modifications synchronously
+     */
+    public TransactionChainManager(final DataBroker dataBroker, final String nodeId,
+            final WriteBehindPolicy writeBehind) {
         this.dataBroker = requireNonNull(dataBroker);
         this.nodeId = requireNonNull(nodeId);
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * Return commit size and latency statistics of this manager.
+     *
+     * @return commit statistics
+     */
+    public TransactionCommitStatistics getCommitStatistics() {
+        return commitStatistics;
     }
 
     @Holding("txLock")
@@ -147,9 +202,13 @@ public class TransactionChainManager implements AutoCloseable {
     }
 
     private void closeTransactionChain() {
+        pendingOperations.clear();
+        // Releases of the batches applied so far may have been dropped
+        releasedBatchEpoch = Math.max(releasedBatchEpoch, appliedBatchEpoch);
         if (writeTx != null) {
             writeTx.cancel();
             writeTx = null;
+            resetUncommitted();
         }
         if (transactionChain != null) {
             transactionChain.close();
@@ -165,7 +224,17 @@ public class TransactionChainManager implements AutoCloseable {
     @Holding("txLock")
     @SuppressWarnings("checkstyle:IllegalCatch")
     public boolean submitTransaction(final boolean doSync) {
+        if (writeBehind != null && !doSync && !initCommit) {
+            // the drainer commits on its own thresholds
+            scheduleDrain();
+            return true;
+        }
+
+        final FluentFuture<? extends CommitInfo> submitFuture;
         synchronized (txLock) {
+            if (writeBehind != null) {
+                drainPendingOperations(true);
+            }
             if (!submitIsEnabled) {
                 LOG.trace("transaction not committed - submit block issued");
                 return false;
@@ -176,47 +245,89 @@ public class TransactionChainManager implements AutoCloseable {
             }
             Preconditions.checkState(TransactionChainManagerStatus.WORKING == transactionChainManagerStatus,
                     "we have here Uncompleted Transaction for node %s and we are not MASTER", nodeId);
-            final FluentFuture<? extends CommitInfo> submitFuture = writeTx.commit();
-            lastSubmittedFuture = submitFuture;
-            writeTx = null;
+            submitFuture = commitWriteTransaction();
 
-            if (initCommit || doSync) {
-                try {
-                    SimpleTaskRetryLooper looper = new SimpleTaskRetryLooper(500, 6);
-                    looper.loopUntilNoException(() -> submitFuture.get(5L, TimeUnit.SECONDS));
-                } catch (Exception ex) {
-                    LOG.error("Exception during INITIAL({}) || doSync({}) transaction submitting for device {}",
-                            initCommit, doSync, nodeId, ex);
-                    return false;
-                }
-                initCommit = false;
+            if (!initCommit && !doSync) {
+                logCommitFailure(submitFuture);
                 return true;
             }
+        }
 
-            submitFuture.addCallback(new FutureCallback<CommitInfo>() {
-                @Override
-                public void onSuccess(final CommitInfo result) {
-                    //NOOP
-                }
-
-                @Override
-                public void onFailure(final Throwable throwable) {
-                    if (throwable instanceof InterruptedException || throwable instanceof ExecutionException) {
-                        LOG.error("Transaction commit failed. ", throwable);
-                    } else if (throwable instanceof CancellationException) {
-                        LOG.warn("Submit task was canceled");
-                        LOG.trace("Submit exception: ", throwable);
-                    } else {
-                        LOG.error("Exception during transaction submitting. ", throwable);
-                    }
-                }
-            }, MoreExecutors.directExecutor());
+        // Wait outside of txLock: the commit is already ordered by the chain, and a virtual thread blocking while
+        // holding a monitor would pin its carrier thread. The outcome is then recorded under txLock again.
+        try {
+            SimpleTaskRetryLooper looper = new SimpleTaskRetryLooper(500, 6);
+            looper.loopUntilNoException(() -> submitFuture.get(5L, TimeUnit.SECONDS));
+        } catch (Exception ex) {
+            synchronized (txLock) {
+                LOG.error("Exception during INITIAL({}) || doSync({}) transaction submitting for device {}",
+                        initCommit, doSync, nodeId, ex);
+            }
+            return false;
+        }
+        synchronized (txLock) {
+            initCommit = false;
         }
         return true;
     }
 
+    @Holding("txLock")
+    private FluentFuture<? extends CommitInfo> commitWriteTransaction() {
+        final long startNanos = commitStatistics.onCommitStarted(uncommittedOperations);
+        final FluentFuture<? extends CommitInfo> submitFuture = writeTx.commit();
+        lastSubmittedFuture = submitFuture;
+        writeTx = null;
+        resetUncommitted();
+
+        submitFuture.addCallback(new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                commitStatistics.onCommitCompleted(startNanos, true);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                commitStatistics.onCommitCompleted(startNanos, false);
+            }
+        }, MoreExecutors.directExecutor());
+        return submitFuture;
+    }
+
+    @Holding("txLock")
+    private void resetUncommitted() {
+        uncommittedOperations = 0;
+        flushTimerArmed = false;
+        commitGeneration++;
+    }
+
+    private static void logCommitFailure(final FluentFuture<? extends CommitInfo> submitFuture) {
+        submitFuture.addCallback(new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                //NOOP
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                if (throwable instanceof InterruptedException || throwable instanceof ExecutionException) {
+                    LOG.error("Transaction commit failed. ", throwable);
+                } else if (throwable instanceof CancellationException) {
+                    LOG.warn("Submit task was canceled");
+                    LOG.trace("Submit exception: ", throwable);
+                } else {
+                    LOG.error("Exception during transaction submitting. ", throwable);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
     public <T extends DataObject> void addDeleteOperationToTxChain(final LogicalDatastoreType store,
                                                                    final DataObjectIdentifier<T> path) {
+        if (writeBehind != null) {
+            enqueue(tx -> tx.delete(store, path));
+            return;
+        }
+
         synchronized (txLock) {
             ensureTransaction();
             if (writeTx == null) {
@@ -225,6 +336,7 @@ public class TransactionChainManager implements AutoCloseable {
             }
 
             writeTx.delete(store, path);
+            uncommittedOperations++;
         }
     }
 
@@ -232,6 +344,17 @@ public class TransactionChainManager implements AutoCloseable {
                                                           final DataObjectIdentifier<T> path,
                                                           final T data,
                                                           final boolean createParents) {
+        if (writeBehind != null) {
+            enqueue(tx -> {
+                if (createParents) {
+                    tx.mergeParentStructurePut(store, path, data);
+                } else {
+                    tx.put(store, path, data);
+                }
+            });
+            return;
+        }
+
         synchronized (txLock) {
             ensureTransaction();
             if (writeTx == null) {
@@ -244,6 +367,7 @@ public class TransactionChainManager implements AutoCloseable {
             } else {
                 writeTx.put(store, path, data);
             }
+            uncommittedOperations++;
         }
     }
 
@@ -251,6 +375,17 @@ public class TransactionChainManager implements AutoCloseable {
                                                           final DataObjectIdentifier<T> path,
                                                           final T data,
                                                           final boolean createParents) {
+        if (writeBehind != null) {
+            enqueue(tx -> {
+                if (createParents) {
+                    tx.mergeParentStructureMerge(store, path, data);
+                } else {
+                    tx.merge(store, path, data);
+                }
+            });
+            return;
+        }
+
         synchronized (txLock) {
             ensureTransaction();
             if (writeTx == null) {
@@ -263,12 +398,16 @@ public class TransactionChainManager implements AutoCloseable {
             } else {
                 writeTx.merge(store, path, data);
             }
+            uncommittedOperations++;
         }
     }
 
     public <T extends DataObject> ListenableFuture<Optional<T>> readFromTransaction(final LogicalDatastoreType store,
             final DataObjectIdentifier<T> path) {
         synchronized (txLock) {
+            if (writeBehind != null) {
+                drainPendingOperations(true);
+            }
             ensureTransaction();
             if (writeTx == null) {
                 LOG.debug("WriteTx is null for node {}. Read data for {} was not realized.", nodeId, path);
@@ -292,6 +431,122 @@ public class TransactionChainManager implements AutoCloseable {
         }
     }
 
+    private void enqueue(final Consumer<ReadWriteTransaction> operation) {
+        final long state = batchState.get();
+        pendingOperations.offer(new QueuedOperation(operation, state));
+        // An operation of an open batch is drained once the batch is released. If it was released while we were
+        // offering, its drain may have missed our operation, hence schedule one ourselves.
+        if ((state & BATCH_DEPTH_MASK) == 0 || batchEpoch() != state >>> 32) {
+            scheduleDrain();
+        }
+    }
+
+    private long batchEpoch() {
+        return batchState.get() >>> 32;
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            writeBehind.executor().execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        synchronized (txLock) {
+            // Reset before draining, so that any producer racing with us schedules another run
+            drainScheduled.set(false);
+            drainPendingOperations(false);
+
+            if (uncommittedOperations == 0 || !submitIsEnabled || writeTx == null || !isBatchBoundary()) {
+                return;
+            }
+            final long age = System.nanoTime() - oldestUncommittedNanos;
+            if (age >= writeBehind.maxDelayNanos()) {
+                logCommitFailure(commitWriteTransaction());
+            } else if (!flushTimerArmed) {
+                flushTimerArmed = true;
+                final long generation = commitGeneration;
+                CompletableFuture.delayedExecutor(writeBehind.maxDelayNanos() - age, TimeUnit.NANOSECONDS,
+                    writeBehind.executor()).execute(() -> onFlushTimer(generation));
+            }
+        }
+    }
+
+    private void onFlushTimer(final long generation) {
+        synchronized (txLock) {
+            if (generation != commitGeneration) {
+                // The transaction this timer was armed for has been committed already
+                return;
+            }
+            flushTimerArmed = false;
+            drain();
+        }
+    }
+
+    /**
+     * Apply queued modifications to the current transaction. Unless {@code force} is set, draining stops at the first
+     * modification of a batch which is still open.
+     *
+     * @param force whether modifications of open batches are to be applied as well
+     */
+    @Holding("txLock")
+    private void drainPendingOperations(final boolean force) {
+        // We are the only consumer, hence peek() followed by poll() returns the same entry
+        for (var entry = pendingOperations.peek(); entry != null; entry = pendingOperations.peek()) {
+            if (!force && entry.isBatched() && entry.batchEpoch() == batchEpoch()) {
+                // releaseWriteTransactionLock() queues the release of this batch and schedules another drain
+                break;
+            }
+            pendingOperations.poll();
+
+            if (entry.operation == null) {
+                // Every modification of this batch has been queued before its release
+                releasedBatchEpoch = Math.max(releasedBatchEpoch, entry.batchEpoch());
+            } else if (!applyQueuedOperation(entry)) {
+                continue;
+            }
+
+            if (submitIsEnabled && uncommittedOperations >= writeBehind.maxBatchSize() && isBatchBoundary()) {
+                logCommitFailure(commitWriteTransaction());
+            }
+        }
+    }
+
+    @Holding("txLock")
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean applyQueuedOperation(final QueuedOperation entry) {
+        ensureTransaction();
+        final var tx = writeTx;
+        if (tx == null) {
+            LOG.debug("WriteTx is null for node {}. Queued modification was not realized.", nodeId);
+            return false;
+        }
+
+        try {
+            entry.operation.accept(tx);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to apply queued modification for node {}", nodeId, e);
+        }
+        if (uncommittedOperations == 0) {
+            oldestUncommittedNanos = System.nanoTime();
+        }
+        uncommittedOperations++;
+        // Modifications of a batch released already, but queued after its release, do not hold back commits
+        if (entry.isBatched() && entry.batchEpoch() > releasedBatchEpoch) {
+            appliedBatchEpoch = Math.max(appliedBatchEpoch, entry.batchEpoch());
+        }
+        return true;
+    }
+
+    /**
+     * Check whether committing now would not split a batch, i.e. whether the releases of all batches with applied
+     * modifications have been drained.
+     */
+    @Holding("txLock")
+    private boolean isBatchBoundary() {
+        return appliedBatchEpoch <= releasedBatchEpoch;
+    }
+
     @Holding("txLock")
     private void ensureTransaction() {
         if (writeTx == null && TransactionChainManagerStatus.WORKING == transactionChainManagerStatus
@@ -319,6 +574,9 @@ public class TransactionChainManager implements AutoCloseable {
 
     @Holding("txLock")
     private FluentFuture<? extends CommitInfo> txChainShuttingDown() {
+        if (writeBehind != null) {
+            drainPendingOperations(true);
+        }
         boolean wasSubmitEnabled = submitIsEnabled;
         submitIsEnabled = false;
         FluentFuture<? extends CommitInfo> future;
@@ -330,6 +588,7 @@ public class TransactionChainManager implements AutoCloseable {
             if (writeTx != null) {
                 writeTx.cancel();
                 writeTx = null;
+                resetUncommitted();
             }
         } else if (writeTx == null) {
             // hijack md-sal thread
@@ -339,8 +598,7 @@ public class TransactionChainManager implements AutoCloseable {
                 LOG.debug("Submitting all transactions for Node {}", nodeId);
             }
             // hijack md-sal thread
-            future = writeTx.commit();
-            writeTx = null;
+            future = commitWriteTransaction();
         }
 
         return future;
@@ -354,6 +612,7 @@ public class TransactionChainManager implements AutoCloseable {
         synchronized (txLock) {
             closeTransactionChain();
         }
+        LOG.debug("Transaction commit statistics for node {}: {}", nodeId, commitStatistics);
     }
 
     private enum TransactionChainManagerStatus {
@@ -371,12 +630,50 @@ public class TransactionChainManager implements AutoCloseable {
         SHUTTING_DOWN
     }
 
+    /**
+     * Start a group of modifications which are to be committed together. In write-behind mode this does not lock,
+     * but opens a batch of this manager, which collects the modifications issued by all threads until the outermost
+     * {@link #releaseWriteTransactionLock()} is invoked.
+     */
     public void acquireWriteTransactionLock() {
-        readWriteTransactionLock.writeLock().lock();
+        if (writeBehind == null) {
+            readWriteTransactionLock.writeLock().lock();
+            return;
+        }
+
+        batchState.incrementAndGet();
     }
 
     public void releaseWriteTransactionLock() {
-        readWriteTransactionLock.writeLock().unlock();
+        if (writeBehind == null) {
+            readWriteTransactionLock.writeLock().unlock();
+            return;
+        }
+
+        final long prev = batchState.getAndUpdate(state -> switch ((int) (state & BATCH_DEPTH_MASK)) {
+            case 0 -> state;
+            case 1 -> (state & ~BATCH_DEPTH_MASK) + BATCH_EPOCH_INCREMENT;
+            default -> state - 1;
+        });
+        final long depth = prev & BATCH_DEPTH_MASK;
+        Preconditions.checkState(depth != 0, "No write batch open for node %s", nodeId);
+        if (depth == 1) {
+            pendingOperations.offer(new QueuedOperation(null, prev));
+            scheduleDrain();
+        }
     }
 
+    /**
+     * A queued modification, along with {@link #batchState} at the time it was queued. An entry without a
+     * modification marks the release of the batch it belongs to.
+     */
+    private record QueuedOperation(Consumer<ReadWriteTransaction> operation, long batchState) {
+        boolean isBatched() {
+            return (batchState & BATCH_DEPTH_MASK) != 0;
+        }
+
+        long batchEpoch() {
+            return batchState >>> 32;
+        }
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.common.txchain;
+
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Commit size and latency counters of a {@link TransactionChainManager}. Size is the number of modifications carried
+ * by a transaction, latency is measured from {@code commit()} to the completion of the returned future.
+ */
+public final class TransactionCommitStatistics {
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder failedCommits = new LongAdder();
+    private final LongAdder committedOperations = new LongAdder();
+    private final LongAdder completedCommits = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxCommitSize = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    TransactionCommitStatistics() {
+        // Hidden on purpose
+    }
+
+    long onCommitStarted(final int size) {
+        commits.increment();
+        committedOperations.add(size);
+        maxCommitSize.accumulateAndGet(size, Math::max);
+        return System.nanoTime();
+    }
+
+    void onCommitCompleted(final long startNanos, final boolean success) {
+        final long latency = System.nanoTime() - startNanos;
+        if (!success) {
+            failedCommits.increment();
+        }
+        completedCommits.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    public long getCommitCount() {
+        return commits.sum();
+    }
+
+    public long getFailedCommitCount() {
+        return failedCommits.sum();
+    }
+
+    public long getCommittedOperations() {
+        return committedOperations.sum();
+    }
+
+    public long getMaxCommitSize() {
+        return maxCommitSize.get();
+    }
+
+    public double getAverageCommitSize() {
+        final long count = commits.sum();
+        return count == 0 ? 0 : (double) committedOperations.sum() / count;
+    }
+
+    public long getMaxLatency(final TimeUnit unit) {
+        return unit.convert(maxLatencyNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageLatency(final TimeUnit unit) {
+        final long count = completedCommits.sum();
+        return count == 0 ? 0 : unit.convert(totalLatencyNanos.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("commits", getCommitCount())
+            .add("failed", getFailedCommitCount())
+            .add("operations", getCommittedOperations())
+            .add("avgSize", getAverageCommitSize())
+            .add("maxSize", getMaxCommitSize())
+            .add("avgLatencyUs", getAverageLatency(TimeUnit.MICROSECONDS))
+            .add("maxLatencyUs", getMaxLatency(TimeUnit.MICROSECONDS))
+            .toString();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.common.txchain;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.Executor;
+
+/**
+ * Write-behind settings of a {@link TransactionChainManager}. Modifications are queued by producers and applied by
+ * a single drainer running on {@code executor}, which commits once {@code maxBatchSize} modifications are pending or
+ * the oldest pending modification is {@code maxDelayNanos} old, whichever comes first.
+ *
+ * @param maxBatchSize number of pending modifications triggering a commit
+ * @param maxDelayNanos maximum time a modification stays uncommitted
+ * @param executor executor running the drainer
+ */
+public record WriteBehindPolicy(int maxBatchSize, long maxDelayNanos, Executor executor) {
+    public WriteBehindPolicy {
+        Preconditions.checkArgument(maxBatchSize > 0, "Invalid batch size %s", maxBatchSize);
+        Preconditions.checkArgument(maxDelayNanos > 0, "Invalid delay %s", maxDelayNanos);
+        requireNonNull(executor);
+    }
+}
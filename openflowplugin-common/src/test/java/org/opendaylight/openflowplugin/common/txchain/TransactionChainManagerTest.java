@@ -7,14 +7,25 @@
  */
 package org.opendaylight.openflowplugin.common.txchain;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -185,4 +196,150 @@ public class TransactionChainManagerTest {
         txChainManager.close();
         verify(txChain).close();
     }
+
+    @Test
+    public void testWriteBehindCommitsOnBatchSize() {
+        activateWriteBehind(2);
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        verify(writeTx, never()).commit();
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+
+        verify(writeTx, times(2)).put(LogicalDatastoreType.CONFIGURATION, path, data);
+        verify(writeTx).commit();
+        assertEquals(1, txChainManager.getCommitStatistics().getCommitCount());
+        assertEquals(2, txChainManager.getCommitStatistics().getMaxCommitSize());
+    }
+
+    @Test
+    public void testWriteBehindDoesNotSplitBatch() {
+        activateWriteBehind(1);
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.acquireWriteTransactionLock();
+        txChainManager.addDeleteOperationToTxChain(LogicalDatastoreType.CONFIGURATION, path);
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        verify(writeTx, never()).delete(LogicalDatastoreType.CONFIGURATION, path);
+        txChainManager.releaseWriteTransactionLock();
+
+        verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, path);
+        verify(writeTx).put(LogicalDatastoreType.CONFIGURATION, path, data);
+        verify(writeTx).commit();
+        assertEquals(2, txChainManager.getCommitStatistics().getCommittedOperations());
+    }
+
+    @Test(timeout = 10000)
+    public void testWriteBehindBatchSpansThreads() throws Exception {
+        activateWriteBehind(1);
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.acquireWriteTransactionLock();
+        txChainManager.addDeleteOperationToTxChain(LogicalDatastoreType.CONFIGURATION, path);
+        // e.g. a future callback completing on another thread while the batch is open
+        final var writer = Thread.ofVirtual().start(
+            () -> txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false));
+        writer.join();
+        verify(writeTx, never()).put(LogicalDatastoreType.CONFIGURATION, path, data);
+        txChainManager.releaseWriteTransactionLock();
+
+        verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, path);
+        verify(writeTx).put(LogicalDatastoreType.CONFIGURATION, path, data);
+        verify(writeTx).commit();
+        assertEquals(2, txChainManager.getCommitStatistics().getCommittedOperations());
+    }
+
+    @Test
+    public void testWriteBehindNestedBatches() {
+        activateWriteBehind(1);
+        txChainManager.acquireWriteTransactionLock();
+        txChainManager.acquireWriteTransactionLock();
+        txChainManager.addDeleteOperationToTxChain(LogicalDatastoreType.CONFIGURATION, path);
+        txChainManager.releaseWriteTransactionLock();
+        verify(writeTx, never()).delete(LogicalDatastoreType.CONFIGURATION, path);
+        txChainManager.releaseWriteTransactionLock();
+
+        verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, path);
+        verify(writeTx).commit();
+    }
+
+    @Test(timeout = 10000)
+    public void testWriteBehindWritersDoNotWaitForDrainer() throws Exception {
+        final var applying = new CountDownLatch(1);
+        final var unblock = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            applying.countDown();
+            unblock.await();
+            return null;
+        }).when(writeTx).delete(LogicalDatastoreType.CONFIGURATION, path);
+        txChainManager = new TransactionChainManager(dataBroker, nodeId.getValue(),
+            new WriteBehindPolicy(100, TimeUnit.HOURS.toNanos(1), Thread.ofVirtual()::start));
+        txChainManager.activateTransactionManager();
+        txChainManager.initialSubmitWriteTransaction();
+
+        txChainManager.addDeleteOperationToTxChain(LogicalDatastoreType.CONFIGURATION, path);
+        applying.await();
+        // The drainer is busy applying the delete, yet writing does not wait for it
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        unblock.countDown();
+        verify(writeTx, timeout(5000)).put(LogicalDatastoreType.CONFIGURATION, path, data);
+    }
+
+    @Test(timeout = 10000)
+    public void testWriteBehindFlushesAfterSizeCommit() {
+        txChainManager = new TransactionChainManager(dataBroker, nodeId.getValue(),
+            new WriteBehindPolicy(2, TimeUnit.MILLISECONDS.toNanos(100), MoreExecutors.directExecutor()));
+        txChainManager.activateTransactionManager();
+        txChainManager.initialSubmitWriteTransaction();
+        final Node data = new NodeBuilder().setId(nodeId).build();
+
+        // Arms the flush timer, then commits on size
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        verify(writeTx).commit();
+
+        // The next transaction gets a timer of its own
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        verify(writeTx, timeout(5000).times(2)).commit();
+        assertEquals(3, txChainManager.getCommitStatistics().getCommittedOperations());
+    }
+
+    @Test
+    public void testWriteBehindSyncSubmit() {
+        activateWriteBehind(100);
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.acquireWriteTransactionLock();
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        txChainManager.submitTransaction(true);
+        txChainManager.releaseWriteTransactionLock();
+
+        verify(writeTx).put(LogicalDatastoreType.CONFIGURATION, path, data);
+        verify(writeTx).commit();
+    }
+
+    @Test(timeout = 10000)
+    public void testSyncSubmitDoesNotBlockWriters() throws Exception {
+        final var commitFuture = SettableFuture.<CommitInfo>create();
+        doReturn(FluentFuture.from(commitFuture)).when(writeTx).commit();
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.initialSubmitWriteTransaction();
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+
+        final var submitted = new CompletableFuture<Boolean>();
+        Thread.ofVirtual().start(() -> submitted.complete(txChainManager.submitTransaction(true)));
+        verify(writeTx, timeout(5000)).commit();
+
+        // The commit is still in flight, yet the next transaction can be written to
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        assertFalse(submitted.isDone());
+
+        commitFuture.set(CommitInfo.empty());
+        assertTrue(submitted.get());
+        verify(writeTx, times(2)).put(LogicalDatastoreType.CONFIGURATION, path, data);
+    }
+
+    private void activateWriteBehind(final int maxBatchSize) {
+        txChainManager = new TransactionChainManager(dataBroker, nodeId.getValue(),
+            new WriteBehindPolicy(maxBatchSize, TimeUnit.HOURS.toNanos(1), MoreExecutors.directExecutor()));
+        txChainManager.activateTransactionManager();
+        txChainManager.initialSubmitWriteTransaction();
+    }
 }
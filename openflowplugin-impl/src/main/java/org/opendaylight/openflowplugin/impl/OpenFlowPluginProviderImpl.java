@@ -9,6 +9,7 @@ package org.opendaylight.openflowplugin.impl;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -46,6 +48,7 @@ import org.opendaylight.openflowplugin.api.openflow.role.RoleManager;
 import org.opendaylight.openflowplugin.api.openflow.rpc.RpcManager;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsManager;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageIntelligenceAgency;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterStore;
 import org.opendaylight.openflowplugin.extension.api.ExtensionConverterRegistrator;
 import org.opendaylight.openflowplugin.extension.api.OpenFlowPluginExtensionRegistratorProvider;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterManager;
@@ -55,11 +58,13 @@ import org.opendaylight.openflowplugin.impl.device.DeviceManagerImpl;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProviderFactory;
 import org.opendaylight.openflowplugin.impl.lifecycle.ContextChainHolderImpl;
+import org.opendaylight.openflowplugin.impl.lifecycle.ControllerLoadTracker;
 import org.opendaylight.openflowplugin.impl.protocol.deserialization.DeserializerInjector;
 import org.opendaylight.openflowplugin.impl.protocol.serialization.SerializerInjector;
 import org.opendaylight.openflowplugin.impl.role.RoleManagerImpl;
 import org.opendaylight.openflowplugin.impl.rpc.RpcManagerImpl;
 import org.opendaylight.openflowplugin.impl.statistics.StatisticsManagerImpl;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache;
 import org.opendaylight.openflowplugin.impl.util.ThreadPoolLoggingExecutor;
 import org.opendaylight.openflowplugin.impl.util.TranslatorLibraryUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.extension.ExtensionConverterManagerImpl;
@@ -106,6 +111,7 @@ public final class OpenFlowPluginProviderImpl
     private final RoleManager roleManager;
     private final ExecutorService executorService;
     private final ContextChainHolderImpl contextChainHolder;
+    private final ControllerLoadTracker controllerLoadTracker;
     private final DiagStatusProvider diagStatusProvider;
 
     private final List<SwitchConnectionProvider> connectionProviders = new ArrayList<>();
@@ -124,27 +130,22 @@ public final class OpenFlowPluginProviderImpl
             @Reference final MastershipChangeServiceManager mastershipChangeServiceManager,
             @Reference final MessageIntelligenceAgency messageIntelligenceAgency,
             @Reference final DiagStatusProvider diagStatusProvider,
-            @Reference final SystemReadyMonitor systemReadyMonitor) {
+            @Reference final SystemReadyMonitor systemReadyMonitor,
+            @Reference final StatisticsCounterStore statisticsCounterStore) {
         config = new OpenFlowProviderConfigImpl(configurationService);
         final var ppdb = new PingPongDataBroker(dataBroker);
         this.diagStatusProvider = requireNonNull(diagStatusProvider);
 
         convertorManager = ConvertorManagerFactory.createDefaultManager();
         extensionConverterManager = new ExtensionConverterManagerImpl();
-        deviceInitializerProvider = DeviceInitializerProviderFactory.createDefaultProvider();
+        deviceInitializerProvider = DeviceInitializerProviderFactory.createDefaultProvider(
+            config.getEnablePipelinedDeviceInitialization());
 
         // TODO: copied from OpenFlowPluginProvider (Helium) misusesing the old way of distributing extension converters
         // TODO: rewrite later!
         OFSessionUtil.getSessionManager().setExtensionConverterProvider(extensionConverterManager);
 
-        // Creates a thread pool that creates new threads as needed, but will reuse previously
-        // constructed threads when they are available.
-        // Threads that have not been used for x seconds are terminated and removed from the cache.
-        executorService = new ThreadPoolLoggingExecutor(
-                config.getThreadPoolMinThreads().toJava(),
-                config.getThreadPoolMaxThreads().getValue().toJava(),
-                config.getThreadPoolTimeout().toJava(),
-                TimeUnit.SECONDS, new SynchronousQueue<>(), POOL_NAME);
+        executorService = newExecutorService(config);
 
         final var devMgr = new DeviceManagerImpl(
                 config,
@@ -160,18 +161,26 @@ public final class OpenFlowPluginProviderImpl
         TranslatorLibraryUtil.injectBasicTranslatorLibrary(deviceManager, convertorManager);
         devMgr.setExtensionConverterProvider(extensionConverterManager);
 
+        final int directStatisticsCacheTtl = config.getDirectStatisticsCacheTtl().toJava();
+        final var directStatisticsCache = directStatisticsCacheTtl == 0 ? null
+            : new DirectStatisticsCache(TimeUnit.MILLISECONDS.toNanos(directStatisticsCacheTtl));
+
         rpcManager = new RpcManagerImpl(
                 config,
                 rpcProviderRegistry,
                 extensionConverterManager,
                 convertorManager,
-                notificationPublishService);
+                executorService,
+                notificationPublishService,
+                directStatisticsCache);
 
         statisticsManager = new StatisticsManagerImpl(
                 config,
                 rpcProviderRegistry,
                 convertorManager,
-                executorService);
+                executorService,
+                directStatisticsCache,
+                config.getEnableStatisticsCounterStore() ? statisticsCounterStore : null);
 
         roleManager = new RoleManagerImpl(hashedWheelTimer, config, executorService);
 
@@ -187,6 +196,14 @@ public final class OpenFlowPluginProviderImpl
         contextChainHolder.addManager(rpcManager);
         contextChainHolder.addManager(roleManager);
 
+        if (config.getEnableLoadAwareMastership()) {
+            controllerLoadTracker = new ControllerLoadTracker(dataBroker, entityOwnershipService, contextChainHolder,
+                config.getLoadAwareMastershipMaxDelay().toJava());
+            contextChainHolder.setLoadTracker(controllerLoadTracker);
+        } else {
+            controllerLoadTracker = null;
+        }
+
         connectionManager = new ConnectionManagerImpl(config, executorService, ppdb, notificationPublishService);
         connectionManager.setDeviceConnectedHandler(contextChainHolder);
         connectionManager.setDeviceDisconnectedHandler(contextChainHolder);
@@ -222,7 +239,8 @@ public final class OpenFlowPluginProviderImpl
         // Inject OpenFlowPlugin custom serializers and deserializers into OpenFlowJava
         if (config.getUseSingleLayerSerialization()) {
             SerializerInjector.injectSerializers(provider,  provider.getConfiguration().isGroupAddModEnabled());
-            DeserializerInjector.injectDeserializers(provider);
+            DeserializerInjector.injectDeserializers(provider,
+                Ints.saturatedCast(config.getFlowStatisticsDecodeCacheSize().toJava()));
         } else {
             DeserializerInjector.revertDeserializers(provider);
         }
@@ -324,6 +342,7 @@ public final class OpenFlowPluginProviderImpl
             LOG.warn("Failed to shut down switch connections in time {}s", 10, e);
         }
 
+        gracefulShutdown(controllerLoadTracker);
         gracefulShutdown(contextChainHolder);
         gracefulShutdown(connectionManager);
         gracefulShutdown(deviceManager);
@@ -355,6 +374,27 @@ public final class OpenFlowPluginProviderImpl
         }
     }
 
+    private static ExecutorService newExecutorService(final OpenflowProviderConfig config) {
+        if (config.getEnableVirtualThreads()) {
+            // A new virtual thread per task: blocking tasks park instead of holding on to a pooled thread, hence there
+            // is no pool to exhaust
+            LOG.info("Using virtual threads for plugin tasks");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name(POOL_NAME + "-virtual-", 0)
+                .uncaughtExceptionHandler((thread, ex) -> LOG.warn("thread {} stopped with error", thread, ex))
+                .factory());
+        }
+
+        // Creates a thread pool that creates new threads as needed, but will reuse previously
+        // constructed threads when they are available.
+        // Threads that have not been used for x seconds are terminated and removed from the cache.
+        return new ThreadPoolLoggingExecutor(
+                config.getThreadPoolMinThreads().toJava(),
+                config.getThreadPoolMaxThreads().getValue().toJava(),
+                config.getThreadPoolTimeout().toJava(),
+                TimeUnit.SECONDS, new SynchronousQueue<>(), POOL_NAME);
+    }
+
     private static void gracefulShutdown(final Timer timer) {
         if (timer != null) {
             try {
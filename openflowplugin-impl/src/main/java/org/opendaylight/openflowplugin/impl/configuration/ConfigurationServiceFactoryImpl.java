@@ -89,6 +89,38 @@ public class ConfigurationServiceFactoryImpl implements ConfigurationServiceFact
                             providerConfig.getDeviceConnectionHoldTimeInSeconds().toString())
                     .put(ConfigurationProperty.DEVICE_DATASTORE_REMOVAL_DELAY.toString(),
                             providerConfig.getDeviceDatastoreRemovalDelay().getValue().toString())
+                    .put(ConfigurationProperty.TRANSACTION_WRITE_BEHIND_BATCH_SIZE.toString(),
+                            providerConfig.getTransactionWriteBehindBatchSize().toString())
+                    .put(ConfigurationProperty.TRANSACTION_WRITE_BEHIND_MAX_DELAY.toString(),
+                            providerConfig.getTransactionWriteBehindMaxDelay().getValue().toString())
+                    .put(ConfigurationProperty.ENABLE_COMPACT_FLOW_REGISTRY.toString(),
+                            providerConfig.getEnableCompactFlowRegistry().toString())
+                    .put(ConfigurationProperty.ENABLE_EVENT_LOOP_AFFINITY.toString(),
+                            providerConfig.getEnableEventLoopAffinity().toString())
+                    .put(ConfigurationProperty.FLOW_STATISTICS_DECODE_CACHE_SIZE.toString(),
+                            providerConfig.getFlowStatisticsDecodeCacheSize().toString())
+                    .put(ConfigurationProperty.ENABLE_VIRTUAL_THREADS.toString(),
+                            providerConfig.getEnableVirtualThreads().toString())
+                    .put(ConfigurationProperty.ENABLE_PIPELINED_DEVICE_INITIALIZATION.toString(),
+                            providerConfig.getEnablePipelinedDeviceInitialization().toString())
+                    .put(ConfigurationProperty.FLOW_REMOVED_BATCH_WINDOW.toString(),
+                            providerConfig.getFlowRemovedBatchWindow().toString())
+                    .put(ConfigurationProperty.ENABLE_SHARED_PACKET_IN_QUOTA.toString(),
+                            providerConfig.getEnableSharedPacketInQuota().toString())
+                    .put(ConfigurationProperty.ENABLE_ADAPTIVE_BARRIER.toString(),
+                            providerConfig.getEnableAdaptiveBarrier().toString())
+                    .put(ConfigurationProperty.DIRECT_STATISTICS_CACHE_TTL.toString(),
+                            providerConfig.getDirectStatisticsCacheTtl().toString())
+                    .put(ConfigurationProperty.RECONCILIATION_CONCURRENCY_LIMIT.toString(),
+                            providerConfig.getReconciliationConcurrencyLimit().toString())
+                    .put(ConfigurationProperty.RECONCILIATION_SERVICE_RATE_LIMIT.toString(),
+                            providerConfig.getReconciliationServiceRateLimit().toString())
+                    .put(ConfigurationProperty.ENABLE_LOAD_AWARE_MASTERSHIP.toString(),
+                            providerConfig.getEnableLoadAwareMastership().toString())
+                    .put(ConfigurationProperty.LOAD_AWARE_MASTERSHIP_MAX_DELAY.toString(),
+                            providerConfig.getLoadAwareMastershipMaxDelay().toString())
+                    .put(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString(),
+                            providerConfig.getEnableStatisticsCounterStore().toString())
                     .build());
         }
 
@@ -167,6 +167,90 @@ public class OpenFlowProviderConfigImpl extends AbstractAugmentable<OpenflowProv
             ConfigurationProperty.DEVICE_DATASTORE_REMOVAL_DELAY.toString(), Uint32::valueOf));
     }
 
+    @Override
+    public Uint16 getTransactionWriteBehindBatchSize() {
+        return service.getProperty(
+            ConfigurationProperty.TRANSACTION_WRITE_BEHIND_BATCH_SIZE.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public NonZeroUint32Type getTransactionWriteBehindMaxDelay() {
+        return new NonZeroUint32Type(service.<Uint32>getProperty(
+            ConfigurationProperty.TRANSACTION_WRITE_BEHIND_MAX_DELAY.toString(), Uint32::valueOf));
+    }
+
+    @Override
+    public Boolean getEnableCompactFlowRegistry() {
+        return service.getProperty(ConfigurationProperty.ENABLE_COMPACT_FLOW_REGISTRY.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Boolean getEnableEventLoopAffinity() {
+        return service.getProperty(ConfigurationProperty.ENABLE_EVENT_LOOP_AFFINITY.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Uint32 getFlowStatisticsDecodeCacheSize() {
+        return service.getProperty(ConfigurationProperty.FLOW_STATISTICS_DECODE_CACHE_SIZE.toString(),
+            Uint32::valueOf);
+    }
+
+    @Override
+    public Boolean getEnableVirtualThreads() {
+        return service.getProperty(ConfigurationProperty.ENABLE_VIRTUAL_THREADS.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Boolean getEnablePipelinedDeviceInitialization() {
+        return service.getProperty(ConfigurationProperty.ENABLE_PIPELINED_DEVICE_INITIALIZATION.toString(),
+            Boolean::valueOf);
+    }
+
+    @Override
+    public Uint16 getFlowRemovedBatchWindow() {
+        return service.getProperty(ConfigurationProperty.FLOW_REMOVED_BATCH_WINDOW.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Boolean getEnableSharedPacketInQuota() {
+        return service.getProperty(ConfigurationProperty.ENABLE_SHARED_PACKET_IN_QUOTA.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Boolean getEnableAdaptiveBarrier() {
+        return service.getProperty(ConfigurationProperty.ENABLE_ADAPTIVE_BARRIER.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Uint16 getDirectStatisticsCacheTtl() {
+        return service.getProperty(ConfigurationProperty.DIRECT_STATISTICS_CACHE_TTL.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint16 getReconciliationConcurrencyLimit() {
+        return service.getProperty(ConfigurationProperty.RECONCILIATION_CONCURRENCY_LIMIT.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint16 getReconciliationServiceRateLimit() {
+        return service.getProperty(ConfigurationProperty.RECONCILIATION_SERVICE_RATE_LIMIT.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Boolean getEnableLoadAwareMastership() {
+        return service.getProperty(ConfigurationProperty.ENABLE_LOAD_AWARE_MASTERSHIP.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Uint16 getLoadAwareMastershipMaxDelay() {
+        return service.getProperty(ConfigurationProperty.LOAD_AWARE_MASTERSHIP_MAX_DELAY.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Boolean getEnableStatisticsCounterStore() {
+        return service.getProperty(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString(), Boolean::valueOf);
+    }
+
     @Override
     public int hashCode() {
         return System.identityHashCode(this);
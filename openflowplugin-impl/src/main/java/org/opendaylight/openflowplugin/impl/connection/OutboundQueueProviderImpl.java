@@ -11,8 +11,12 @@ package org.opendaylight.openflowplugin.impl.connection;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.util.concurrent.FutureCallback;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.openflowplugin.api.openflow.connection.OutboundQueueProvider;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
@@ -24,6 +28,9 @@ import org.slf4j.LoggerFactory;
 
 public class OutboundQueueProviderImpl implements OutboundQueueProvider {
     private static final Logger LOG = LoggerFactory.getLogger(OutboundQueueProviderImpl.class);
+    // Not a monitor, so that a virtual thread waiting for the queue to be replaced does not pin its carrier thread
+    private final Lock queueLock = new ReentrantLock();
+    private final Condition queueChanged = queueLock.newCondition();
     private final Uint8 ofVersion;
     private volatile OutboundQueue outboundQueue;
 
@@ -40,12 +47,17 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
     }
 
     @Override
-    public synchronized void onConnectionQueueChanged(final OutboundQueue queue) {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("Replacing queue {} with {}", outboundQueue, queue);
+    public void onConnectionQueueChanged(final OutboundQueue queue) {
+        queueLock.lock();
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Replacing queue {} with {}", outboundQueue, queue);
+            }
+            outboundQueue = queue;
+            queueChanged.signalAll();
+        } finally {
+            queueLock.unlock();
         }
-        outboundQueue = queue;
-        notifyAll();
     }
 
     @Override
@@ -63,16 +75,19 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
             }
 
             LOG.debug("Reservation failed, trying to recover");
-            synchronized (this) {
+            queueLock.lock();
+            try {
                 while (queue.equals(outboundQueue)) {
                     LOG.debug("Queue {} is not replaced yet, going to sleep", queue);
                     try {
-                        wait();
+                        queueChanged.await();
                     } catch (InterruptedException e) {
                         LOG.error("Interrupted while waiting for entry", e);
                         return null;
                     }
                 }
+            } finally {
+                queueLock.unlock();
             }
         }
     }
@@ -87,4 +102,16 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
             final Function<OfHeader, Boolean> isComplete) {
         outboundQueue.commitEntry(xid, message, callback, isComplete);
     }
+
+    @Override
+    public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
+            final OutboundQueuePriority priority) {
+        outboundQueue.commitEntry(xid, message, callback, priority);
+    }
+
+    @Override
+    public void commitEntry(final Uint32 xid, final OfHeader message, final FutureCallback<OfHeader> callback,
+            final Function<OfHeader, Boolean> isComplete, final OutboundQueuePriority priority) {
+        outboundQueue.commitEntry(xid, message, callback, isComplete, priority);
+    }
 }
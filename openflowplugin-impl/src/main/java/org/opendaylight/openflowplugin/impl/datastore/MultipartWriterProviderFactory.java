@@ -7,9 +7,12 @@
  */
 package org.opendaylight.openflowplugin.impl.datastore;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsSink;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.DescMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.FlowStatsMultipartWriter;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.FlowStatsSinkWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.GroupDescMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.GroupFeaturesMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.GroupStatsMultipartWriter;
@@ -18,6 +21,7 @@ import org.opendaylight.openflowplugin.impl.datastore.multipart.MeterFeaturesMul
 import org.opendaylight.openflowplugin.impl.datastore.multipart.MeterStatsMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.PortDescMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.PortStatsMultipartWriter;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.PortStatsSinkWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.QueueStatsMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.TableFeaturesMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.TableStatsMultipartWriter;
@@ -38,6 +42,19 @@ public final class MultipartWriterProviderFactory {
      * @return the statistics writer provider
      */
     public static MultipartWriterProvider createDefaultProvider(final DeviceContext deviceContext) {
+        return createDefaultProvider(deviceContext, null);
+    }
+
+    /**
+     * Create default #{@link MultipartWriterProvider}, handing the statistics types handled by a
+     * {@link StatisticsSink} to that sink instead of the operational datastore.
+     *
+     * @param deviceContext device context
+     * @param sink statistics sink, {@code null} to write all statistics to the operational datastore
+     * @return the statistics writer provider
+     */
+    public static MultipartWriterProvider createDefaultProvider(final DeviceContext deviceContext,
+            final @Nullable StatisticsSink sink) {
         final var instanceIdentifier = deviceContext.getDeviceInfo().getNodeInstanceIdentifier();
         final MultipartWriterProvider provider = new MultipartWriterProvider();
 
@@ -45,12 +62,22 @@ public final class MultipartWriterProviderFactory {
         provider.register(MultipartType.OFPMPTABLE, new TableStatsMultipartWriter(deviceContext, instanceIdentifier));
         provider.register(MultipartType.OFPMPGROUP, new GroupStatsMultipartWriter(deviceContext, instanceIdentifier));
         provider.register(MultipartType.OFPMPMETER, new MeterStatsMultipartWriter(deviceContext, instanceIdentifier));
-        provider.register(MultipartType.OFPMPPORTSTATS, new PortStatsMultipartWriter(deviceContext,
-                instanceIdentifier, deviceContext.getPrimaryConnectionContext().getFeatures()));
+        if (sink != null && sink.handles(MultipartType.OFPMPPORTSTATS)) {
+            provider.register(MultipartType.OFPMPPORTSTATS, new PortStatsSinkWriter(deviceContext,
+                    instanceIdentifier, deviceContext.getDeviceInfo(), sink));
+        } else {
+            provider.register(MultipartType.OFPMPPORTSTATS, new PortStatsMultipartWriter(deviceContext,
+                    instanceIdentifier, deviceContext.getPrimaryConnectionContext().getFeatures()));
+        }
         provider.register(MultipartType.OFPMPQUEUE, new QueueStatsMultipartWriter(deviceContext,
                 instanceIdentifier, deviceContext.getPrimaryConnectionContext().getFeatures()));
-        provider.register(MultipartType.OFPMPFLOW, new FlowStatsMultipartWriter(deviceContext, instanceIdentifier,
-                deviceContext));
+        if (sink != null && sink.handles(MultipartType.OFPMPFLOW)) {
+            provider.register(MultipartType.OFPMPFLOW, new FlowStatsSinkWriter(deviceContext, instanceIdentifier,
+                    deviceContext, deviceContext.getDeviceInfo(), sink));
+        } else {
+            provider.register(MultipartType.OFPMPFLOW, new FlowStatsMultipartWriter(deviceContext,
+                    instanceIdentifier, deviceContext));
+        }
         provider.register(MultipartType.OFPMPGROUPDESC, new GroupDescMultipartWriter(deviceContext,
                 instanceIdentifier, deviceContext));
         provider.register(MultipartType.OFPMPMETERCONFIG, new MeterConfigMultipartWriter(deviceContext,
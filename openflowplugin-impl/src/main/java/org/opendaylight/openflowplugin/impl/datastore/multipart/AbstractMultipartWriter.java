@@ -73,6 +73,24 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
         return false;
     }
 
+    /**
+     * Whether this writer stores statistics in the operational datastore. Writers handing statistics elsewhere
+     * return {@code false}, so that the datastore content they would otherwise replace is left alone.
+     *
+     * @return true if statistics are written to the operational datastore
+     */
+    public boolean writesToDatastore() {
+        return true;
+    }
+
+    /**
+     * Invoked once all statistics of a gathering cycle have been written, so that writers keeping statistics outside
+     * of the operational datastore can drop the ones which were not reported anymore.
+     */
+    public void statisticsGathered() {
+        // No-op by default
+    }
+
     /**
      * Get type of writer.
      *
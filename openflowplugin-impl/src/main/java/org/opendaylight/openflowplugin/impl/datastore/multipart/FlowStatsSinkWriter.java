@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.datastore.multipart;
+
+import static java.util.Objects.requireNonNull;
+
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
+import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsSink;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowAndStatisticsMapList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier.WithKey;
+
+/**
+ * Hands flow statistics to a {@link StatisticsSink} instead of the operational datastore. Flow identifiers are
+ * resolved through the device flow registry, same as {@link FlowStatsMultipartWriter} does.
+ */
+public class FlowStatsSinkWriter extends AbstractMultipartWriter<FlowAndStatisticsMapList> {
+    private final DeviceRegistry registry;
+    private final DeviceInfo deviceInfo;
+    private final StatisticsSink sink;
+
+    public FlowStatsSinkWriter(final TxFacade txFacade,
+                               final WithKey<Node, NodeKey> instanceIdentifier,
+                               final DeviceRegistry registry,
+                               final DeviceInfo deviceInfo,
+                               final StatisticsSink sink) {
+        super(txFacade, instanceIdentifier);
+        this.registry = requireNonNull(registry);
+        this.deviceInfo = requireNonNull(deviceInfo);
+        this.sink = requireNonNull(sink);
+    }
+
+    @Override
+    protected Class<FlowAndStatisticsMapList> getType() {
+        return FlowAndStatisticsMapList.class;
+    }
+
+    @Override
+    public boolean writesToDatastore() {
+        return false;
+    }
+
+    @Override
+    public void statisticsGathered() {
+        sink.statisticsGathered(deviceInfo, MultipartType.OFPMPFLOW);
+    }
+
+    @Override
+    public void storeStatistics(final FlowAndStatisticsMapList statistics, final boolean withParents) {
+        final var flowRegistry = registry.getDeviceFlowRegistry();
+        statistics.nonnullFlowAndStatisticsMapList()
+            .forEach(stat -> {
+                final var flowRegistryKey = flowRegistry.createKey(new FlowBuilder(stat)
+                        .withKey(FlowRegistryKeyFactory.DUMMY_FLOW_KEY)
+                        .build());
+                flowRegistry.store(flowRegistryKey);
+
+                final var flowDescriptor = flowRegistry.retrieveDescriptor(flowRegistryKey);
+                if (flowDescriptor != null) {
+                    sink.writeFlowStatistics(deviceInfo, flowDescriptor.getFlowId(), stat);
+                }
+            });
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.datastore.multipart;
+
+import static java.util.Objects.requireNonNull;
+
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsSink;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.port.statistics.rev131214.NodeConnectorStatisticsAndPortNumberMap;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier.WithKey;
+
+/**
+ * Hands port statistics to a {@link StatisticsSink} instead of the operational datastore. Statistics are keyed by the
+ * node connector identifiers they were translated with.
+ */
+public class PortStatsSinkWriter extends AbstractMultipartWriter<NodeConnectorStatisticsAndPortNumberMap> {
+    private final DeviceInfo deviceInfo;
+    private final StatisticsSink sink;
+
+    public PortStatsSinkWriter(final TxFacade txFacade,
+                               final WithKey<Node, NodeKey> instanceIdentifier,
+                               final DeviceInfo deviceInfo,
+                               final StatisticsSink sink) {
+        super(txFacade, instanceIdentifier);
+        this.deviceInfo = requireNonNull(deviceInfo);
+        this.sink = requireNonNull(sink);
+    }
+
+    @Override
+    protected Class<NodeConnectorStatisticsAndPortNumberMap> getType() {
+        return NodeConnectorStatisticsAndPortNumberMap.class;
+    }
+
+    @Override
+    public boolean writesToDatastore() {
+        return false;
+    }
+
+    @Override
+    public void statisticsGathered() {
+        sink.statisticsGathered(deviceInfo, MultipartType.OFPMPPORTSTATS);
+    }
+
+    @Override
+    public void storeStatistics(final NodeConnectorStatisticsAndPortNumberMap statistics, final boolean withParents) {
+        statistics.nonnullNodeConnectorStatisticsAndPortNumberMap().values()
+            .forEach(stat -> sink.writePortStatistics(deviceInfo, stat.getNodeConnectorId(), stat));
+    }
+}
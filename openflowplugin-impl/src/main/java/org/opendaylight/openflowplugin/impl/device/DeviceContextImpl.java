@@ -7,6 +7,8 @@
  */
 package org.opendaylight.openflowplugin.impl.device;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -14,17 +16,21 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.util.HashedWheelTimer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
@@ -51,10 +57,13 @@ import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainState;
 import org.opendaylight.openflowplugin.api.openflow.md.core.TranslatorKey;
 import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.api.openflow.registry.group.DeviceGroupRegistry;
 import org.opendaylight.openflowplugin.api.openflow.registry.meter.DeviceMeterRegistry;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
 import org.opendaylight.openflowplugin.common.txchain.TransactionChainManager;
+import org.opendaylight.openflowplugin.common.txchain.WriteBehindPolicy;
 import org.opendaylight.openflowplugin.extension.api.ConvertorMessageFromOFJava;
 import org.opendaylight.openflowplugin.extension.api.ExtensionConverterProviderKeeper;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterProvider;
@@ -65,6 +74,7 @@ import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryI
 import org.opendaylight.openflowplugin.impl.device.initialization.AbstractDeviceInitializer;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.listener.MultiMsgCollectorImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.CompactDeviceFlowRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.flow.DeviceFlowRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.group.DeviceGroupRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.meter.DeviceMeterRegistryImpl;
@@ -76,6 +86,14 @@ import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.ExperimenterMessageFromDevBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeConnector;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowsRemoved;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowsRemovedBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.flows.removed.RemovedFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.flows.removed.RemovedFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
@@ -85,6 +103,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.No
 import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PortReason;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.Error;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowRemoved;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
@@ -101,6 +120,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.port.statistics.rev131214.F
 import org.opendaylight.yangtools.binding.DataContainer;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.util.concurrent.NotificationManager;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
@@ -163,6 +184,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private FlowGroupInfoHistoryImpl history;
     private final NotificationManager<String, Runnable> queuedNotificationManager;
     private final boolean isStatisticsPollingOn;
+    private final WriteBehindPolicy writeBehindPolicy;
+    private final boolean useCompactFlowRegistry;
+    private final boolean memoizeNormalizedMatches;
+    private final @Nullable FlowRemovedBatcher flowRemovedBatcher;
+    private final List<Consumer<ErrorMessage>> errorListeners = new CopyOnWriteArrayList<>();
 
     DeviceContextImpl(@NonNull final ConnectionContext primaryConnectionContext,
                       @NonNull final DataBroker dataBroker,
@@ -177,7 +203,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                       final boolean switchFeaturesMandatory,
                       final ContextChainHolder contextChainHolder,
                       final NotificationManager<String, Runnable> queuedNotificationManager,
-                      final boolean isStatisticsPollingOn) {
+                      final boolean isStatisticsPollingOn,
+                      final WriteBehindPolicy writeBehindPolicy,
+                      final boolean useCompactFlowRegistry,
+                      final boolean memoizeNormalizedMatches,
+                      final int flowRemovedBatchWindow) {
         this.primaryConnectionContext = primaryConnectionContext;
         deviceInfo = primaryConnectionContext.getDeviceInfo();
         this.hashedWheelTimer = hashedWheelTimer;
@@ -188,6 +218,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         this.dataBroker = dataBroker;
         this.messageSpy = messageSpy;
         this.isStatisticsPollingOn = isStatisticsPollingOn;
+        this.writeBehindPolicy = writeBehindPolicy;
+        this.useCompactFlowRegistry = useCompactFlowRegistry;
+        this.memoizeNormalizedMatches = memoizeNormalizedMatches;
+        flowRemovedBatcher = flowRemovedBatchWindow > 0
+            ? new FlowRemovedBatcher(hashedWheelTimer, flowRemovedBatchWindow, this::writeFlowRemovedBatch) : null;
         this.contextChainHolder = contextChainHolder;
 
         packetInLimiter = new PacketInRateLimiter(primaryConnectionContext.getConnectionAdapter(),
@@ -304,6 +339,21 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                 ofHeader instanceof Error
                         ? MessageSpy.StatisticsGroup.FROM_SWITCH_PUBLISHED_FAILURE
                         : MessageSpy.StatisticsGroup.FROM_SWITCH_PUBLISHED_SUCCESS);
+        if (ofHeader instanceof ErrorMessage errorMessage) {
+            errorListeners.forEach(listener -> listener.accept(errorMessage));
+        }
+    }
+
+    @Override
+    public Registration registerErrorListener(final Consumer<ErrorMessage> listener) {
+        final var registered = requireNonNull(listener);
+        errorListeners.add(registered);
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                errorListeners.remove(registered);
+            }
+        };
     }
 
     @Override
@@ -323,7 +373,9 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                     .FlowRemoved flowRemovedNotification = flowRemovedTranslator
                     .translate(flowRemoved, deviceInfo, null);
 
-            if (isFlowRemovedNotificationOn) {
+            if (flowRemovedBatcher != null) {
+                flowRemovedBatcher.add(flowRemovedNotification);
+            } else if (isFlowRemovedNotificationOn) {
                 // Trigger off a notification
                 notificationPublishService.offerNotification(flowRemovedNotification);
             }
@@ -333,6 +385,74 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         }
     }
 
+    private void writeFlowRemovedBatch(final List<org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service
+            .rev130819.FlowRemoved> batch) {
+        // Processing takes the transaction lock, hence it never runs on the event loop
+        queuedNotificationManager.submitNotification(deviceInfo.getDatapathId().toString().intern(),
+            () -> processFlowRemovedBatch(batch));
+    }
+
+    /**
+     * Resolve a batch of removed flows against the flow registry, delete the known ones from the operational
+     * datastore in a single transaction and publish a single {@link FlowsRemoved} notification.
+     *
+     * @param batch translated flow removed messages
+     */
+    @VisibleForTesting
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    void processFlowRemovedBatch(final List<org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service
+            .rev130819.FlowRemoved> batch) {
+        if (!isMasterOfDevice()) {
+            LOG.debug("Controller is not owner of the device {}, skipping {} Flow Removed messages",
+                    deviceInfo.getLOGValue(), batch.size());
+            return;
+        }
+
+        final var nodePath = deviceInfo.getNodeInstanceIdentifier();
+        final var removedFlows = new ArrayList<RemovedFlow>(batch.size());
+        int deleted = 0;
+        try {
+            acquireWriteTransactionLock();
+            for (var flowRemoved : batch) {
+                final var removedFlow = new RemovedFlowBuilder(flowRemoved).setReason(flowRemoved.getReason());
+                final FlowRegistryKey flowRegistryKey = deviceFlowRegistry.createKey(flowRemoved);
+                final FlowDescriptor flowDescriptor = deviceFlowRegistry.retrieveDescriptor(flowRegistryKey);
+                if (flowDescriptor != null) {
+                    final var flowPath = nodePath.toBuilder()
+                            .augmentation(FlowCapableNode.class)
+                            .child(Table.class, flowDescriptor.getTableKey())
+                            .child(Flow.class, new FlowKey(flowDescriptor.getFlowId()))
+                            .build();
+                    addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, flowPath);
+                    deviceFlowRegistry.addMark(flowRegistryKey);
+                    removedFlow.setFlowRef(new FlowRef(flowPath));
+                    deleted++;
+                } else {
+                    LOG.debug("Flow id not found: nodeId={} tableId={}, priority={}", deviceInfo.getNodeId(),
+                            flowRemoved.getTableId(), flowRemoved.getPriority());
+                }
+                removedFlows.add(removedFlow.build());
+            }
+            if (deleted != 0) {
+                submitTransaction();
+            }
+        } catch (final Exception e) {
+            LOG.warn("Error processing {} Flow Removed messages on device {}", batch.size(), deviceInfo.getLOGValue(),
+                    e);
+        } finally {
+            releaseWriteTransactionLock();
+        }
+
+        LOG.debug("Processed {} Flow Removed messages on device {}, {} known flows deleted", batch.size(),
+                deviceInfo.getLOGValue(), deleted);
+        if (isFlowRemovedNotificationOn) {
+            notificationPublishService.offerNotification(new FlowsRemovedBuilder()
+                    .setNode(new NodeRef(nodePath))
+                    .setRemovedFlow(removedFlows)
+                    .build());
+        }
+    }
+
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void processPortStatusMessage(final PortStatusMessage portStatus) {
@@ -351,43 +471,47 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         }
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     private void writePortStatusMessage(final PortStatus portStatusMessage) {
+        // Port status goes straight to the per-device queue even with event loop affinity: the write needs the
+        // transaction lock, and translating on the event loop first would only add a hand-off
         String datapathId = deviceInfo.getDatapathId().toString().intern();
-        queuedNotificationManager.submitNotification(datapathId, () -> {
-            try {
-                acquireWriteTransactionLock();
-                final FlowCapableNodeConnector flowCapableNodeConnector = portStatusTranslator
-                        .translate(portStatusMessage, getDeviceInfo(), null);
-                OF_EVENT_LOG.debug("Node Connector Status, Node: {}, PortNumber: {}, PortName: {}, Reason: {}",
-                        deviceInfo.getDatapathId(), portStatusMessage.getPortNo(), portStatusMessage.getName(),
-                        portStatusMessage.getReason());
-
-                final var iiToNodeConnector = getDeviceInfo().getNodeInstanceIdentifier().toBuilder()
-                        .child(NodeConnector.class, new NodeConnectorKey(InventoryDataServiceUtil
-                                .nodeConnectorIdfromDatapathPortNo(
-                                        deviceInfo.getDatapathId(),
-                                        portStatusMessage.getPortNo(),
-                                        OpenflowVersion.get(deviceInfo.getVersion()))))
-                        .build();
-
-                writeToTransaction(LogicalDatastoreType.OPERATIONAL, iiToNodeConnector, new NodeConnectorBuilder()
-                        .withKey(iiToNodeConnector.key())
-                        .addAugmentation(new FlowCapableNodeConnectorStatisticsDataBuilder().build())
-                        .addAugmentation(flowCapableNodeConnector)
-                        .build());
+        queuedNotificationManager.submitNotification(datapathId, () -> writePortStatus(portStatusMessage));
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void writePortStatus(final PortStatus portStatusMessage) {
+        try {
+            acquireWriteTransactionLock();
+            final FlowCapableNodeConnector flowCapableNodeConnector = portStatusTranslator
+                    .translate(portStatusMessage, getDeviceInfo(), null);
+            OF_EVENT_LOG.debug("Node Connector Status, Node: {}, PortNumber: {}, PortName: {}, Reason: {}",
+                    deviceInfo.getDatapathId(), portStatusMessage.getPortNo(), portStatusMessage.getName(),
+                    portStatusMessage.getReason());
+
+            final var iiToNodeConnector = getDeviceInfo().getNodeInstanceIdentifier().toBuilder()
+                    .child(NodeConnector.class, new NodeConnectorKey(InventoryDataServiceUtil
+                            .nodeConnectorIdfromDatapathPortNo(
+                                    deviceInfo.getDatapathId(),
+                                    portStatusMessage.getPortNo(),
+                                    OpenflowVersion.get(deviceInfo.getVersion()))))
+                    .build();
+
+            writeToTransaction(LogicalDatastoreType.OPERATIONAL, iiToNodeConnector, new NodeConnectorBuilder()
+                    .withKey(iiToNodeConnector.key())
+                    .addAugmentation(new FlowCapableNodeConnectorStatisticsDataBuilder().build())
+                    .addAugmentation(flowCapableNodeConnector)
+                    .build());
+            syncSubmitTransaction();
+            if (PortReason.OFPPRDELETE.equals(portStatusMessage.getReason())) {
+                addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, iiToNodeConnector);
                 syncSubmitTransaction();
-                if (PortReason.OFPPRDELETE.equals(portStatusMessage.getReason())) {
-                    addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, iiToNodeConnector);
-                    syncSubmitTransaction();
-                }
-            } catch (final Exception e) {
-                LOG.warn("Error processing port status message for port {} on device {}",
-                        portStatusMessage.getPortNo(), datapathId, e);
-            } finally {
-                releaseWriteTransactionLock();
             }
-        });
+        } catch (final Exception e) {
+            LOG.warn("Error processing port status message for port {} on device {}",
+                    portStatusMessage.getPortNo(), deviceInfo.getDatapathId(), e);
+        } finally {
+            releaseWriteTransactionLock();
+        }
     }
 
     @Override
@@ -563,6 +687,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                 (int) (HIGH_WATERMARK_FACTOR * upperBound));
     }
 
+    void joinPacketInQuota(final PacketInQuotaPool pool) {
+        packetInLimiter.setShare(pool.register(deviceInfo, packetInLimiter::getOccupiedPermits,
+            this::updatePacketInRateLimit));
+    }
+
     @Override
     public void setExtensionConverterProvider(final ExtensionConverterProvider extensionConverterProvider) {
         this.extensionConverterProvider = extensionConverterProvider;
@@ -620,6 +749,15 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
     @Override
     public void close() {
+        if (flowRemovedBatcher != null) {
+            // The device's flows are going away along with it, there is no point in removing them one by one
+            final int discarded = flowRemovedBatcher.close();
+            if (discarded != 0) {
+                LOG.debug("Discarded {} pending Flow Removed messages of device {}", discarded,
+                    deviceInfo.getLOGValue());
+            }
+        }
+
         // Close all datastore registries and transactions
         if (initialized.getAndSet(false)) {
             deviceGroupRegistry.close();
@@ -674,26 +812,39 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         final Optional<AbstractDeviceInitializer> initializer = deviceInitializerProvider
                 .lookup(deviceInfo.getVersion());
 
-        if (initializer.isPresent()) {
-            final Future<Void> initialize = initializer.orElseThrow()
-                    .initialize(this, switchFeaturesMandatory, skipTableFeatures, writerProvider, convertorExecutor);
-
-            try {
-                initialize.get(DEVICE_INIT_TIMEOUT, TimeUnit.MILLISECONDS);
-            } catch (TimeoutException ex) {
-                initialize.cancel(true);
-                throw new IllegalStateException(String.format("Failed to initialize device %s in %ss: %s",
-                        deviceInfo.toString(), String.valueOf(DEVICE_INIT_TIMEOUT / 1000), ex.toString()), ex);
-            } catch (ExecutionException | InterruptedException ex) {
-                throw new IllegalStateException(
-                        String.format("Device %s cannot be initialized: %s", deviceInfo.toString(), ex.toString()), ex);
-            }
-        } else {
+        if (initializer.isEmpty()) {
             throw new IllegalStateException(String.format("Unsupported version %s for device %s",
                     deviceInfo.getVersion(),
                     deviceInfo.toString()));
         }
 
+        // The flow registry is filled from the config datastore, so unless the initializer needs it, there is no
+        // need to wait for the device to answer first
+        final boolean concurrentFill = initializer.orElseThrow().allowsConcurrentFlowRegistryFill();
+        if (concurrentFill) {
+            fillDeviceFlowRegistry();
+        }
+
+        final Future<Void> initialize = initializer.orElseThrow()
+                .initialize(this, switchFeaturesMandatory, skipTableFeatures, writerProvider, convertorExecutor);
+
+        try {
+            initialize.get(DEVICE_INIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            initialize.cancel(true);
+            throw new IllegalStateException(String.format("Failed to initialize device %s in %ss: %s",
+                    deviceInfo.toString(), String.valueOf(DEVICE_INIT_TIMEOUT / 1000), ex.toString()), ex);
+        } catch (ExecutionException | InterruptedException ex) {
+            throw new IllegalStateException(
+                    String.format("Device %s cannot be initialized: %s", deviceInfo.toString(), ex.toString()), ex);
+        }
+
+        if (!concurrentFill) {
+            fillDeviceFlowRegistry();
+        }
+    }
+
+    private void fillDeviceFlowRegistry() {
         final ListenableFuture<List<Optional<FlowCapableNode>>> deviceFlowRegistryFill =
                 getDeviceFlowRegistry().fill();
         Futures.addCallback(deviceFlowRegistryFill,
@@ -706,10 +857,14 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         if (!initialized.get()) {
             LOG.debug("Transaction chain manager for node {} created", deviceInfo);
             final NodeId nodeId = deviceInfo.getNodeId();
-            transactionChainManager = new TransactionChainManager(dataBroker, nodeId.getValue());
+            transactionChainManager = new TransactionChainManager(dataBroker, nodeId.getValue(),
+                writeBehindPolicy);
             history = new FlowGroupInfoHistoryImpl(FLOWGROUP_CACHE_SIZE);
-            deviceFlowRegistry = new DeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
-                    deviceInfo.getNodeInstanceIdentifier(), history);
+            deviceFlowRegistry = useCompactFlowRegistry
+                ? new CompactDeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
+                    deviceInfo.getNodeInstanceIdentifier(), history, memoizeNormalizedMatches)
+                : new DeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
+                    deviceInfo.getNodeInstanceIdentifier(), history, memoizeNormalizedMatches);
             deviceGroupRegistry = new DeviceGroupRegistryImpl(history);
             deviceMeterRegistry = new DeviceMeterRegistryImpl();
         }
@@ -746,12 +901,14 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private class DeviceFlowRegistryCallback implements FutureCallback<List<Optional<FlowCapableNode>>> {
         private final ListenableFuture<List<Optional<FlowCapableNode>>> deviceFlowRegistryFill;
         private final ContextChainMastershipWatcher contextChainMastershipWatcher;
+        private final long startNanos;
 
         DeviceFlowRegistryCallback(
                 final ListenableFuture<List<Optional<FlowCapableNode>>> deviceFlowRegistryFill,
                 final ContextChainMastershipWatcher contextChainMastershipWatcher) {
             this.deviceFlowRegistryFill = deviceFlowRegistryFill;
             this.contextChainMastershipWatcher = contextChainMastershipWatcher;
+            startNanos = System.nanoTime();
         }
 
         @Override
@@ -773,7 +930,8 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                     }
                 }
 
-                LOG.debug("Finished filling flow registry with {} flows for node: {}", flowCount, deviceInfo);
+                LOG.debug("Finished filling flow registry with {} flows for node: {} in {} ms", flowCount, deviceInfo,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
             }
         }
 
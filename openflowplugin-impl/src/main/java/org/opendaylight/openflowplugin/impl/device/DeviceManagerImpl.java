@@ -34,11 +34,13 @@ import org.opendaylight.openflowplugin.api.openflow.device.DeviceManager;
 import org.opendaylight.openflowplugin.api.openflow.device.TranslatorLibrary;
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainHolder;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.common.txchain.WriteBehindPolicy;
 import org.opendaylight.openflowplugin.extension.api.ExtensionConverterProviderKeeper;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterProvider;
 import org.opendaylight.openflowplugin.impl.connection.OutboundQueueProviderImpl;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.listener.OpenflowProtocolListenerFullImpl;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.BarrierStatistics;
 import org.opendaylight.openflowplugin.impl.util.DeviceInitializationUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
@@ -56,6 +58,7 @@ import org.slf4j.LoggerFactory;
 public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProviderKeeper {
     private static final Logger LOG = LoggerFactory.getLogger(DeviceManagerImpl.class);
     private static final int SPY_RATE = 10;
+    private static final int PACKET_IN_QUOTA_REBALANCE_RATE = 1;
 
     private final OpenflowProviderConfig config;
     private final DataBroker dataBroker;
@@ -66,7 +69,9 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
     private final NotificationPublishService notificationPublishService;
     private final MessageSpy messageSpy;
     private final HashedWheelTimer hashedWheelTimer;
+    private final ExecutorService executorService;
     private final Object updatePacketInRateLimitersLock = new Object();
+    private final PacketInQuotaPool packetInQuotaPool;
     private TranslatorLibrary translatorLibrary;
     private ExtensionConverterProvider extensionConverterProvider;
     private ScheduledThreadPoolExecutor spyPool;
@@ -86,9 +91,16 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
         this.deviceInitializerProvider = deviceInitializerProvider;
         this.convertorExecutor = convertorExecutor;
         this.hashedWheelTimer = hashedWheelTimer;
+        this.executorService = executorService;
         spyPool = new ScheduledThreadPoolExecutor(1);
         this.notificationPublishService = notificationPublishService;
         this.messageSpy = messageSpy;
+        if (Boolean.TRUE.equals(config.getEnableSharedPacketInQuota())) {
+            packetInQuotaPool = new PacketInQuotaPool(config.getGlobalNotificationQuota().toJava());
+            packetInQuotaPool.registerMBean();
+        } else {
+            packetInQuotaPool = null;
+        }
         DeviceInitializationUtil.makeEmptyNodes(dataBroker);
         queuedNotificationManager = QueuedNotificationManager.create(executorService, (key, entries) -> {
             entries.forEach(Runnable::run);
@@ -113,11 +125,18 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
             spyPool.shutdownNow();
             spyPool = null;
         }
+        if (packetInQuotaPool != null) {
+            packetInQuotaPool.close();
+        }
     }
 
     @Override
     public void initialize() {
         spyPool.scheduleAtFixedRate(messageSpy, SPY_RATE, SPY_RATE, TimeUnit.SECONDS);
+        if (packetInQuotaPool != null) {
+            spyPool.scheduleAtFixedRate(packetInQuotaPool::rebalance, PACKET_IN_QUOTA_REBALANCE_RATE,
+                PACKET_IN_QUOTA_REBALANCE_RATE, TimeUnit.SECONDS);
+        }
     }
 
     @Override
@@ -154,11 +173,25 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 connectionContext.getConnectionAdapter().registerOutboundQueueHandler(
                         outboundQueueProvider,
                         config.getBarrierCountLimit().getValue().toJava(),
-                        TimeUnit.MILLISECONDS.toNanos(config.getBarrierIntervalTimeoutLimit().getValue().toJava()));
+                        TimeUnit.MILLISECONDS.toNanos(config.getBarrierIntervalTimeoutLimit().getValue().toJava()),
+                        config.getEnableAdaptiveBarrier());
         connectionContext.setOutboundQueueHandleRegistration(outboundQueueHandlerRegistration);
+        if (config.getEnableAdaptiveBarrier()) {
+            BarrierStatistics.register(connectionContext.getDeviceInfo().getNodeId().getValue(),
+                connectionContext.getConnectionAdapter());
+        }
 
+        final int writeBehindBatchSize = config.getTransactionWriteBehindBatchSize().toJava();
+        final WriteBehindPolicy writeBehindPolicy = writeBehindBatchSize == 0 ? null
+            : new WriteBehindPolicy(writeBehindBatchSize,
+                TimeUnit.MILLISECONDS.toNanos(config.getTransactionWriteBehindMaxDelay().getValue().toJava()),
+                executorService);
 
-        final DeviceContext deviceContext = new DeviceContextImpl(
+        // Decoded flow statistics reuse match instances, hence their normalized form can be reused as well
+        final boolean memoizeNormalizedMatches = config.getUseSingleLayerSerialization()
+            && config.getFlowStatisticsDecodeCacheSize().toJava() > 0;
+
+        final DeviceContextImpl deviceContext = new DeviceContextImpl(
                 connectionContext,
                 dataBroker,
                 messageSpy,
@@ -172,12 +205,20 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 config.getSwitchFeaturesMandatory(),
                 contextChainHolder,
                 queuedNotificationManager,
-                config.getIsStatisticsPollingOn());
+                config.getIsStatisticsPollingOn(),
+                writeBehindPolicy,
+                config.getEnableCompactFlowRegistry(),
+                memoizeNormalizedMatches,
+                config.getFlowRemovedBatchWindow().toJava());
         ((ExtensionConverterProviderKeeper) deviceContext).setExtensionConverterProvider(extensionConverterProvider);
         deviceContext.setNotificationPublishService(notificationPublishService);
 
         deviceContexts.put(connectionContext.getDeviceInfo(), deviceContext);
-        updatePacketInRateLimiters();
+        if (packetInQuotaPool != null) {
+            deviceContext.joinPacketInQuota(packetInQuotaPool);
+        } else {
+            updatePacketInRateLimiters();
+        }
 
         final OpenflowProtocolListenerFullImpl messageListener = new OpenflowProtocolListenerFullImpl(
                 connectionContext.getConnectionAdapter(), deviceContext);
@@ -208,11 +249,19 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
 
     @Override
     public void onDeviceRemoved(final DeviceInfo deviceInfo) {
-        deviceContexts.remove(deviceInfo);
+        final DeviceContext deviceContext = deviceContexts.remove(deviceInfo);
+        if (deviceContext != null && config.getEnableAdaptiveBarrier()) {
+            BarrierStatistics.unregister(deviceInfo.getNodeId().getValue(),
+                deviceContext.getPrimaryConnectionContext().getConnectionAdapter());
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Device context removed for node {}", deviceInfo);
         }
-        updatePacketInRateLimiters();
+        if (packetInQuotaPool != null) {
+            packetInQuotaPool.unregister(deviceInfo);
+        } else {
+            updatePacketInRateLimiters();
+        }
     }
 
     @Override
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import io.netty.util.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowRemoved;
+
+/**
+ * Aggregates flow removed notifications of a single device. A batch is handed over once the configured window
+ * elapses after its first notification, or as soon as it reaches {@link #MAX_BATCH_SIZE}. Once {@link #close()}d,
+ * pending and subsequent notifications are discarded.
+ */
+final class FlowRemovedBatcher {
+    static final int MAX_BATCH_SIZE = 10000;
+
+    private final Timer timer;
+    private final long windowMillis;
+    private final Consumer<List<FlowRemoved>> sink;
+
+    @GuardedBy("this")
+    private List<FlowRemoved> pending = new ArrayList<>();
+    @GuardedBy("this")
+    private boolean closed;
+
+    FlowRemovedBatcher(final Timer timer, final long windowMillis, final Consumer<List<FlowRemoved>> sink) {
+        checkArgument(windowMillis > 0, "Window must be positive, not %s", windowMillis);
+        this.timer = requireNonNull(timer);
+        this.windowMillis = windowMillis;
+        this.sink = requireNonNull(sink);
+    }
+
+    void add(final FlowRemoved flowRemoved) {
+        final boolean first;
+        final List<FlowRemoved> full;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            first = pending.isEmpty();
+            pending.add(flowRemoved);
+            full = pending.size() >= MAX_BATCH_SIZE ? takePending() : null;
+        }
+
+        if (full != null) {
+            sink.accept(full);
+        } else if (first) {
+            // A timeout left over from a batch flushed because of its size may flush this one early, which is fine
+            timer.newTimeout(timeout -> flush(), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flush() {
+        final List<FlowRemoved> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+    }
+
+    /**
+     * Discard pending notifications and stop accepting new ones.
+     *
+     * @return number of discarded notifications
+     */
+    synchronized int close() {
+        closed = true;
+        return takePending().size();
+    }
+
+    @GuardedBy("this")
+    private List<FlowRemoved> takePending() {
+        final List<FlowRemoved> ret = pending;
+        pending = new ArrayList<>();
+        return ret;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import java.util.List;
+import javax.management.MXBean;
+
+/**
+ * Metrics of the packet-in quota shared by devices.
+ */
+@MXBean
+public interface PacketInQuotaMXBean {
+    /**
+     * Return guarantee, occupancy, demand and borrowing statistics of each device.
+     *
+     * @return one line per device
+     */
+    List<String> getDeviceShares();
+
+    /**
+     * Return the number of permits not reserved by any device guarantee.
+     *
+     * @return number of permits which can be borrowed
+     */
+    int getBorrowCapacity();
+
+    /**
+     * Return the number of permits currently borrowed by all devices.
+     *
+     * @return number of borrowed permits
+     */
+    int getBorrowedPermits();
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Packet-in quota shared by all devices. Each device is guaranteed a part of the quota, sized from its recently
+ * observed demand, and may borrow permits not reserved by any guarantee once its own part is exhausted. Guarantees
+ * are recomputed by {@link #rebalance()}, which is expected to run periodically, so that quota reserved by devices
+ * which went idle becomes available to busy ones. Borrowing and returning permits is lock-free.
+ */
+final class PacketInQuotaPool implements PacketInQuotaMXBean, AutoCloseable {
+    /**
+     * Per-device part of the pool.
+     */
+    final class Share {
+        private final AtomicInteger borrowed = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final LongAdder borrowedTotal = new LongAdder();
+        private final LongAdder rejectedTotal = new LongAdder();
+        private final DeviceInfo deviceInfo;
+        private final IntSupplier occupied;
+        private final LongConsumer guaranteeListener;
+
+        @GuardedBy("PacketInQuotaPool.this")
+        private float demand = Float.NaN;
+        private volatile int guarantee;
+
+        Share(final DeviceInfo deviceInfo, final IntSupplier occupied, final LongConsumer guaranteeListener) {
+            this.deviceInfo = requireNonNull(deviceInfo);
+            this.occupied = requireNonNull(occupied);
+            this.guaranteeListener = requireNonNull(guaranteeListener);
+        }
+
+        void observe(final int occupiedPermits) {
+            if (occupiedPermits > peak.get()) {
+                peak.accumulateAndGet(occupiedPermits, Math::max);
+            }
+        }
+
+        boolean tryBorrow() {
+            int cur;
+            do {
+                cur = pooled.get();
+                if (cur >= capacity) {
+                    rejected.incrementAndGet();
+                    rejectedTotal.increment();
+                    return false;
+                }
+            } while (!pooled.compareAndSet(cur, cur + 1));
+
+            borrowed.incrementAndGet();
+            borrowedTotal.increment();
+            return true;
+        }
+
+        void giveBack() {
+            int cur;
+            do {
+                cur = borrowed.get();
+                if (cur == 0) {
+                    return;
+                }
+            } while (!borrowed.compareAndSet(cur, cur - 1));
+            pooled.decrementAndGet();
+        }
+
+        int guarantee() {
+            return guarantee;
+        }
+
+        int borrowed() {
+            return borrowed.get();
+        }
+
+        @GuardedBy("PacketInQuotaPool.this")
+        private void updateGuarantee(final int fairShare) {
+            // Demand is the peak occupancy over the last period, plus the permits denied during it
+            final int sample = peak.getAndSet(occupied.getAsInt()) + rejected.getAndSet(0);
+            demand = Float.isNaN(demand) ? sample : DEMAND_WEIGHT * sample + (1 - DEMAND_WEIGHT) * demand;
+
+            final int newGuarantee = Math.max(MIN_GUARANTEE, Math.min(fairShare, (int) (demand * DEMAND_HEADROOM)));
+            if (newGuarantee != guarantee) {
+                guarantee = newGuarantee;
+                guaranteeListener.accept(newGuarantee);
+            }
+        }
+
+        @GuardedBy("PacketInQuotaPool.this")
+        private String describe() {
+            return "%s: guarantee=%d, occupied=%d, borrowed=%d, demand=%.1f, borrowedTotal=%d, rejectedTotal=%d"
+                .formatted(deviceInfo.getNodeId().getValue(), guarantee, occupied.getAsInt(), borrowed.get(), demand,
+                    borrowedTotal.sum(), rejectedTotal.sum());
+        }
+    }
+
+    static final int MIN_GUARANTEE = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(PacketInQuotaPool.class);
+    private static final ObjectName MXBEAN_OBJECT_NAME;
+    // Weight of the last period in the demand moving average
+    private static final float DEMAND_WEIGHT = 0.5f;
+    // Guarantees are sized this much above the demand, so that a steady device does not need to borrow
+    private static final float DEMAND_HEADROOM = 1.25f;
+
+    static {
+        try {
+            MXBEAN_OBJECT_NAME = new ObjectName("%s:type=%s".formatted(
+                    PacketInQuotaMXBean.class.getPackage().getName(), PacketInQuotaMXBean.class.getSimpleName()));
+        } catch (MalformedObjectNameException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Map<DeviceInfo, Share> shares = new ConcurrentHashMap<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int quota;
+
+    private volatile int capacity;
+    private boolean runUnreg;
+
+    PacketInQuotaPool(final long quota) {
+        this.quota = (int) Math.min(quota, Integer.MAX_VALUE);
+        capacity = this.quota;
+    }
+
+    void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, MXBEAN_OBJECT_NAME);
+            runUnreg = true;
+            LOG.info("Registered MBean {}", MXBEAN_OBJECT_NAME);
+        } catch (NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            LOG.warn("Error registering MBean {}", MXBEAN_OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Add a device to the pool and rebalance guarantees.
+     *
+     * @param deviceInfo device
+     * @param occupied supplier of the number of permits currently held by the device
+     * @param guaranteeListener listener invoked whenever the guarantee of the device changes
+     * @return share of the device
+     */
+    Share register(final DeviceInfo deviceInfo, final IntSupplier occupied, final LongConsumer guaranteeListener) {
+        final Share share = new Share(deviceInfo, occupied, guaranteeListener);
+        shares.put(deviceInfo, share);
+        rebalance();
+        return share;
+    }
+
+    /**
+     * Remove a device from the pool, giving back any permits it borrowed, and rebalance guarantees.
+     *
+     * @param deviceInfo device
+     */
+    void unregister(final DeviceInfo deviceInfo) {
+        final Share share = shares.remove(deviceInfo);
+        if (share != null) {
+            pooled.addAndGet(-share.borrowed.getAndSet(0));
+            rebalance();
+        }
+    }
+
+    /**
+     * Recompute guarantees of all devices from their demand observed since the last invocation. Any part of the quota
+     * not reserved by a guarantee can be borrowed.
+     */
+    synchronized void rebalance() {
+        final int count = shares.size();
+        if (count == 0) {
+            capacity = quota;
+            return;
+        }
+
+        final int fairShare = Math.max(MIN_GUARANTEE, quota / count);
+        long reserved = 0;
+        for (Share share : shares.values()) {
+            share.updateGuarantee(fairShare);
+            reserved += share.guarantee;
+        }
+        capacity = (int) Math.max(0, quota - reserved);
+        LOG.trace("Rebalanced packet-in quota among {} devices, {} permits can be borrowed", count, capacity);
+    }
+
+    @Override
+    public synchronized List<String> getDeviceShares() {
+        return shares.values().stream().map(Share::describe).toList();
+    }
+
+    @Override
+    public int getBorrowCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getBorrowedPermits() {
+        return pooled.get();
+    }
+
+    @Override
+    public void close() {
+        if (runUnreg) {
+            runUnreg = false;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(MXBEAN_OBJECT_NAME);
+                LOG.info("Unregistered MBean {}", MXBEAN_OBJECT_NAME);
+            } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+                LOG.warn("Error unregistering MBean {}", MXBEAN_OBJECT_NAME, e);
+            }
+        }
+    }
+}
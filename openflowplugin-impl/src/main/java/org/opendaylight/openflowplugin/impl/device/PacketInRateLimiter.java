@@ -23,6 +23,8 @@ final class PacketInRateLimiter extends SimpleRatelimiter {
     private final ConnectionAdapter connectionAdapter;
     private final MessageSpy messageSpy;
 
+    private volatile PacketInQuotaPool.Share share;
+
     PacketInRateLimiter(final ConnectionAdapter connectionAdapter,
                         final int lowWatermark,
                         final int highWatermark,
@@ -35,6 +37,34 @@ final class PacketInRateLimiter extends SimpleRatelimiter {
         this.messageSpy = requireNonNull(messageSpy);
     }
 
+    void setShare(final PacketInQuotaPool.Share share) {
+        this.share = share;
+    }
+
+    @Override
+    boolean acquirePermit() {
+        final boolean acquired = super.acquirePermit();
+        final PacketInQuotaPool.Share local = share;
+        if (local != null) {
+            local.observe(getOccupiedPermits());
+        }
+        return acquired;
+    }
+
+    @Override
+    protected boolean borrowPermit() {
+        final PacketInQuotaPool.Share local = share;
+        return local != null && local.tryBorrow();
+    }
+
+    @Override
+    protected void returnPermit() {
+        final PacketInQuotaPool.Share local = share;
+        if (local != null) {
+            local.giveBack();
+        }
+    }
+
     @Override
     protected void disableFlow() {
         messageSpy.spyMessage(DeviceContext.class, MessageSpy.StatisticsGroup.OFJ_BACKPRESSURE_ON);
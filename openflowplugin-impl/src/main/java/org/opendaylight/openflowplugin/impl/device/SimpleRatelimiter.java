@@ -40,9 +40,25 @@ abstract class SimpleRatelimiter {
 
     protected abstract void enableFlow();
 
+    /**
+     * Attempt to obtain a permit beyond the high watermark from a source shared with other limiters.
+     *
+     * @return {@code true} if a permit was obtained
+     */
+    protected boolean borrowPermit() {
+        return false;
+    }
+
+    /**
+     * Give back a permit obtained through {@link #borrowPermit()}, if any are outstanding.
+     */
+    protected void returnPermit() {
+        // No-op by default
+    }
+
     boolean acquirePermit() {
         final int cnt = counter.incrementAndGet();
-        if (cnt > highWatermark) {
+        if (cnt > highWatermark && !borrowPermit()) {
             synchronized (counterLock) {
                 final int recheck = counter.decrementAndGet();
                 if (recheck >= highWatermark && !limited) {
@@ -58,6 +74,7 @@ abstract class SimpleRatelimiter {
 
     void releasePermit() {
         final int cnt = counter.decrementAndGet();
+        returnPermit();
         if (cnt <= lowWatermarkEffective) {
             synchronized (counterLock) {
                 final int recheck = counter.get();
@@ -64,6 +64,16 @@ public abstract class AbstractDeviceInitializer {
                 multipartWriterProvider, convertorExecutor);
     }
 
+    /**
+     * Check whether the device flow registry may be filled while {@link #initialize} is still in progress. It must
+     * not be if the initializer relies on the registry contents.
+     *
+     * @return {@code true} if the flow registry may be filled concurrently
+     */
+    public boolean allowsConcurrentFlowRegistryFill() {
+        return false;
+    }
+
     protected abstract Future<Void> initializeNodeInformation(@NonNull DeviceContext deviceContext,
                                                               boolean switchFeaturesMandatory,
                                                               boolean skipTableFeatures,
@@ -23,9 +23,19 @@ public final class DeviceInitializerProviderFactory {
      * @return the device initialization provider
      */
     public static DeviceInitializerProvider createDefaultProvider() {
+        return createDefaultProvider(false);
+    }
+
+    /**
+     * Create default #{@link org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider}.
+     * @param pipelined use {@link PipelinedOF13DeviceInitializer} for OpenFlow 1.3 devices
+     * @return the device initialization provider
+     */
+    public static DeviceInitializerProvider createDefaultProvider(final boolean pipelined) {
         final DeviceInitializerProvider provider = new DeviceInitializerProvider();
         provider.register(OFConstants.OFP_VERSION_1_0, new OF10DeviceInitializer());
-        provider.register(OFConstants.OFP_VERSION_1_3, new OF13DeviceInitializer());
+        provider.register(OFConstants.OFP_VERSION_1_3,
+            pipelined ? new PipelinedOF13DeviceInitializer() : new OF13DeviceInitializer());
         return provider;
     }
 
@@ -175,11 +175,11 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
      * @param convertorExecutor convertor executor
      */
     @SuppressWarnings("checkstyle:IllegalCatch")
-    private static void translateAndWriteResult(final MultipartType type,
-                                                final List<OfHeader> result,
-                                                final DeviceContext deviceContext,
-                                                @Nullable final MultipartWriterProvider multipartWriterProvider,
-                                                @Nullable final ConvertorExecutor convertorExecutor) {
+    static void translateAndWriteResult(final MultipartType type,
+                                        final List<OfHeader> result,
+                                        final DeviceContext deviceContext,
+                                        @Nullable final MultipartWriterProvider multipartWriterProvider,
+                                        @Nullable final ConvertorExecutor convertorExecutor) {
         if (result != null) {
             try {
                 result.forEach(reply -> {
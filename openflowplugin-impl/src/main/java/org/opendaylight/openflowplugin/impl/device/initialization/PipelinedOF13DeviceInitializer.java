@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device.initialization;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceState;
+import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.services.StreamingMultipartCollectorService;
+import org.opendaylight.openflowplugin.impl.util.DeviceInitializationUtil;
+import org.opendaylight.openflowplugin.impl.util.DeviceStateUtil;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.Capabilities;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * OpenFlow 1.3 device initializer, which does not wait for the description reply before requesting the remaining
+ * static information. All requests are sent at once and each multipart reply is translated and written as soon as it
+ * is received, rather than after the whole request completes. The device flow registry is filled concurrently.
+ * Time to complete each request is logged once initialization finishes.
+ */
+public class PipelinedOF13DeviceInitializer extends AbstractDeviceInitializer {
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedOF13DeviceInitializer.class);
+
+    // Table features are requested last, as their replies are by far the largest and would hold back the others
+    private static final List<MultipartType> REQUEST_ORDER = List.of(
+        MultipartType.OFPMPDESC,
+        MultipartType.OFPMPPORTDESC,
+        MultipartType.OFPMPMETERFEATURES,
+        MultipartType.OFPMPGROUPFEATURES,
+        MultipartType.OFPMPTABLEFEATURES);
+
+    @Override
+    public boolean allowsConcurrentFlowRegistryFill() {
+        return true;
+    }
+
+    @Override
+    protected Future<Void> initializeNodeInformation(@NonNull final DeviceContext deviceContext,
+                                                     final boolean switchFeaturesMandatory,
+                                                     final boolean skipTableFeatures,
+                                                     @Nullable final MultipartWriterProvider multipartWriterProvider,
+                                                     @Nullable final ConvertorExecutor convertorExecutor) {
+        final ConnectionContext connectionContext = requireNonNull(deviceContext.getPrimaryConnectionContext());
+        final DeviceState deviceState = requireNonNull(deviceContext.getDeviceState());
+        final DeviceInfo deviceInfo = requireNonNull(deviceContext.getDeviceInfo());
+        final Capabilities capabilities = connectionContext.getFeatures().getCapabilities();
+        LOG.debug("Setting capabilities for device {}", deviceInfo);
+        DeviceStateUtil.setDeviceStateBasedOnV13Capabilities(deviceState, capabilities);
+
+        final long startNanos = System.nanoTime();
+        final Map<MultipartType, Long> timings = new ConcurrentHashMap<>();
+        ListenableFuture<RpcResult<List<OfHeader>>> descFuture = null;
+        final List<ListenableFuture<RpcResult<List<OfHeader>>>> futures = new ArrayList<>();
+
+        for (MultipartType type : REQUEST_ORDER) {
+            if (MultipartType.OFPMPTABLEFEATURES.equals(type) && skipTableFeatures) {
+                // Table features are disabled, at least make empty tables
+                makeEmptyTables(deviceContext);
+                continue;
+            }
+
+            final ListenableFuture<RpcResult<List<OfHeader>>> future = requestAndWriteMultipart(type, deviceContext,
+                multipartWriterProvider, convertorExecutor, startNanos, timings);
+            if (MultipartType.OFPMPDESC.equals(type)) {
+                descFuture = future;
+            } else {
+                futures.add(future);
+            }
+        }
+
+        // Description is always required, as is the case with OF13DeviceInitializer
+        return Futures.transform(
+            Futures.allAsList(requireNonNull(descFuture),
+                switchFeaturesMandatory ? Futures.allAsList(futures) : Futures.successfulAsList(futures)),
+            input -> {
+                LOG.info("Static node {} successfully finished collecting in {} ms: {}", deviceInfo,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), formatTimings(timings));
+                return null;
+            }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Request multipart of specified type, translating and writing each reply as it is received.
+     *
+     * @param type multipart type
+     * @param deviceContext device context
+     * @param multipartWriterProvider multipart writer provider
+     * @param convertorExecutor convertor executor
+     * @param startNanos initialization start, as reported by {@link System#nanoTime()}
+     * @param timings time to complete each request, in nanoseconds since start
+     * @return list of multipart messages unified to parent interface
+     */
+    private static ListenableFuture<RpcResult<List<OfHeader>>> requestAndWriteMultipart(final MultipartType type,
+            final DeviceContext deviceContext, @Nullable final MultipartWriterProvider multipartWriterProvider,
+            @Nullable final ConvertorExecutor convertorExecutor, final long startNanos,
+            final Map<MultipartType, Long> timings) {
+        final ListenableFuture<RpcResult<List<OfHeader>>> future = new StreamingMultipartCollectorService(
+            deviceContext, deviceContext, reply -> OF13DeviceInitializer.translateAndWriteResult(type, List.of(reply),
+                deviceContext, multipartWriterProvider, convertorExecutor))
+            .handleServiceCall(type);
+
+        Futures.addCallback(future, new FutureCallback<RpcResult<List<OfHeader>>>() {
+            @Override
+            public void onSuccess(final RpcResult<List<OfHeader>> result) {
+                timings.put(type, System.nanoTime() - startNanos);
+                if (result.getResult() != null) {
+                    LOG.debug("Static node {} info: {} collected", deviceContext.getDeviceInfo(), type);
+                    return;
+                }
+
+                result.getErrors().forEach(rpcError -> {
+                    LOG.warn("Failed to retrieve static node {} info: {}", type, rpcError.getMessage());
+
+                    if (LOG.isTraceEnabled() && rpcError.getCause() != null) {
+                        LOG.trace("Detailed error:", rpcError.getCause());
+                    }
+                });
+
+                // If table features returned nothing, at least make empty tables
+                if (MultipartType.OFPMPTABLEFEATURES.equals(type)) {
+                    makeEmptyTables(deviceContext);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                timings.put(type, System.nanoTime() - startNanos);
+                LOG.warn("Request of type {} for static info of node {} failed.",
+                        type, deviceContext.getDeviceInfo());
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private static void makeEmptyTables(final DeviceContext deviceContext) {
+        if (deviceContext.isStatisticsPollingOn()) {
+            DeviceInitializationUtil.makeEmptyTables(
+                deviceContext,
+                deviceContext.getDeviceInfo(),
+                deviceContext.getPrimaryConnectionContext().getFeatures().getTables().toJava());
+        }
+    }
+
+    private static String formatTimings(final Map<MultipartType, Long> timings) {
+        return REQUEST_ORDER.stream()
+            .filter(timings::containsKey)
+            .map(type -> type + "=" + TimeUnit.NANOSECONDS.toMillis(timings.get(type)) + "ms")
+            .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import org.apache.karaf.shell.api.action.Action;
+import org.apache.karaf.shell.api.action.Argument;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Reference;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.apache.karaf.shell.api.console.Session;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterStore;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+@Command(scope = "ofp", name = "show-flow-counters",
+        description = "Show the latest flow counters kept by the statistics counter store.")
+@Service
+public class ShowFlowCountersCommand implements Action {
+    @Reference
+    Session session;
+    @Reference
+    StatisticsCounterStore statisticsCounterStore;
+    @Argument(index = 0, name = "node", description = "Node identifier, e.g. openflow:1", required = true,
+            multiValued = false)
+    String node;
+
+    @Override
+    public Object execute() {
+        final var console = session.getConsole();
+        final var counters = statisticsCounterStore.getFlowCounters(new NodeId(node));
+        if (counters.isEmpty()) {
+            console.println("No flow counters known for node " + node);
+            return null;
+        }
+        console.println(String.format("%-6s %-40s %20s %20s %10s", "Table", "Flow", "Packets", "Bytes",
+            "Duration"));
+        counters.forEach(flow -> console.println(String.format("%-6d %-40s %20s %20s %10s", flow.tableId(),
+            flow.flowId().getValue(), Long.toUnsignedString(flow.packetCount()),
+            Long.toUnsignedString(flow.byteCount()), flow.durationSeconds())));
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import org.apache.karaf.shell.api.action.Action;
+import org.apache.karaf.shell.api.action.Argument;
+import org.apache.karaf.shell.api.action.Command;
+import org.apache.karaf.shell.api.action.lifecycle.Reference;
+import org.apache.karaf.shell.api.action.lifecycle.Service;
+import org.apache.karaf.shell.api.console.Session;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterStore;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+@Command(scope = "ofp", name = "show-port-counters",
+        description = "Show the latest port counters kept by the statistics counter store.")
+@Service
+public class ShowPortCountersCommand implements Action {
+    @Reference
+    Session session;
+    @Reference
+    StatisticsCounterStore statisticsCounterStore;
+    @Argument(index = 0, name = "node", description = "Node identifier, e.g. openflow:1", required = true,
+            multiValued = false)
+    String node;
+
+    @Override
+    public Object execute() {
+        final var console = session.getConsole();
+        final var counters = statisticsCounterStore.getPortCounters(new NodeId(node));
+        if (counters.isEmpty()) {
+            console.println("No port counters known for node " + node);
+            return null;
+        }
+        console.println(String.format("%-24s %20s %20s %20s %20s %10s %10s %10s %10s", "Port", "Rx packets",
+            "Tx packets", "Rx bytes", "Tx bytes", "Rx drops", "Tx drops", "Rx errors", "Tx errors"));
+        counters.forEach(port -> console.println(String.format("%-24s %20s %20s %20s %20s %10s %10s %10s %10s",
+            port.nodeConnectorId().getValue(),
+            Long.toUnsignedString(port.receivedPackets()), Long.toUnsignedString(port.transmittedPackets()),
+            Long.toUnsignedString(port.receivedBytes()), Long.toUnsignedString(port.transmittedBytes()),
+            Long.toUnsignedString(port.receiveDrops()), Long.toUnsignedString(port.transmitDrops()),
+            Long.toUnsignedString(port.receiveErrors()), Long.toUnsignedString(port.transmitErrors()))));
+        return null;
+    }
+}
@@ -89,6 +89,7 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
     private RpcManager rpcManager;
     private StatisticsManager statisticsManager;
     private RoleManager roleManager;
+    private volatile ControllerLoadTracker loadTracker;
 
     public ContextChainHolderImpl(final Executor executor,
                                   final ClusterSingletonServiceProvider singletonServiceProvider,
@@ -122,6 +123,15 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
         }
     }
 
+    /**
+     * Sets the tracker whose delay is applied to the mastership candidacy of newly connected devices.
+     *
+     * @param loadTracker load tracker, null to register candidates immediately
+     */
+    public void setLoadTracker(final @Nullable ControllerLoadTracker loadTracker) {
+        this.loadTracker = loadTracker;
+    }
+
     @VisibleForTesting
     void createContextChain(final ConnectionContext connectionContext) {
         final DeviceInfo deviceInfo = connectionContext.getDeviceInfo();
@@ -157,7 +167,27 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
         LOG.debug("Context chain" + CONTEXT_CREATED_FOR_CONNECTION, deviceInfo);
 
         deviceContext.onPublished();
-        contextChain.registerServices(singletonServiceProvider);
+
+        final var tracker = loadTracker;
+        final long candidateDelay;
+        if (tracker != null) {
+            tracker.deviceAdded(deviceInfo, deviceContext, statisticsContext);
+            candidateDelay = tracker.candidateDelayMillis();
+        } else {
+            candidateDelay = 0;
+        }
+
+        if (candidateDelay > 0 && !nodeCleanerExecutor.isShutdown()) {
+            // Give less loaded controllers the chance to become the owner first
+            LOG.debug("Delaying mastership candidacy for device {} by {} msec", deviceInfo, candidateDelay);
+            nodeCleanerExecutor.schedule(() -> {
+                if (contextChainMap.get(deviceInfo) == contextChain && !contextChain.isClosing()) {
+                    contextChain.registerServices(singletonServiceProvider);
+                }
+            }, candidateDelay, TimeUnit.MILLISECONDS);
+        } else {
+            contextChain.registerServices(singletonServiceProvider);
+        }
     }
 
     @Override
@@ -387,6 +417,10 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
     @Override
     public void onDeviceRemoved(final DeviceInfo deviceInfo) {
         contextChainMap.remove(deviceInfo);
+        final var tracker = loadTracker;
+        if (tracker != null) {
+            tracker.deviceRemoved(deviceInfo);
+        }
         LOG.debug("Context chain removed for node {}", deviceInfo);
     }
 
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.lifecycle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.eos.binding.api.Entity;
+import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipListener;
+import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
+import org.opendaylight.mdsal.eos.common.api.CandidateAlreadyRegisteredException;
+import org.opendaylight.mdsal.eos.common.api.EntityOwnershipStateChange;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.lifecycle.MasterChecker;
+import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.ControllerLoads;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.controller.loads.ControllerLoad;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.controller.loads.ControllerLoadBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.controller.loads.ControllerLoadKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the load of this controller instance to the operational datastore and derives from the loads published
+ * by the other instances how long the mastership candidacy of a newly connected device should be delayed.
+ *
+ * <p>
+ * Entity ownership has no notion of weights, the first registered candidate becomes the owner. Delaying the
+ * registration on instances loaded above the cluster average therefore hands new devices, and with them their
+ * statistics polling, to the less loaded instances.
+ *
+ * <p>
+ * Devices which already have an owner are not moved. Moving a device means closing its cluster singleton service on
+ * the owner, which tears down its contexts and makes the new owner go through the role change, the initial statistics
+ * gathering and a full reconciliation of the node. That disruption is larger than the imbalance it would fix, which
+ * evens out anyway as devices reconnect.
+ *
+ * <p>
+ * Each instance registers itself as the only candidate of an entity named by its identifier. Once the member of an
+ * instance leaves the cluster, the entity loses its owner and the remaining instances remove the load of that instance.
+ * Loads of instances which stop publishing without leaving the cluster are removed once they expire.
+ */
+public final class ControllerLoadTracker implements EntityOwnershipListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ControllerLoadTracker.class);
+    private static final long PUBLISH_INTERVAL_MILLIS = 10000;
+    // Loads of instances which were not seen to publish for this long are not taken into account
+    private static final long EXPIRY_NANOS = TimeUnit.MILLISECONDS.toNanos(3 * PUBLISH_INTERVAL_MILLIS);
+    private static final DataObjectIdentifier<ControllerLoads> LOADS =
+            DataObjectIdentifier.builder(ControllerLoads.class).build();
+    @VisibleForTesting
+    static final String ENTITY_TYPE = "org.opendaylight.openflowplugin.ControllerLoad";
+    private static final List<Function<ControllerLoad, Number>> DIMENSIONS = List.of(
+            ControllerLoad::getDevices, ControllerLoad::getFlows, ControllerLoad::getStatisticsGatheringTime);
+
+    private final ConcurrentMap<DeviceInfo, LoadSource> sources = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("controller-load-%d").build());
+    private final String instanceId = UUID.randomUUID().toString();
+    private final DataObjectIdentifier<ControllerLoad> path = loadPath(instanceId);
+    private final DataBroker dataBroker;
+    private final MasterChecker masterChecker;
+    private final long maxDelayMillis;
+    private final Registration listenerRegistration;
+    private final Registration candidateRegistration;
+
+    // Last load of each other instance and the local time at which it was last seen to change
+    @GuardedBy("this")
+    private Map<String, ObservedLoad> observedLoads = Map.of();
+    // Loads of other instances which are still publishing
+    private volatile List<ControllerLoad> clusterLoads = List.of();
+
+    public ControllerLoadTracker(final @NonNull DataBroker dataBroker,
+            final @NonNull EntityOwnershipService entityOwnershipService, final @NonNull MasterChecker masterChecker,
+            final long maxDelayMillis) {
+        this.dataBroker = requireNonNull(dataBroker);
+        this.masterChecker = requireNonNull(masterChecker);
+        this.maxDelayMillis = maxDelayMillis;
+        listenerRegistration = entityOwnershipService.registerListener(ENTITY_TYPE, this);
+        try {
+            candidateRegistration = entityOwnershipService.registerCandidate(new Entity(ENTITY_TYPE, instanceId));
+        } catch (CandidateAlreadyRegisteredException e) {
+            listenerRegistration.close();
+            throw new IllegalStateException("Instance " + instanceId + " is already registered", e);
+        }
+        executor.scheduleWithFixedDelay(() -> publish(System.nanoTime()), 0, PUBLISH_INTERVAL_MILLIS,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts accounting the load of a connected device while it is mastered by this instance.
+     *
+     * @param deviceInfo device info
+     * @param deviceContext device context providing the flow registry
+     * @param statisticsContext statistics context providing the gathering time
+     */
+    public void deviceAdded(final DeviceInfo deviceInfo, final DeviceContext deviceContext,
+            final StatisticsContext statisticsContext) {
+        sources.put(deviceInfo, new LoadSource(deviceContext, statisticsContext));
+    }
+
+    /**
+     * Stops accounting the load of a device.
+     *
+     * @param deviceInfo device info
+     */
+    public void deviceRemoved(final DeviceInfo deviceInfo) {
+        sources.remove(deviceInfo);
+    }
+
+    /**
+     * Returns how long this instance should delay its mastership candidacy for a newly connected device, based on
+     * its current load and the last loads published by the other instances.
+     *
+     * @return delay in milliseconds, 0 to register immediately
+     */
+    public long candidateDelayMillis() {
+        final var local = localLoad();
+        final var loads = new ArrayList<ControllerLoad>();
+        loads.add(local);
+        loads.addAll(clusterLoads);
+        return candidateDelay(local, loads, maxDelayMillis);
+    }
+
+    /**
+     * Updates the loads of other instances from the published ones. Clocks of instances are not synchronized, hence
+     * published timestamps serve only as heartbeats: an instance is considered live as long as its timestamp was
+     * seen to change within the expiry period, as measured by the local clock. Expired loads are removed from the
+     * datastore. Should the instance still be running, its next publication restores its load.
+     *
+     * @param loads published loads, including the local one
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    @VisibleForTesting
+    synchronized void updateClusterLoads(final Collection<ControllerLoad> loads, final long nowNanos) {
+        final var observed = new HashMap<String, ObservedLoad>();
+        final var live = new ArrayList<ControllerLoad>();
+        final var expired = new ArrayList<String>();
+        for (var load : loads) {
+            final var loadInstanceId = load.getInstanceId();
+            if (instanceId.equals(loadInstanceId)) {
+                continue;
+            }
+
+            final var previous = observedLoads.get(loadInstanceId);
+            final long changedNanos;
+            if (previous != null && Objects.equals(previous.load().getTimestamp(), load.getTimestamp())) {
+                changedNanos = previous.changedNanos();
+            } else {
+                changedNanos = nowNanos;
+            }
+            observed.put(loadInstanceId, new ObservedLoad(load, changedNanos));
+            if (nowNanos - changedNanos <= EXPIRY_NANOS) {
+                live.add(load);
+            } else {
+                expired.add(loadInstanceId);
+            }
+        }
+        observedLoads = observed;
+        clusterLoads = List.copyOf(live);
+        expired.forEach(this::removeLoad);
+    }
+
+    /**
+     * Removes the load of an instance whose member left the cluster. The load is kept as expired until it disappears
+     * from the datastore, so that a read which still returns it does not take it into account again.
+     *
+     * @param downInstanceId identifier of the instance
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    @VisibleForTesting
+    synchronized void instanceDown(final String downInstanceId, final long nowNanos) {
+        final var previous = observedLoads.get(downInstanceId);
+        if (previous != null) {
+            final var observed = new HashMap<>(observedLoads);
+            observed.put(downInstanceId, new ObservedLoad(previous.load(), nowNanos - EXPIRY_NANOS - 1));
+            observedLoads = observed;
+            clusterLoads = clusterLoads.stream()
+                .filter(load -> !downInstanceId.equals(load.getInstanceId()))
+                .collect(Collectors.toUnmodifiableList());
+        }
+        LOG.info("Instance {} left the cluster, removing its load", downInstanceId);
+        removeLoad(downInstanceId);
+    }
+
+    @Override
+    @SuppressFBWarnings("BC_UNCONFIRMED_CAST_OF_RETURN_VALUE")
+    public void ownershipChanged(final Entity entity, final EntityOwnershipStateChange change,
+            final boolean inJeopardy) {
+        if (inJeopardy || change.hasOwner()) {
+            return;
+        }
+
+        // Each entity has a single candidate, it loses its owner only once the candidate's member leaves the cluster
+        final var entityName = entity.getIdentifier().firstKeyOf(
+            org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.core.general.entity.rev150930
+                .Entity.class).getName();
+        if (!instanceId.equals(entityName)) {
+            instanceDown(entityName, System.nanoTime());
+        }
+    }
+
+    /**
+     * Computes the candidacy delay of an instance. The load of the instance is compared to the cluster mean in each
+     * dimension in which the cluster carries any load, the delay grows linearly with the average excess and reaches
+     * its maximum at twice the mean.
+     *
+     * @param local load of the instance
+     * @param loads loads of all live instances, including the local one
+     * @param maxDelayMillis maximum delay in milliseconds
+     * @return delay in milliseconds
+     */
+    @VisibleForTesting
+    static long candidateDelay(final ControllerLoad local, final List<ControllerLoad> loads,
+            final long maxDelayMillis) {
+        if (loads.size() < 2 || maxDelayMillis <= 0) {
+            return 0;
+        }
+
+        double ratioSum = 0;
+        int dimensions = 0;
+        for (var dimension : DIMENSIONS) {
+            final double mean = loads.stream().mapToLong(load -> toLong(dimension.apply(load))).average().orElse(0);
+            if (mean > 0) {
+                ratioSum += toLong(dimension.apply(local)) / mean;
+                dimensions++;
+            }
+        }
+        if (dimensions == 0) {
+            return 0;
+        }
+
+        final double excess = Math.min(Math.max(ratioSum / dimensions - 1, 0), 1);
+        return (long) (maxDelayMillis * excess);
+    }
+
+    @VisibleForTesting
+    ControllerLoad localLoad() {
+        int devices = 0;
+        long flows = 0;
+        long gatheringNanos = 0;
+        for (var deviceInfo : masterChecker.listOfMasteredDevices()) {
+            final var source = sources.get(deviceInfo);
+            if (source != null) {
+                devices++;
+                flows += source.deviceContext().getDeviceFlowRegistry().size();
+                gatheringNanos += source.statisticsContext().getLastGatheringNanos();
+            }
+        }
+
+        return new ControllerLoadBuilder()
+                .setInstanceId(instanceId)
+                .setDevices(Uint32.valueOf(devices))
+                .setFlows(Uint64.valueOf(flows))
+                .setStatisticsGatheringTime(Uint64.valueOf(TimeUnit.NANOSECONDS.toMillis(gatheringNanos)))
+                .setTimestamp(Uint64.valueOf(System.currentTimeMillis()))
+                .build();
+    }
+
+    @VisibleForTesting
+    String instanceId() {
+        return instanceId;
+    }
+
+    @VisibleForTesting
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    void publish(final long nowNanos) {
+        // An exception would cancel the periodic task
+        try {
+            final var writeTx = dataBroker.newWriteOnlyTransaction();
+            writeTx.mergeParentStructurePut(LogicalDatastoreType.OPERATIONAL, path, localLoad());
+            writeTx.commit().addCallback(new FutureCallback<CommitInfo>() {
+                @Override
+                public void onSuccess(final CommitInfo result) {
+                    LOG.trace("Load of instance {} published", instanceId);
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    LOG.warn("Failed to publish load of instance {}", instanceId, throwable);
+                }
+            }, MoreExecutors.directExecutor());
+
+            try (var readTx = dataBroker.newReadOnlyTransaction()) {
+                readTx.read(LogicalDatastoreType.OPERATIONAL, LOADS).addCallback(
+                    new FutureCallback<Optional<ControllerLoads>>() {
+                        @Override
+                        public void onSuccess(final Optional<ControllerLoads> result) {
+                            updateClusterLoads(result
+                                .map(loads -> loads.nonnullControllerLoad().values())
+                                .orElse(List.of()), nowNanos);
+                        }
+
+                        @Override
+                        public void onFailure(final Throwable throwable) {
+                            LOG.warn("Failed to read controller loads", throwable);
+                        }
+                    }, MoreExecutors.directExecutor());
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to update controller loads", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        listenerRegistration.close();
+        candidateRegistration.close();
+        sources.clear();
+        removeLoad(instanceId);
+    }
+
+    private void removeLoad(final String removedInstanceId) {
+        final var writeTx = dataBroker.newWriteOnlyTransaction();
+        writeTx.delete(LogicalDatastoreType.OPERATIONAL, loadPath(removedInstanceId));
+        writeTx.commit().addCallback(new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                LOG.debug("Load of instance {} removed", removedInstanceId);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                // Other instances may be removing it concurrently
+                LOG.debug("Failed to remove load of instance {}", removedInstanceId, throwable);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static DataObjectIdentifier<ControllerLoad> loadPath(final String loadInstanceId) {
+        return DataObjectIdentifier.builder(ControllerLoads.class)
+            .child(ControllerLoad.class, new ControllerLoadKey(loadInstanceId)).build();
+    }
+
+    private static long toLong(final @Nullable Number value) {
+        return value != null ? value.longValue() : 0;
+    }
+
+    private record ObservedLoad(ControllerLoad load, long changedNanos) {
+        ObservedLoad {
+            requireNonNull(load);
+        }
+    }
+
+    private record LoadSource(DeviceContext deviceContext, StatisticsContext statisticsContext) {
+        LoadSource {
+            requireNonNull(deviceContext);
+            requireNonNull(statisticsContext);
+        }
+    }
+}
@@ -25,11 +25,24 @@ public final class DeserializerInjector {
      * @param provider OpenflowJava deserializer extension provider
      */
     public static void injectDeserializers(final DeserializerExtensionProvider provider) {
+        injectDeserializers(provider, 0);
+    }
+
+    /**
+     * Injects deserializers into provided.
+     * {@link org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerExtensionProvider}
+     *
+     * @param provider OpenflowJava deserializer extension provider
+     * @param flowStatsDecodeCacheSize number of flow statistics entries with retained decoded match and instructions,
+     *                                 0 to disable retention
+     */
+    public static void injectDeserializers(final DeserializerExtensionProvider provider,
+            final int flowStatsDecodeCacheSize) {
         // Inject new deserializers here
         MatchDeserializerInjector.injectDeserializers(provider);
         ActionDeserializerInjector.injectDeserializers(provider);
         InstructionDeserializerInjector.injectDeserializers(provider);
-        MultipartDeserializerInjector.injectDeserializers(provider);
+        MultipartDeserializerInjector.injectDeserializers(provider, flowStatsDecodeCacheSize);
         MessageDeserializerInjector.injectDeserializers(provider);
     }
 
@@ -42,15 +42,17 @@ final class MultipartDeserializerInjector {
      * {@link org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerExtensionProvider}.
      *
      * @param provider OpenflowJava deserializer extension provider
+     * @param flowStatsDecodeCacheSize number of flow statistics entries with retained decoded match and instructions
      */
-    static void injectDeserializers(final DeserializerExtensionProvider provider) {
+    static void injectDeserializers(final DeserializerExtensionProvider provider, final int flowStatsDecodeCacheSize) {
         final Uint8 version = EncodeConstants.OF_VERSION_1_3;
 
         // Inject new multipart body deserializers here using injector created by createInjector method
         final Function<Integer, Consumer<OFDeserializer<? extends MultipartReplyBody>>> injector =
                 createInjector(provider, version);
         injector.apply(MultipartType.OFPMPDESC.getIntValue()).accept(new MultipartReplyDescDeserializer());
-        injector.apply(MultipartType.OFPMPFLOW.getIntValue()).accept(new MultipartReplyFlowStatsDeserializer());
+        injector.apply(MultipartType.OFPMPFLOW.getIntValue())
+                .accept(new MultipartReplyFlowStatsDeserializer(flowStatsDecodeCacheSize));
         injector.apply(MultipartType.OFPMPAGGREGATE.getIntValue())
                 .accept(new MultipartReplyFlowAggregateStatsDeserializer());
         injector.apply(MultipartType.OFPMPTABLE.getIntValue()).accept(new MultipartReplyFlowTableStatsDeserializer());
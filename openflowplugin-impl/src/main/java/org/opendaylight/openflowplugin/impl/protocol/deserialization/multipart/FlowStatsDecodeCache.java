@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.protocol.deserialization.multipart;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Instructions;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+
+/**
+ * Bounded cache of decoded flow statistics entry bodies, i.e. their match and instructions, keyed by their raw bytes.
+ * Periodic flow statistics replies typically differ from the previous poll only in counters, hence most bodies can
+ * be looked up instead of being decoded again.
+ *
+ * <p>
+ * The cache is direct-mapped: a body hashes to a single slot, which retains the body decoded last. Hits are verified
+ * by comparing the complete raw bytes, hence a hash collision results in a miss, never in a wrong result. Since
+ * identical bytes always decode to equal objects, the cache is shared by all devices. Slots are replaced without
+ * synchronization, which is safe as entries are immutable and only ever replaced as a whole.
+ */
+final class FlowStatsDecodeCache {
+    /**
+     * A decoded body.
+     */
+    static final class Entry {
+        private final ByteBuf raw;
+        private final int hash;
+        private final @NonNull Match match;
+        private final @Nullable Instructions instructions;
+
+        Entry(final ByteBuf raw, final int hash, final Match match, final @Nullable Instructions instructions) {
+            this.raw = requireNonNull(raw);
+            this.hash = hash;
+            this.match = requireNonNull(match);
+            this.instructions = instructions;
+        }
+
+        @NonNull Match match() {
+            return match;
+        }
+
+        @Nullable Instructions instructions() {
+            return instructions;
+        }
+
+        boolean matches(final ByteBuf body, final int bodyHash) {
+            final int length = body.readableBytes();
+            return hash == bodyHash && raw.readableBytes() == length
+                && ByteBufUtil.equals(raw, raw.readerIndex(), body, body.readerIndex(), length);
+        }
+    }
+
+    private static final int MAXIMUM_SLOTS = 1 << 30;
+
+    private final Entry[] slots;
+    private final int mask;
+
+    FlowStatsDecodeCache(final int size) {
+        checkArgument(size > 0, "Invalid cache size %s", size);
+        final int capacity = size >= MAXIMUM_SLOTS ? MAXIMUM_SLOTS : Integer.highestOneBit(size - 1) << 1;
+        slots = new Entry[Math.max(capacity, 1)];
+        mask = slots.length - 1;
+    }
+
+    /**
+     * Compute the hash of a body, which consists of all readable bytes of the buffer.
+     *
+     * @param body raw body
+     * @return hash
+     */
+    static int hash(final ByteBuf body) {
+        final int hash = ByteBufUtil.hashCode(body);
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Look up a previously decoded body. The buffer is not modified.
+     *
+     * @param body raw body, consisting of all readable bytes of the buffer
+     * @param hash body hash, as computed by {@link #hash(ByteBuf)}
+     * @return decoded body, or {@code null} if not present
+     */
+    @Nullable Entry lookup(final ByteBuf body, final int hash) {
+        final var entry = slots[hash & mask];
+        return entry != null && entry.matches(body, hash) ? entry : null;
+    }
+
+    /**
+     * Retain a decoded body, replacing whatever was stored in its slot.
+     *
+     * @param body buffer containing the raw body
+     * @param index index of the first body byte
+     * @param length number of body bytes
+     * @param hash body hash, as computed by {@link #hash(ByteBuf)}
+     * @param match decoded match
+     * @param instructions decoded instructions, may be null
+     */
+    void insert(final ByteBuf body, final int index, final int length, final int hash, final Match match,
+            final @Nullable Instructions instructions) {
+        slots[hash & mask] = new Entry(Unpooled.wrappedBuffer(ByteBufUtil.getBytes(body, index, length)), hash,
+            match, instructions);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -16,6 +16,7 @@ import static org.opendaylight.yangtools.yang.common.netty.ByteBufUtils.readUint
 import io.netty.buffer.ByteBuf;
 import java.util.ArrayList;
 import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistryInjector;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
@@ -50,8 +51,25 @@ public class MultipartReplyFlowStatsDeserializer implements OFDeserializer<Multi
 
     private static final byte PADDING_IN_FLOW_STATS_HEADER_01 = 1;
     private static final byte PADDING_IN_FLOW_STATS_HEADER_02 = 4;
+
+    private final @Nullable FlowStatsDecodeCache decodeCache;
     private DeserializerRegistry registry;
 
+    public MultipartReplyFlowStatsDeserializer() {
+        this(0);
+    }
+
+    /**
+     * Create a deserializer which retains the decoded match and instructions of up to {@code decodeCacheSize} flow
+     * statistics entries, so that entries with unchanged raw match and instructions only need their header and
+     * counters decoded.
+     *
+     * @param decodeCacheSize number of retained entries, 0 to disable retention
+     */
+    public MultipartReplyFlowStatsDeserializer(final int decodeCacheSize) {
+        decodeCache = decodeCacheSize > 0 ? new FlowStatsDecodeCache(decodeCacheSize) : null;
+    }
+
     @Override
     public MultipartReplyBody deserialize(final ByteBuf message) {
         final MultipartReplyFlowStatsBuilder builder = new MultipartReplyFlowStatsBuilder();
@@ -83,30 +101,23 @@ public class MultipartReplyFlowStatsDeserializer implements OFDeserializer<Multi
                     .setPacketCount(new Counter64(readUint64(itemMessage)))
                     .setByteCount(new Counter64(readUint64(itemMessage)));
 
-            final OFDeserializer<Match> matchDeserializer = requireNonNull(registry).getDeserializer(MATCH_KEY);
-            itemBuilder.setMatch(MatchUtil.transformMatch(matchDeserializer.deserialize(itemMessage),
-                    org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match.class));
-
-            final int length = itemMessage.readableBytes();
-
-            if (length > 0) {
-                final var instructions = BindingMap.<InstructionKey,
-                    org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.Instruction>
-                        orderedBuilder();
-                final int startIndex = itemMessage.readerIndex();
-                int offset = 0;
-
-                while (itemMessage.readerIndex() - startIndex < length) {
-                    instructions.add(new InstructionBuilder()
-                            .setOrder(offset)
-                            .setInstruction(InstructionUtil
-                                    .readInstruction(EncodeConstants.OF_VERSION_1_3, itemMessage, registry))
-                            .build());
-
-                    offset++;
+            final var cache = decodeCache;
+            if (cache != null) {
+                final int hash = FlowStatsDecodeCache.hash(itemMessage);
+                final var cached = cache.lookup(itemMessage, hash);
+                if (cached != null) {
+                    itemBuilder
+                            .setMatch(cached.match())
+                            .setInstructions(cached.instructions());
+                } else {
+                    final int bodyIndex = itemMessage.readerIndex();
+                    final int bodyLength = itemMessage.readableBytes();
+                    deserializeBody(itemBuilder, itemMessage);
+                    cache.insert(itemMessage, bodyIndex, bodyLength, hash, itemBuilder.getMatch(),
+                            itemBuilder.getInstructions());
                 }
-
-                itemBuilder.setInstructions(new InstructionsBuilder().setInstruction(instructions.build()).build());
+            } else {
+                deserializeBody(itemBuilder, itemMessage);
             }
 
             items.add(itemBuilder.build());
@@ -117,6 +128,34 @@ public class MultipartReplyFlowStatsDeserializer implements OFDeserializer<Multi
                 .build();
     }
 
+    private void deserializeBody(final FlowAndStatisticsMapListBuilder itemBuilder, final ByteBuf itemMessage) {
+        final OFDeserializer<Match> matchDeserializer = requireNonNull(registry).getDeserializer(MATCH_KEY);
+        itemBuilder.setMatch(MatchUtil.transformMatch(matchDeserializer.deserialize(itemMessage),
+                org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match.class));
+
+        final int length = itemMessage.readableBytes();
+
+        if (length > 0) {
+            final var instructions = BindingMap.<InstructionKey,
+                org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.Instruction>
+                    orderedBuilder();
+            final int startIndex = itemMessage.readerIndex();
+            int offset = 0;
+
+            while (itemMessage.readerIndex() - startIndex < length) {
+                instructions.add(new InstructionBuilder()
+                        .setOrder(offset)
+                        .setInstruction(InstructionUtil
+                                .readInstruction(EncodeConstants.OF_VERSION_1_3, itemMessage, registry))
+                        .build());
+
+                offset++;
+            }
+
+            itemBuilder.setInstructions(new InstructionsBuilder().setInstruction(instructions.build()).build());
+        }
+    }
+
     private static FlowModFlags createFlowModFlagsFromBitmap(final int input) {
         final Boolean ofp_FF_SendFlowRem = (input & 1) != 0;
         final Boolean ofp_FF_CheckOverlap = (input & 1 << 1) != 0;
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressed, linearly-probed set of unsigned 32-bit identifiers, such as group and meter IDs, with mark/sweep
+ * removal. Identifiers are kept in a primitive array, alongside the epoch in which each was last marked. Sweeping
+ * removes identifiers marked in the current epoch and starts a new one, so that marks never need to be cleared one by
+ * one, and a sweep without any marks does not touch the table at all.
+ *
+ * <p>
+ * This class is thread-safe, all operations synchronize on the table.
+ */
+public final class MarkSweepIdTable {
+    private static final int MIN_CAPACITY = 16;
+    private static final long FREE = 0;
+    private static final long TOMBSTONE = -1;
+    // Identifiers are stored with this offset, so that they never collide with FREE or TOMBSTONE
+    private static final long OFFSET = 1;
+    private static final long MAX_ID = 0xFFFFFFFFL;
+
+    private long[] slots;
+    private int[] markEpochs;
+    private int epoch;
+    private int size;
+    private int marked;
+    private int tombstones;
+
+    public MarkSweepIdTable() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Add an identifier. Adding an identifier which is already present does not affect its mark.
+     *
+     * @param id identifier
+     * @return {@code true} if the identifier was not present
+     * @throws IllegalArgumentException if the identifier is not an unsigned 32-bit value
+     */
+    public synchronized boolean add(final long id) {
+        final long stored = toStored(id);
+        if (findSlot(stored) >= 0) {
+            return false;
+        }
+
+        ensureCapacity();
+        final int slot = freeSlot(stored);
+        if (slots[slot] == TOMBSTONE) {
+            tombstones--;
+        }
+        slots[slot] = stored;
+        markEpochs[slot] = 0;
+        size++;
+        return true;
+    }
+
+    public synchronized boolean contains(final long id) {
+        return findSlot(toStored(id)) >= 0;
+    }
+
+    /**
+     * Mark an identifier for removal by the next {@link #sweep()}. Identifiers which are not present are ignored.
+     *
+     * @param id identifier
+     */
+    public synchronized void mark(final long id) {
+        final int slot = findSlot(toStored(id));
+        if (slot >= 0 && markEpochs[slot] != epoch) {
+            markEpochs[slot] = epoch;
+            marked++;
+        }
+    }
+
+    /**
+     * Remove all marked identifiers and start a new epoch.
+     *
+     * @return number of identifiers removed
+     */
+    public synchronized int sweep() {
+        final int removed = marked;
+        if (removed != 0 && removed == size) {
+            // Statistics polls mark every identifier, so this is the common case: empty the table in place rather
+            // than leave it full of tombstones, which would need a rehash
+            Arrays.fill(slots, FREE);
+            size = 0;
+            marked = 0;
+            tombstones = 0;
+        } else if (removed != 0) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] > FREE && markEpochs[i] == epoch) {
+                    slots[i] = TOMBSTONE;
+                }
+            }
+            size -= removed;
+            tombstones += removed;
+            marked = 0;
+            if (tombstones > slots.length >>> 2) {
+                // Keep the capacity, identifiers are usually stored again once the device reports them
+                rehash(slots.length);
+            }
+        }
+
+        if (epoch == Integer.MAX_VALUE) {
+            // Stale epochs could be mistaken for current ones once we wrap around
+            markEpochs = new int[slots.length];
+            epoch = 1;
+        } else {
+            epoch++;
+        }
+        return removed;
+    }
+
+    public synchronized void forEach(final LongConsumer consumer) {
+        for (long stored : slots) {
+            if (stored > FREE) {
+                consumer.accept(stored - OFFSET);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private int findSlot(final long stored) {
+        final int mask = slots.length - 1;
+        for (int i = hash(stored) & mask; slots[i] != FREE; i = i + 1 & mask) {
+            if (slots[i] == stored) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(final long stored) {
+        final int mask = slots.length - 1;
+        int slot = hash(stored) & mask;
+        while (slots[slot] > FREE) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private void ensureCapacity() {
+        final int capacity = slots.length;
+        if (size + tombstones + 1 > capacity - (capacity >>> 2)) {
+            // Grow only if live entries warrant it, otherwise just purge tombstones
+            rehash(size + 1 > capacity >>> 1 ? capacity << 1 : capacity);
+        }
+    }
+
+    private void rehash(final int newCapacity) {
+        final long[] oldSlots = slots;
+        final int[] oldMarkEpochs = markEpochs;
+        final int oldEpoch = epoch;
+        final int oldMarked = marked;
+
+        allocate(newCapacity);
+        epoch = oldEpoch;
+        marked = oldMarked;
+        for (int i = 0; i < oldSlots.length; i++) {
+            final long stored = oldSlots[i];
+            if (stored > FREE) {
+                final int slot = freeSlot(stored);
+                slots[slot] = stored;
+                markEpochs[slot] = oldMarkEpochs[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        slots = new long[capacity];
+        markEpochs = new int[capacity];
+        epoch = 1;
+        size = 0;
+        marked = 0;
+        tombstones = 0;
+    }
+
+    private static long toStored(final long id) {
+        checkArgument(id >= 0 && id <= MAX_ID, "Identifier %s is out of range", id);
+        return id + OFFSET;
+    }
+
+    private static int hash(final long stored) {
+        // Identifiers tend to be allocated sequentially, scatter them
+        final long mixed = stored * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ mixed >>> 32);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MarkSweepIdTable{size=" + size + ", capacity=" + slots.length + ", marked=" + marked + ", epoch="
+            + epoch + '}';
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.api.openflow.FlowGroupInfo;
+import org.opendaylight.openflowplugin.api.openflow.FlowGroupStatus;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryAppender;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Common base of {@link DeviceFlowRegistry} implementations, taking care of filling the registry from datastore,
+ * alien flow ID generation and flow history. Subclasses provide the actual key-to-descriptor storage.
+ */
+abstract class AbstractDeviceFlowRegistry implements DeviceFlowRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractDeviceFlowRegistry.class);
+    private static final String ALIEN_SYSTEM_FLOW_ID = "#UF$TABLE*";
+    private static final AtomicInteger UNACCOUNTED_FLOWS_COUNTER = new AtomicInteger(0);
+
+    // FIXME: improve locking here
+    private final List<ListenableFuture<List<Optional<FlowCapableNode>>>> lastFillFutures = new ArrayList<>();
+    private final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier;
+    private final FlowGroupInfoHistoryAppender history;
+    private final DataBroker dataBroker;
+
+    // Normalized matches keyed by the identity of the match they were derived from, see newKey()
+    private final @Nullable ConcurrentMap<Match, Match> normalizedMatches;
+
+    final FlowRegistryKeyFactory keyFactory;
+
+    AbstractDeviceFlowRegistry(final Uint8 version, final DataBroker dataBroker,
+            final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier,
+            final FlowGroupInfoHistoryAppender history, final boolean memoizeNormalizedMatches) {
+        this.dataBroker = requireNonNull(dataBroker);
+        this.instanceIdentifier = requireNonNull(instanceIdentifier);
+        this.history = requireNonNull(history);
+        keyFactory = FlowRegistryKeyFactory.ofVersion(version);
+        normalizedMatches = memoizeNormalizedMatches
+            ? CacheBuilder.newBuilder().weakKeys().<Match, Match>build().asMap() : null;
+    }
+
+    /**
+     * Create a key for a flow. If this registry memoizes normalized matches, normalizing a match instance which was
+     * seen before is skipped. This pays off when the same match instances are presented repeatedly, as is the case
+     * with flow statistics decoded with {@code flow-statistics-decode-cache-size}. Memoized matches are retained for
+     * as long as the match they were derived from is reachable.
+     *
+     * @param flow the flow
+     * @return a {@link FlowRegistryKey}
+     */
+    final @NonNull FlowRegistryKey newKey(final Flow flow) {
+        final var memoized = normalizedMatches;
+        return memoized == null ? keyFactory.create(flow)
+            : keyFactory.create(flow, match -> memoized.computeIfAbsent(match, keyFactory::normalizeMatch));
+    }
+
+    @Override
+    public ListenableFuture<List<Optional<FlowCapableNode>>> fill() {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Filling flow registry with flows for node: {}", instanceIdentifier.key().getId().getValue());
+        }
+
+        // Prepare path for read transaction
+        // TODO: Read only Tables, and not entire FlowCapableNode (fix Yang model)
+        final var path = instanceIdentifier.toBuilder().augmentation(FlowCapableNode.class).build();
+
+        // First, try to fill registry with flows from DS/Configuration
+        final FluentFuture<Optional<FlowCapableNode>> configFuture =
+                fillFromDatastore(LogicalDatastoreType.CONFIGURATION, path);
+
+        // Now, try to fill registry with flows from DS/Operational
+        // in case of cluster fail over, when clients are not using DS/Configuration
+        // for adding flows, but only RPCs
+        final FluentFuture<Optional<FlowCapableNode>> operationalFuture =
+                fillFromDatastore(LogicalDatastoreType.OPERATIONAL, path);
+
+        // And at last, chain and return futures created above.
+        // Also, cache this future, so call to DeviceFlowRegistry.close() will be able
+        // to cancel this future immediately if it will be still in progress
+        final ListenableFuture<List<Optional<FlowCapableNode>>> lastFillFuture =
+                Futures.allAsList(Arrays.asList(configFuture, operationalFuture));
+        lastFillFutures.add(lastFillFuture);
+        return lastFillFuture;
+    }
+
+    private FluentFuture<Optional<FlowCapableNode>> fillFromDatastore(final LogicalDatastoreType logicalDatastoreType,
+                              final DataObjectIdentifier<FlowCapableNode> path) {
+        // Prepare read operation from datastore for path
+        final FluentFuture<Optional<FlowCapableNode>> future;
+        try (ReadTransaction transaction = dataBroker.newReadOnlyTransaction()) {
+            future = transaction.read(logicalDatastoreType, path);
+        }
+
+        future.addCallback(new FutureCallback<Optional<FlowCapableNode>>() {
+            @Override
+            public void onSuccess(final Optional<FlowCapableNode> result) {
+                result.ifPresent(flowCapableNode -> {
+                    flowCapableNode.nonnullTable().values().stream()
+                        .filter(Objects::nonNull)
+                        .flatMap(table -> table.nonnullFlow().values().stream())
+                        .filter(Objects::nonNull)
+                        .filter(flow -> flow.getId() != null)
+                        .forEach(flow -> {
+                            final var flowRegistryKey = createKey(flow);
+                            if (retrieveDescriptor(flowRegistryKey) == null) {
+                                // Now, we will update the registry
+                                storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(),
+                                    flow.getId()));
+                            }
+                        });
+                });
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.debug("Failed to read {} path {}", logicalDatastoreType, path, throwable);
+            }
+        }, MoreExecutors.directExecutor());
+
+        return future;
+    }
+
+    /**
+     * Read a flow bound to a descriptor from the datastore, which allows subclasses to verify their entries on demand.
+     *
+     * @param logicalDatastoreType datastore to read from
+     * @param flowDescriptor descriptor of the flow
+     * @return future completing with the flow, if present
+     */
+    final FluentFuture<Optional<Flow>> readFlow(final LogicalDatastoreType logicalDatastoreType,
+            final FlowDescriptor flowDescriptor) {
+        final var path = instanceIdentifier.toBuilder()
+            .augmentation(FlowCapableNode.class)
+            .child(Table.class, flowDescriptor.getTableKey())
+            .child(org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow.class,
+                new FlowKey(flowDescriptor.getFlowId()))
+            .build();
+        try (ReadTransaction transaction = dataBroker.newReadOnlyTransaction()) {
+            return transaction.read(logicalDatastoreType, path)
+                .transform(flow -> flow.map(Flow.class::cast), MoreExecutors.directExecutor());
+        }
+    }
+
+    @Override
+    public final void store(final FlowRegistryKey flowRegistryKey) {
+        if (retrieveDescriptor(flowRegistryKey) == null) {
+            LOG.debug("Flow descriptor for flow hash : {} not found, generating alien flow ID", flowRegistryKey);
+
+            // We do not found flow in flow registry, that means it do not have any ID already assigned, so we need
+            // to generate new alien flow ID here.
+            final Uint8 tableId = Uint8.valueOf(flowRegistryKey.getTableId());
+            storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(tableId, createAlienFlowId(tableId)));
+        }
+    }
+
+    @Override
+    public final void processMarks() {
+        // Do nothing
+    }
+
+    @Override
+    public final void appendHistoryFlow(final FlowId id, final Uint8 tableId, final FlowGroupStatus status) {
+        history.appendFlowGroupInfo(new FlowInfo(status, id, tableId));
+    }
+
+    @Override
+    public final void close() {
+        final Iterator<ListenableFuture<List<Optional<FlowCapableNode>>>> iterator = lastFillFutures.iterator();
+
+        // We need to force interrupt and clear all running futures that are trying to read flow IDs from data store
+        while (iterator.hasNext()) {
+            final ListenableFuture<List<Optional<FlowCapableNode>>> next = iterator.next();
+            boolean success = next.cancel(true);
+            LOG.trace("Cancelling filling flow registry with flows job {} with result: {}", next, success);
+            iterator.remove();
+        }
+
+        clearFlowRegistry();
+    }
+
+    @VisibleForTesting
+    static FlowId createAlienFlowId(final Uint8 tableId) {
+        final String alienId = ALIEN_SYSTEM_FLOW_ID + tableId + '-' + UNACCOUNTED_FLOWS_COUNTER.incrementAndGet();
+        LOG.debug("Created alien flow id {} for table id {}", alienId, tableId);
+        return new FlowId(alienId);
+    }
+
+    private static final class FlowInfo extends FlowGroupInfo {
+        private final Uint8 tableId;
+        private final FlowId id;
+
+        FlowInfo(final FlowGroupStatus status, final FlowId id, final Uint8 tableId) {
+            super(status);
+            this.id = requireNonNull(id);
+            this.tableId = requireNonNull(tableId);
+        }
+
+        @Override
+        public String getId() {
+            return id.getValue();
+        }
+
+        @Override
+        public String getDescription() {
+            return tableId.toString();
+        }
+    }
+}
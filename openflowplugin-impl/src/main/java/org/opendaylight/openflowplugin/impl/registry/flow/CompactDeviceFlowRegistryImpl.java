@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryAppender;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry} which keeps its entries in
+ * a {@link FlowFingerprintTable}. Flows are identified by a 128-bit fingerprint of their normalized match, which
+ * avoids per-flow map entries, key objects, descriptor objects and retained matches.
+ *
+ * <p>
+ * Lookups trust the fingerprint. Flows are verified only on demand, when a fingerprint gets bound to a different flow
+ * ID. This normally is the same flow being stored under a new ID, but could be two distinct flows with colliding
+ * fingerprints. The flow previously bound is then read from the configuration datastore and, should its match differ,
+ * it is bound to the fingerprint again, while the new flow is kept in a separate map using exact match semantics.
+ */
+public class CompactDeviceFlowRegistryImpl extends AbstractDeviceFlowRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(CompactDeviceFlowRegistryImpl.class);
+
+    private final FlowFingerprintTable flowRegistry = new FlowFingerprintTable();
+    // Flows whose fingerprint was found to collide with another flow's, keyed by FlowRegistryKeyImpl
+    private final Map<FlowRegistryKey, FlowDescriptor> collisions = new ConcurrentHashMap<>();
+
+    public CompactDeviceFlowRegistryImpl(final Uint8 version, final DataBroker dataBroker,
+            final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier,
+            final FlowGroupInfoHistoryAppender history) {
+        this(version, dataBroker, instanceIdentifier, history, false);
+    }
+
+    public CompactDeviceFlowRegistryImpl(final Uint8 version, final DataBroker dataBroker,
+            final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier,
+            final FlowGroupInfoHistoryAppender history, final boolean memoizeNormalizedMatches) {
+        super(version, dataBroker, instanceIdentifier, history, memoizeNormalizedMatches);
+    }
+
+    @Override
+    public FlowRegistryKey createKey(final Flow flow) {
+        return FingerprintFlowRegistryKey.of(newKey(flow));
+    }
+
+    @Override
+    public FlowDescriptor retrieveDescriptor(@NonNull final FlowRegistryKey flowRegistryKey) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Retrieving flow descriptor for flow registry : {}", flowRegistryKey.toString());
+        }
+
+        final var key = fingerprintOf(flowRegistryKey);
+        if (!collisions.isEmpty()) {
+            final var exactKey = exactKeyOf(key);
+            if (exactKey != null) {
+                final var collided = collisions.get(exactKey);
+                if (collided != null) {
+                    return collided;
+                }
+            }
+        }
+        return flowRegistry.get(key);
+    }
+
+    @Override
+    public void storeDescriptor(@NonNull final FlowRegistryKey flowRegistryKey,
+                                @NonNull final FlowDescriptor flowDescriptor) {
+        final var key = fingerprintOf(flowRegistryKey);
+        if (!collisions.isEmpty()) {
+            final var exactKey = exactKeyOf(key);
+            if (exactKey != null && collisions.replace(exactKey, flowDescriptor) != null) {
+                return;
+            }
+        }
+
+        final FlowDescriptor previous;
+        try {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Storing flowDescriptor with table ID : {} and flow ID : {} for flow hash : {}",
+                        flowDescriptor.getTableKey().getId(),
+                        flowDescriptor.getFlowId().getValue(),
+                        flowRegistryKey.toString());
+            }
+
+            previous = flowRegistry.put(key, flowDescriptor);
+        } catch (IllegalArgumentException ex) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Flow with flow ID {} already exists in table {}, generating alien flow ID",
+                        flowDescriptor.getFlowId().getValue(),
+                        flowDescriptor.getTableKey().getId());
+            }
+
+            // We are trying to store new flow to flow registry, but we already have different flow with same flow ID
+            // stored in registry, so we need to create alien ID for this new flow here.
+            flowRegistry.put(key, FlowDescriptorFactory.create(flowDescriptor.getTableKey().getId(),
+                createAlienFlowId(flowDescriptor.getTableKey().getId())));
+            return;
+        }
+
+        if (previous != null && key.match() != null) {
+            verifyRebind(key, previous, flowDescriptor);
+        }
+    }
+
+    private void verifyRebind(final FingerprintFlowRegistryKey key, final FlowDescriptor previous,
+            final FlowDescriptor current) {
+        readFlow(LogicalDatastoreType.CONFIGURATION, previous).addCallback(new FutureCallback<Optional<Flow>>() {
+            @Override
+            public void onSuccess(final Optional<Flow> result) {
+                result.ifPresent(flow -> {
+                    final var previousKey = fingerprintOf(createKey(flow));
+                    if (previousKey.equals(key) && !FlowRegistryKeyImpl.equalMatch(previousKey.match(), key.match())) {
+                        LOG.warn("Flows {} and {} in table {} share a match fingerprint, keeping them apart",
+                            previous.getFlowId().getValue(), current.getFlowId().getValue(), key.tableId());
+                        if (flowRegistry.replace(key, current, previous)) {
+                            collisions.put(exactKeyOf(key), current);
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                LOG.debug("Failed to verify flow {} against the flow store", previous.getFlowId().getValue(), cause);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public void addMark(final FlowRegistryKey flowRegistryKey) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Removing flow descriptor for flow hash : {}", flowRegistryKey.toString());
+        }
+
+        final var key = fingerprintOf(flowRegistryKey);
+        if (!collisions.isEmpty()) {
+            final var exactKey = exactKeyOf(key);
+            if (exactKey != null && collisions.remove(exactKey) != null) {
+                return;
+            }
+        }
+        flowRegistry.remove(key);
+    }
+
+    @Override
+    public void forEach(final Consumer<FlowRegistryKey> consumer) {
+        flowRegistry.forEach(consumer);
+        collisions.keySet().forEach(consumer);
+    }
+
+    @Override
+    public int size() {
+        return flowRegistry.size() + collisions.size();
+    }
+
+    @Override
+    public void clearFlowRegistry() {
+        flowRegistry.clear();
+        collisions.clear();
+    }
+
+    private static @Nullable FlowRegistryKey exactKeyOf(final FingerprintFlowRegistryKey key) {
+        final var match = key.match();
+        return match == null ? null : new FlowRegistryKeyImpl(key.tableId(), key.priority(), key.cookie(), match);
+    }
+
+    private static FingerprintFlowRegistryKey fingerprintOf(final FlowRegistryKey flowRegistryKey) {
+        // Keys are expected to come from createKey(), but be lenient towards keys created by FlowRegistryKeyFactory
+        return flowRegistryKey instanceof FingerprintFlowRegistryKey fingerprint ? fingerprint
+            : FingerprintFlowRegistryKey.of(flowRegistryKey);
+    }
+}
@@ -7,38 +7,17 @@
  */
 package org.opendaylight.openflowplugin.impl.registry.flow;
 
-import static java.util.Objects.requireNonNull;
-
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.FluentFuture;
-import com.google.common.util.concurrent.FutureCallback;
-import com.google.common.util.concurrent.Futures;
-import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.MoreExecutors;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
-import org.opendaylight.mdsal.binding.api.ReadTransaction;
-import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.openflowplugin.api.openflow.FlowGroupInfo;
-import org.opendaylight.openflowplugin.api.openflow.FlowGroupStatus;
-import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryAppender;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
@@ -47,98 +26,27 @@ import org.opendaylight.yangtools.yang.common.Uint8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
+public class DeviceFlowRegistryImpl extends AbstractDeviceFlowRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(DeviceFlowRegistryImpl.class);
-    private static final String ALIEN_SYSTEM_FLOW_ID = "#UF$TABLE*";
-    private static final AtomicInteger UNACCOUNTED_FLOWS_COUNTER = new AtomicInteger(0);
 
-    // FIXME: improve locking here
-    private final List<ListenableFuture<List<Optional<FlowCapableNode>>>> lastFillFutures = new ArrayList<>();
     private final BiMap<FlowRegistryKey, FlowDescriptor> flowRegistry = Maps.synchronizedBiMap(HashBiMap.create());
-    private final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier;
-    private final FlowGroupInfoHistoryAppender history;
-    private final FlowRegistryKeyFactory keyFactory;
-    private final DataBroker dataBroker;
 
     public DeviceFlowRegistryImpl(final Uint8 version, final DataBroker dataBroker,
             final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier,
             final FlowGroupInfoHistoryAppender history) {
-        this.dataBroker = requireNonNull(dataBroker);
-        this.instanceIdentifier = requireNonNull(instanceIdentifier);
-        this.history = requireNonNull(history);
-        keyFactory = FlowRegistryKeyFactory.ofVersion(version);
+        this(version, dataBroker, instanceIdentifier, history, false);
     }
 
-    @Override
-    public FlowRegistryKey createKey(
-        final org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow flow) {
-        return keyFactory.create(flow);
+    public DeviceFlowRegistryImpl(final Uint8 version, final DataBroker dataBroker,
+            final DataObjectIdentifier.WithKey<Node, NodeKey> instanceIdentifier,
+            final FlowGroupInfoHistoryAppender history, final boolean memoizeNormalizedMatches) {
+        super(version, dataBroker, instanceIdentifier, history, memoizeNormalizedMatches);
     }
 
     @Override
-    public ListenableFuture<List<Optional<FlowCapableNode>>> fill() {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("Filling flow registry with flows for node: {}", instanceIdentifier.key().getId().getValue());
-        }
-
-        // Prepare path for read transaction
-        // TODO: Read only Tables, and not entire FlowCapableNode (fix Yang model)
-        final var path = instanceIdentifier.toBuilder().augmentation(FlowCapableNode.class).build();
-
-        // First, try to fill registry with flows from DS/Configuration
-        final FluentFuture<Optional<FlowCapableNode>> configFuture =
-                fillFromDatastore(LogicalDatastoreType.CONFIGURATION, path);
-
-        // Now, try to fill registry with flows from DS/Operational
-        // in case of cluster fail over, when clients are not using DS/Configuration
-        // for adding flows, but only RPCs
-        final FluentFuture<Optional<FlowCapableNode>> operationalFuture =
-                fillFromDatastore(LogicalDatastoreType.OPERATIONAL, path);
-
-        // And at last, chain and return futures created above.
-        // Also, cache this future, so call to DeviceFlowRegistry.close() will be able
-        // to cancel this future immediately if it will be still in progress
-        final ListenableFuture<List<Optional<FlowCapableNode>>> lastFillFuture =
-                Futures.allAsList(Arrays.asList(configFuture, operationalFuture));
-        lastFillFutures.add(lastFillFuture);
-        return lastFillFuture;
-    }
-
-    private FluentFuture<Optional<FlowCapableNode>> fillFromDatastore(final LogicalDatastoreType logicalDatastoreType,
-                              final DataObjectIdentifier<FlowCapableNode> path) {
-        // Prepare read operation from datastore for path
-        final FluentFuture<Optional<FlowCapableNode>> future;
-        try (ReadTransaction transaction = dataBroker.newReadOnlyTransaction()) {
-            future = transaction.read(logicalDatastoreType, path);
-        }
-
-        future.addCallback(new FutureCallback<Optional<FlowCapableNode>>() {
-            @Override
-            public void onSuccess(final Optional<FlowCapableNode> result) {
-                result.ifPresent(flowCapableNode -> {
-                    flowCapableNode.nonnullTable().values().stream()
-                        .filter(Objects::nonNull)
-                        .flatMap(table -> table.nonnullFlow().values().stream())
-                        .filter(Objects::nonNull)
-                        .filter(flow -> flow.getId() != null)
-                        .forEach(flow -> {
-                            final var flowRegistryKey = createKey(flow);
-                            if (getExistingKey(flowRegistryKey) == null) {
-                                // Now, we will update the registry
-                                storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(),
-                                    flow.getId()));
-                            }
-                        });
-                });
-            }
-
-            @Override
-            public void onFailure(final Throwable throwable) {
-                LOG.debug("Failed to read {} path {}", logicalDatastoreType, path, throwable);
-            }
-        }, MoreExecutors.directExecutor());
-
-        return future;
+    public FlowRegistryKey createKey(
+        final org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow flow) {
+        return newKey(flow);
     }
 
     @Override
@@ -183,18 +91,6 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         }
     }
 
-    @Override
-    public void store(final FlowRegistryKey flowRegistryKey) {
-        if (retrieveDescriptor(flowRegistryKey) == null) {
-            LOG.debug("Flow descriptor for flow hash : {} not found, generating alien flow ID", flowRegistryKey);
-
-            // We do not found flow in flow registry, that means it do not have any ID already assigned, so we need
-            // to generate new alien flow ID here.
-            final Uint8 tableId = Uint8.valueOf(flowRegistryKey.getTableId());
-            storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(tableId, createAlienFlowId(tableId)));
-        }
-    }
-
     @Override
     public void addMark(final FlowRegistryKey flowRegistryKey) {
         if (LOG.isTraceEnabled()) {
@@ -204,11 +100,6 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         removeFromFlowRegistry(flowRegistryKey);
     }
 
-    @Override
-    public void processMarks() {
-        // Do nothing
-    }
-
     @Override
     public void forEach(final Consumer<FlowRegistryKey> consumer) {
         synchronized (flowRegistry) {
@@ -221,38 +112,11 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return flowRegistry.size();
     }
 
-    @Override
-    public void appendHistoryFlow(final FlowId id, final Uint8 tableId, final FlowGroupStatus status) {
-        history.appendFlowGroupInfo(new FlowInfo(status, id, tableId));
-    }
-
     @Override
     public void clearFlowRegistry() {
         flowRegistry.clear();
     }
 
-    @Override
-    public void close() {
-        final Iterator<ListenableFuture<List<Optional<FlowCapableNode>>>> iterator = lastFillFutures.iterator();
-
-        // We need to force interrupt and clear all running futures that are trying to read flow IDs from data store
-        while (iterator.hasNext()) {
-            final ListenableFuture<List<Optional<FlowCapableNode>>> next = iterator.next();
-            boolean success = next.cancel(true);
-            LOG.trace("Cancelling filling flow registry with flows job {} with result: {}", next, success);
-            iterator.remove();
-        }
-
-        flowRegistry.clear();
-    }
-
-    @VisibleForTesting
-    static FlowId createAlienFlowId(final Uint8 tableId) {
-        final String alienId = ALIEN_SYSTEM_FLOW_ID + tableId + '-' + UNACCOUNTED_FLOWS_COUNTER.incrementAndGet();
-        LOG.debug("Created alien flow id {} for table id {}", alienId, tableId);
-        return new FlowId(alienId);
-    }
-
     //Hashcode generation of the extension augmentation can differ for the same object received from the datastore and
     // the one received after deserialization of switch message. OpenFlowplugin extensions are list, and the order in
     // which it can receive the extensions back from switch can differ and that lead to a different hashcode. In that
@@ -297,25 +161,4 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
     Map<FlowRegistryKey, FlowDescriptor> getAllFlowDescriptors() {
         return flowRegistry;
     }
-
-    private static final class FlowInfo extends FlowGroupInfo {
-        private final Uint8 tableId;
-        private final FlowId id;
-
-        FlowInfo(final FlowGroupStatus status, final FlowId id, final Uint8 tableId) {
-            super(status);
-            this.id = requireNonNull(id);
-            this.tableId = requireNonNull(tableId);
-        }
-
-        @Override
-        public String getId() {
-            return id.getValue();
-        }
-
-        @Override
-        public String getDescription() {
-            return tableId.toString();
-        }
-    }
 }
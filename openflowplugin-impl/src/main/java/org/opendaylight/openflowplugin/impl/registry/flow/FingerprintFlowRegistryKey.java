@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * A {@link FlowRegistryKey} identified by its table, priority, cookie and a 128-bit {@link MatchFingerprint} of its
+ * normalized match. Equality and hash code do not consider the match itself, hence a key created from a flow and a key
+ * reconstructed from {@link FlowFingerprintTable} are interchangeable. The match is retained on keys created from
+ * flows, so that {@link CompactDeviceFlowRegistryImpl} can verify a suspected fingerprint collision against the flow
+ * store. It is not available on reconstructed keys.
+ */
+record FingerprintFlowRegistryKey(
+        short tableId,
+        int priority,
+        @NonNull Uint64 cookie,
+        long fingerprintHi,
+        long fingerprintLo,
+        @Nullable Match match) implements FlowRegistryKey {
+
+    FingerprintFlowRegistryKey {
+        requireNonNull(cookie);
+    }
+
+    /**
+     * Create a fingerprint key equivalent to a normalized key.
+     *
+     * @param normalized key produced by {@link FlowRegistryKeyFactory}
+     * @return A fingerprint key
+     */
+    static @NonNull FingerprintFlowRegistryKey of(final FlowRegistryKey normalized) {
+        final var match = requireNonNull(normalized.getMatch());
+        final var buf = ByteBuffer.wrap(MatchFingerprint.of(normalized.getTableId(), normalized.getPriority(),
+            normalized.getCookie(), match).asBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        return new FingerprintFlowRegistryKey(normalized.getTableId(), normalized.getPriority(),
+            normalized.getCookie(), buf.getLong(0), buf.getLong(Long.BYTES), match);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof FingerprintFlowRegistryKey that
+            && fingerprintHi == that.fingerprintHi && fingerprintLo == that.fingerprintLo
+            && tableId == that.tableId && priority == that.priority && cookie.equals(that.cookie);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprintLo);
+    }
+
+    @Override
+    public String toString() {
+        return "FingerprintFlowRegistryKey{"
+            + "tableId=" + tableId
+            + ", priority=" + priority
+            + ", cookie=" + cookie
+            + ", fingerprint=" + String.format("%016x%016x", fingerprintHi, fingerprintLo)
+            + ", match=" + match
+            + '}';
+    }
+
+    @Override
+    public short getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public Uint64 getCookie() {
+        return cookie;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the normalized match, or {@code null} if this key was reconstructed from a {@link FlowFingerprintTable}
+     */
+    @Override
+    public Match getMatch() {
+        return match;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Open-addressed, linearly-probed table mapping {@link FingerprintFlowRegistryKey}s to flow descriptors. Entries are
+ * kept in parallel primitive arrays, so that a registered flow costs a few tens of bytes and its interned flow ID
+ * instead of a map entry, a key object holding the whole match and a descriptor object. Slots are identified by table,
+ * priority, cookie and match fingerprint alone, matches are not retained. A second probe sequence indexes slots by
+ * table and flow ID, which provides the same one-to-one semantics as the {@code BiMap} used by
+ * {@link DeviceFlowRegistryImpl}.
+ *
+ * <p>
+ * This class is thread-safe, all operations synchronize on the table.
+ */
+final class FlowFingerprintTable {
+    // Flow IDs are frequently repeated across devices and across config/operational fill, share them
+    private static final Interner<FlowId> FLOW_IDS = Interners.newWeakInterner();
+    private static final FlowId TOMBSTONE = new FlowId("__TOMBSTONE__");
+    private static final int MIN_CAPACITY = 16;
+    private static final int REVERSE_FREE = 0;
+    private static final int REVERSE_TOMBSTONE = -1;
+
+    private long[] fingerprintHi;
+    private long[] fingerprintLo;
+    private long[] cookies;
+    private byte[] keyTableIds;
+    private short[] priorities;
+    private byte[] flowTableIds;
+    private FlowId[] flowIds;
+    // slot + 1, REVERSE_FREE or REVERSE_TOMBSTONE
+    private int[] reverse;
+
+    private int size;
+    private int tombstones;
+    private int reverseTombstones;
+
+    FlowFingerprintTable() {
+        allocate(MIN_CAPACITY);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized @Nullable FlowDescriptor get(final @NonNull FingerprintFlowRegistryKey key) {
+        final int slot = findSlot(key);
+        return slot < 0 ? null : descriptorAt(slot);
+    }
+
+    /**
+     * Associate a key with a descriptor.
+     *
+     * @param key registry key
+     * @param descriptor flow descriptor
+     * @return the descriptor previously associated with the key, if it was a different one, otherwise {@code null}
+     * @throws IllegalArgumentException if the descriptor is already bound to another key
+     */
+    synchronized @Nullable FlowDescriptor put(final @NonNull FingerprintFlowRegistryKey key,
+            final @NonNull FlowDescriptor descriptor) {
+        // Make room first, as rehashing moves slots around
+        ensureCapacity();
+
+        final byte flowTableId = descriptor.getTableKey().getId().byteValue();
+        final var flowId = FLOW_IDS.intern(descriptor.getFlowId());
+        final int existing = findSlot(key);
+
+        final int reverseIndex = findReverse(flowTableId, flowId);
+        if (reverseIndex >= 0) {
+            if (reverse[reverseIndex] - 1 != existing) {
+                throw new IllegalArgumentException("value already present: " + descriptor);
+            }
+            // Already bound to this very key, nothing to do
+            return null;
+        }
+
+        if (existing >= 0) {
+            final var previous = descriptorAt(existing);
+            removeReverse(existing);
+            flowTableIds[existing] = flowTableId;
+            flowIds[existing] = flowId;
+            insertReverse(existing);
+            return previous;
+        }
+
+        final int slot = freeSlot(key.fingerprintLo());
+        if (flowIds[slot] == TOMBSTONE) {
+            tombstones--;
+        }
+        fingerprintHi[slot] = key.fingerprintHi();
+        fingerprintLo[slot] = key.fingerprintLo();
+        cookies[slot] = key.cookie().longValue();
+        keyTableIds[slot] = (byte) key.tableId();
+        priorities[slot] = (short) key.priority();
+        flowTableIds[slot] = flowTableId;
+        flowIds[slot] = flowId;
+        insertReverse(slot);
+        size++;
+        return null;
+    }
+
+    /**
+     * Associate a key with a descriptor, provided it is currently associated with an expected descriptor and the new
+     * descriptor is not bound to another key.
+     *
+     * @param key registry key
+     * @param expected expected current descriptor
+     * @param descriptor new descriptor
+     * @return {@code true} if the key is now associated with the descriptor
+     */
+    synchronized boolean replace(final @NonNull FingerprintFlowRegistryKey key, final @NonNull FlowDescriptor expected,
+            final @NonNull FlowDescriptor descriptor) {
+        final int slot = findSlot(key);
+        if (slot < 0 || !expected.equals(descriptorAt(slot))) {
+            return false;
+        }
+        final byte flowTableId = descriptor.getTableKey().getId().byteValue();
+        final var flowId = FLOW_IDS.intern(descriptor.getFlowId());
+        if (findReverse(flowTableId, flowId) >= 0) {
+            return false;
+        }
+
+        removeReverse(slot);
+        flowTableIds[slot] = flowTableId;
+        flowIds[slot] = flowId;
+        insertReverse(slot);
+        return true;
+    }
+
+    synchronized void remove(final @NonNull FingerprintFlowRegistryKey key) {
+        final int slot = findSlot(key);
+        if (slot >= 0) {
+            removeReverse(slot);
+            flowIds[slot] = TOMBSTONE;
+            tombstones++;
+            size--;
+        }
+    }
+
+    synchronized void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Invoke a consumer on reconstructed keys of all entries.
+     *
+     * @param consumer key consumer
+     */
+    synchronized void forEach(final Consumer<FlowRegistryKey> consumer) {
+        for (int i = 0; i < flowIds.length; i++) {
+            if (isOccupied(i)) {
+                consumer.accept(new FingerprintFlowRegistryKey((short) Byte.toUnsignedInt(keyTableIds[i]),
+                    Short.toUnsignedInt(priorities[i]), Uint64.fromLongBits(cookies[i]), fingerprintHi[i],
+                    fingerprintLo[i], null));
+            }
+        }
+    }
+
+    private FlowDescriptor descriptorAt(final int slot) {
+        return FlowDescriptorFactory.create(Uint8.fromByteBits(flowTableIds[slot]), flowIds[slot]);
+    }
+
+    private boolean isOccupied(final int slot) {
+        final var flowId = flowIds[slot];
+        return flowId != null && flowId != TOMBSTONE;
+    }
+
+    private int findSlot(final FingerprintFlowRegistryKey key) {
+        final int mask = flowIds.length - 1;
+        final long lo = key.fingerprintLo();
+        final long hi = key.fingerprintHi();
+        for (int i = spread(Long.hashCode(lo)) & mask; flowIds[i] != null; i = i + 1 & mask) {
+            if (flowIds[i] != TOMBSTONE && fingerprintLo[i] == lo && fingerprintHi[i] == hi
+                    && keyTableIds[i] == (byte) key.tableId() && priorities[i] == (short) key.priority()
+                    && cookies[i] == key.cookie().longValue()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(final long lo) {
+        final int mask = flowIds.length - 1;
+        int slot = spread(Long.hashCode(lo)) & mask;
+        while (isOccupied(slot)) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private int findReverse(final byte flowTableId, final FlowId flowId) {
+        final int mask = reverse.length - 1;
+        for (int i = reverseHash(flowTableId, flowId) & mask; reverse[i] != REVERSE_FREE; i = i + 1 & mask) {
+            final int slot = reverse[i] - 1;
+            if (slot >= 0 && flowTableIds[slot] == flowTableId && flowIds[slot].equals(flowId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insertReverse(final int slot) {
+        final int mask = reverse.length - 1;
+        int index = reverseHash(flowTableIds[slot], flowIds[slot]) & mask;
+        while (reverse[index] > 0) {
+            index = index + 1 & mask;
+        }
+        if (reverse[index] == REVERSE_TOMBSTONE) {
+            reverseTombstones--;
+        }
+        reverse[index] = slot + 1;
+    }
+
+    private void removeReverse(final int slot) {
+        final int index = findReverse(flowTableIds[slot], flowIds[slot]);
+        if (index >= 0) {
+            reverse[index] = REVERSE_TOMBSTONE;
+            reverseTombstones++;
+        }
+    }
+
+    private void ensureCapacity() {
+        final int capacity = flowIds.length;
+        final int threshold = capacity - (capacity >>> 2);
+        if (size + Math.max(tombstones, reverseTombstones) + 1 > threshold) {
+            // Grow only if live entries warrant it, otherwise just purge tombstones
+            rehash(size + 1 > capacity >>> 1 ? capacity << 1 : capacity);
+        }
+    }
+
+    private void rehash(final int newCapacity) {
+        final var oldHi = fingerprintHi;
+        final var oldLo = fingerprintLo;
+        final var oldCookies = cookies;
+        final var oldKeyTableIds = keyTableIds;
+        final var oldPriorities = priorities;
+        final var oldFlowTableIds = flowTableIds;
+        final var oldFlowIds = flowIds;
+
+        allocate(newCapacity);
+        for (int i = 0; i < oldFlowIds.length; i++) {
+            final var flowId = oldFlowIds[i];
+            if (flowId != null && flowId != TOMBSTONE) {
+                final int slot = freeSlot(oldLo[i]);
+                fingerprintHi[slot] = oldHi[i];
+                fingerprintLo[slot] = oldLo[i];
+                cookies[slot] = oldCookies[i];
+                keyTableIds[slot] = oldKeyTableIds[i];
+                priorities[slot] = oldPriorities[i];
+                flowTableIds[slot] = oldFlowTableIds[i];
+                flowIds[slot] = flowId;
+                insertReverse(slot);
+                size++;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        fingerprintHi = new long[capacity];
+        fingerprintLo = new long[capacity];
+        cookies = new long[capacity];
+        keyTableIds = new byte[capacity];
+        priorities = new short[capacity];
+        flowTableIds = new byte[capacity];
+        flowIds = new FlowId[capacity];
+        reverse = new int[capacity];
+        size = 0;
+        tombstones = 0;
+        reverseTombstones = 0;
+    }
+
+    private static int reverseHash(final byte flowTableId, final FlowId flowId) {
+        return spread(31 * flowId.hashCode() + flowTableId);
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "FlowFingerprintTable{size=" + size + ", capacity=" + flowIds.length + ", tombstones=" + tombstones
+            + '}';
+    }
+}
@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNullElse;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import java.util.function.UnaryOperator;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
@@ -20,6 +21,7 @@ import org.opendaylight.openflowplugin.impl.util.MatchNormalizationUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
 import org.opendaylight.yangtools.yang.common.Uint8;
 
 public final class FlowRegistryKeyFactory {
@@ -57,10 +59,26 @@ public final class FlowRegistryKeyFactory {
     }
 
     public @NonNull FlowRegistryKey create(final @NonNull Flow flow) {
+        return create(flow, matchNormalizer::normalizeMatch);
+    }
+
+    /**
+     * Create a key for a flow, normalizing its match with a function equivalent to {@link #normalizeMatch(Match)},
+     * such as one memoizing its results.
+     *
+     * @param flow the flow
+     * @param normalizer match normalization function
+     * @return a {@link FlowRegistryKey}
+     */
+    @NonNull FlowRegistryKey create(final @NonNull Flow flow, final UnaryOperator<Match> normalizer) {
         // FIXME: mandatory flow input values (or default values) should be specified via YANG model
         final var priority = requireNonNullElse(flow.getPriority(), OFConstants.DEFAULT_FLOW_PRIORITY);
         final var cookie = requireNonNullElse(flow.getCookie(), OFConstants.DEFAULT_FLOW_COOKIE).getValue();
         return new FlowRegistryKeyImpl(flow.requireTableId().toJava(), priority.toJava(), cookie,
-            matchNormalizer.normalizeMatch(requireNonNullElse(flow.getMatch(), OFConstants.EMPTY_MATCH)));
+            normalizer.apply(requireNonNullElse(flow.getMatch(), OFConstants.EMPTY_MATCH)));
+    }
+
+    @NonNull Match normalizeMatch(final @NonNull Match match) {
+        return matchNormalizer.normalizeMatch(match);
     }
 }
@@ -32,10 +32,10 @@ record FlowRegistryKeyImpl(
     public boolean equals(final Object obj) {
         return this == obj || obj instanceof FlowRegistryKey that
             && priority == that.getPriority() && tableId == that.getTableId() && cookie.equals(that.getCookie())
-            && equalMatch(that.getMatch());
+            && equalMatch(match, that.getMatch());
     }
 
-    private boolean equalMatch(final Match input) {
+    static boolean equalMatch(final Match match, final Match input) {
         GeneralAugMatchNodesNodeTableFlow thisAug = match.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
         GeneralAugMatchNodesNodeTableFlow inputAug = input.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
         if (thisAug != inputAug) {
@@ -89,7 +89,7 @@ record FlowRegistryKeyImpl(
                 }
             }
         } else {
-            return getMatch().equals(input);
+            return match.equals(input);
         }
         return true;
     }
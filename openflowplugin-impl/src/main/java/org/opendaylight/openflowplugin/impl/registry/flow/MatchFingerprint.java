@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yangtools.binding.Augmentable;
+import org.opendaylight.yangtools.binding.DataContainer;
+import org.opendaylight.yangtools.binding.TypeObject;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * 128-bit fingerprint of a flow's table, priority, cookie and normalized match, computed from a canonical serialization
+ * of the match rather than from its {@code hashCode()}, so that it carries the full entropy of the match.
+ *
+ * <p>
+ * Containers and cases are serialized as their binding interface name followed by the values of all its getters in
+ * name order, typedefs, unions and bits as their class name followed by their getters. Every value is tagged with its
+ * kind and strings are length-prefixed, so distinct matches do not serialize to the same stream. Augmentations and
+ * keyed list entries, such as extension list entries, are unordered: each is fingerprinted on its own and their
+ * fingerprints are summed, so that a match received from a switch yields the same fingerprint as the same match read
+ * from the datastore, regardless of the order of its extensions.
+ */
+final class MatchFingerprint {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_CONTAINER = 1;
+    private static final byte TAG_TYPE_OBJECT = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_INTEGER = 5;
+    private static final byte TAG_ENUM = 6;
+    private static final byte TAG_BYTES = 7;
+    private static final byte TAG_LIST = 8;
+    private static final byte TAG_UNORDERED = 9;
+    private static final byte TAG_OTHER = 10;
+
+    // Getters of binding interfaces and type objects, in name order
+    private static final ClassValue<Method[]> GETTERS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(final Class<?> type) {
+            final var getters = new TreeMap<String, Method>();
+            for (var method : type.getMethods()) {
+                final var name = method.getName();
+                if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+                        && method.getReturnType() != void.class && !"getClass".equals(name)
+                        && (name.startsWith("get") || name.startsWith("is"))) {
+                    // Covariant overrides show up more than once, any of them does
+                    getters.putIfAbsent(name, method);
+                }
+            }
+            return getters.values().toArray(new Method[0]);
+        }
+    };
+
+    private MatchFingerprint() {
+        // Hidden on purpose
+    }
+
+    static @NonNull HashCode of(final short tableId, final int priority, final Uint64 cookie, final Match match) {
+        final var hasher = HASH_FUNCTION.newHasher()
+            .putShort(tableId)
+            .putInt(priority)
+            .putLong(cookie.longValue());
+        putValue(hasher, match);
+        return hasher.hash();
+    }
+
+    private static void putValue(final Hasher hasher, final Object value) {
+        if (value == null) {
+            hasher.putByte(TAG_NULL);
+        } else if (value instanceof DataContainer container) {
+            final var type = container.implementedInterface();
+            hasher.putByte(TAG_CONTAINER);
+            putString(hasher, type.getName());
+            putGetters(hasher, type, value);
+            if (value instanceof Augmentable<?> augmentable) {
+                putUnordered(hasher, augmentable.augmentations().values());
+            }
+        } else if (value instanceof TypeObject) {
+            final var type = value.getClass();
+            hasher.putByte(TAG_TYPE_OBJECT);
+            putString(hasher, type.getName());
+            putGetters(hasher, type, value);
+        } else if (value instanceof String str) {
+            hasher.putByte(TAG_STRING);
+            putString(hasher, str);
+        } else if (value instanceof Boolean bool) {
+            hasher.putByte(TAG_BOOLEAN).putBoolean(bool);
+        } else if (value instanceof Uint8 || value instanceof Uint16 || value instanceof Uint32
+                || value instanceof Uint64 || value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            hasher.putByte(TAG_INTEGER).putLong(((Number) value).longValue());
+        } else if (value instanceof Enum<?> enumeration) {
+            hasher.putByte(TAG_ENUM);
+            putString(hasher, enumeration.getDeclaringClass().getName());
+            hasher.putInt(enumeration.ordinal());
+        } else if (value instanceof byte[] bytes) {
+            hasher.putByte(TAG_BYTES).putInt(bytes.length).putBytes(bytes);
+        } else if (value instanceof List<?> list) {
+            hasher.putByte(TAG_LIST).putInt(list.size());
+            for (var item : list) {
+                putValue(hasher, item);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            // Keyed list, its keys are part of its entries
+            putUnordered(hasher, map.values());
+        } else if (value instanceof Collection<?> collection) {
+            putUnordered(hasher, collection);
+        } else {
+            // Decimal64, Empty, identities and the like, whose string form is canonical
+            hasher.putByte(TAG_OTHER);
+            putString(hasher, value.getClass().getName());
+            putString(hasher, value.toString());
+        }
+    }
+
+    private static void putGetters(final Hasher hasher, final Class<?> type, final Object value) {
+        for (var getter : GETTERS.get(type)) {
+            final Object child;
+            try {
+                child = getter.invoke(value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Failed to read " + getter + " of " + value, e);
+            }
+            putValue(hasher, child);
+        }
+    }
+
+    private static void putUnordered(final Hasher hasher, final Collection<?> items) {
+        long hi = 0;
+        long lo = 0;
+        for (var item : items) {
+            final var itemHasher = HASH_FUNCTION.newHasher();
+            putValue(itemHasher, item);
+            final var buf = ByteBuffer.wrap(itemHasher.hash().asBytes()).order(ByteOrder.LITTLE_ENDIAN);
+            lo += buf.getLong(0);
+            hi += buf.getLong(Long.BYTES);
+        }
+        hasher.putByte(TAG_UNORDERED).putInt(items.size()).putLong(lo).putLong(hi);
+    }
+
+    private static void putString(final Hasher hasher, final String str) {
+        hasher.putInt(str.length()).putString(str, StandardCharsets.UTF_8);
+    }
+}
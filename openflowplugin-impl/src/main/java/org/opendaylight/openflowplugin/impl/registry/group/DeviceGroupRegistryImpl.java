@@ -11,20 +11,19 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import org.opendaylight.openflowplugin.api.openflow.FlowGroupInfo;
 import org.opendaylight.openflowplugin.api.openflow.FlowGroupStatus;
 import org.opendaylight.openflowplugin.api.openflow.registry.group.DeviceGroupRegistry;
 import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryAppender;
+import org.opendaylight.openflowplugin.impl.registry.MarkSweepIdTable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupTypes;
+import org.opendaylight.yangtools.yang.common.Uint32;
 
 public class DeviceGroupRegistryImpl implements DeviceGroupRegistry {
-    // FIXME: clean up locking here
-    private final List<GroupId> groupIds = Collections.synchronizedList(new ArrayList<>());
-    private final List<GroupId> marks = Collections.synchronizedList(new ArrayList<>());
+    private final MarkSweepIdTable groupIds = new MarkSweepIdTable();
     private final FlowGroupInfoHistoryAppender history;
 
     public DeviceGroupRegistryImpl(final FlowGroupInfoHistoryAppender history) {
@@ -33,30 +32,22 @@ public class DeviceGroupRegistryImpl implements DeviceGroupRegistry {
 
     @Override
     public void store(final GroupId groupId) {
-        if (!groupIds.contains(groupId)) {
-            marks.remove(groupId);
-            groupIds.add(groupId);
-        }
+        groupIds.add(groupId.getValue().toJava());
     }
 
     @Override
     public void addMark(final GroupId groupId) {
-        if (!marks.contains(groupId)) {
-            marks.add(groupId);
-        }
+        groupIds.mark(groupId.getValue().toJava());
     }
 
     @Override
     public void processMarks() {
-        groupIds.removeAll(marks);
-        marks.clear();
+        groupIds.sweep();
     }
 
     @Override
     public void forEach(final Consumer<GroupId> consumer) {
-        synchronized (groupIds) {
-            groupIds.forEach(consumer);
-        }
+        groupIds.forEach(id -> consumer.accept(new GroupId(Uint32.valueOf(id))));
     }
 
     @Override
@@ -72,12 +63,13 @@ public class DeviceGroupRegistryImpl implements DeviceGroupRegistry {
     @Override
     public void close() {
         groupIds.clear();
-        marks.clear();
     }
 
     @VisibleForTesting
     List<GroupId> getAllGroupIds() {
-        return groupIds;
+        final List<GroupId> ret = new ArrayList<>(groupIds.size());
+        forEach(ret::add);
+        return ret;
     }
 
     private static final class GroupInfo extends FlowGroupInfo {
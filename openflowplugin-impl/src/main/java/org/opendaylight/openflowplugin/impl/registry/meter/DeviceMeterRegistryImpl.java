@@ -10,44 +10,38 @@ package org.opendaylight.openflowplugin.impl.registry.meter;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import org.opendaylight.openflowplugin.api.openflow.registry.meter.DeviceMeterRegistry;
+import org.opendaylight.openflowplugin.impl.registry.MarkSweepIdTable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
+import org.opendaylight.yangtools.yang.common.Uint32;
 
 /*
  * this class is marked to be thread safe
  */
 public class DeviceMeterRegistryImpl implements DeviceMeterRegistry {
 
-    private final List<MeterId> meterIds = Collections.synchronizedList(new ArrayList<>());
-    private final List<MeterId> marks = Collections.synchronizedList(new ArrayList<>());
+    private final MarkSweepIdTable meterIds = new MarkSweepIdTable();
 
     @Override
     public void store(final MeterId meterId) {
-        if (!meterIds.contains(meterId)) {
-            marks.remove(meterId);
-            meterIds.add(meterId);
-        }
+        meterIds.add(meterId.getValue().toJava());
     }
 
     @Override
     public void addMark(final MeterId meterId) {
-        marks.add(meterId);
+        meterIds.mark(meterId.getValue().toJava());
     }
 
     @Override
     public void processMarks() {
-        meterIds.removeAll(marks);
-        marks.clear();
+        meterIds.sweep();
     }
 
     @Override
     public void forEach(final Consumer<MeterId> consumer) {
-        synchronized (meterIds) {
-            meterIds.forEach(consumer);
-        }
+        meterIds.forEach(id -> consumer.accept(new MeterId(Uint32.valueOf(id))));
     }
 
     @Override
@@ -58,11 +52,12 @@ public class DeviceMeterRegistryImpl implements DeviceMeterRegistry {
     @Override
     public void close() {
         meterIds.clear();
-        marks.clear();
     }
 
     @VisibleForTesting
     List<MeterId> getAllMeterIds() {
-        return meterIds;
+        final List<MeterId> ret = new ArrayList<>(meterIds.size());
+        forEach(ret::add);
+        return ret;
     }
 }
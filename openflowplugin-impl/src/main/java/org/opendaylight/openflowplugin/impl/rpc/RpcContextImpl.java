@@ -11,9 +11,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.singleton.api.ServiceGroupIdentifier;
@@ -79,6 +81,7 @@ import org.opendaylight.openflowplugin.impl.statistics.services.compatibility.Ge
 import org.opendaylight.openflowplugin.impl.statistics.services.compatibility.GetAllFlowStatisticsFromFlowTableImpl;
 import org.opendaylight.openflowplugin.impl.statistics.services.compatibility.GetAllFlowsStatisticsFromAllFlowTablesImpl;
 import org.opendaylight.openflowplugin.impl.statistics.services.compatibility.GetFlowStatisticsFromFlowTableImpl;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.impl.statistics.services.direct.multilayer.MultiGetFlowStatistics;
 import org.opendaylight.openflowplugin.impl.statistics.services.direct.multilayer.MultiGetGroupStatistics;
 import org.opendaylight.openflowplugin.impl.statistics.services.direct.multilayer.MultiGetMeterStatistics;
@@ -110,7 +113,9 @@ final class RpcContextImpl implements RpcContext {
     private final DeviceContext deviceContext;
     private final ExtensionConverterProvider extensionConverterProvider;
     private final ConvertorExecutor convertorExecutor;
+    private final Executor executor;
     private final NotificationPublishService notificationPublishService;
+    private final @Nullable DeviceCache directStatisticsCache;
 
     private ContextChainMastershipWatcher contextChainMastershipWatcher = null;
     private Registration rpcRegistration;
@@ -120,8 +125,10 @@ final class RpcContextImpl implements RpcContext {
                    @NonNull final DeviceContext deviceContext,
                    @NonNull final ExtensionConverterProvider extensionConverterProvider,
                    @NonNull final ConvertorExecutor convertorExecutor,
+                   @NonNull final Executor executor,
                    @NonNull final NotificationPublishService notificationPublishService,
-                   final boolean statisticsRpcEnabled) {
+                   final boolean statisticsRpcEnabled,
+                   @Nullable final DeviceCache directStatisticsCache) {
         this.deviceContext = deviceContext;
         deviceInfo = deviceContext.getDeviceInfo();
         nodeInstanceIdentifier = deviceContext.getDeviceInfo().getNodeInstanceIdentifier();
@@ -130,7 +137,9 @@ final class RpcContextImpl implements RpcContext {
         this.extensionConverterProvider = extensionConverterProvider;
         this.notificationPublishService = notificationPublishService;
         this.convertorExecutor = convertorExecutor;
+        this.executor = executor;
         isStatisticsRpcEnabled = statisticsRpcEnabled;
+        this.directStatisticsCache = directStatisticsCache;
         tracker = new Semaphore(maxRequests, true);
     }
 
@@ -241,7 +250,7 @@ final class RpcContextImpl implements RpcContext {
             .add(sendExperimenter)
             // sal-bundle.yang (ONF extension?)
             .add(new ControlBundleImpl(sendExperimenter))
-            .add(new AddBundleMessagesImpl(sendExperimenter))
+            .add(new AddBundleMessagesImpl(this, deviceContext, sendExperimenter, executor))
             // sal-experimenter-mp-message.yang
             .add(new SendExperimenterMpRequestImpl(this, deviceContext, extensionConverterProvider))
             .add(addFlow)
@@ -278,20 +287,30 @@ final class RpcContextImpl implements RpcContext {
             .add(new GetAggregateFlowStatisticsFromFlowTableForGivenMatchImpl(this, deviceContext, convertorExecutor))
             // opendaylight-direct-statistics.yang
             .add(singleLayer
-                ? new SingleGetFlowStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider)
-                : new MultiGetFlowStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider))
+                ? new SingleGetFlowStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache)
+                : new MultiGetFlowStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache))
             .add(singleLayer
-                ? new SingleGetGroupStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider)
-                : new MultiGetGroupStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider))
+                ? new SingleGetGroupStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache)
+                : new MultiGetGroupStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache))
             .add(singleLayer
-                ? new SingleGetQueueStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider)
-                : new MultiGetQueueStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider))
+                ? new SingleGetQueueStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache)
+                : new MultiGetQueueStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache))
             .add(singleLayer
-                ? new SingleGetMeterStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider)
-                : new MultiGetMeterStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider))
+                ? new SingleGetMeterStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache)
+                : new MultiGetMeterStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache))
             .add(singleLayer
-                ? new SingleGetNodeConnectorStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider)
-                : new MultiGetNodeConnectorStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider));
+                ? new SingleGetNodeConnectorStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache)
+                : new MultiGetNodeConnectorStatistics(this, deviceContext, convertorExecutor, multipartWriterProvider,
+                    directStatisticsCache));
 
         // Support deprecated statistic related services for backward compatibility. The only exception from deprecation
         // is the aggregated flow statistic with match criteria input.
@@ -12,7 +12,9 @@ import com.google.common.collect.Iterators;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
@@ -20,6 +22,7 @@ import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.rpc.RpcContext;
 import org.opendaylight.openflowplugin.api.openflow.rpc.RpcManager;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterProvider;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow.provider.config.rev160510.OpenflowProviderConfig;
 import org.slf4j.Logger;
@@ -33,18 +36,24 @@ public class RpcManagerImpl implements RpcManager {
     private final ConcurrentMap<DeviceInfo, RpcContext> contexts = new ConcurrentHashMap<>();
     private final ExtensionConverterProvider extensionConverterProvider;
     private final ConvertorExecutor convertorExecutor;
+    private final Executor executor;
     private final NotificationPublishService notificationPublishService;
+    private final @Nullable DirectStatisticsCache directStatisticsCache;
 
     public RpcManagerImpl(final OpenflowProviderConfig config,
                           final RpcProviderService rpcProviderRegistry,
                           final ExtensionConverterProvider extensionConverterProvider,
                           final ConvertorExecutor convertorExecutor,
-                          final NotificationPublishService notificationPublishService) {
+                          final Executor executor,
+                          final NotificationPublishService notificationPublishService,
+                          final @Nullable DirectStatisticsCache directStatisticsCache) {
         this.config = config;
         this.rpcProviderRegistry = rpcProviderRegistry;
         this.extensionConverterProvider = extensionConverterProvider;
         this.convertorExecutor = convertorExecutor;
+        this.executor = executor;
         this.notificationPublishService = notificationPublishService;
+        this.directStatisticsCache = directStatisticsCache;
     }
 
     @Override
@@ -67,14 +76,18 @@ public class RpcManagerImpl implements RpcManager {
 
     @Override
     public RpcContext createContext(final @NonNull DeviceContext deviceContext) {
+        final var deviceStatisticsCache = directStatisticsCache == null ? null
+            : directStatisticsCache.forDevice(deviceContext.getDeviceInfo());
         final RpcContextImpl rpcContext = new RpcContextImpl(
                 rpcProviderRegistry,
                 config.getRpcRequestsQuota().getValue().toJava(),
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
+                executor,
                 notificationPublishService,
-                config.getIsStatisticsRpcEnabled());
+                config.getIsStatisticsRpcEnabled(),
+                deviceStatisticsCache);
 
         contexts.put(deviceContext.getDeviceInfo(), rpcContext);
         return rpcContext;
@@ -83,6 +96,9 @@ public class RpcManagerImpl implements RpcManager {
     @Override
     public void onDeviceRemoved(final DeviceInfo deviceInfo) {
         contexts.remove(deviceInfo);
+        if (directStatisticsCache != null) {
+            directStatisticsCache.onDeviceRemoved(deviceInfo);
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Rpc context removed for node {}", deviceInfo);
         }
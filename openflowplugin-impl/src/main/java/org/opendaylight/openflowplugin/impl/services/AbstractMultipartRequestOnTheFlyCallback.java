@@ -20,6 +20,7 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.impl.statistics.StatisticsGatheringUtils;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.EventsTimeCounter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
@@ -139,10 +140,14 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
 
         switch (getMultipartType()) {
             case OFPMPFLOW:
-                StatisticsGatheringUtils.deleteAllKnownFlows(
-                        getTxFacade(),
-                        instanceIdentifier,
-                        deviceRegistry.getDeviceFlowRegistry());
+                // Flows handed to a statistics sink are not present in the operational datastore
+                if (statisticsWriterProvider.lookup(getMultipartType())
+                        .map(AbstractMultipartWriter::writesToDatastore).orElse(true)) {
+                    StatisticsGatheringUtils.deleteAllKnownFlows(
+                            getTxFacade(),
+                            instanceIdentifier,
+                            deviceRegistry.getDeviceFlowRegistry());
+                }
                 deviceRegistry.getDeviceFlowRegistry().processMarks();
                 break;
             case OFPMPMETERCONFIG:
@@ -169,6 +174,8 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
      * @param setResult set empty success result
      */
     private void endCollecting(final boolean setResult) {
+        // Statistics were gathered only if at least one reply was processed
+        final boolean collected = Service.State.RUNNING.equals(gatheringState);
         gatheringState = Service.State.TERMINATED;
         EventsTimeCounter.markEnd(doneEventIdentifier);
         EventsTimeCounter.markEnd(getEventIdentifier());
@@ -176,6 +183,10 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
 
         if (setResult) {
             setResult(RpcResultBuilder.success(Collections.<T>emptyList()).build());
+            if (collected) {
+                statisticsWriterProvider.lookup(getMultipartType())
+                        .ifPresent(AbstractMultipartWriter::statisticsGathered);
+            }
         }
 
         txFacade.submitTransaction();
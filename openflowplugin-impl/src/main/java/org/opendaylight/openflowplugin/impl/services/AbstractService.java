@@ -17,6 +17,7 @@ import java.util.function.Function;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
@@ -109,6 +110,18 @@ public abstract class AbstractService<I, O> {
 
     protected abstract FutureCallback<OfHeader> createCallback(RequestContext<O> context, Class<?> requestType);
 
+    /**
+     * Return the outbound queue priority of requests issued by this service. Requests of other than
+     * {@link OutboundQueuePriority#BULK} priority may overtake previously-issued requests, as long as they do not cross
+     * a barrier. Requests which must not be reordered with respect to flow modifications, such as role requests, need
+     * to stay {@link OutboundQueuePriority#BULK}.
+     *
+     * @return request priority
+     */
+    protected @NonNull OutboundQueuePriority requestPriority() {
+        return OutboundQueuePriority.BULK;
+    }
+
     public @NonNull ListenableFuture<RpcResult<O>> handleServiceCall(@NonNull final I input) {
         return handleServiceCall(input, null);
     }
@@ -161,7 +174,16 @@ public abstract class AbstractService<I, O> {
                     getDeviceContext().getPrimaryConnectionContext().getOutboundQueueProvider();
 
             final Uint32 queueXid = xid.getValue();
-            if (isComplete != null) {
+            final OutboundQueuePriority priority = requestPriority();
+            if (priority != OutboundQueuePriority.BULK) {
+                if (isComplete != null) {
+                    outboundQueue.commitEntry(queueXid, request, createCallback(requestContext, requestType),
+                        isComplete, priority);
+                } else {
+                    outboundQueue.commitEntry(queueXid, request, createCallback(requestContext, requestType),
+                        priority);
+                }
+            } else if (isComplete != null) {
                 outboundQueue.commitEntry(queueXid, request, createCallback(requestContext, requestType), isComplete);
             } else {
                 outboundQueue.commitEntry(queueXid, request, createCallback(requestContext, requestType));
@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
@@ -49,6 +50,11 @@ public final class SendEchoImpl extends AbstractSimpleService<EchoInputBuilder,
         }, MoreExecutors.directExecutor());
     }
 
+    @Override
+    protected OutboundQueuePriority requestPriority() {
+        return OutboundQueuePriority.CONTROL;
+    }
+
     @Override
     protected OfHeader buildRequest(final Xid xid, final EchoInputBuilder input) {
         return input
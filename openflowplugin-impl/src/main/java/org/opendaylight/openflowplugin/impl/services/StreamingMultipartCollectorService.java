@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.services;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.List;
+import java.util.function.Consumer;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReply;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Multipart collector service, which hands each multipart reply to a consumer as soon as it is received from the
+ * device, before the request is complete. Replies are still collected, so that the returned future reports the
+ * outcome of the whole request. Works with both single-layer and multi-layer serialization.
+ */
+public class StreamingMultipartCollectorService extends AbstractMultipartCollectorService<OfHeader> {
+    private final Consumer<OfHeader> replyConsumer;
+
+    public StreamingMultipartCollectorService(final RequestContextStack requestContextStack,
+                                              final DeviceContext deviceContext,
+                                              final Consumer<OfHeader> replyConsumer) {
+        super(requestContextStack, deviceContext);
+        this.replyConsumer = requireNonNull(replyConsumer);
+    }
+
+    @Override
+    protected FutureCallback<OfHeader> createCallback(final RequestContext<List<OfHeader>> context,
+            final Class<?> requestType) {
+        final FutureCallback<OfHeader> callback = super.createCallback(context, requestType);
+
+        return new FutureCallback<>() {
+            @Override
+            public void onSuccess(final OfHeader result) {
+                if (result instanceof MultipartReply || result
+                        instanceof org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112
+                            .MultipartReply) {
+                    replyConsumer.accept(result);
+                }
+                callback.onSuccess(result);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                callback.onFailure(throwable);
+            }
+        };
+    }
+}
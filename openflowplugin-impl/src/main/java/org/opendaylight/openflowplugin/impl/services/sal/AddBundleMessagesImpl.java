@@ -16,6 +16,10 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.SendExperimenter;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.SendExperimenterInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.SendExperimenterOutput;
@@ -32,13 +36,38 @@ import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 
 public final class AddBundleMessagesImpl implements AddBundleMessages {
     private final SendExperimenter sendExperimenter;
+    private final @Nullable BundleAddMessageWriter writer;
 
+    /**
+     * Create an instance which sends each message as a separate {@link SendExperimenter} RPC.
+     *
+     * @param sendExperimenter experimenter message RPC
+     */
     public AddBundleMessagesImpl(final SendExperimenter sendExperimenter) {
         this.sendExperimenter = requireNonNull(sendExperimenter);
+        writer = null;
+    }
+
+    /**
+     * Create an instance which streams messages directly into the device's outbound queue.
+     *
+     * @param requestContextStack request context stack
+     * @param deviceContext device context
+     * @param sendExperimenter experimenter message RPC, used to convert messages
+     * @param executor executor converting messages once the device acknowledges earlier ones
+     */
+    public AddBundleMessagesImpl(final RequestContextStack requestContextStack, final DeviceContext deviceContext,
+            final SendExperimenterImpl sendExperimenter, final Executor executor) {
+        this.sendExperimenter = requireNonNull(sendExperimenter);
+        writer = new BundleAddMessageWriter(requestContextStack, deviceContext, sendExperimenter, executor);
     }
 
     @Override
     public ListenableFuture<RpcResult<AddBundleMessagesOutput>> invoke(final AddBundleMessagesInput input) {
+        return writer != null ? writer.write(input) : sendMessages(input);
+    }
+
+    private ListenableFuture<RpcResult<AddBundleMessagesOutput>> sendMessages(final AddBundleMessagesInput input) {
         final var partialResults = new ArrayList<ListenableFuture<RpcResult<SendExperimenterOutput>>>();
         final var experimenterInputBuilder = new SendExperimenterInputBuilder()
             .setNode(input.getNode());
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.services.sal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.openflowjava.protocol.api.connection.DeviceRequestFailedException;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
+import org.opendaylight.openflowplugin.api.openflow.device.Xid;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.impl.services.util.RequestContextUtil;
+import org.opendaylight.openflowplugin.impl.services.util.ServiceException;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.Error;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.Message;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.send.experimenter.input.experimenter.message.of.choice.BundleAddMessageSalBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.send.experimenter.input.experimenter.message.of.choice.bundle.add.message.sal.SalAddMessageDataBuilder;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcError;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams the messages of an {@link AddBundleMessagesInput} into a device's outbound queue. Unlike issuing a
+ * {@link SendExperimenterImpl} RPC for each message, the whole input uses a single request context and each message
+ * is converted only when it is queued, in XID order. Switches do not acknowledge bundle add messages, hence they are
+ * queued without a callback. Errors the switch reports for them are picked up by a device error listener.
+ *
+ * <p>
+ * Flow control is provided by queueing at most {@code maxChunksInFlight} chunks of {@code chunkSize} messages. Each
+ * chunk, including the last one, is followed by a barrier, whose reply completes the chunk and lets the next one be
+ * queued. A switch reports errors for messages before replying to a subsequent barrier, hence once the last barrier
+ * completes, all errors are known. Barrier replies arrive on the device's event loop, hence the following chunks are
+ * converted and queued on {@code executor}.
+ */
+final class BundleAddMessageWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(BundleAddMessageWriter.class);
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+    private static final int DEFAULT_MAX_CHUNKS_IN_FLIGHT = 4;
+
+    private final RequestContextStack requestContextStack;
+    private final DeviceContext deviceContext;
+    private final SendExperimenterImpl sendExperimenter;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+
+    BundleAddMessageWriter(final RequestContextStack requestContextStack, final DeviceContext deviceContext,
+            final SendExperimenterImpl sendExperimenter, final Executor executor) {
+        this(requestContextStack, deviceContext, sendExperimenter, executor, DEFAULT_CHUNK_SIZE,
+            DEFAULT_MAX_CHUNKS_IN_FLIGHT);
+    }
+
+    @VisibleForTesting
+    BundleAddMessageWriter(final RequestContextStack requestContextStack, final DeviceContext deviceContext,
+            final SendExperimenterImpl sendExperimenter, final Executor executor, final int chunkSize,
+            final int maxChunksInFlight) {
+        this.requestContextStack = requireNonNull(requestContextStack);
+        this.deviceContext = requireNonNull(deviceContext);
+        this.sendExperimenter = requireNonNull(sendExperimenter);
+        this.executor = requireNonNull(executor);
+        checkArgument(chunkSize > 0, "Invalid chunk size %s", chunkSize);
+        checkArgument(maxChunksInFlight > 0, "Invalid number of chunks in flight %s", maxChunksInFlight);
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    ListenableFuture<RpcResult<AddBundleMessagesOutput>> write(final AddBundleMessagesInput input) {
+        final var messageSpy = deviceContext.getMessageSpy();
+        messageSpy.spyMessage(AddBundleMessagesInput.class, MessageSpy.StatisticsGroup.TO_SWITCH_ENTERED);
+
+        final RequestContext<AddBundleMessagesOutput> requestContext = requestContextStack.createRequestContext();
+        if (requestContext == null) {
+            LOG.trace("Request context refused.");
+            messageSpy.spyMessage(AddBundleMessagesInput.class, MessageSpy.StatisticsGroup.TO_SWITCH_DISREGARDED);
+            return Futures.immediateFuture(RpcResultBuilder.<AddBundleMessagesOutput>failed()
+                .withError(ErrorType.APPLICATION, ErrorTag.ACCESS_DENIED, "Request quota exceeded")
+                .build());
+        }
+        if (requestContext.getXid() == null) {
+            messageSpy.spyMessage(requestContext.getClass(),
+                MessageSpy.StatisticsGroup.TO_SWITCH_RESERVATION_REJECTED);
+            return RequestContextUtil.closeRequestContextWithRpcError(requestContext,
+                "Outbound queue wasn't able to reserve XID.");
+        }
+
+        new Stream(requestContext, input).pump();
+        return requestContext.getFuture();
+    }
+
+    /**
+     * State of a single {@link #write(AddBundleMessagesInput)}. Messages are queued by whichever thread calls
+     * {@link #pump()}, one thread at a time: the caller initially, then {@code executor} once a chunk completes.
+     */
+    private final class Stream implements FutureCallback<OfHeader> {
+        private final Queue<RpcError> errors = new ConcurrentLinkedQueue<>();
+        // Error messages reported by the device while we are streaming, not all of them necessarily ours
+        private final Queue<ErrorMessage> deviceErrors = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger chunksInFlight = new AtomicInteger();
+        private final AtomicInteger pumpRequests = new AtomicInteger();
+        private final RequestContext<AddBundleMessagesOutput> requestContext;
+        private final OutboundQueue outboundQueue;
+        private final Iterator<Message> messages;
+        private final NodeRef node;
+        private final BundleAddMessageSalBuilder addMessageBuilder = new BundleAddMessageSalBuilder();
+        private final SalAddMessageDataBuilder dataBuilder;
+        private final Registration errorRegistration;
+        private final long baseXid;
+
+        // Accessed only by the thread in pump()
+        private final BitSet messageXids = new BitSet();
+        private Uint32 firstXid;
+        private int queuedInChunk;
+        private boolean exhausted;
+        private boolean finished;
+
+        Stream(final RequestContext<AddBundleMessagesOutput> requestContext, final AddBundleMessagesInput input) {
+            this.requestContext = requireNonNull(requestContext);
+            outboundQueue = deviceContext.getPrimaryConnectionContext().getOutboundQueueProvider();
+            firstXid = requestContext.getXid().getValue();
+            baseXid = firstXid.toJava();
+            messages = input.nonnullMessages().nonnullMessage().iterator();
+            node = input.getNode();
+            dataBuilder = new SalAddMessageDataBuilder()
+                .setNode(input.getNode())
+                .setBundleId(input.getBundleId())
+                .setFlags(input.getFlags())
+                .setBundleProperty(input.getBundleProperty());
+            errorRegistration = deviceContext.registerErrorListener(deviceErrors::add);
+        }
+
+        void pump() {
+            if (pumpRequests.getAndIncrement() != 0) {
+                // the thread already pumping will go around once more
+                return;
+            }
+
+            int requests = 1;
+            do {
+                fill();
+                requests = pumpRequests.addAndGet(-requests);
+            } while (requests != 0);
+        }
+
+        @Override
+        public void onSuccess(final OfHeader result) {
+            // a barrier completed, we are on the event loop, hence convert the next chunk elsewhere
+            chunksInFlight.decrementAndGet();
+            executor.execute(this::pump);
+        }
+
+        @Override
+        public void onFailure(final Throwable cause) {
+            if (cause instanceof DeviceRequestFailedException failed) {
+                errors.add(deviceError(failed.getError()));
+            } else {
+                errors.add(RpcResultBuilder.newError(ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED,
+                    String.valueOf(cause.getMessage()), null, null, cause));
+            }
+            chunksInFlight.decrementAndGet();
+            executor.execute(this::pump);
+        }
+
+        private void fill() {
+            while (!exhausted && chunksInFlight.get() < maxChunksInFlight) {
+                if (!messages.hasNext()) {
+                    exhausted = true;
+                    break;
+                }
+
+                final var xid = nextXid();
+                if (xid == null) {
+                    errors.add(RpcResultBuilder.newError(ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED,
+                        "Outbound queue wasn't able to reserve XID."));
+                    exhausted = true;
+                    break;
+                }
+                queueMessage(xid, messages.next());
+
+                if (++queuedInChunk == chunkSize || !messages.hasNext()) {
+                    queuedInChunk = 0;
+                    queueBarrier();
+                }
+            }
+
+            if (exhausted && !finished && chunksInFlight.get() == 0) {
+                finished = true;
+                if (firstXid != null) {
+                    // no messages at all, release the request context's slot
+                    outboundQueue.commitEntry(firstXid, null, null);
+                    firstXid = null;
+                }
+                finish();
+            }
+        }
+
+        private Uint32 nextXid() {
+            final var xid = firstXid;
+            if (xid != null) {
+                firstXid = null;
+                return xid;
+            }
+            return deviceContext.getDeviceInfo().reserveXidForDeviceMessage();
+        }
+
+        private void queueMessage(final Uint32 xid, final Message message) {
+            final OfHeader request;
+            try {
+                request = sendExperimenter.buildRequest(new Xid(xid), node, addMessageBuilder
+                    .setSalAddMessageData(dataBuilder.setBundleInnerMessage(message.getBundleInnerMessage()).build())
+                    .build());
+            } catch (ServiceException e) {
+                LOG.error("Failed to build bundle add message, forfeiting request {}", xid, e);
+                errors.add(RpcResultBuilder.newError(ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED,
+                    "failed to build request input: " + e.getMessage()));
+                // release the slot
+                outboundQueue.commitEntry(xid, null, null);
+                return;
+            }
+
+            messageXids.set(xidOffset(xid.toJava()));
+            outboundQueue.commitEntry(xid, request, null);
+        }
+
+        private void queueBarrier() {
+            final var barrierXid = deviceContext.getDeviceInfo().reserveXidForDeviceMessage();
+            if (barrierXid == null) {
+                errors.add(RpcResultBuilder.newError(ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED,
+                    "Outbound queue wasn't able to reserve XID."));
+                exhausted = true;
+                return;
+            }
+
+            chunksInFlight.incrementAndGet();
+            outboundQueue.commitEntry(barrierXid, new BarrierInputBuilder()
+                .setVersion(sendExperimenter.getVersion())
+                .setXid(barrierXid)
+                .build(), this);
+        }
+
+        private int xidOffset(final long xid) {
+            // XIDs wrap around, offsets stay small as we never have more than a few chunks in flight
+            return (int) (xid - baseXid & 0xFFFFFFFFL);
+        }
+
+        private RpcError deviceError(final Error err) {
+            return RpcResultBuilder.newError(ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED,
+                String.format("Device reported error type %s code %s for XID %s", err.getTypeString(),
+                    err.getCodeString(), err.getXid()));
+        }
+
+        private void finish() {
+            errorRegistration.close();
+            for (var err : deviceErrors) {
+                final var xid = err.getXid();
+                if (xid != null && messageXids.get(xidOffset(xid.toJava()))) {
+                    errors.add(deviceError(err));
+                }
+            }
+
+            final var messageSpy = deviceContext.getMessageSpy();
+            final RpcResult<AddBundleMessagesOutput> result;
+            if (errors.isEmpty()) {
+                messageSpy.spyMessage(AddBundleMessagesInput.class,
+                    MessageSpy.StatisticsGroup.TO_SWITCH_SUBMIT_SUCCESS);
+                result = RpcResultBuilder.<AddBundleMessagesOutput>success().build();
+            } else {
+                messageSpy.spyMessage(AddBundleMessagesInput.class,
+                    MessageSpy.StatisticsGroup.TO_SWITCH_SUBMIT_FAILURE);
+                result = RpcResultBuilder.<AddBundleMessagesOutput>failed().withRpcErrors(errors).build();
+            }
+            requestContext.setResult(result);
+            RequestContextUtil.closeRequestContext(requestContext);
+        }
+    }
+}
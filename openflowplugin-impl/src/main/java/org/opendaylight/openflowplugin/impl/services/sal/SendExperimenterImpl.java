@@ -25,6 +25,7 @@ import org.opendaylight.openflowplugin.impl.services.util.ServiceException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.SendExperimenter;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.SendExperimenterInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.experimenter.message.service.rev151020.SendExperimenterOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.experimenter.core.ExperimenterDataOfChoice;
@@ -51,30 +52,34 @@ public final class SendExperimenterImpl extends AbstractSimpleService<SendExperi
 
     @Override
     protected OfHeader buildRequest(final Xid xid, final SendExperimenterInput input) throws ServiceException {
-        final TypeVersionKey key =
-                new TypeVersionKey(input.getExperimenterMessageOfChoice().implementedInterface(), getVersion());
+        return buildRequest(xid, input.getNode(), input.getExperimenterMessageOfChoice());
+    }
+
+    OfHeader buildRequest(final Xid xid, final NodeRef node, final ExperimenterMessageOfChoice message)
+            throws ServiceException {
+        final TypeVersionKey key = new TypeVersionKey(message.implementedInterface(), getVersion());
         final ConverterMessageToOFJava<ExperimenterMessageOfChoice, ExperimenterDataOfChoice,
             ExtensionConvertorData> messageConverter = extensionConverterProvider.getMessageConverter(key);
 
         if (messageConverter == null) {
             LOG.warn("Unable to find message converter for experimenter xid {} for device {}", xid,
-                    extractDatapathId(input.getNode()));
+                    extractDatapathId(node));
             throw new ServiceException(new ConverterNotFoundException(key.toString()));
         }
         final ExperimenterInputBuilder experimenterInputBld;
         try {
             final var data = new ExtensionConvertorData(OFConstants.OFP_VERSION_1_3);
             data.setXid(xid.getValue());
-            data.setDatapathId(extractDatapathId(input.getNode()));
+            data.setDatapathId(extractDatapathId(node));
             experimenterInputBld = new ExperimenterInputBuilder()
                     .setExperimenter(messageConverter.getExperimenterId())
                     .setExpType(messageConverter.getType())
-                    .setExperimenterDataOfChoice(messageConverter.convert(input.getExperimenterMessageOfChoice(), data))
+                    .setExperimenterDataOfChoice(messageConverter.convert(message, data))
                     .setVersion(getVersion())
                     .setXid(xid.getValue());
         } catch (ConversionException e) {
             LOG.warn("Error while building experimenter message with id {} and xid {} for device {}",
-                    messageConverter.getExperimenterId(), xid, extractDatapathId(input.getNode()), e);
+                    messageConverter.getExperimenterId(), xid, extractDatapathId(node), e);
             throw new ServiceException(e);
         }
 
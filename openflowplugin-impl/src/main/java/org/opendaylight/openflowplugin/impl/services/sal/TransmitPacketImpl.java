@@ -9,6 +9,7 @@ package org.opendaylight.openflowplugin.impl.services.sal;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.Optional;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
@@ -38,6 +39,11 @@ public final class TransmitPacketImpl extends AbstractSimpleService<TransmitPack
         return handleServiceCall(input);
     }
 
+    @Override
+    protected OutboundQueuePriority requestPriority() {
+        return OutboundQueuePriority.INTERACTIVE;
+    }
+
     @Override
     protected OfHeader buildRequest(final Xid xid, final TransmitPacketInput input) {
         final XidConvertorData data = new XidConvertorData(getVersion());
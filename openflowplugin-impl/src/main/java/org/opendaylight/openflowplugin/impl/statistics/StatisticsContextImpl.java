@@ -24,6 +24,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.TransactionChainClosedException;
 import org.opendaylight.mdsal.singleton.api.ServiceGroupIdentifier;
 import org.opendaylight.openflowplugin.api.ConnectionException;
@@ -41,6 +42,7 @@ import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
 import org.opendaylight.openflowplugin.impl.services.util.RequestContextUtil;
 import org.opendaylight.openflowplugin.impl.statistics.services.dedicated.StatisticsGatheringOnTheFlyService;
 import org.opendaylight.openflowplugin.impl.statistics.services.dedicated.StatisticsGatheringService;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
@@ -57,6 +59,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
     private final DeviceContext deviceContext;
     private final DeviceState devState;
     private final Executor executorService;
+    private final @Nullable Executor ioExecutor;
     private final boolean isStatisticsPollingOn;
     private final ConvertorExecutor convertorExecutor;
     private final MultipartWriterProvider statisticsWriterProvider;
@@ -73,6 +76,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
     private StatisticsGatheringService<T> statisticsGatheringService;
     private StatisticsGatheringOnTheFlyService<T> statisticsGatheringOnTheFlyService;
     private ContextChainMastershipWatcher contextChainMastershipWatcher;
+    private volatile long lastGatheringNanos;
 
     StatisticsContextImpl(@NonNull final DeviceContext deviceContext,
                           @NonNull final ConvertorExecutor convertorExecutor,
@@ -80,10 +84,13 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
                           @NonNull final Executor executorService,
                           @NonNull final OpenflowProviderConfig config,
                           final boolean isStatisticsPollingOn,
-                          final boolean isUsingReconciliationFramework) {
+                          final boolean isUsingReconciliationFramework,
+                          @Nullable final DeviceCache directStatisticsCache) {
         this.deviceContext = deviceContext;
         devState = requireNonNull(deviceContext.getDeviceState());
         this.executorService = executorService;
+        ioExecutor = Boolean.TRUE.equals(config.getEnableEventLoopAffinity())
+            ? deviceContext.getPrimaryConnectionContext().getConnectionAdapter().getIoExecutor() : null;
         this.isStatisticsPollingOn = isStatisticsPollingOn;
         this.config = config;
         this.convertorExecutor = convertorExecutor;
@@ -93,7 +100,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
         this.statisticsWriterProvider = statisticsWriterProvider;
         this.isUsingReconciliationFramework = isUsingReconciliationFramework;
 
-        statisticsGatheringService = new StatisticsGatheringService<>(this, deviceContext);
+        statisticsGatheringService = new StatisticsGatheringService<>(this, deviceContext, directStatisticsCache);
         statisticsGatheringOnTheFlyService = new StatisticsGatheringOnTheFlyService<>(this, deviceContext,
                                                                                       convertorExecutor,
                                                                                       statisticsWriterProvider);
@@ -138,6 +145,11 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
         schedulingEnabled.set(false);
     }
 
+    @Override
+    public long getLastGatheringNanos() {
+        return lastGatheringNanos;
+    }
+
     @Override
     public void continueInitializationAfterReconciliation() {
         if (deviceContext.initialSubmitTransaction()) {
@@ -220,6 +232,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
         return lastDataGatheringRef.updateAndGet(future -> {
             // write start timestamp to state snapshot container
             StatisticsGatheringUtils.markDeviceStateSnapshotStart(deviceInfo, deviceContext);
+            final long startNanos = System.nanoTime();
 
             // recreate gathering future if it should be recreated
             final ListenableFuture<Boolean> lastDataGathering = future == null || future.isCancelled()
@@ -235,6 +248,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
             Futures.addCallback(newDataGathering, new FutureCallback<Boolean>() {
                 @Override
                 public void onSuccess(final Boolean result) {
+                    lastGatheringNanos = System.nanoTime() - startNanos;
                     StatisticsGatheringUtils.markDeviceStateSnapshotEnd(deviceInfo, deviceContext, result);
                 }
 
@@ -268,12 +282,18 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
             final boolean onTheFly = MultipartType.OFPMPFLOW.equals(multipartType);
             final boolean supported = collectingStatType.contains(multipartType);
 
+            if (!supported) {
+                return Futures.immediateFuture(Boolean.FALSE);
+            }
             // TODO: Refactor twice sending deviceContext into gatheringStatistics
-            return supported ? StatisticsGatheringUtils
-                    .gatherStatistics(onTheFly ? statisticsGatheringOnTheFlyService : statisticsGatheringService,
-                                      getDeviceInfo(), multipartType, deviceContext, deviceContext, convertorExecutor,
-                                      statisticsWriterProvider, executorService) : Futures
-                    .immediateFuture(Boolean.FALSE);
+            final var service = onTheFly ? statisticsGatheringOnTheFlyService : statisticsGatheringService;
+            // Translation can stay on the device's event loop, writes need the transaction lock and the datastore,
+            // hence they always run on our executor
+            return ioExecutor != null
+                ? StatisticsGatheringUtils.gatherStatistics(service, getDeviceInfo(), multipartType, deviceContext,
+                    deviceContext, convertorExecutor, statisticsWriterProvider, ioExecutor, executorService)
+                : StatisticsGatheringUtils.gatherStatistics(service, getDeviceInfo(), multipartType, deviceContext,
+                    deviceContext, convertorExecutor, statisticsWriterProvider, executorService);
         }, MoreExecutors.directExecutor());
     }
 
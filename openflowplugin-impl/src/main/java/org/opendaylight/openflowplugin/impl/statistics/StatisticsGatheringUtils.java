@@ -32,6 +32,7 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.StatisticsGatherer;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
@@ -69,7 +70,26 @@ public final class StatisticsGatheringUtils {
             final MultipartType type, final TxFacade txFacade, final DeviceRegistry registry,
             final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
             final Executor executor) {
-        return Futures.transform(statisticsGatheringService.getStatisticsOfType(
+        // Translate and process in a single task
+        return gatherStatistics(statisticsGatheringService, deviceInfo, type, txFacade, registry, convertorExecutor,
+            statisticsWriterProvider, executor, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Gather statistics of a particular type. Replies are translated on {@code translateExecutor}, which does not
+     * touch the datastore nor the transaction lock and hence may be the device's event loop. Translated statistics
+     * are then written on {@code executor}.
+     *
+     * @param translateExecutor executor translating replies
+     * @param executor executor writing translated statistics
+     * @return A future completing with {@code true} if statistics were written
+     */
+    static <T extends OfHeader> ListenableFuture<Boolean> gatherStatistics(
+            final StatisticsGatherer<T> statisticsGatheringService, final DeviceInfo deviceInfo,
+            final MultipartType type, final TxFacade txFacade, final DeviceRegistry registry,
+            final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
+            final Executor translateExecutor, final Executor executor) {
+        final var translated = Futures.transform(statisticsGatheringService.getStatisticsOfType(
             new EventIdentifier(QUEUE2_REQCTX + type.toString(), deviceInfo.getNodeId().toString()), type),
             rpcResult -> {
                 final boolean rpcResultIsNull = rpcResult == null;
@@ -80,14 +100,11 @@ public final class StatisticsGatheringUtils {
                         // TODO: on the fly. This contract should by clearly stated and enforced.
                         // TODO: Now simple true value is returned
                     if (rpcResult.getResult() != null && !rpcResult.getResult().isEmpty()) {
-                        final List<DataContainer> allMultipartData = rpcResult.getResult().stream()
+                        return rpcResult.getResult().stream()
                                 .map(reply -> MultipartReplyTranslatorUtil
                                                     .translate(reply, deviceInfo, convertorExecutor, null))
                                 .filter(Optional::isPresent).map(Optional::orElseThrow)
-                                .collect(Collectors.toList());
-
-                        return processStatistics(type, allMultipartData, txFacade, registry, deviceInfo,
-                                        statisticsWriterProvider);
+                                .collect(Collectors.<DataContainer>toList());
                     } else {
                         LOG.debug("Stats reply was empty for node {} of type {}", deviceInfo.getNodeId(), type);
                     }
@@ -95,8 +112,13 @@ public final class StatisticsGatheringUtils {
                     LOG.warn("Stats reply FAILED for node {} of type {}: {}", deviceInfo.getNodeId(), type,
                                 rpcResultIsNull ? "" : rpcResult.getErrors());
                 }
-                return false;
-            }, executor);
+                // Nothing to process
+                return null;
+            }, translateExecutor);
+
+        return Futures.transform(translated, allMultipartData -> allMultipartData != null
+            && processStatistics(type, allMultipartData, txFacade, registry, deviceInfo, statisticsWriterProvider),
+            executor);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -111,7 +133,11 @@ public final class StatisticsGatheringUtils {
             txFacade.acquireWriteTransactionLock();
             switch (type) {
                 case OFPMPFLOW:
-                    deleteAllKnownFlows(txFacade, instanceIdentifier, deviceRegistry.getDeviceFlowRegistry());
+                    // Flows handed to a statistics sink are not present in the operational datastore
+                    if (statisticsWriterProvider.lookup(type).map(AbstractMultipartWriter::writesToDatastore)
+                            .orElse(true)) {
+                        deleteAllKnownFlows(txFacade, instanceIdentifier, deviceRegistry.getDeviceFlowRegistry());
+                    }
                     deviceRegistry.getDeviceFlowRegistry().processMarks();
                     break;
                 case OFPMPMETERCONFIG:
@@ -127,6 +153,7 @@ public final class StatisticsGatheringUtils {
             }
 
             if (writeStatistics(type, statistics, deviceInfo, statisticsWriterProvider)) {
+                statisticsWriterProvider.lookup(type).ifPresent(AbstractMultipartWriter::statisticsGathered);
                 txFacade.submitTransaction();
 
                 LOG.debug("Stats reply added to transaction for node {} of type {}", deviceInfo.getNodeId(), type);
@@ -14,13 +14,16 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsManager;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsSink;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFactory;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow.provider.config.rev160510.OpenflowProviderConfig;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.sm.control.rev150812.ChangeStatisticsWorkMode;
@@ -47,6 +50,8 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     private final OpenflowProviderConfig config;
     private final ConvertorExecutor converterExecutor;
     private final Executor executor;
+    private final @Nullable DirectStatisticsCache directStatisticsCache;
+    private final @Nullable StatisticsSink statisticsSink;
     private final Semaphore workModeGuard = new Semaphore(1, true);
     private final Registration controlServiceRegistration;
     private final StatisticsWorkMode workMode = StatisticsWorkMode.COLLECTALL;
@@ -55,9 +60,13 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     public StatisticsManagerImpl(@NonNull final OpenflowProviderConfig config,
                                  @NonNull final RpcProviderService rpcProviderRegistry,
                                  final ConvertorExecutor convertorExecutor,
-                                 @NonNull final Executor executor) {
+                                 @NonNull final Executor executor,
+                                 @Nullable final DirectStatisticsCache directStatisticsCache,
+                                 @Nullable final StatisticsSink statisticsSink) {
         this.config = config;
         this.executor = executor;
+        this.directStatisticsCache = directStatisticsCache;
+        this.statisticsSink = statisticsSink;
         converterExecutor = convertorExecutor;
         controlServiceRegistration = rpcProviderRegistry.registerRpcImplementations(
             (GetStatisticsWorkMode) this::getStatisticsWorkMode,
@@ -105,8 +114,10 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     public StatisticsContext createContext(@NonNull final DeviceContext deviceContext,
                                            final boolean useReconciliationFramework) {
         final MultipartWriterProvider statisticsWriterProvider = MultipartWriterProviderFactory
-                .createDefaultProvider(deviceContext);
+                .createDefaultProvider(deviceContext, statisticsSink);
 
+        final var deviceStatisticsCache = directStatisticsCache == null ? null
+            : directStatisticsCache.forDevice(deviceContext.getDeviceInfo());
         final StatisticsContext statisticsContext = new StatisticsContextImpl<>(
                 deviceContext,
                 converterExecutor,
@@ -114,7 +125,8 @@ public final class StatisticsManagerImpl implements StatisticsManager {
                 executor,
                 config,
                 !isStatisticsFullyDisabled && config.getIsStatisticsPollingOn(),
-                useReconciliationFramework);
+                useReconciliationFramework,
+                deviceStatisticsCache);
 
         contexts.put(deviceContext.getDeviceInfo(), statisticsContext);
         return statisticsContext;
@@ -123,6 +135,10 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     @Override
     public void onDeviceRemoved(final DeviceInfo deviceInfo) {
         contexts.remove(deviceInfo);
+        if (statisticsSink != null) {
+            // The sink keeps counters already written by a newer session of the same node
+            statisticsSink.removeDevice(deviceInfo);
+        }
         LOG.debug("Statistics context removed for node {}", deviceInfo);
     }
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.ofpspecific;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+
+/**
+ * Barrier insertion parameters chosen by adaptive outbound queues of connected devices.
+ */
+public final class BarrierStatistics {
+    private static final Map<String, ConnectionAdapter> CONNECTIONS = new ConcurrentHashMap<>();
+
+    private BarrierStatistics() {
+    }
+
+    public static void register(final String device, final ConnectionAdapter connectionAdapter) {
+        CONNECTIONS.put(device, connectionAdapter);
+    }
+
+    public static void unregister(final String device, final ConnectionAdapter connectionAdapter) {
+        // A reconnected device may have registered its new connection already
+        CONNECTIONS.remove(device, connectionAdapter);
+    }
+
+    public static List<String> provideStatistics() {
+        final List<String> dump = new ArrayList<>();
+        CONNECTIONS.forEach((device, connectionAdapter) -> {
+            final var window = connectionAdapter.getBarrierWindow();
+            if (window != null) {
+                dump.add(String.format("%s : count=%d, interval=%dms, rtt=%dus", device, window.getMessageCount(),
+                    TimeUnit.NANOSECONDS.toMillis(window.getIntervalNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(window.getRoundTripNanos())));
+            }
+        });
+        return dump;
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.statistics.services.dedicated;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
@@ -18,9 +19,11 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Stati
 import org.opendaylight.openflowplugin.impl.common.MultipartRequestInputFactory;
 import org.opendaylight.openflowplugin.impl.services.AbstractMultipartService;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.EventsTimeCounter;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,9 +33,18 @@ public class StatisticsGatheringService<T extends OfHeader>
 
     private static final Logger LOG = LoggerFactory.getLogger(StatisticsGatheringService.class);
 
+    private final @Nullable DeviceCache directStatisticsCache;
+
     public StatisticsGatheringService(final RequestContextStack requestContextStack,
                                       final DeviceContext deviceContext) {
+        this(requestContextStack, deviceContext, null);
+    }
+
+    public StatisticsGatheringService(final RequestContextStack requestContextStack,
+                                      final DeviceContext deviceContext,
+                                      final @Nullable DeviceCache directStatisticsCache) {
         super(requestContextStack, deviceContext);
+        this.directStatisticsCache = directStatisticsCache;
     }
 
     @Override
@@ -41,7 +53,13 @@ public class StatisticsGatheringService<T extends OfHeader>
         LOG.debug("Getting statistics for node {} of type {}", getDeviceInfo().getNodeId(), type);
         EventsTimeCounter.markStart(eventIdentifier);
         setEventIdentifier(eventIdentifier);
-        return handleServiceCall(type);
+        final var result = handleServiceCall(type);
+        if (directStatisticsCache != null) {
+            // Make the reply available to identical direct statistics requests
+            directStatisticsCache.publish(MultipartRequestInputFactory.makeMultipartRequest(Uint32.ZERO,
+                getVersion(), type, canUseSingleLayerSerialization()), result);
+        }
+        return result;
     }
 
     @Override
@@ -13,18 +13,25 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
+import org.opendaylight.openflowplugin.api.openflow.device.Xid;
 import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.services.AbstractMultipartService;
+import org.opendaylight.openflowplugin.impl.services.util.ServiceException;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.StoreStatsGrouping;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.StatsInputCommonGrouping;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.binding.DataContainer;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The abstract direct statistics service.
@@ -33,15 +40,19 @@ import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
  * @param <I> the input type parameter
  * @param <O> the output type parameter
  */
-abstract class AbstractDirectStatisticsService<I extends StoreStatsGrouping,
+abstract class AbstractDirectStatisticsService<I extends StatsInputCommonGrouping,
                                                O extends DataContainer,
                                                T extends OfHeader>
         extends AbstractMultipartService<I, T> {
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractDirectStatisticsService.class);
+    // Requests are compared with this XID, so that identical requests are equal
+    private static final Xid CACHE_KEY_XID = new Xid(Uint32.ZERO);
 
     private final MultipartType multipartType;
     private final OpenflowVersion ofVersion = OpenflowVersion.ofVersion(getVersion());
     private final ConvertorExecutor convertorExecutor;
     private final MultipartWriterProvider multipartWriterProvider;
+    private final @Nullable DeviceCache cache;
 
     /**
      * Instantiates a new Abstract direct statistics service.
@@ -50,16 +61,19 @@ abstract class AbstractDirectStatisticsService<I extends StoreStatsGrouping,
      * @param deviceContext            the device context
      * @param convertorExecutor        convertor executor
      * @param multipartWriterProvider statistics writer provider
+     * @param cache                   reply cache of the device, or {@code null} if replies are not reused
      */
     AbstractDirectStatisticsService(final MultipartType multipartType,
                                     final RequestContextStack requestContextStack,
                                     final DeviceContext deviceContext,
                                     final ConvertorExecutor convertorExecutor,
-                                    final MultipartWriterProvider multipartWriterProvider) {
+                                    final MultipartWriterProvider multipartWriterProvider,
+                                    final @Nullable DeviceCache cache) {
         super(requestContextStack, deviceContext);
         this.multipartType = multipartType;
         this.convertorExecutor = convertorExecutor;
         this.multipartWriterProvider = multipartWriterProvider;
+        this.cache = cache;
     }
 
     /**
@@ -69,13 +83,29 @@ abstract class AbstractDirectStatisticsService<I extends StoreStatsGrouping,
      * @return the future
      */
     final ListenableFuture<RpcResult<O>> handleAndReply(final I input) {
-        final var rpcResult = Futures.transform(handleServiceCall(input), this::transformResult,
+        final var rpcResult = Futures.transform(lookupOrSend(input), this::transformResult,
             MoreExecutors.directExecutor());
 
         return Boolean.TRUE.equals(input.getStoreStats())
             ? Futures.transform(rpcResult, this::storeResult, MoreExecutors.directExecutor()) : rpcResult;
     }
 
+    private ListenableFuture<RpcResult<List<T>>> lookupOrSend(final I input) {
+        final var local = cache;
+        if (local == null) {
+            return handleServiceCall(input);
+        }
+
+        final OfHeader request;
+        try {
+            request = buildRequest(CACHE_KEY_XID, input);
+        } catch (ServiceException e) {
+            LOG.debug("Failed to build request for {}, not reusing replies", input, e);
+            return handleServiceCall(input);
+        }
+        return local.lookup(request, Boolean.TRUE.equals(input.getBypassCache()), () -> handleServiceCall(input));
+    }
+
     private RpcResult<O> transformResult(final RpcResult<List<T>> input) {
         return requireNonNull(input).isSuccessful()
                 ? RpcResultBuilder.success(buildReply(input.getResult(), input.isSuccessful())).build()
@@ -8,10 +8,12 @@
 package org.opendaylight.openflowplugin.impl.statistics.services.direct;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetFlowStatistics;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetFlowStatisticsInput;
@@ -33,8 +35,10 @@ public abstract class AbstractGetFlowStatistics<T extends OfHeader>
         implements GetFlowStatistics {
     protected AbstractGetFlowStatistics(final RequestContextStack requestContextStack,
             final DeviceContext deviceContext, final ConvertorExecutor convertorExecutor,
-            final MultipartWriterProvider statisticsWriterProvider) {
-        super(MultipartType.OFPMPFLOW, requestContextStack, deviceContext, convertorExecutor, statisticsWriterProvider);
+            final MultipartWriterProvider statisticsWriterProvider,
+            final @Nullable DeviceCache cache) {
+        super(MultipartType.OFPMPFLOW, requestContextStack, deviceContext, convertorExecutor, statisticsWriterProvider,
+            cache);
     }
 
     @Override
@@ -8,9 +8,11 @@
 package org.opendaylight.openflowplugin.impl.statistics.services.direct;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetGroupStatistics;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetGroupStatisticsInput;
@@ -27,9 +29,10 @@ public abstract class AbstractGetGroupStatistics<T extends OfHeader>
         implements GetGroupStatistics {
     protected AbstractGetGroupStatistics(final RequestContextStack requestContextStack,
             final DeviceContext deviceContext, final ConvertorExecutor convertorExecutor,
-            final MultipartWriterProvider statisticsWriterProvider) {
+            final MultipartWriterProvider statisticsWriterProvider,
+            final @Nullable DeviceCache cache) {
         super(MultipartType.OFPMPGROUP, requestContextStack, deviceContext, convertorExecutor,
-            statisticsWriterProvider);
+            statisticsWriterProvider, cache);
     }
 
     @Override
@@ -9,9 +9,11 @@
 package org.opendaylight.openflowplugin.impl.statistics.services.direct;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetQueueStatistics;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetQueueStatisticsInput;
@@ -28,9 +30,10 @@ public abstract class AbstractGetQueueStatistics<T extends OfHeader>
         implements GetQueueStatistics {
     protected AbstractGetQueueStatistics(final RequestContextStack requestContextStack,
             final DeviceContext deviceContext, final ConvertorExecutor convertorExecutor,
-            final MultipartWriterProvider statisticsWriterProvider) {
+            final MultipartWriterProvider statisticsWriterProvider,
+            final @Nullable DeviceCache cache) {
         super(MultipartType.OFPMPQUEUE, requestContextStack, deviceContext, convertorExecutor,
-            statisticsWriterProvider);
+            statisticsWriterProvider, cache);
     }
 
     @Override
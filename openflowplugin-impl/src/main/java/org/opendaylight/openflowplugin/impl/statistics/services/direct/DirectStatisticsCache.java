@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.services.direct;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.AsyncCallable;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Short-lived cache of multipart replies, shared by direct statistics RPCs and periodic statistics polls of a device.
+ * Replies are keyed by the multipart request which produced them, built with a zero XID, so that two requests are
+ * considered identical exactly when the device would see the same message.
+ *
+ * <p>
+ * Identical requests issued while one is outstanding are coalesced into a single multipart request. Successful replies
+ * are then served until they are older than the configured time-to-live, failed ones are dropped as soon as they
+ * complete.
+ */
+public final class DirectStatisticsCache {
+    /**
+     * Replies of a single device.
+     */
+    public final class DeviceCache {
+        private final ConcurrentMap<OfHeader, Entry> entries = new ConcurrentHashMap<>();
+        private final NodeId nodeId;
+
+        DeviceCache(final NodeId nodeId) {
+            this.nodeId = requireNonNull(nodeId);
+        }
+
+        /**
+         * Return a reply to a request, sending the request only if no identical one is outstanding and no recent
+         * reply to it is cached.
+         *
+         * @param request request with a zero XID
+         * @param bypass {@code true} to always send the request, caching its reply for subsequent lookups
+         * @param sender sends the request to the device
+         * @return future reply
+         */
+        @SuppressWarnings("unchecked")
+        <T extends OfHeader> @NonNull ListenableFuture<RpcResult<List<T>>> lookup(final @NonNull OfHeader request,
+                final boolean bypass, final @NonNull AsyncCallable<RpcResult<List<T>>> sender) {
+            final long now = ticker.getAsLong();
+            final var created = new Entry();
+            final Entry entry;
+            if (bypass) {
+                entries.put(request, created);
+                entry = created;
+            } else {
+                entry = entries.compute(request,
+                    (key, existing) -> existing != null && existing.isFresh(now) ? existing : created);
+            }
+
+            if (entry != created) {
+                LOG.trace("Reusing reply of {} for node {}", request.implementedInterface().getSimpleName(), nodeId);
+                return (ListenableFuture<RpcResult<List<T>>>) (ListenableFuture<?>) entry.future;
+            }
+
+            install(request, created, Futures.submitAsync(sender, MoreExecutors.directExecutor()), now);
+            return (ListenableFuture<RpcResult<List<T>>>) (ListenableFuture<?>) created.future;
+        }
+
+        /**
+         * Offer the reply of a request sent on behalf of someone else, such as a statistics poll, to subsequent
+         * lookups.
+         *
+         * @param request request with a zero XID
+         * @param reply future reply
+         */
+        public void publish(final @NonNull OfHeader request,
+                final @NonNull ListenableFuture<? extends RpcResult<? extends List<? extends OfHeader>>> reply) {
+            final var created = new Entry();
+            entries.put(request, created);
+            install(request, created, reply, ticker.getAsLong());
+        }
+
+        private void install(final OfHeader request, final Entry entry,
+                final ListenableFuture<? extends RpcResult<?>> reply, final long now) {
+            if (entries.size() > PURGE_THRESHOLD) {
+                entries.values().removeIf(existing -> !existing.isFresh(now));
+            }
+
+            entry.future.setFuture(reply);
+            Futures.addCallback(entry.future, new FutureCallback<RpcResult<?>>() {
+                @Override
+                public void onSuccess(final RpcResult<?> result) {
+                    if (result != null && result.isSuccessful()) {
+                        entry.completedNanos = ticker.getAsLong();
+                    } else {
+                        entries.remove(request, entry);
+                    }
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    entries.remove(request, entry);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        @VisibleForTesting
+        int size() {
+            return entries.size();
+        }
+    }
+
+    private final class Entry {
+        final SettableFuture<RpcResult<?>> future = SettableFuture.create();
+        volatile long completedNanos = PENDING;
+
+        boolean isFresh(final long now) {
+            // Outstanding requests are always joined
+            final long completed = completedNanos;
+            return completed == PENDING || now - completed <= ttlNanos;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectStatisticsCache.class);
+    private static final long PENDING = Long.MIN_VALUE;
+    // Expired entries are purged once a device has this many
+    private static final int PURGE_THRESHOLD = 64;
+
+    private final ConcurrentMap<NodeId, DeviceCache> devices = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    public DirectStatisticsCache(final long ttlNanos) {
+        this(ttlNanos, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    DirectStatisticsCache(final long ttlNanos, final LongSupplier ticker) {
+        checkArgument(ttlNanos > 0, "Time-to-live must be positive, not %s", ttlNanos);
+        this.ttlNanos = ttlNanos;
+        this.ticker = requireNonNull(ticker);
+    }
+
+    public @NonNull DeviceCache forDevice(final @NonNull DeviceInfo deviceInfo) {
+        return devices.computeIfAbsent(deviceInfo.getNodeId(), DeviceCache::new);
+    }
+
+    public void onDeviceRemoved(final @NonNull DeviceInfo deviceInfo) {
+        devices.remove(deviceInfo.getNodeId());
+    }
+}
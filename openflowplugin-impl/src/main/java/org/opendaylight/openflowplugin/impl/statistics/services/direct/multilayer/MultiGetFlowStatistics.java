@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.statistics.services.direct.multilay
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
@@ -18,6 +19,7 @@ import org.opendaylight.openflowplugin.extension.api.path.MatchPath;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.services.util.RequestInputUtils;
 import org.opendaylight.openflowplugin.impl.statistics.services.direct.AbstractGetFlowStatistics;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.FlowStatsResponseConvertorData;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.match.MatchInjector;
@@ -38,8 +40,9 @@ public final class MultiGetFlowStatistics extends AbstractGetFlowStatistics<Mult
     private final FlowStatsResponseConvertorData data;
 
     public MultiGetFlowStatistics(final RequestContextStack requestContextStack, final DeviceContext deviceContext,
-            final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider) {
-        super(requestContextStack, deviceContext, convertorExecutor, statisticsWriterProvider);
+            final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
+            final @Nullable DeviceCache cache) {
+        super(requestContextStack, deviceContext, convertorExecutor, statisticsWriterProvider, cache);
         data = new FlowStatsResponseConvertorData(getVersion());
         data.setDatapathId(getDatapathId());
         data.setMatchPath(MatchPath.FLOWS_STATISTICS_RPC_MATCH);
@@ -9,6 +9,7 @@ package org.opendaylight.openflowplugin.impl.statistics.services.direct.multilay
 
 import java.util.List;
 import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
@@ -16,6 +17,7 @@ import org.opendaylight.openflowplugin.api.openflow.device.Xid;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.services.util.RequestInputUtils;
 import org.opendaylight.openflowplugin.impl.statistics.services.direct.AbstractGetGroupStatistics;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionConvertorData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.direct.statistics.rev160511.GetGroupStatisticsInput;
@@ -35,8 +37,9 @@ public final class MultiGetGroupStatistics extends AbstractGetGroupStatistics<Mu
     private final VersionConvertorData data;
 
     public MultiGetGroupStatistics(final RequestContextStack requestContextStack, final DeviceContext deviceContext,
-            final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider) {
-        super(requestContextStack, deviceContext, convertorExecutor, statisticsWriterProvider);
+            final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
+            final @Nullable DeviceCache cache) {
+        super(requestContextStack, deviceContext, convertorExecutor, statisticsWriterProvider, cache);
         data = new VersionConvertorData(getVersion());
     }
 
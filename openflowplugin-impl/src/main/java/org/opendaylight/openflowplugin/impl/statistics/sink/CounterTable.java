@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.sink;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar table of counters keyed by {@code K}. Each column is a direct buffer holding one value per row, so the
+ * counters neither burden the heap nor the garbage collector, only the keys and the row index live on the heap. The
+ * table grows by doubling and reuses the rows of removed keys. Each row carries the time of its last update next to
+ * the counters. Only the leading counters are considered when detecting changes, trailing values such as durations
+ * are stored without reporting a change.
+ *
+ * <p>
+ * Rows are also tagged with the epoch of the statistics poll which last updated them. Once a poll completes,
+ * {@link #sweep(RowMapper)} removes the rows the poll did not update and starts the next epoch.
+ *
+ * @param <K> key type
+ */
+final class CounterTable<K> {
+    /**
+     * Maps a row to a query result.
+     *
+     * @param <K> key type
+     * @param <R> result type
+     */
+    @FunctionalInterface
+    interface RowMapper<K, R> {
+        R map(K key, long[] values, long timestamp);
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<K, Integer> rows = new HashMap<>();
+    private final ArrayDeque<Integer> freeRows = new ArrayDeque<>();
+    // Counter columns followed by the timestamp and epoch columns
+    private final LongBuffer[] columns;
+    private final int valueCount;
+    private final int trackedCount;
+    private int capacity;
+    private int usedRows;
+    private long epoch;
+
+    CounterTable(final int valueCount, final int trackedCount) {
+        checkArgument(valueCount > 0, "At least one counter is required");
+        checkArgument(trackedCount >= 0 && trackedCount <= valueCount, "Invalid tracked count %s", trackedCount);
+        this.valueCount = valueCount;
+        this.trackedCount = trackedCount;
+        columns = new LongBuffer[valueCount + 2];
+    }
+
+    /**
+     * Stores the counters of a key.
+     *
+     * @param key key
+     * @param timestamp time of the update
+     * @param values counter values
+     * @return {@code true} if the key is new or any of its tracked counters changed
+     */
+    synchronized boolean put(final K key, final long timestamp, final long... values) {
+        checkArgument(values.length == valueCount, "Expected %s values, got %s", valueCount, values.length);
+        final Integer existing = rows.get(key);
+        final int row;
+        boolean changed;
+        if (existing != null) {
+            row = existing;
+            changed = false;
+        } else {
+            row = allocateRow();
+            rows.put(key, row);
+            changed = true;
+        }
+
+        for (int i = 0; i < valueCount; i++) {
+            if (columns[i].get(row) != values[i]) {
+                columns[i].put(row, values[i]);
+                changed |= i < trackedCount;
+            }
+        }
+        columns[valueCount].put(row, timestamp);
+        columns[valueCount + 1].put(row, epoch);
+        return changed;
+    }
+
+    /**
+     * Removes the rows which were not updated since the previous sweep and starts a new epoch.
+     *
+     * @param mapper mapper of the removed rows
+     * @param <R> result type
+     * @return mapped removed rows
+     */
+    synchronized <R> List<R> sweep(final RowMapper<K, R> mapper) {
+        final var removed = new ArrayList<R>();
+        final var it = rows.entrySet().iterator();
+        while (it.hasNext()) {
+            final var entry = it.next();
+            final int row = entry.getValue();
+            if (columns[valueCount + 1].get(row) != epoch) {
+                removed.add(map(entry.getKey(), row, mapper));
+                it.remove();
+                freeRows.push(row);
+            }
+        }
+        epoch++;
+        return removed;
+    }
+
+    /**
+     * Maps all rows of this table.
+     *
+     * @param mapper row mapper
+     * @param <R> result type
+     * @return mapped rows
+     */
+    synchronized <R> List<R> select(final RowMapper<K, R> mapper) {
+        final var result = new ArrayList<R>(rows.size());
+        for (var entry : rows.entrySet()) {
+            result.add(map(entry.getKey(), entry.getValue(), mapper));
+        }
+        return result;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key key
+     * @return {@code true} if the key was present
+     */
+    synchronized boolean remove(final K key) {
+        final Integer row = rows.remove(key);
+        if (row == null) {
+            return false;
+        }
+        freeRows.push(row);
+        return true;
+    }
+
+    synchronized int size() {
+        return rows.size();
+    }
+
+    synchronized int capacity() {
+        return capacity;
+    }
+
+    private <R> R map(final K key, final int row, final RowMapper<K, R> mapper) {
+        final long[] values = new long[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = columns[i].get(row);
+        }
+        return mapper.map(key, values, columns[valueCount].get(row));
+    }
+
+    private int allocateRow() {
+        final Integer free = freeRows.poll();
+        if (free != null) {
+            return free;
+        }
+        if (usedRows == capacity) {
+            grow();
+        }
+        return usedRows++;
+    }
+
+    private void grow() {
+        final int newCapacity = capacity == 0 ? INITIAL_CAPACITY : capacity * 2;
+        for (int i = 0; i < columns.length; i++) {
+            final var column = ByteBuffer.allocateDirect(newCapacity * Long.BYTES).order(ByteOrder.nativeOrder())
+                .asLongBuffer();
+            if (columns[i] != null) {
+                column.put(0, columns[i], 0, usedRows);
+            }
+            columns[i] = column;
+        }
+        capacity = newCapacity;
+    }
+}
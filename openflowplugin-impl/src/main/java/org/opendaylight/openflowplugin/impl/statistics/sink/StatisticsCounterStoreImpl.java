@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.sink;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.RpcProviderService;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationProperty;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.FlowCounters;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.PortCounters;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterListener;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterStore;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowAndStatisticsMap;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.statistics.types.rev130925.NodeConnectorStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetFlowCounters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetFlowCountersInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetFlowCountersOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetFlowCountersOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetPortCounters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetPortCountersInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetPortCountersOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetPortCountersOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.get.flow.counters.output.FlowCounterBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.get.port.counters.output.PortCounterBuilder;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link StatisticsCounterStore} keeping the counters of each node in off-heap {@link CounterTable}s. Flows are keyed
+ * by table and flow identifier, ports by node connector identifier.
+ */
+@Singleton
+@Component(immediate = true, service = StatisticsCounterStore.class)
+public final class StatisticsCounterStoreImpl implements StatisticsCounterStore, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(StatisticsCounterStoreImpl.class);
+
+    // Flow table columns
+    private static final int FLOW_PACKETS = 0;
+    private static final int FLOW_BYTES = 1;
+    // Duration grows on every poll, it is not considered a change
+    private static final int FLOW_DURATION = 2;
+    private static final int FLOW_COLUMNS = 3;
+
+    // Port table columns
+    private static final int PORT_RX_PACKETS = 0;
+    private static final int PORT_TX_PACKETS = 1;
+    private static final int PORT_RX_BYTES = 2;
+    private static final int PORT_TX_BYTES = 3;
+    private static final int PORT_RX_DROPS = 4;
+    private static final int PORT_TX_DROPS = 5;
+    private static final int PORT_RX_ERRORS = 6;
+    private static final int PORT_TX_ERRORS = 7;
+    private static final int PORT_COLUMNS = 8;
+
+    private record FlowKey(short tableId, FlowId flowId) {
+        FlowKey {
+            requireNonNull(flowId);
+        }
+    }
+
+    private static final class NodeCounters {
+        final CounterTable<FlowKey> flows = new CounterTable<>(FLOW_COLUMNS, FLOW_DURATION);
+        final CounterTable<NodeConnectorId> ports = new CounterTable<>(PORT_COLUMNS, PORT_COLUMNS);
+        // Session which wrote the counters last, DeviceInfo equality does not distinguish sessions of a node
+        volatile DeviceInfo session;
+
+        NodeCounters(final DeviceInfo session) {
+            this.session = session;
+        }
+    }
+
+    private final ConcurrentMap<NodeId, NodeCounters> nodes = new ConcurrentHashMap<>();
+    private final Set<StatisticsCounterListener> listeners = ConcurrentHashMap.newKeySet();
+    private final @Nullable Registration rpcRegistration;
+
+    @Inject
+    @Activate
+    public StatisticsCounterStoreImpl(@Reference final ConfigurationService configurationService,
+            @Reference final RpcProviderService rpcProviderService) {
+        // The store is only fed when enabled, do not expose RPCs which would always come up empty otherwise
+        if (configurationService.getProperty(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString(),
+                Boolean::valueOf)) {
+            rpcRegistration = rpcProviderService.registerRpcImplementations(
+                (GetFlowCounters) this::invokeGetFlowCounters,
+                (GetPortCounters) this::invokeGetPortCounters);
+        } else {
+            LOG.debug("Statistics counter store is disabled, its RPCs are not registered");
+            rpcRegistration = null;
+        }
+    }
+
+    @Override
+    public boolean handles(final MultipartType type) {
+        return type == MultipartType.OFPMPFLOW || type == MultipartType.OFPMPPORTSTATS;
+    }
+
+    @Override
+    public void writeFlowStatistics(final DeviceInfo deviceInfo, final FlowId flowId,
+            final FlowAndStatisticsMap statistics) {
+        final var nodeId = deviceInfo.getNodeId();
+        final var tableId = statistics.getTableId();
+        final var key = new FlowKey(tableId != null ? tableId.toJava() : 0, flowId);
+        final var duration = statistics.getDuration();
+        final long durationSeconds = duration != null && duration.getSecond() != null
+            ? duration.getSecond().getValue().toJava() : 0;
+        final long timestamp = System.currentTimeMillis();
+        final long[] values = new long[FLOW_COLUMNS];
+        values[FLOW_PACKETS] = value(statistics.getPacketCount());
+        values[FLOW_BYTES] = value(statistics.getByteCount());
+        values[FLOW_DURATION] = durationSeconds;
+
+        if (nodeCounters(deviceInfo).flows.put(key, timestamp, values) && !listeners.isEmpty()) {
+            final var counters = flowCounters(nodeId, key, values, timestamp);
+            notifyListeners(listener -> listener.onFlowCountersChanged(counters));
+        }
+    }
+
+    @Override
+    public void writePortStatistics(final DeviceInfo deviceInfo, final NodeConnectorId nodeConnectorId,
+            final NodeConnectorStatistics statistics) {
+        final var nodeId = deviceInfo.getNodeId();
+        final long timestamp = System.currentTimeMillis();
+        final long[] values = new long[PORT_COLUMNS];
+        final var packets = statistics.getPackets();
+        if (packets != null) {
+            values[PORT_RX_PACKETS] = value(packets.getReceived());
+            values[PORT_TX_PACKETS] = value(packets.getTransmitted());
+        }
+        final var bytes = statistics.getBytes();
+        if (bytes != null) {
+            values[PORT_RX_BYTES] = value(bytes.getReceived());
+            values[PORT_TX_BYTES] = value(bytes.getTransmitted());
+        }
+        values[PORT_RX_DROPS] = value(statistics.getReceiveDrops());
+        values[PORT_TX_DROPS] = value(statistics.getTransmitDrops());
+        values[PORT_RX_ERRORS] = value(statistics.getReceiveErrors());
+        values[PORT_TX_ERRORS] = value(statistics.getTransmitErrors());
+
+        if (nodeCounters(deviceInfo).ports.put(nodeConnectorId, timestamp, values) && !listeners.isEmpty()) {
+            final var counters = portCounters(nodeId, nodeConnectorId, values, timestamp);
+            notifyListeners(listener -> listener.onPortCountersChanged(counters));
+        }
+    }
+
+    @Override
+    public void statisticsGathered(final DeviceInfo deviceInfo, final MultipartType type) {
+        final var nodeId = deviceInfo.getNodeId();
+        final var counters = nodes.get(nodeId);
+        // Counters written by a newer session of the node are swept by its own polls
+        if (counters == null || counters.session != deviceInfo) {
+            return;
+        }
+
+        switch (type) {
+            case OFPMPFLOW:
+                final var flows = counters.flows.sweep(
+                    (key, values, timestamp) -> flowCounters(nodeId, key, values, timestamp));
+                LOG.trace("Removed counters of {} flows of node {}", flows.size(), nodeId);
+                flows.forEach(removed -> notifyListeners(listener -> listener.onFlowCountersRemoved(removed)));
+                break;
+            case OFPMPPORTSTATS:
+                final var ports = counters.ports.sweep(
+                    (key, values, timestamp) -> portCounters(nodeId, key, values, timestamp));
+                LOG.trace("Removed counters of {} ports of node {}", ports.size(), nodeId);
+                ports.forEach(removed -> notifyListeners(listener -> listener.onPortCountersRemoved(removed)));
+                break;
+            default:
+                // no operation
+        }
+    }
+
+    @Override
+    public void removeDevice(final DeviceInfo deviceInfo) {
+        // Keep the counters if a new session of a reconnected node has already written them
+        final var nodeId = deviceInfo.getNodeId();
+        final var counters = nodes.get(nodeId);
+        if (counters != null && counters.session == deviceInfo && nodes.remove(nodeId, counters)) {
+            LOG.debug("Statistics counters of node {} removed", nodeId);
+        }
+    }
+
+    @Override
+    public List<FlowCounters> getFlowCounters(final NodeId nodeId) {
+        final var counters = nodes.get(nodeId);
+        return counters == null ? List.of()
+            : counters.flows.select((key, values, timestamp) -> flowCounters(nodeId, key, values, timestamp));
+    }
+
+    @Override
+    public List<PortCounters> getPortCounters(final NodeId nodeId) {
+        final var counters = nodes.get(nodeId);
+        return counters == null ? List.of()
+            : counters.ports.select((key, values, timestamp) -> portCounters(nodeId, key, values, timestamp));
+    }
+
+    @Override
+    public Registration registerListener(final StatisticsCounterListener listener) {
+        final var registered = requireNonNull(listener);
+        listeners.add(registered);
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                listeners.remove(registered);
+            }
+        };
+    }
+
+    @VisibleForTesting
+    ListenableFuture<RpcResult<GetFlowCountersOutput>> invokeGetFlowCounters(final GetFlowCountersInput input) {
+        return RpcResultBuilder.success(new GetFlowCountersOutputBuilder()
+            .setFlowCounter(getFlowCounters(input.requireNode()).stream()
+                .map(counters -> new FlowCounterBuilder()
+                    .setTableId(Uint8.valueOf(counters.tableId()))
+                    .setFlowId(counters.flowId().getValue())
+                    .setPacketCount(Uint64.fromLongBits(counters.packetCount()))
+                    .setByteCount(Uint64.fromLongBits(counters.byteCount()))
+                    .setDuration(Uint64.fromLongBits(counters.durationSeconds()))
+                    .setTimestamp(Uint64.fromLongBits(counters.timestamp()))
+                    .build())
+                .toList())
+            .build()).buildFuture();
+    }
+
+    @VisibleForTesting
+    ListenableFuture<RpcResult<GetPortCountersOutput>> invokeGetPortCounters(final GetPortCountersInput input) {
+        return RpcResultBuilder.success(new GetPortCountersOutputBuilder()
+            .setPortCounter(getPortCounters(input.requireNode()).stream()
+                .map(counters -> new PortCounterBuilder()
+                    .setNodeConnectorId(counters.nodeConnectorId())
+                    .setReceivedPackets(Uint64.fromLongBits(counters.receivedPackets()))
+                    .setTransmittedPackets(Uint64.fromLongBits(counters.transmittedPackets()))
+                    .setReceivedBytes(Uint64.fromLongBits(counters.receivedBytes()))
+                    .setTransmittedBytes(Uint64.fromLongBits(counters.transmittedBytes()))
+                    .setReceiveDrops(Uint64.fromLongBits(counters.receiveDrops()))
+                    .setTransmitDrops(Uint64.fromLongBits(counters.transmitDrops()))
+                    .setReceiveErrors(Uint64.fromLongBits(counters.receiveErrors()))
+                    .setTransmitErrors(Uint64.fromLongBits(counters.transmitErrors()))
+                    .setTimestamp(Uint64.fromLongBits(counters.timestamp()))
+                    .build())
+                .toList())
+            .build()).buildFuture();
+    }
+
+    @PreDestroy
+    @Deactivate
+    @Override
+    public void close() {
+        if (rpcRegistration != null) {
+            rpcRegistration.close();
+        }
+        listeners.clear();
+        nodes.clear();
+    }
+
+    private NodeCounters nodeCounters(final DeviceInfo deviceInfo) {
+        final var counters = nodes.computeIfAbsent(deviceInfo.getNodeId(), key -> new NodeCounters(deviceInfo));
+        counters.session = deviceInfo;
+        return counters;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void notifyListeners(final Consumer<StatisticsCounterListener> notification) {
+        for (var listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                LOG.warn("Statistics counter listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private static FlowCounters flowCounters(final NodeId nodeId, final FlowKey key, final long[] values,
+            final long timestamp) {
+        return new FlowCounters(nodeId, key.tableId(), key.flowId(), values[FLOW_PACKETS], values[FLOW_BYTES],
+            values[FLOW_DURATION], timestamp);
+    }
+
+    private static PortCounters portCounters(final NodeId nodeId, final NodeConnectorId nodeConnectorId,
+            final long[] values, final long timestamp) {
+        return new PortCounters(nodeId, nodeConnectorId, values[PORT_RX_PACKETS], values[PORT_TX_PACKETS],
+            values[PORT_RX_BYTES], values[PORT_TX_BYTES], values[PORT_RX_DROPS], values[PORT_TX_DROPS],
+            values[PORT_RX_ERRORS], values[PORT_TX_ERRORS], timestamp);
+    }
+
+    private static long value(final @Nullable Counter64 counter) {
+        return counter != null ? counter.getValue().longValue() : 0;
+    }
+
+    private static long value(final @Nullable Uint64 counter) {
+        return counter != null ? counter.longValue() : 0;
+    }
+}
@@ -31,6 +31,7 @@ import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationP
 import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
 import org.opendaylight.openflowplugin.api.openflow.mastership.MastershipChangeServiceManager;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageIntelligenceAgency;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterStore;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.common.Uint32;
@@ -63,13 +64,20 @@ public class OpenFlowPluginProviderImplTest {
     MastershipChangeServiceManager mastershipChangeServiceManager;
     @Mock
     MessageIntelligenceAgency messageIntelligenceAgency;
+    @Mock
+    StatisticsCounterStore statisticsCounterStore;
 
     private static final Uint16 THREAD_POOL_MIN_THREADS = Uint16.ONE;
     private static final Uint16 THREAD_POOL_MAX_THREADS = Uint16.valueOf(32000);
     private static final Uint32 THREAD_POOL_TIMEOUT = Uint32.valueOf(60);
+    private static final boolean ENABLE_VIRTUAL_THREADS = false;
+    private static final boolean ENABLE_PIPELINED_DEVICE_INITIALIZATION = false;
     private static final boolean USE_SINGLE_LAYER_SERIALIZATION = false;
     private static final Uint16 DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = Uint16.ZERO;
     private static final Uint16 DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS = Uint16.valueOf(60);
+    private static final Uint16 DIRECT_STATISTICS_CACHE_TTL = Uint16.valueOf(500);
+    private static final boolean ENABLE_LOAD_AWARE_MASTERSHIP = false;
+    private static final boolean ENABLE_STATISTICS_COUNTER_STORE = false;
 
     @Before
     public void setUp() {
@@ -86,11 +94,22 @@ public class OpenFlowPluginProviderImplTest {
                 .thenReturn(THREAD_POOL_MAX_THREADS);
         when(configurationService.getProperty(eq(ConfigurationProperty.THREAD_POOL_TIMEOUT.toString()), any()))
                 .thenReturn(THREAD_POOL_TIMEOUT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_VIRTUAL_THREADS.toString()), any()))
+                .thenReturn(ENABLE_VIRTUAL_THREADS);
+        when(configurationService.getProperty(
+                eq(ConfigurationProperty.ENABLE_PIPELINED_DEVICE_INITIALIZATION.toString()), any()))
+                .thenReturn(ENABLE_PIPELINED_DEVICE_INITIALIZATION);
         when(configurationService.getProperty(eq(ConfigurationProperty.DEVICE_CONNECTION_RATE_LIMIT_PER_MIN.toString()),
                 any())).thenReturn(DEVICE_CONNECTION_RATE_LIMIT_PER_MIN);
         when(configurationService.getProperty(
                 eq(ConfigurationProperty.DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS.toString()), any()))
                 .thenReturn(DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS);
+        when(configurationService.getProperty(eq(ConfigurationProperty.DIRECT_STATISTICS_CACHE_TTL.toString()), any()))
+                .thenReturn(DIRECT_STATISTICS_CACHE_TTL);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_LOAD_AWARE_MASTERSHIP.toString()),
+                any())).thenReturn(ENABLE_LOAD_AWARE_MASTERSHIP);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString()),
+                any())).thenReturn(ENABLE_STATISTICS_COUNTER_STORE);
     }
 
     @Test
@@ -98,7 +117,7 @@ public class OpenFlowPluginProviderImplTest {
         try (var provider = new OpenFlowPluginProviderImpl(configurationService, dataBroker, rpcProviderRegistry,
                 notificationPublishService, clusterSingletonServiceProvider, entityOwnershipService,
                 mastershipChangeServiceManager, messageIntelligenceAgency, ofPluginDiagstatusProvider,
-                systemReadyMonitor)) {
+                systemReadyMonitor, statisticsCounterStore)) {
             provider.bindConnectionProvider(switchConnectionProvider);
             // Calling the onSystemBootReady() callback
             provider.onSystemBootReady();
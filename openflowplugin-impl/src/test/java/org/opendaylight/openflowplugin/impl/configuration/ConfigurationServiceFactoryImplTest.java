@@ -32,7 +32,7 @@ import org.opendaylight.yangtools.yang.common.Uint32;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigurationServiceFactoryImplTest {
-    private static final int CONFIG_PROP_COUNT = 25;
+    private static final int CONFIG_PROP_COUNT = 41;
     private static final boolean IS_STATISTICS_POLLING_ON = true;
     private static final Uint16 BARRIER_COUNT_LIMIT = Uint16.valueOf(2000);
     private static final Uint32 BARRIER_INTERVAL_TIMEOUT_LIMIT = Uint32.valueOf(3000);
@@ -53,6 +53,22 @@ public class ConfigurationServiceFactoryImplTest {
     private static final Uint16 DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = Uint16.ZERO;
     private static final Uint16 DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS = Uint16.valueOf(60);
     private static final Uint32 DEVICE_DATASTORE_REMOVAL_DELAY = Uint32.valueOf(500);
+    private static final Uint16 TRANSACTION_WRITE_BEHIND_BATCH_SIZE = Uint16.valueOf(256);
+    private static final Uint32 TRANSACTION_WRITE_BEHIND_MAX_DELAY = Uint32.valueOf(100);
+    private static final boolean ENABLE_COMPACT_FLOW_REGISTRY = false;
+    private static final boolean ENABLE_EVENT_LOOP_AFFINITY = false;
+    private static final Uint32 FLOW_STATISTICS_DECODE_CACHE_SIZE = Uint32.valueOf(65536);
+    private static final boolean ENABLE_VIRTUAL_THREADS = false;
+    private static final boolean ENABLE_PIPELINED_DEVICE_INITIALIZATION = false;
+    private static final Uint16 FLOW_REMOVED_BATCH_WINDOW = Uint16.valueOf(50);
+    private static final boolean ENABLE_SHARED_PACKET_IN_QUOTA = false;
+    private static final boolean ENABLE_ADAPTIVE_BARRIER = false;
+    private static final Uint16 DIRECT_STATISTICS_CACHE_TTL = Uint16.valueOf(500);
+    private static final Uint16 RECONCILIATION_CONCURRENCY_LIMIT = Uint16.valueOf(16);
+    private static final Uint16 RECONCILIATION_SERVICE_RATE_LIMIT = Uint16.valueOf(100);
+    private static final boolean ENABLE_LOAD_AWARE_MASTERSHIP = false;
+    private static final Uint16 LOAD_AWARE_MASTERSHIP_MAX_DELAY = Uint16.valueOf(5000);
+    private static final boolean ENABLE_STATISTICS_COUNTER_STORE = false;
 
     @Mock
     private OpenflowProviderConfig config;
@@ -90,6 +106,23 @@ public class ConfigurationServiceFactoryImplTest {
         when(config.getDeviceConnectionRateLimitPerMin()).thenReturn(DEVICE_CONNECTION_RATE_LIMIT_PER_MIN);
         when(config.getDeviceConnectionHoldTimeInSeconds()).thenReturn(DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS);
         when(config.getDeviceDatastoreRemovalDelay()).thenReturn(new NonZeroUint32Type(DEVICE_DATASTORE_REMOVAL_DELAY));
+        when(config.getTransactionWriteBehindBatchSize()).thenReturn(TRANSACTION_WRITE_BEHIND_BATCH_SIZE);
+        when(config.getTransactionWriteBehindMaxDelay())
+            .thenReturn(new NonZeroUint32Type(TRANSACTION_WRITE_BEHIND_MAX_DELAY));
+        when(config.getEnableCompactFlowRegistry()).thenReturn(ENABLE_COMPACT_FLOW_REGISTRY);
+        when(config.getEnableEventLoopAffinity()).thenReturn(ENABLE_EVENT_LOOP_AFFINITY);
+        when(config.getFlowStatisticsDecodeCacheSize()).thenReturn(FLOW_STATISTICS_DECODE_CACHE_SIZE);
+        when(config.getEnableVirtualThreads()).thenReturn(ENABLE_VIRTUAL_THREADS);
+        when(config.getEnablePipelinedDeviceInitialization()).thenReturn(ENABLE_PIPELINED_DEVICE_INITIALIZATION);
+        when(config.getFlowRemovedBatchWindow()).thenReturn(FLOW_REMOVED_BATCH_WINDOW);
+        when(config.getEnableSharedPacketInQuota()).thenReturn(ENABLE_SHARED_PACKET_IN_QUOTA);
+        when(config.getEnableAdaptiveBarrier()).thenReturn(ENABLE_ADAPTIVE_BARRIER);
+        when(config.getDirectStatisticsCacheTtl()).thenReturn(DIRECT_STATISTICS_CACHE_TTL);
+        when(config.getReconciliationConcurrencyLimit()).thenReturn(RECONCILIATION_CONCURRENCY_LIMIT);
+        when(config.getReconciliationServiceRateLimit()).thenReturn(RECONCILIATION_SERVICE_RATE_LIMIT);
+        when(config.getEnableLoadAwareMastership()).thenReturn(ENABLE_LOAD_AWARE_MASTERSHIP);
+        when(config.getLoadAwareMastershipMaxDelay()).thenReturn(LOAD_AWARE_MASTERSHIP_MAX_DELAY);
+        when(config.getEnableStatisticsCounterStore()).thenReturn(ENABLE_STATISTICS_COUNTER_STORE);
 
         configurationService = new ConfigurationServiceFactoryImpl().newInstance(config);
         configurationService.update(Map.of(
@@ -45,6 +45,22 @@ public class OpenFlowProviderConfigImplTest {
     private static final Uint16 DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = Uint16.ZERO;
     private static final Uint16 DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS = Uint16.valueOf(60);
     private static final Uint32 DEVICE_DATASTORE_REMOVAL_DELAY = Uint32.valueOf(500);
+    private static final Uint16 TRANSACTION_WRITE_BEHIND_BATCH_SIZE = Uint16.valueOf(256);
+    private static final Uint32 TRANSACTION_WRITE_BEHIND_MAX_DELAY = Uint32.valueOf(100);
+    private static final Boolean ENABLE_COMPACT_FLOW_REGISTRY = true;
+    private static final Boolean ENABLE_EVENT_LOOP_AFFINITY = true;
+    private static final Uint32 FLOW_STATISTICS_DECODE_CACHE_SIZE = Uint32.valueOf(65536);
+    private static final Boolean ENABLE_VIRTUAL_THREADS = true;
+    private static final Boolean ENABLE_PIPELINED_INIT = true;
+    private static final Uint16 FLOW_REMOVED_BATCH_WINDOW = Uint16.valueOf(50);
+    private static final Boolean ENABLE_SHARED_PACKET_IN_QUOTA = true;
+    private static final Boolean ENABLE_ADAPTIVE_BARRIER = true;
+    private static final Uint16 DIRECT_STATISTICS_CACHE_TTL = Uint16.valueOf(500);
+    private static final Uint16 RECONCILIATION_CONCURRENCY_LIMIT = Uint16.valueOf(16);
+    private static final Uint16 RECONCILIATION_SERVICE_RATE_LIMIT = Uint16.valueOf(100);
+    private static final Boolean ENABLE_LOAD_AWARE_MASTERSHIP = true;
+    private static final Uint16 LOAD_AWARE_MASTERSHIP_MAX_DELAY = Uint16.valueOf(5000);
+    private static final Boolean ENABLE_STATISTICS_COUNTER_STORE = true;
 
     @Mock
     private ConfigurationService configurationService;
@@ -91,6 +107,41 @@ public class OpenFlowProviderConfigImplTest {
                 any())).thenReturn(DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS);
         when(configurationService.getProperty(eq(ConfigurationProperty.DEVICE_DATASTORE_REMOVAL_DELAY.toString()),
                 any())).thenReturn(DEVICE_DATASTORE_REMOVAL_DELAY);
+        when(configurationService.getProperty(
+                eq(ConfigurationProperty.TRANSACTION_WRITE_BEHIND_BATCH_SIZE.toString()),
+                any())).thenReturn(TRANSACTION_WRITE_BEHIND_BATCH_SIZE);
+        when(configurationService.getProperty(
+                eq(ConfigurationProperty.TRANSACTION_WRITE_BEHIND_MAX_DELAY.toString()),
+                any())).thenReturn(TRANSACTION_WRITE_BEHIND_MAX_DELAY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_COMPACT_FLOW_REGISTRY.toString()),
+                any())).thenReturn(ENABLE_COMPACT_FLOW_REGISTRY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_EVENT_LOOP_AFFINITY.toString()), any()))
+                .thenReturn(ENABLE_EVENT_LOOP_AFFINITY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.FLOW_STATISTICS_DECODE_CACHE_SIZE.toString()),
+                any())).thenReturn(FLOW_STATISTICS_DECODE_CACHE_SIZE);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_VIRTUAL_THREADS.toString()), any()))
+                .thenReturn(ENABLE_VIRTUAL_THREADS);
+        when(configurationService.getProperty(
+                eq(ConfigurationProperty.ENABLE_PIPELINED_DEVICE_INITIALIZATION.toString()), any()))
+                .thenReturn(ENABLE_PIPELINED_INIT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.FLOW_REMOVED_BATCH_WINDOW.toString()), any()))
+                .thenReturn(FLOW_REMOVED_BATCH_WINDOW);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_SHARED_PACKET_IN_QUOTA.toString()),
+                any())).thenReturn(ENABLE_SHARED_PACKET_IN_QUOTA);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_ADAPTIVE_BARRIER.toString()), any()))
+                .thenReturn(ENABLE_ADAPTIVE_BARRIER);
+        when(configurationService.getProperty(eq(ConfigurationProperty.DIRECT_STATISTICS_CACHE_TTL.toString()), any()))
+                .thenReturn(DIRECT_STATISTICS_CACHE_TTL);
+        when(configurationService.getProperty(eq(ConfigurationProperty.RECONCILIATION_CONCURRENCY_LIMIT.toString()),
+                any())).thenReturn(RECONCILIATION_CONCURRENCY_LIMIT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.RECONCILIATION_SERVICE_RATE_LIMIT.toString()),
+                any())).thenReturn(RECONCILIATION_SERVICE_RATE_LIMIT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_LOAD_AWARE_MASTERSHIP.toString()), any()))
+                .thenReturn(ENABLE_LOAD_AWARE_MASTERSHIP);
+        when(configurationService.getProperty(eq(ConfigurationProperty.LOAD_AWARE_MASTERSHIP_MAX_DELAY.toString()),
+                any())).thenReturn(LOAD_AWARE_MASTERSHIP_MAX_DELAY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString()),
+                any())).thenReturn(ENABLE_STATISTICS_COUNTER_STORE);
         openflowProviderConfig = new OpenFlowProviderConfigImpl(configurationService);
     }
 
@@ -197,4 +248,86 @@ public class OpenFlowProviderConfigImplTest {
                 openflowProviderConfig.getDeviceDatastoreRemovalDelay().getValue());
     }
 
+    @Test
+    public void getTransactionWriteBehindBatchSize() {
+        assertEquals(TRANSACTION_WRITE_BEHIND_BATCH_SIZE,
+                openflowProviderConfig.getTransactionWriteBehindBatchSize());
+    }
+
+    @Test
+    public void getTransactionWriteBehindMaxDelay() {
+        assertEquals(TRANSACTION_WRITE_BEHIND_MAX_DELAY,
+                openflowProviderConfig.getTransactionWriteBehindMaxDelay().getValue());
+    }
+
+    @Test
+    public void getEnableCompactFlowRegistry() {
+        assertEquals(ENABLE_COMPACT_FLOW_REGISTRY, openflowProviderConfig.getEnableCompactFlowRegistry());
+    }
+
+    @Test
+    public void getEnableEventLoopAffinity() {
+        assertEquals(ENABLE_EVENT_LOOP_AFFINITY, openflowProviderConfig.getEnableEventLoopAffinity());
+    }
+
+    @Test
+    public void getFlowStatisticsDecodeCacheSize() {
+        assertEquals(FLOW_STATISTICS_DECODE_CACHE_SIZE, openflowProviderConfig.getFlowStatisticsDecodeCacheSize());
+    }
+
+    @Test
+    public void getEnableVirtualThreads() {
+        assertEquals(ENABLE_VIRTUAL_THREADS, openflowProviderConfig.getEnableVirtualThreads());
+    }
+
+    @Test
+    public void getEnablePipelinedDeviceInitialization() {
+        assertEquals(ENABLE_PIPELINED_INIT, openflowProviderConfig.getEnablePipelinedDeviceInitialization());
+    }
+
+    @Test
+    public void getFlowRemovedBatchWindow() {
+        assertEquals(FLOW_REMOVED_BATCH_WINDOW, openflowProviderConfig.getFlowRemovedBatchWindow());
+    }
+
+    @Test
+    public void getEnableSharedPacketInQuota() {
+        assertEquals(ENABLE_SHARED_PACKET_IN_QUOTA, openflowProviderConfig.getEnableSharedPacketInQuota());
+    }
+
+    @Test
+    public void getEnableAdaptiveBarrier() {
+        assertEquals(ENABLE_ADAPTIVE_BARRIER, openflowProviderConfig.getEnableAdaptiveBarrier());
+    }
+
+    @Test
+    public void getDirectStatisticsCacheTtl() {
+        assertEquals(DIRECT_STATISTICS_CACHE_TTL, openflowProviderConfig.getDirectStatisticsCacheTtl());
+    }
+
+    @Test
+    public void getReconciliationConcurrencyLimit() {
+        assertEquals(RECONCILIATION_CONCURRENCY_LIMIT, openflowProviderConfig.getReconciliationConcurrencyLimit());
+    }
+
+    @Test
+    public void getReconciliationServiceRateLimit() {
+        assertEquals(RECONCILIATION_SERVICE_RATE_LIMIT, openflowProviderConfig.getReconciliationServiceRateLimit());
+    }
+
+    @Test
+    public void getEnableLoadAwareMastership() {
+        assertEquals(ENABLE_LOAD_AWARE_MASTERSHIP, openflowProviderConfig.getEnableLoadAwareMastership());
+    }
+
+    @Test
+    public void getLoadAwareMastershipMaxDelay() {
+        assertEquals(LOAD_AWARE_MASTERSHIP_MAX_DELAY, openflowProviderConfig.getLoadAwareMastershipMaxDelay());
+    }
+
+    @Test
+    public void getEnableStatisticsCounterStore() {
+        assertEquals(ENABLE_STATISTICS_COUNTER_STORE, openflowProviderConfig.getEnableStatisticsCounterStore());
+    }
+
 }
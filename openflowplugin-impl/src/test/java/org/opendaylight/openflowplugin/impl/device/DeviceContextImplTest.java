@@ -9,6 +9,7 @@ package org.opendaylight.openflowplugin.impl.device;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -28,6 +29,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -77,7 +79,10 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.ta
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowRemovedBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowsRemoved;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.flows.removed.RemovedFlow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
@@ -261,7 +266,11 @@ public class DeviceContextImplTest {
                 true, false,
                 contextChainHolder,
                 queuedNotificationManager,
-                false);
+                false,
+                null,
+                false,
+                false,
+                0);
         ((DeviceContextImpl) deviceContext).lazyTransactionManagerInitialization();
         deviceContextSpy = Mockito.spy(deviceContext);
 
@@ -461,6 +470,40 @@ public class DeviceContextImplTest {
         deviceContext.processFlowRemovedMessage(flowRemovedBld.build());
     }
 
+    @Test
+    public void testProcessFlowRemovedBatch() {
+        final FlowRemovedBuilder flowRemovedMdsalBld = new FlowRemovedBuilder()
+                .setTableId(Uint8.ZERO)
+                .setPriority(Uint16.valueOf(42))
+                .setCookie(new FlowCookie(Uint64.ONE))
+                .setMatch(new MatchBuilder().build());
+        final NotificationPublishService mockedNotificationPublishService = mock(NotificationPublishService.class);
+
+        // only the first flow is known to the registry
+        final FlowRegistryKey flowRegKey = FlowRegistryKeyFactory.VERSION_1_3.create(flowRemovedMdsalBld.build());
+        final FlowDescriptor flowDescriptor = FlowDescriptorFactory.create(Uint8.ZERO, new FlowId("ut-ofp:f456"));
+        deviceContext.getDeviceFlowRegistry().storeDescriptor(flowRegKey, flowDescriptor);
+
+        final var flowToBeRemovedPath = nodeKeyIdent.toBuilder()
+                .augmentation(FlowCapableNode.class)
+                .child(Table.class, new TableKey(Uint8.ZERO))
+                .child(Flow.class, new FlowKey(new FlowId("ut-ofp:f456")))
+                .build();
+
+        deviceContext.setNotificationPublishService(mockedNotificationPublishService);
+        ((DeviceContextImpl) deviceContext).processFlowRemovedBatch(List.of(
+                flowRemovedMdsalBld.build(),
+                flowRemovedMdsalBld.setPriority(Uint16.valueOf(43)).build()));
+
+        final ArgumentCaptor<FlowsRemoved> captor = ArgumentCaptor.forClass(FlowsRemoved.class);
+        verify(mockedNotificationPublishService).offerNotification(captor.capture());
+        final List<RemovedFlow> removedFlows = captor.getValue().getRemovedFlow();
+        assertEquals(2, removedFlows.size());
+        assertEquals(new FlowRef(flowToBeRemovedPath), removedFlows.get(0).getFlowRef());
+        assertNull(removedFlows.get(1).getFlowRef());
+        assertEquals(Uint16.valueOf(43), removedFlows.get(1).getPriority());
+    }
+
     @Test
     public void testProcessExperimenterMessage() {
         final ConvertorMessageFromOFJava mockedMessageConverter = mock(ConvertorMessageFromOFJava.class);
@@ -131,6 +131,21 @@ public class DeviceManagerImplTest {
                         .setSkipTableFeatures(false)
                         .setUseSingleLayerSerialization(true)
                         .setIsStatisticsPollingOn(false)
+                        .setTransactionWriteBehindBatchSize(Uint16.ZERO)
+                        .setEnableCompactFlowRegistry(false)
+                        .setEnableEventLoopAffinity(false)
+                        .setFlowStatisticsDecodeCacheSize(Uint32.ZERO)
+                        .setEnableVirtualThreads(false)
+                        .setEnablePipelinedDeviceInitialization(false)
+                        .setFlowRemovedBatchWindow(Uint16.ZERO)
+                        .setEnableSharedPacketInQuota(false)
+                        .setEnableAdaptiveBarrier(false)
+                        .setDirectStatisticsCacheTtl(Uint16.ZERO)
+                        .setReconciliationConcurrencyLimit(Uint16.ZERO)
+                        .setReconciliationServiceRateLimit(Uint16.ZERO)
+                        .setEnableLoadAwareMastership(false)
+                        .setLoadAwareMastershipMaxDelay(Uint16.valueOf(5000))
+                        .setEnableStatisticsCounterStore(false)
                         .build(),
                 dataBroker,
                 messageIntelligenceAgency,
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowRemoved;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.FlowRemovedBuilder;
+import org.opendaylight.yangtools.yang.common.Uint16;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlowRemovedBatcherTest {
+    private static final long WINDOW = 20;
+
+    @Mock
+    private Timer timer;
+
+    private final List<List<FlowRemoved>> batches = new ArrayList<>();
+    private FlowRemovedBatcher batcher;
+
+    @Before
+    public void setUp() {
+        batcher = new FlowRemovedBatcher(timer, WINDOW, batches::add);
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        batcher.add(flowRemoved(1));
+        batcher.add(flowRemoved(2));
+        batcher.add(flowRemoved(3));
+
+        // a single timeout is scheduled for the whole batch
+        final ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(captor.capture(), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+        assertTrue(batches.isEmpty());
+
+        captor.getValue().run(null);
+        assertEquals(1, batches.size());
+        assertEquals(List.of(flowRemoved(1), flowRemoved(2), flowRemoved(3)), batches.get(0));
+
+        // the next notification starts a new batch
+        batcher.add(flowRemoved(4));
+        verify(timer, times(2)).newTimeout(any(), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        for (int i = 0; i < FlowRemovedBatcher.MAX_BATCH_SIZE; ++i) {
+            batcher.add(flowRemoved(i));
+        }
+        assertEquals(1, batches.size());
+        assertEquals(FlowRemovedBatcher.MAX_BATCH_SIZE, batches.get(0).size());
+
+        // leftover timeout finds nothing to flush
+        batcher.flush();
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        batcher.add(flowRemoved(1));
+        batcher.add(flowRemoved(2));
+        final ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(captor.capture(), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+
+        assertEquals(2, batcher.close());
+
+        // neither the pending timeout nor later notifications produce a batch
+        captor.getValue().run(null);
+        batcher.add(flowRemoved(3));
+        batcher.flush();
+        assertTrue(batches.isEmpty());
+        verify(timer).newTimeout(any(), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+        assertEquals(0, batcher.close());
+    }
+
+    private static FlowRemoved flowRemoved(final int priority) {
+        return new FlowRemovedBuilder().setPriority(Uint16.valueOf(priority)).build();
+    }
+}
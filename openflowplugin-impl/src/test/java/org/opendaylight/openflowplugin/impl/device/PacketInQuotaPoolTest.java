@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class PacketInQuotaPoolTest {
+    private static final int QUOTA = 1000;
+
+    @Mock
+    private DeviceInfo deviceInfoA;
+    @Mock
+    private DeviceInfo deviceInfoB;
+    @Mock
+    private ConnectionAdapter connectionAdapter;
+    @Mock
+    private MessageSpy messageSpy;
+
+    private final List<Long> guaranteesA = new ArrayList<>();
+    private PacketInQuotaPool pool;
+
+    @Before
+    public void setUp() {
+        when(deviceInfoA.getNodeId()).thenReturn(new NodeId("openflow:1"));
+        when(deviceInfoB.getNodeId()).thenReturn(new NodeId("openflow:2"));
+        pool = new PacketInQuotaPool(QUOTA);
+    }
+
+    @Test
+    public void testBorrowUnreserved() {
+        final var shareA = pool.register(deviceInfoA, () -> 0, guaranteesA::add);
+        final var shareB = pool.register(deviceInfoB, () -> 0, guarantee -> { });
+
+        // idle devices are guaranteed the minimum, the rest can be borrowed by anyone
+        assertEquals(PacketInQuotaPool.MIN_GUARANTEE, shareA.guarantee());
+        assertEquals(PacketInQuotaPool.MIN_GUARANTEE, shareB.guarantee());
+        assertEquals(List.of((long) PacketInQuotaPool.MIN_GUARANTEE), guaranteesA);
+        final int capacity = QUOTA - 2 * PacketInQuotaPool.MIN_GUARANTEE;
+        assertEquals(capacity, pool.getBorrowCapacity());
+
+        for (int i = 0; i < capacity; ++i) {
+            assertTrue(shareA.tryBorrow());
+        }
+        assertFalse(shareB.tryBorrow());
+        assertEquals(capacity, pool.getBorrowedPermits());
+
+        shareA.giveBack();
+        assertTrue(shareB.tryBorrow());
+
+        // borrowed permits are given back when a device leaves
+        pool.unregister(deviceInfoA);
+        assertEquals(1, pool.getBorrowedPermits());
+        assertEquals(QUOTA - PacketInQuotaPool.MIN_GUARANTEE, pool.getBorrowCapacity());
+        assertEquals(1, pool.getDeviceShares().size());
+    }
+
+    @Test
+    public void testRebalanceFromDemand() {
+        final var shareA = pool.register(deviceInfoA, () -> 0, guaranteesA::add);
+        pool.register(deviceInfoB, () -> 0, guarantee -> { });
+
+        // demand is averaged over periods and reserved with headroom
+        shareA.observe(400);
+        pool.rebalance();
+        assertEquals(250, shareA.guarantee());
+        assertEquals(QUOTA - 250 - PacketInQuotaPool.MIN_GUARANTEE, pool.getBorrowCapacity());
+
+        // denied permits count as demand as well, guarantees are capped at the fair share
+        shareA.observe(400);
+        for (int i = 0; i < 2000; ++i) {
+            shareA.tryBorrow();
+        }
+        pool.rebalance();
+        assertEquals(QUOTA / 2, shareA.guarantee());
+
+        // idle devices release their reservation
+        pool.rebalance();
+        pool.rebalance();
+        pool.rebalance();
+        pool.rebalance();
+        assertEquals(List.of(100L, 250L, 500L), guaranteesA.subList(0, 3));
+        assertTrue(shareA.guarantee() < QUOTA / 2);
+    }
+
+    @Test
+    public void testLimiterBorrowsBeyondHighWatermark() {
+        pool = new PacketInQuotaPool(2 * PacketInQuotaPool.MIN_GUARANTEE);
+        final var limiter = new PacketInRateLimiter(connectionAdapter, 0, 0, messageSpy, 0.25f);
+        limiter.setShare(pool.register(deviceInfoA, limiter::getOccupiedPermits,
+            guarantee -> limiter.changeWaterMarks((int) (0.75f * guarantee), (int) (0.95f * guarantee))));
+
+        // 95 permits up to the high watermark plus 100 unreserved ones
+        for (int i = 0; i < 195; ++i) {
+            assertTrue(limiter.acquirePermit());
+        }
+        assertFalse(limiter.acquirePermit());
+        verify(connectionAdapter).setPacketInFiltering(true);
+        assertEquals(100, pool.getBorrowedPermits());
+
+        for (int i = 0; i < 195; ++i) {
+            limiter.releasePermit();
+        }
+        verify(connectionAdapter).setPacketInFiltering(false);
+        assertEquals(0, pool.getBorrowedPermits());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device.initialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.connection.OutboundQueueProvider;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceState;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.device.Xid;
+import org.opendaylight.openflowplugin.api.openflow.device.handlers.MultiMsgCollector;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
+import org.opendaylight.openflowplugin.impl.util.DeviceStateUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.multipart.reply.multipart.reply.body.MultipartReplyDesc;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.multipart.reply.multipart.reply.body.MultipartReplyDescBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112.MultipartReplyBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.Capabilities;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FeaturesReply;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class PipelinedOF13DeviceInitializerTest {
+    @Mock
+    private DeviceContext deviceContext;
+    @Mock
+    private MultipartWriterProvider multipartWriterProvider;
+    @Mock
+    private AbstractMultipartWriter<?> abstractMultipartWriter;
+    @Mock
+    private ConnectionContext connectionContext;
+    @Mock
+    private FeaturesReply featuresReply;
+    @Mock
+    private Capabilities capabilities;
+    @Mock
+    private DeviceInfo deviceInfo;
+    @Mock
+    private DeviceState deviceState;
+    @Mock
+    private MessageSpy messageSpy;
+    @Mock
+    private RequestContext<List<OfHeader>> requestContext;
+    @Mock
+    private OutboundQueueProvider outboundQueueProvider;
+    @Mock
+    private MultiMsgCollector<OfHeader> multiMsgCollector;
+
+    private final List<FutureCallback<OfHeader>> callbacks = new ArrayList<>();
+    private final SettableFuture<RpcResult<List<OfHeader>>> requestFuture = SettableFuture.create();
+    private final AbstractDeviceInitializer deviceInitializer = new PipelinedOF13DeviceInitializer();
+
+    @Before
+    public void setUp() {
+        final var nodeInstanceIdentifier = DeviceStateUtil.createNodeInstanceIdentifier(new NodeId("openflow:1"));
+
+        doAnswer(inv -> Optional.of(abstractMultipartWriter)).when(multipartWriterProvider).lookup(any());
+        when(featuresReply.getCapabilities()).thenReturn(capabilities);
+        when(connectionContext.getFeatures()).thenReturn(featuresReply);
+        when(connectionContext.getOutboundQueueProvider()).thenReturn(outboundQueueProvider);
+        when(deviceContext.getDeviceState()).thenReturn(deviceState);
+        when(deviceInfo.getNodeInstanceIdentifier()).thenReturn(nodeInstanceIdentifier);
+        when(deviceInfo.getNodeId()).thenReturn(nodeInstanceIdentifier.key().getId());
+        when(deviceInfo.getVersion()).thenReturn(Uint8.valueOf(4));
+        when(deviceContext.getDeviceInfo()).thenReturn(deviceInfo);
+        when(deviceContext.getMessageSpy()).thenReturn(messageSpy);
+        when(deviceContext.canUseSingleLayerSerialization()).thenReturn(true);
+        doAnswer(inv -> multiMsgCollector).when(deviceContext).getMultiMsgCollector(any());
+        when(requestContext.getXid()).thenReturn(new Xid(Uint32.valueOf(42L)));
+        when(requestContext.getFuture()).thenReturn(requestFuture);
+        doAnswer(inv -> requestContext).when(deviceContext).createRequestContext();
+        when(deviceContext.getPrimaryConnectionContext()).thenReturn(connectionContext);
+        doAnswer(inv -> callbacks.add(inv.getArgument(2)))
+            .when(outboundQueueProvider).commitEntry(any(), any(), any(), any(Function.class));
+    }
+
+    @Test
+    public void testRepliesWrittenAsTheyArrive() throws Exception {
+        final Future<Void> initialize = deviceInitializer.initialize(deviceContext, true, false,
+            multipartWriterProvider, null);
+
+        // all requests are sent without waiting for the description
+        assertEquals(5, callbacks.size());
+
+        final MultipartReplyDesc desc = new MultipartReplyDescBuilder().setManufacturer("test").build();
+        callbacks.get(0).onSuccess(new MultipartReplyBuilder()
+            .setRequestMore(false)
+            .setMultipartReplyBody(desc)
+            .build());
+        verify(abstractMultipartWriter).write(desc, false);
+        verify(multiMsgCollector).addMultipartMsg(any(), eq(false), any());
+        assertFalse(initialize.isDone());
+
+        requestFuture.set(RpcResultBuilder.<List<OfHeader>>success(List.of()).build());
+        initialize.get();
+        assertTrue(deviceInitializer.allowsConcurrentFlowRegistryFill());
+    }
+
+    @Test
+    public void testSkipTableFeatures() throws Exception {
+        when(deviceContext.isStatisticsPollingOn()).thenReturn(false);
+        final Future<Void> initialize = deviceInitializer.initialize(deviceContext, true, true,
+            multipartWriterProvider, null);
+
+        assertEquals(4, callbacks.size());
+        requestFuture.set(RpcResultBuilder.<List<OfHeader>>success(List.of()).build());
+        initialize.get();
+        verify(abstractMultipartWriter, never()).write(any(), anyBoolean());
+    }
+}
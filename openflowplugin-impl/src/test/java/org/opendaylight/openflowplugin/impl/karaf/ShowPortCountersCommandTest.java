@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.PortCounters;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterStore;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+/**
+ * Test for {@link ShowPortCountersCommand}.
+ */
+class ShowPortCountersCommandTest extends AbstractCommandTest {
+    private static final NodeId NODE_ID = new NodeId("openflow:1");
+
+    @Mock
+    private StatisticsCounterStore statisticsCounterStore;
+    @InjectMocks
+    private ShowPortCountersCommand showPortCountersCommand;
+
+    @Override
+    protected void doBeforeEach() {
+        showPortCountersCommand.node = NODE_ID.getValue();
+    }
+
+    @Test
+    void showNoCounters() {
+        doReturn(List.of()).when(statisticsCounterStore).getPortCounters(NODE_ID);
+        showPortCountersCommand.execute();
+        verify(console).println(contains("No port counters"));
+    }
+
+    @Test
+    void showCounters() {
+        doReturn(List.of(new PortCounters(NODE_ID, new NodeConnectorId("openflow:1:2"), 1, 2, 3, 4, 5, 6, 7, 8,
+            1000))).when(statisticsCounterStore).getPortCounters(NODE_ID);
+        showPortCountersCommand.execute();
+        verify(console).println(contains("openflow:1:2"));
+    }
+}
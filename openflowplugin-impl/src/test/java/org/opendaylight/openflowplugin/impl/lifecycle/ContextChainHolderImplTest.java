@@ -86,6 +86,8 @@ public class ContextChainHolderImplTest {
     private FeaturesReply featuresReply;
     @Mock
     private OpenflowProviderConfig config;
+    @Mock
+    private ControllerLoadTracker loadTracker;
 
     private ContextChainHolderImpl contextChainHolder;
     private Registration registration;
@@ -138,6 +140,17 @@ public class ContextChainHolderImplTest {
         Mockito.verify(statisticsManager).createContext(Mockito.any(DeviceContext.class), Mockito.anyBoolean());
     }
 
+    @Test
+    public void createContextChainWithCandidateDelay() {
+        Mockito.when(loadTracker.candidateDelayMillis()).thenReturn(500L);
+        contextChainHolder.setLoadTracker(loadTracker);
+        contextChainHolder.createContextChain(connectionContext);
+        Mockito.verify(loadTracker).deviceAdded(deviceInfo, deviceContext, statisticsContext);
+        Mockito.verify(singletonServicesProvider, Mockito.never()).registerClusterSingletonService(Mockito.any());
+        Mockito.verify(singletonServicesProvider, Mockito.timeout(5000))
+                .registerClusterSingletonService(Mockito.any());
+    }
+
 
     @Test
     public void reconciliationFrameworkFailure() {
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.eos.binding.api.Entity;
+import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
+import org.opendaylight.mdsal.eos.common.api.EntityOwnershipStateChange;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.lifecycle.MasterChecker;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
+import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.ControllerLoads;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.ControllerLoadsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.controller.loads.ControllerLoad;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.controller.load.rev261019.controller.loads.ControllerLoadBuilder;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ControllerLoadTrackerTest {
+    private static final long MAX_DELAY = 1000;
+    private static final int FLOWS = 10;
+    private static final long GATHERING_NANOS = 2000000;
+    private static final long EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private WriteTransaction writeTransaction;
+    @Mock
+    private ReadTransaction readTransaction;
+    @Mock
+    private EntityOwnershipService entityOwnershipService;
+    @Mock
+    private Registration registration;
+    @Mock
+    private MasterChecker masterChecker;
+    @Mock
+    private DeviceInfo masteredDevice;
+    @Mock
+    private DeviceInfo slaveDevice;
+    @Mock
+    private DeviceContext deviceContext;
+    @Mock
+    private DeviceFlowRegistry deviceFlowRegistry;
+    @Mock
+    private StatisticsContext statisticsContext;
+
+    private final List<ControllerLoadTracker> instances = new ArrayList<>();
+    private ControllerLoadTracker tracker;
+
+    @Before
+    public void setUp() throws Exception {
+        lenient().when(entityOwnershipService.registerListener(eq(ControllerLoadTracker.ENTITY_TYPE), any()))
+            .thenReturn(registration);
+        lenient().when(entityOwnershipService.registerCandidate(any())).thenReturn(registration);
+        lenient().when(dataBroker.newWriteOnlyTransaction()).thenReturn(writeTransaction);
+        lenient().doReturn(CommitInfo.emptyFluentFuture()).when(writeTransaction).commit();
+        lenient().when(dataBroker.newReadOnlyTransaction()).thenReturn(readTransaction);
+        lenient().doReturn(FluentFutures.immediateFluentFuture(Optional.empty())).when(readTransaction)
+                .read(eq(LogicalDatastoreType.OPERATIONAL), any());
+        lenient().when(deviceContext.getDeviceFlowRegistry()).thenReturn(deviceFlowRegistry);
+        lenient().when(deviceFlowRegistry.size()).thenReturn(FLOWS);
+        lenient().when(statisticsContext.getLastGatheringNanos()).thenReturn(GATHERING_NANOS);
+        lenient().when(masterChecker.listOfMasteredDevices()).thenReturn(List.of(masteredDevice));
+    }
+
+    @After
+    public void tearDown() {
+        if (tracker != null) {
+            tracker.close();
+        }
+        instances.forEach(ControllerLoadTracker::close);
+    }
+
+    @Test
+    public void testLocalLoadCountsMasteredDevicesOnly() {
+        tracker = new ControllerLoadTracker(dataBroker, entityOwnershipService, masterChecker, MAX_DELAY);
+        tracker.deviceAdded(masteredDevice, deviceContext, statisticsContext);
+        tracker.deviceAdded(slaveDevice, deviceContext, statisticsContext);
+
+        final var load = tracker.localLoad();
+        assertEquals(Uint32.ONE, load.getDevices());
+        assertEquals(Uint64.valueOf(FLOWS), load.getFlows());
+        assertEquals(Uint64.valueOf(2), load.getStatisticsGatheringTime());
+
+        tracker.deviceRemoved(masteredDevice);
+        assertEquals(Uint32.ZERO, tracker.localLoad().getDevices());
+    }
+
+    @Test
+    public void testNoDelayWithoutOtherControllers() {
+        tracker = new ControllerLoadTracker(dataBroker, entityOwnershipService, masterChecker, MAX_DELAY);
+        tracker.deviceAdded(masteredDevice, deviceContext, statisticsContext);
+        assertEquals(0, tracker.candidateDelayMillis());
+    }
+
+    @Test
+    public void testDelayFromPublishedLoads() {
+        final var idle = load("idle", 0, 0, 0);
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(new ControllerLoadsBuilder()
+                .setControllerLoad(BindingMap.of(idle)).build())))
+            .when(readTransaction).read(LogicalDatastoreType.OPERATIONAL,
+                DataObjectIdentifier.builder(ControllerLoads.class).build());
+        tracker = new ControllerLoadTracker(dataBroker, entityOwnershipService, masterChecker, MAX_DELAY);
+        tracker.deviceAdded(masteredDevice, deviceContext, statisticsContext);
+
+        verify(readTransaction, timeout(5000).atLeastOnce()).close();
+        assertEquals(MAX_DELAY, tracker.candidateDelayMillis());
+    }
+
+    @Test
+    public void testExpiryUsesLocalClock() {
+        tracker = new ControllerLoadTracker(dataBroker, entityOwnershipService, masterChecker, MAX_DELAY);
+        tracker.deviceAdded(masteredDevice, deviceContext, statisticsContext);
+        // wait for the initial publication, the next one is due only after the test completes
+        verify(readTransaction, timeout(5000).atLeastOnce()).close();
+
+        // a timestamp far behind the local clock does not matter while it keeps changing
+        final long expiry = EXPIRY_NANOS;
+        tracker.updateClusterLoads(List.of(load("idle", 0, 0, 0, 1), tracker.localLoad()), 0);
+        assertEquals(MAX_DELAY, tracker.candidateDelayMillis());
+        tracker.updateClusterLoads(List.of(load("idle", 0, 0, 0, 1)), expiry);
+        assertEquals(MAX_DELAY, tracker.candidateDelayMillis());
+
+        // an instance which stops publishing expires, even with a timestamp ahead of the local clock
+        tracker.updateClusterLoads(List.of(load("idle", 0, 0, 0, 1)), expiry + 1);
+        assertEquals(0, tracker.candidateDelayMillis());
+        tracker.updateClusterLoads(List.of(load("idle", 0, 0, 0, Long.MAX_VALUE)), 2 * expiry);
+        assertEquals(MAX_DELAY, tracker.candidateDelayMillis());
+        tracker.updateClusterLoads(List.of(load("idle", 0, 0, 0, Long.MAX_VALUE)), 3 * expiry + 1);
+        assertEquals(0, tracker.candidateDelayMillis());
+
+        // and comes back once it publishes again
+        tracker.updateClusterLoads(List.of(load("idle", 0, 0, 0, 2)), 4 * expiry);
+        assertEquals(MAX_DELAY, tracker.candidateDelayMillis());
+    }
+
+    @Test
+    public void testMultipleInstances() {
+        // Instances share the operational datastore
+        final var store = new ConcurrentHashMap<DataObjectIdentifier<?>, ControllerLoad>();
+        final var heavy = startInstance(store, 3);
+        final var light = startInstance(store, 1);
+        final var idle = startInstance(store, 0);
+        final long now = System.nanoTime();
+        publishAll(now, heavy, light, idle);
+        publishAll(now, heavy, light, idle);
+        assertEquals(3, store.size());
+        assertEquals(MAX_DELAY, heavy.candidateDelayMillis());
+        assertEquals(0, light.candidateDelayMillis());
+        assertEquals(0, idle.candidateDelayMillis());
+
+        // The member of the idle instance leaves the cluster
+        heavy.ownershipChanged(new Entity(ControllerLoadTracker.ENTITY_TYPE, idle.instanceId()),
+            EntityOwnershipStateChange.REMOTE_OWNERSHIP_LOST_NO_OWNER, false);
+        assertEquals(2, store.size());
+        assertEquals(MAX_DELAY / 2, heavy.candidateDelayMillis());
+        // the heavy instance reads last and sees the final timestamp of the light one
+        publishAll(now, light, heavy);
+        assertEquals(2, store.size());
+        assertEquals(MAX_DELAY / 2, heavy.candidateDelayMillis());
+
+        // The light instance stops publishing without leaving the cluster
+        heavy.publish(now + EXPIRY_NANOS + 1);
+        assertEquals(1, store.size());
+        assertEquals(heavy.instanceId(), store.values().iterator().next().getInstanceId());
+        assertEquals(0, heavy.candidateDelayMillis());
+    }
+
+    @Test
+    public void testCandidateDelay() {
+        final var light = load("light", 1, 100, 10);
+        final var average = load("average", 2, 200, 20);
+        final var heavy = load("heavy", 3, 300, 30);
+        final var overloaded = load("overloaded", 4, 400, 40);
+
+        assertEquals(0, ControllerLoadTracker.candidateDelay(light, List.of(light, heavy), MAX_DELAY));
+        assertEquals(0, ControllerLoadTracker.candidateDelay(average, List.of(light, average, heavy), MAX_DELAY));
+        assertEquals(MAX_DELAY / 2,
+            ControllerLoadTracker.candidateDelay(heavy, List.of(light, average, heavy), MAX_DELAY));
+        assertEquals(MAX_DELAY,
+            ControllerLoadTracker.candidateDelay(overloaded, List.of(load("idle", 0, 0, 0), overloaded), MAX_DELAY));
+        assertEquals(0, ControllerLoadTracker.candidateDelay(heavy, List.of(heavy), MAX_DELAY));
+    }
+
+    @Test
+    public void testCandidateDelayIgnoresIdleDimensions() {
+        final var idle = load("idle", 0, 0, 0);
+        final var busy = load("busy", 3, 0, 0);
+
+        assertEquals(MAX_DELAY / 2,
+            ControllerLoadTracker.candidateDelay(busy, List.of(idle, busy, load("other", 3, 0, 0)), MAX_DELAY));
+        assertEquals(0, ControllerLoadTracker.candidateDelay(idle, List.of(idle, load("other", 0, 0, 0)),
+            MAX_DELAY));
+    }
+
+    private ControllerLoadTracker startInstance(final Map<DataObjectIdentifier<?>, ControllerLoad> store,
+            final int devices) {
+        final var broker = mock(DataBroker.class);
+        final var writeTx = mock(WriteTransaction.class);
+        final var readTx = mock(ReadTransaction.class);
+        doReturn(writeTx).when(broker).newWriteOnlyTransaction();
+        doReturn(readTx).when(broker).newReadOnlyTransaction();
+        doAnswer(invocation -> store.put(invocation.getArgument(1), invocation.getArgument(2)))
+            .when(writeTx).mergeParentStructurePut(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+        doAnswer(invocation -> store.remove(invocation.getArgument(1)))
+            .when(writeTx).delete(eq(LogicalDatastoreType.OPERATIONAL), any());
+        doReturn(CommitInfo.emptyFluentFuture()).when(writeTx).commit();
+        doAnswer(invocation -> FluentFutures.immediateFluentFuture(store.isEmpty() ? Optional.empty()
+            : Optional.of(new ControllerLoadsBuilder().setControllerLoad(BindingMap.of(store.values())).build())))
+            .when(readTx).read(LogicalDatastoreType.OPERATIONAL, DataObjectIdentifier.builder(ControllerLoads.class)
+                .build());
+
+        final var mastered = new ArrayList<DeviceInfo>();
+        final var checker = mock(MasterChecker.class);
+        doReturn(mastered).when(checker).listOfMasteredDevices();
+        final var instance = new ControllerLoadTracker(broker, entityOwnershipService, checker, MAX_DELAY);
+        instances.add(instance);
+        for (int i = 0; i < devices; i++) {
+            final var deviceInfo = mock(DeviceInfo.class);
+            mastered.add(deviceInfo);
+            instance.deviceAdded(deviceInfo, deviceContext, statisticsContext);
+        }
+        // wait for the initial publication, the next one is due only after the test completes
+        verify(readTx, timeout(5000).atLeastOnce()).close();
+        return instance;
+    }
+
+    private static void publishAll(final long nowNanos, final ControllerLoadTracker... trackers) {
+        for (var instance : trackers) {
+            instance.publish(nowNanos);
+        }
+    }
+
+    private static ControllerLoad load(final String instanceId, final long devices, final long flows,
+            final long gatheringTime) {
+        return load(instanceId, devices, flows, gatheringTime, System.currentTimeMillis());
+    }
+
+    private static ControllerLoad load(final String instanceId, final long devices, final long flows,
+            final long gatheringTime, final long timestamp) {
+        return new ControllerLoadBuilder()
+                .setInstanceId(instanceId)
+                .setDevices(Uint32.valueOf(devices))
+                .setFlows(Uint64.valueOf(flows))
+                .setStatisticsGatheringTime(Uint64.valueOf(gatheringTime))
+                .setTimestamp(Uint64.valueOf(timestamp))
+                .build();
+    }
+}
@@ -8,6 +8,8 @@
 package org.opendaylight.openflowplugin.impl.protocol.deserialization.multipart;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import io.netty.buffer.ByteBuf;
@@ -56,7 +58,66 @@ public class MultipartReplyFlowStatsDeserializerTest extends AbstractMultipartDe
 
     @Test
     public void testDeserialize() {
+        final MultipartReplyFlowStats reply = (MultipartReplyFlowStats) deserializeMultipart(
+                createFlowStats(PACKET_COUNT, MPLS_LABEL));
+        final FlowAndStatisticsMapList flowAndStatisticsMapList =
+                reply.nonnullFlowAndStatisticsMapList().iterator().next();
+        assertEquals(TABLE_ID, flowAndStatisticsMapList.getTableId().shortValue());
+        assertEquals(SECOND, flowAndStatisticsMapList.getDuration().getSecond().getValue().intValue());
+        assertEquals(NANOSECOND, flowAndStatisticsMapList.getDuration().getNanosecond().getValue().intValue());
+        assertEquals(PRIORITY, flowAndStatisticsMapList.getPriority().intValue());
+        assertEquals(IDLE_TIMEOUT, flowAndStatisticsMapList.getIdleTimeout().intValue());
+        assertEquals(HARD_TIMEOUT, flowAndStatisticsMapList.getHardTimeout().intValue());
+        assertTrue(flowAndStatisticsMapList.getFlags().equals(FLAGS));
+        assertEquals(COOKIE, flowAndStatisticsMapList.getCookie().getValue().longValue());
+        assertEquals(BYTE_COUNT, flowAndStatisticsMapList.getByteCount().getValue().longValue());
+        assertEquals(PACKET_COUNT, flowAndStatisticsMapList.getPacketCount().getValue().longValue());
+
+        assertEquals(2, flowAndStatisticsMapList.getInstructions().getInstruction().size());
+        final var instructionIter = flowAndStatisticsMapList.getInstructions().nonnullInstruction().values().iterator();
+
+        final Instruction instruction = instructionIter.next().getInstruction();
+        assertEquals(ApplyActionsCase.class, instruction.implementedInterface());
+
+        final ApplyActionsCase applyActions = (ApplyActionsCase) instruction;
+        assertEquals(1, applyActions.getApplyActions().nonnullAction().size());
+        assertEquals(PopPbbActionCase.class, applyActions.getApplyActions().nonnullAction().values().iterator().next()
+                .getAction().implementedInterface());
+
+        final Instruction instruction1 = instructionIter.next().getInstruction();
+        assertEquals(WriteActionsCase.class, instruction1.implementedInterface());
+
+        final WriteActionsCase writeActions = (WriteActionsCase) instruction1;
+        assertEquals(1, writeActions.getWriteActions().getAction().size());
+        assertEquals(PopVlanActionCase.class, writeActions.getWriteActions().nonnullAction().values().iterator().next()
+                .getAction().implementedInterface());
+    }
+
+    @Test
+    public void testDeserializeWithDecodeCache() {
+        final var deserializer = new MultipartReplyFlowStatsDeserializer(16);
+        deserializer.injectDeserializerRegistry(getRegistry());
+
+        final var first = ((MultipartReplyFlowStats) deserializer.deserialize(
+                createFlowStats(PACKET_COUNT, MPLS_LABEL))).nonnullFlowAndStatisticsMapList().get(0);
+        final var second = ((MultipartReplyFlowStats) deserializer.deserialize(
+                createFlowStats(PACKET_COUNT + 1, MPLS_LABEL))).nonnullFlowAndStatisticsMapList().get(0);
+        final var third = ((MultipartReplyFlowStats) deserializer.deserialize(
+                createFlowStats(PACKET_COUNT + 1, MPLS_LABEL + 1))).nonnullFlowAndStatisticsMapList().get(0);
+
+        // Unchanged match and instructions are reused, counters are not
+        assertSame(first.getMatch(), second.getMatch());
+        assertSame(first.getInstructions(), second.getInstructions());
+        assertEquals(PACKET_COUNT, first.getPacketCount().getValue().longValue());
+        assertEquals(PACKET_COUNT + 1, second.getPacketCount().getValue().longValue());
+
+        // A changed match is decoded again
+        assertNotSame(second.getMatch(), third.getMatch());
+        assertEquals(MPLS_LABEL + 1, third.getMatch().getProtocolMatchFields().getMplsLabel().intValue());
+        assertEquals(second.getInstructions(), third.getInstructions());
+    }
 
+    private static ByteBuf createFlowStats(final long packetCount, final int mplsLabel) {
         ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer();
 
         buffer.writeShort(ITEM_LENGTH);
@@ -75,7 +136,7 @@ public class MultipartReplyFlowStatsDeserializerTest extends AbstractMultipartDe
                 FLAGS.getNOBYTCOUNTS()));
         buffer.writeZero(PADDING_IN_FLOW_STATS_HEADER_02);
         buffer.writeLong(COOKIE);
-        buffer.writeLong(PACKET_COUNT);
+        buffer.writeLong(packetCount);
         buffer.writeLong(BYTE_COUNT);
 
         // Match header
@@ -88,7 +149,7 @@ public class MultipartReplyFlowStatsDeserializerTest extends AbstractMultipartDe
         buffer.writeShort(OxmMatchConstants.OPENFLOW_BASIC_CLASS);
         buffer.writeByte(OxmMatchConstants.MPLS_LABEL << 1);
         buffer.writeByte(Integer.BYTES);
-        buffer.writeInt(MPLS_LABEL);
+        buffer.writeInt(mplsLabel);
 
         // Match footer
         int matchLength = buffer.writerIndex() - matchStartIndex;
@@ -128,38 +189,7 @@ public class MultipartReplyFlowStatsDeserializerTest extends AbstractMultipartDe
         // Count total length of instruction
         buffer.setShort(instructionLengthIndex, buffer.writerIndex() - instructionStartIndex);
 
-        final MultipartReplyFlowStats reply = (MultipartReplyFlowStats) deserializeMultipart(buffer);
-        final FlowAndStatisticsMapList flowAndStatisticsMapList =
-                reply.nonnullFlowAndStatisticsMapList().iterator().next();
-        assertEquals(TABLE_ID, flowAndStatisticsMapList.getTableId().shortValue());
-        assertEquals(SECOND, flowAndStatisticsMapList.getDuration().getSecond().getValue().intValue());
-        assertEquals(NANOSECOND, flowAndStatisticsMapList.getDuration().getNanosecond().getValue().intValue());
-        assertEquals(PRIORITY, flowAndStatisticsMapList.getPriority().intValue());
-        assertEquals(IDLE_TIMEOUT, flowAndStatisticsMapList.getIdleTimeout().intValue());
-        assertEquals(HARD_TIMEOUT, flowAndStatisticsMapList.getHardTimeout().intValue());
-        assertTrue(flowAndStatisticsMapList.getFlags().equals(FLAGS));
-        assertEquals(COOKIE, flowAndStatisticsMapList.getCookie().getValue().longValue());
-        assertEquals(BYTE_COUNT, flowAndStatisticsMapList.getByteCount().getValue().longValue());
-        assertEquals(PACKET_COUNT, flowAndStatisticsMapList.getPacketCount().getValue().longValue());
-
-        assertEquals(2, flowAndStatisticsMapList.getInstructions().getInstruction().size());
-        final var instructionIter = flowAndStatisticsMapList.getInstructions().nonnullInstruction().values().iterator();
-
-        final Instruction instruction = instructionIter.next().getInstruction();
-        assertEquals(ApplyActionsCase.class, instruction.implementedInterface());
-
-        final ApplyActionsCase applyActions = (ApplyActionsCase) instruction;
-        assertEquals(1, applyActions.getApplyActions().nonnullAction().size());
-        assertEquals(PopPbbActionCase.class, applyActions.getApplyActions().nonnullAction().values().iterator().next()
-                .getAction().implementedInterface());
-
-        final Instruction instruction1 = instructionIter.next().getInstruction();
-        assertEquals(WriteActionsCase.class, instruction1.implementedInterface());
-
-        final WriteActionsCase writeActions = (WriteActionsCase) instruction1;
-        assertEquals(1, writeActions.getWriteActions().getAction().size());
-        assertEquals(PopVlanActionCase.class, writeActions.getWriteActions().nonnullAction().values().iterator().next()
-                .getAction().implementedInterface());
+        return buffer;
     }
 
     @Override
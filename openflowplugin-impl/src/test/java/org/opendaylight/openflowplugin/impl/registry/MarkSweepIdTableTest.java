@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Test for {@link MarkSweepIdTable}.
+ */
+public class MarkSweepIdTableTest {
+    private final MarkSweepIdTable table = new MarkSweepIdTable();
+
+    @Test
+    public void testAddAndContains() {
+        assertTrue(table.add(0));
+        assertTrue(table.add(0xFFFFFFFFL));
+        assertFalse(table.add(0));
+        assertTrue(table.contains(0));
+        assertTrue(table.contains(0xFFFFFFFFL));
+        assertFalse(table.contains(1));
+        assertEquals(2, table.size());
+
+        assertThrows(IllegalArgumentException.class, () -> table.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> table.add(0x100000000L));
+    }
+
+    @Test
+    public void testSweep() {
+        for (long i = 0; i < 1000; i++) {
+            table.add(i);
+        }
+        for (long i = 0; i < 1000; i += 2) {
+            table.mark(i);
+            // marking twice does not count twice
+            table.mark(i);
+        }
+        // marks of absent identifiers are ignored
+        table.mark(5000);
+
+        assertEquals(500, table.sweep());
+        assertEquals(500, table.size());
+        for (long i = 0; i < 1000; i++) {
+            assertEquals(i % 2 != 0, table.contains(i));
+        }
+
+        // marks do not survive into the next epoch
+        assertEquals(0, table.sweep());
+        assertEquals(500, table.size());
+    }
+
+    @Test
+    public void testAddAfterMark() {
+        table.add(1);
+        table.mark(1);
+        // re-adding does not clear the mark
+        assertFalse(table.add(1));
+        table.mark(2);
+        // but marks placed before an identifier was added do not apply
+        assertTrue(table.add(2));
+
+        assertEquals(1, table.sweep());
+        assertFalse(table.contains(1));
+        assertTrue(table.contains(2));
+    }
+
+    @Test
+    public void testSweepAll() {
+        for (long i = 0; i < 100; i++) {
+            table.add(i);
+            table.mark(i);
+        }
+        assertEquals(100, table.sweep());
+        assertEquals(0, table.size());
+        assertFalse(table.contains(7));
+
+        // identifiers stored again after a full sweep start out unmarked
+        for (long i = 0; i < 100; i++) {
+            assertTrue(table.add(i));
+        }
+        assertEquals(0, table.sweep());
+        table.mark(7);
+        assertEquals(1, table.sweep());
+        assertEquals(99, table.size());
+        assertFalse(table.contains(7));
+    }
+
+    @Test
+    public void testChurn() {
+        final Set<Long> expected = new HashSet<>();
+        for (int round = 0; round < 20; round++) {
+            for (long i = 0; i < 4096; i++) {
+                final long id = round * 1024L + i;
+                table.add(id);
+                expected.add(id);
+            }
+            table.forEach(table::mark);
+            assertEquals(expected.size(), table.sweep());
+            expected.clear();
+            assertEquals(0, table.size());
+        }
+
+        table.add(42);
+        final Set<Long> seen = new HashSet<>();
+        table.forEach(seen::add);
+        assertEquals(Set.of(42L), seen);
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertFalse(table.contains(42));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryAppender;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link CompactDeviceFlowRegistryImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CompactDeviceFlowRegistryImplTest {
+    private static final String NODE_ID = "openflow:1";
+
+    private CompactDeviceFlowRegistryImpl deviceFlowRegistry;
+    private FlowRegistryKey key;
+    private FlowDescriptor descriptor;
+    @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private ReadTransaction readOnlyTransaction;
+    @Mock
+    private FlowGroupInfoHistoryAppender history;
+
+    @Before
+    public void setUp() {
+        final var nodeInstanceIdentifier =
+            DataObjectIdentifier.builder(Nodes.class).child(Node.class, new NodeKey(new NodeId(NODE_ID))).build();
+        deviceFlowRegistry = new CompactDeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+            nodeInstanceIdentifier, history);
+        key = deviceFlowRegistry.createKey(TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).build());
+        descriptor = FlowDescriptorFactory.create(Uint8.valueOf(key.getTableId()), new FlowId("ut:1"));
+
+        assertEquals(0, deviceFlowRegistry.size());
+        deviceFlowRegistry.storeDescriptor(key, descriptor);
+        assertEquals(1, deviceFlowRegistry.size());
+    }
+
+    @Test
+    public void testRetrieveIdForFlow() {
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key));
+
+        // An equal flow yields an equal key
+        final var other = deviceFlowRegistry.createKey(TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).build());
+        assertEquals(key, other);
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(other));
+
+        // Keys created by the factory are accepted as well
+        final var factoryKey = FlowRegistryKeyFactory.VERSION_1_3.create(
+            TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).build());
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(factoryKey));
+    }
+
+    @Test
+    public void testStore() {
+        when(dataBroker.newReadOnlyTransaction()).thenReturn(readOnlyTransaction);
+        final var stats = TestFlowHelper.createFlowAndStatisticsMapListBuilder(1);
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(new FlowBuilder()
+            .setTableId(stats.getTableId())
+            .setPriority(stats.getPriority())
+            .setCookie(stats.getCookie())
+            .setMatch(stats.getMatch())
+            .setId(new FlowId("ut:1"))
+            .build())))
+            .when(readOnlyTransaction).read(eq(LogicalDatastoreType.CONFIGURATION), any(DataObjectIdentifier.class));
+
+        //store the same key with different value, the previous flow is verified not to collide
+        final FlowDescriptor descriptor2 = FlowDescriptorFactory.create(Uint8.valueOf(key.getTableId()),
+            new FlowId("ut:2"));
+        deviceFlowRegistry.storeDescriptor(key, descriptor2);
+        assertEquals(1, deviceFlowRegistry.size());
+        assertEquals("ut:2", deviceFlowRegistry.retrieveDescriptor(key).getFlowId().getValue());
+
+        // store new key with old value
+        final FlowRegistryKey key2 = deviceFlowRegistry.createKey(
+            TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build());
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+        assertEquals(2, deviceFlowRegistry.size());
+        assertEquals("ut:1", deviceFlowRegistry.retrieveDescriptor(key2).getFlowId().getValue());
+    }
+
+    @Test
+    public void testStoreConflictingFlowId() {
+        final FlowRegistryKey key2 = deviceFlowRegistry.createKey(new FlowBuilder()
+            .setTableId(Uint8.ONE)
+            .setPriority(Uint16.TEN)
+            .build());
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+
+        assertEquals(2, deviceFlowRegistry.size());
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key));
+        assertTrue(deviceFlowRegistry.retrieveDescriptor(key2).getFlowId().getValue().startsWith("#UF$TABLE*1-"));
+    }
+
+    @Test
+    public void testStoreIfNecessary() {
+        //store existing key
+        deviceFlowRegistry.store(key);
+        assertEquals(1, deviceFlowRegistry.size());
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key));
+
+        //store new key
+        final FlowRegistryKey key2 = deviceFlowRegistry.createKey(
+            TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build());
+        deviceFlowRegistry.store(key2);
+        assertTrue(deviceFlowRegistry.retrieveDescriptor(key2).getFlowId().getValue().startsWith("#UF$TABLE*2-"));
+        assertEquals(2, deviceFlowRegistry.size());
+    }
+
+    @Test
+    public void testRemoveDescriptor() {
+        deviceFlowRegistry.addMark(key);
+        assertEquals(0, deviceFlowRegistry.size());
+        assertNull(deviceFlowRegistry.retrieveDescriptor(key));
+
+        // The flow ID is free to be reused
+        final FlowRegistryKey key2 = deviceFlowRegistry.createKey(
+            TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build());
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key2));
+    }
+
+    @Test
+    public void testClose() {
+        deviceFlowRegistry.close();
+        assertEquals(0, deviceFlowRegistry.size());
+        assertNull(deviceFlowRegistry.retrieveDescriptor(key));
+    }
+
+    @Test
+    public void testForEach() {
+        final List<FlowRegistryKey> keys = new ArrayList<>();
+        deviceFlowRegistry.forEach(keys::add);
+        assertEquals(1, keys.size());
+
+        final var reconstructed = keys.get(0);
+        assertNull(reconstructed.getMatch());
+        assertEquals(key, reconstructed);
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(reconstructed));
+    }
+
+    @Test
+    public void testDistinctMatches() {
+        final var flow = new FlowBuilder()
+            .setTableId(Uint8.ONE)
+            .setPriority(Uint16.TEN)
+            .setCookie(new FlowCookie(Uint64.TEN));
+        final var key1 = deviceFlowRegistry.createKey(flow.build());
+        final var key2 = deviceFlowRegistry.createKey(
+            flow.setMatch(TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).getMatch()).build());
+        assertNotEquals(key1, key2);
+    }
+
+    @Test
+    public void testFingerprintCollision() {
+        final var flow = new FlowBuilder()
+            .setTableId(Uint8.ONE)
+            .setPriority(Uint16.TEN)
+            .setCookie(new FlowCookie(Uint64.TEN));
+        final var key1 = (FingerprintFlowRegistryKey) deviceFlowRegistry.createKey(flow.build());
+        final var match2 = TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).getMatch();
+        // Forge a key sharing the fingerprint of key1, but carrying a different match
+        final var key2 = new FingerprintFlowRegistryKey(key1.tableId(), key1.priority(), key1.cookie(),
+            key1.fingerprintHi(), key1.fingerprintLo(),
+            deviceFlowRegistry.createKey(flow.setMatch(match2).build()).getMatch());
+        assertEquals(key1, key2);
+
+        // The previous flow is read from the flow store on rebind, revealing the collision
+        when(dataBroker.newReadOnlyTransaction()).thenReturn(readOnlyTransaction);
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(flow.setMatch(null)
+            .setId(new FlowId("ut:collision1"))
+            .build())))
+            .when(readOnlyTransaction).read(eq(LogicalDatastoreType.CONFIGURATION), any(DataObjectIdentifier.class));
+
+        final var descriptor1 = FlowDescriptorFactory.create(Uint8.ONE, new FlowId("ut:collision1"));
+        final var descriptor2 = FlowDescriptorFactory.create(Uint8.ONE, new FlowId("ut:collision2"));
+        deviceFlowRegistry.storeDescriptor(key1, descriptor1);
+        deviceFlowRegistry.storeDescriptor(key2, descriptor2);
+        assertEquals(3, deviceFlowRegistry.size());
+        assertEquals(descriptor1, deviceFlowRegistry.retrieveDescriptor(key1));
+        assertEquals(descriptor2, deviceFlowRegistry.retrieveDescriptor(key2));
+
+        final List<FlowRegistryKey> keys = new ArrayList<>();
+        deviceFlowRegistry.forEach(keys::add);
+        assertEquals(3, keys.size());
+
+        deviceFlowRegistry.addMark(key1);
+        assertNull(deviceFlowRegistry.retrieveDescriptor(key1));
+        assertEquals(descriptor2, deviceFlowRegistry.retrieveDescriptor(key2));
+
+        deviceFlowRegistry.addMark(key2);
+        assertEquals(1, deviceFlowRegistry.size());
+        assertNull(deviceFlowRegistry.retrieveDescriptor(key2));
+    }
+
+    @Test
+    public void testManyFlows() {
+        final int count = 5000;
+        final List<FlowRegistryKey> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final var flowKey = deviceFlowRegistry.createKey(new FlowBuilder()
+                .setTableId(Uint8.valueOf(i % 8))
+                .setPriority(Uint16.valueOf(i))
+                .build());
+            keys.add(flowKey);
+            deviceFlowRegistry.store(flowKey);
+        }
+        assertEquals(count + 1, deviceFlowRegistry.size());
+
+        // Remove every other flow, forcing tombstones to be skipped and eventually purged
+        for (int i = 0; i < count; i += 2) {
+            deviceFlowRegistry.addMark(keys.get(i));
+        }
+        for (int i = 0; i < count; i++) {
+            final var found = deviceFlowRegistry.retrieveDescriptor(keys.get(i));
+            if (i % 2 == 0) {
+                assertNull(found);
+            } else {
+                assertNotNull(found);
+                assertEquals(Uint8.valueOf(i % 8), found.getTableKey().getId());
+            }
+        }
+        assertEquals(count / 2 + 1, deviceFlowRegistry.size());
+
+        for (int i = 0; i < count; i += 2) {
+            deviceFlowRegistry.store(keys.get(i));
+        }
+        assertEquals(count + 1, deviceFlowRegistry.size());
+        assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key));
+    }
+
+    @Test
+    public void testFill() throws Exception {
+        when(dataBroker.newReadOnlyTransaction()).thenReturn(readOnlyTransaction);
+        final var flow = new FlowBuilder()
+            .setTableId(Uint8.ONE)
+            .setPriority(Uint16.TEN)
+            .setCookie(new FlowCookie(Uint64.TEN))
+            .setId(new FlowId("HELLO"))
+            .build();
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(new FlowCapableNodeBuilder()
+            .setTable(BindingMap.of(new TableBuilder().setId(Uint8.ONE).setFlow(BindingMap.of(flow)).build()))
+            .build())))
+            .when(readOnlyTransaction).read(any(), any(DataObjectIdentifier.class));
+
+        deviceFlowRegistry.fill().get();
+        assertEquals(2, deviceFlowRegistry.size());
+        assertEquals("HELLO", deviceFlowRegistry.retrieveDescriptor(deviceFlowRegistry.createKey(flow)).getFlowId()
+            .getValue());
+    }
+}
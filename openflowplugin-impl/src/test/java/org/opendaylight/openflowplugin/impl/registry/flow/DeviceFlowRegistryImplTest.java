@@ -249,6 +249,19 @@ public class DeviceFlowRegistryImplTest {
         Assert.assertEquals(1, counter.get());
     }
 
+    @Test
+    public void testMemoizedNormalizedMatches() {
+        final var registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+            nodeInstanceIdentifier, history, true);
+        final FlowAndStatisticsMapList flowStats = TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).build();
+        final FlowRegistryKey key1 = registry.createKey(flowStats);
+        final FlowRegistryKey key2 = registry.createKey(flowStats);
+
+        Assert.assertEquals(key, key1);
+        Assert.assertEquals(key1, key2);
+        Assert.assertSame(key1.getMatch(), key2.getMatch());
+    }
+
     private static Integer parseIndex(final String alienFlowIdValue) {
         final Matcher mach = INDEX_PATTERN.matcher(alienFlowIdValue);
 
@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collection;
 import java.util.Set;
 import org.junit.Before;
@@ -95,7 +96,8 @@ public class RpcContextImplTest {
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
-                notificationPublishService, true);
+                MoreExecutors.directExecutor(),
+                notificationPublishService, true, null);
     }
 
     @Test
@@ -106,7 +108,8 @@ public class RpcContextImplTest {
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
-                notificationPublishService, true)) {
+                MoreExecutors.directExecutor(),
+                notificationPublishService, true, null)) {
             assertNotNull(rpcContext.createRequestContext());
         }
     }
@@ -119,7 +122,8 @@ public class RpcContextImplTest {
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
-                notificationPublishService, true)) {
+                MoreExecutors.directExecutor(),
+                notificationPublishService, true, null)) {
             assertNull(rpcContext.createRequestContext());
         }
     }
@@ -132,7 +136,8 @@ public class RpcContextImplTest {
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
-                notificationPublishService, true)) {
+                MoreExecutors.directExecutor(),
+                notificationPublishService, true, null)) {
             try (var requestContext = rpcContext.createRequestContext()) {
                 assertNotNull(requestContext);
             }
@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.concurrent.ConcurrentMap;
 import org.junit.Before;
 import org.junit.Test;
@@ -74,7 +75,8 @@ public class RpcManagerImplTest {
                 .setRpcRequestsQuota(new NonZeroUint16Type(QUOTA_VALUE))
                 .setIsStatisticsRpcEnabled(false)
                 .build(),
-                rpcProviderRegistry, extensionConverterProvider, convertorExecutor, notificationPublishService);
+                rpcProviderRegistry, extensionConverterProvider, convertorExecutor, MoreExecutors.directExecutor(),
+                notificationPublishService, null);
 
         Mockito.when(deviceInfo.getNodeInstanceIdentifier()).thenReturn(NODE_PATH);
         Mockito.when(deviceContext.getDeviceInfo()).thenReturn(deviceInfo);
@@ -35,6 +35,7 @@ import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegi
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsSink;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFactory;
 import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
 import org.opendaylight.openflowplugin.impl.services.multilayer.MultiLayerFlowMultipartRequestOnTheFlyCallback;
@@ -223,6 +224,55 @@ public class MultipartRequestOnTheFlyCallbackTest {
         verify(mockedDeviceContext, times(1)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
     }
 
+    /**
+     * The last reply, handed to a statistics sink.
+     */
+    @Test
+    public void testOnSuccessToSink() {
+        final StatisticsSink sink = mock(StatisticsSink.class);
+        when(sink.handles(any())).thenReturn(true);
+        final var provider = MultipartWriterProviderFactory.createDefaultProvider(mockedDeviceContext, sink);
+
+        // No reply was processed, there is nothing to complete
+        new MultiLayerFlowMultipartRequestOnTheFlyCallback<>(dummyRequestContext, String.class, mockedDeviceContext,
+            dummyEventIdentifier, provider, ConvertorManagerFactory.createDefaultManager()).onSuccess(null);
+        verify(sink, never()).statisticsGathered(any(), any());
+
+        final FlowStatsBuilder flowStatsBuilder = new FlowStatsBuilder()
+                .setTableId(tableId)
+                .setPriority(Uint16.TWO)
+                .setCookie(Uint64.ZERO)
+                .setByteCount(Uint64.TEN)
+                .setPacketCount(Uint64.ONE)
+                .setDurationSec(Uint32.valueOf(11))
+                .setDurationNsec(Uint32.valueOf(12))
+                .setMatch(new MatchBuilder().setMatchEntry(List.of()).build())
+                .setFlags(new FlowModFlags(true, false, false, false, false));
+        final MultipartReplyMessageBuilder mpReplyMessage = new MultipartReplyMessageBuilder()
+                .setType(MultipartType.OFPMPFLOW)
+                .setFlags(new MultipartRequestFlags(false))
+                .setMultipartReplyBody(new MultipartReplyFlowCaseBuilder()
+                    .setMultipartReplyFlow(new MultipartReplyFlowBuilder()
+                        .setFlowStats(List.of(flowStatsBuilder.build()))
+                        .build())
+                    .build())
+                .setXid(Uint32.valueOf(21));
+
+        new MultiLayerFlowMultipartRequestOnTheFlyCallback<>(new AbstractRequestContext<List<MultipartReply>>(
+            DUMMY_XID) {
+                @Override
+                public void close() {
+                    //NOOP
+                }
+            }, String.class, mockedDeviceContext, dummyEventIdentifier, provider,
+            ConvertorManagerFactory.createDefaultManager()).onSuccess(mpReplyMessage.build());
+
+        verify(sink).writeFlowStatistics(eq(mockedDeviceInfo), eq(new FlowId("mookus")), any());
+        verify(sink).statisticsGathered(mockedDeviceInfo, MultipartType.OFPMPFLOW);
+        verify(mockedDeviceContext, never())
+                .writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+    }
+
     /**
      * The last reply.
      */
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.ControllerRole;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.RoleRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.RoleRequestOutput;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+public class RoleServiceTest extends ServiceMocking {
+    private RoleService roleService;
+
+    @Override
+    protected void setup() {
+        roleService = new RoleService(mockedRequestContextStack, mockedDeviceContext, RoleRequestOutput.class);
+    }
+
+    @Test
+    public void testRoleRequestIsWrittenInOrder() {
+        roleService.handleServiceCall(new RoleRequestInputBuilder()
+            .setRole(ControllerRole.OFPCRROLEMASTER)
+            .setVersion(DUMMY_VERSION)
+            .setGenerationId(Uint64.ONE));
+
+        // Role requests must not overtake flow modifications issued before them
+        verify(mockedOutboundQueue).commitEntry(eq(DUMMY_XID_VALUE), any(), any());
+        verify(mockedOutboundQueue, never()).commitEntry(any(), any(), any(), any(OutboundQueuePriority.class));
+    }
+}
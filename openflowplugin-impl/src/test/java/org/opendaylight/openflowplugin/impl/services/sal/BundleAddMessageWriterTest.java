@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.services.sal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
+import org.opendaylight.openflowplugin.api.openflow.device.Xid;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.MessagesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.Message;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.MessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.rev170124.BundleFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.rev170124.BundleId;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class BundleAddMessageWriterTest {
+    private static final NodeRef NODE_REF = new NodeRef(DataObjectIdentifier.builder(Nodes.class)
+            .child(Node.class, new NodeKey(new NodeId("openflow:1")))
+            .build());
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_CHUNKS_IN_FLIGHT = 2;
+
+    private record Entry(Uint32 xid, OfHeader message, FutureCallback<OfHeader> callback) {
+
+    }
+
+    @Mock
+    private RequestContextStack requestContextStack;
+    @Mock
+    private DeviceContext deviceContext;
+    @Mock
+    private DeviceInfo deviceInfo;
+    @Mock
+    private ConnectionContext connectionContext;
+    @Mock
+    private OutboundQueue outboundQueue;
+    @Mock
+    private MessageSpy messageSpy;
+    @Mock
+    private SendExperimenterImpl sendExperimenter;
+    @Mock
+    private Registration errorRegistration;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private Consumer<ErrorMessage> errorListener;
+    private final AtomicLong nextXid = new AtomicLong(2);
+    private BundleAddMessageWriter writer;
+
+    @Before
+    public void setUp() throws Exception {
+        when(deviceContext.getMessageSpy()).thenReturn(messageSpy);
+        when(deviceContext.getPrimaryConnectionContext()).thenReturn(connectionContext);
+        when(connectionContext.getOutboundQueueProvider()).thenReturn(outboundQueue);
+        when(deviceContext.getDeviceInfo()).thenReturn(deviceInfo);
+        when(deviceInfo.reserveXidForDeviceMessage()).thenAnswer(inv -> Uint32.valueOf(nextXid.getAndIncrement()));
+        when(requestContextStack.createRequestContext()).thenAnswer(inv -> new AbstractRequestContext<>(Uint32.ONE) {
+            @Override
+            public void close() {
+                // No-op
+            }
+        });
+        when(sendExperimenter.getVersion()).thenReturn(Uint8.valueOf(4));
+        when(sendExperimenter.buildRequest(any(), any(), any())).thenAnswer(inv -> {
+            final OfHeader request = mock(OfHeader.class);
+            when(request.getXid()).thenReturn(inv.<Xid>getArgument(0).getValue());
+            return request;
+        });
+        doAnswer(inv -> entries.add(new Entry(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2))))
+            .when(outboundQueue).commitEntry(any(), any(), any());
+        when(deviceContext.registerErrorListener(any())).thenAnswer(inv -> {
+            errorListener = inv.getArgument(0);
+            return errorRegistration;
+        });
+
+        writer = new BundleAddMessageWriter(requestContextStack, deviceContext, sendExperimenter, tasks::add,
+            CHUNK_SIZE, MAX_CHUNKS_IN_FLIGHT);
+    }
+
+    @Test
+    public void testWindowAndBarriers() throws Exception {
+        final var future = writer.write(createInput(7));
+
+        // two chunks of two messages, each followed by a barrier, only barriers have a callback
+        assertEquals(6, entries.size());
+        assertMessage(0, 1);
+        assertMessage(1, 2);
+        assertBarrier(2, 3);
+        assertMessage(3, 4);
+        assertMessage(4, 5);
+        assertBarrier(5, 6);
+
+        // the first barrier completes the first chunk, making room for another one
+        complete(2);
+        assertEquals(9, entries.size());
+        assertMessage(6, 7);
+        assertMessage(7, 8);
+        assertBarrier(8, 9);
+        assertFalse(future.isDone());
+
+        // the last chunk is followed by a barrier, too
+        complete(5);
+        assertEquals(11, entries.size());
+        assertMessage(9, 10);
+        assertBarrier(10, 11);
+
+        complete(8);
+        assertEquals(11, entries.size());
+        assertFalse(future.isDone());
+
+        complete(10);
+        assertTrue(future.get().isSuccessful());
+        verify(messageSpy).spyMessage(AddBundleMessagesInput.class,
+            MessageSpy.StatisticsGroup.TO_SWITCH_SUBMIT_SUCCESS);
+        verify(errorRegistration).close();
+    }
+
+    @Test
+    public void testConversionDeferredToExecutor() throws Exception {
+        writer.write(createInput(5));
+        assertEquals(6, entries.size());
+        verify(sendExperimenter, times(4)).buildRequest(any(), any(), any());
+
+        // barrier reply arrives on the event loop, which must not convert the next chunk
+        entries.get(2).callback.onSuccess(null);
+        assertEquals(6, entries.size());
+        verify(sendExperimenter, times(4)).buildRequest(any(), any(), any());
+
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        assertEquals(8, entries.size());
+        verify(sendExperimenter, times(5)).buildRequest(any(), any(), any());
+    }
+
+    @Test
+    public void testErrorsAggregated() throws Exception {
+        final var future = writer.write(createInput(3));
+        assertEquals(5, entries.size());
+
+        // an error for our second message and one for an unrelated request
+        errorListener.accept(new ErrorMessageBuilder().setType(Uint16.ONE).setCode(Uint16.TWO).setXid(Uint32.TWO)
+            .build());
+        errorListener.accept(new ErrorMessageBuilder().setType(Uint16.ONE).setCode(Uint16.TWO)
+            .setXid(Uint32.valueOf(100)).build());
+        complete(2);
+        assertFalse(future.isDone());
+        entries.get(4).callback.onFailure(new IllegalStateException("Connection closed"));
+        runTasks();
+
+        final var result = future.get();
+        assertFalse(result.isSuccessful());
+        assertEquals(2, result.getErrors().size());
+        verify(messageSpy).spyMessage(AddBundleMessagesInput.class,
+            MessageSpy.StatisticsGroup.TO_SWITCH_SUBMIT_FAILURE);
+        verify(messageSpy, never()).spyMessage(AddBundleMessagesInput.class,
+            MessageSpy.StatisticsGroup.TO_SWITCH_SUBMIT_SUCCESS);
+    }
+
+    @Test
+    public void testEmptyInputReleasesXid() throws Exception {
+        final var future = writer.write(createInput(0));
+
+        assertTrue(future.get().isSuccessful());
+        verify(outboundQueue).commitEntry(eq(Uint32.ONE), isNull(), isNull());
+    }
+
+    @Test
+    public void testQuotaExceeded() throws Exception {
+        when(requestContextStack.createRequestContext()).thenReturn(null);
+
+        final var result = writer.write(createInput(1)).get();
+        assertFalse(result.isSuccessful());
+        assertTrue(entries.isEmpty());
+    }
+
+    private void assertMessage(final int index, final long xid) {
+        final var entry = entries.get(index);
+        assertEquals(Uint32.valueOf(xid), entry.xid);
+        assertEquals(Uint32.valueOf(xid), entry.message.getXid());
+        assertFalse(entry.message instanceof BarrierInput);
+        assertNull(entry.callback);
+    }
+
+    private void assertBarrier(final int index, final long xid) {
+        final var entry = entries.get(index);
+        assertEquals(Uint32.valueOf(xid), entry.xid);
+        assertTrue(entry.message instanceof BarrierInput);
+    }
+
+    // Completes the barrier at specified index and runs whatever it scheduled
+    private void complete(final int index) {
+        entries.get(index).callback.onSuccess(null);
+        runTasks();
+    }
+
+    private void runTasks() {
+        for (var task = tasks.poll(); task != null; task = tasks.poll()) {
+            task.run();
+        }
+    }
+
+    private static AddBundleMessagesInput createInput(final int count) {
+        final var builder = new MessageBuilder().setNode(NODE_REF)
+            .setBundleInnerMessage(new BundleAddFlowCaseBuilder().build());
+        final var messages = new ArrayList<Message>(count);
+        for (int i = 0; i < count; ++i) {
+            messages.add(builder.build());
+        }
+        return new AddBundleMessagesInputBuilder()
+            .setNode(NODE_REF)
+            .setBundleId(new BundleId(Uint32.ONE))
+            .setFlags(new BundleFlags(true, false))
+            .setMessages(new MessagesBuilder().setMessage(messages).build())
+            .build();
+    }
+}
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Futures;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueuePriority;
 import org.opendaylight.openflowplugin.impl.services.SendEchoImpl;
 import org.opendaylight.openflowplugin.impl.services.ServiceMocking;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.echo.service.rev150305.SendEchoInputBuilder;
@@ -47,6 +48,7 @@ public class SalEchoServiceImplTest extends ServiceMocking {
         assertTrue(echoOutput.isDone());
         assertTrue(echoOutput.get().isSuccessful());
         verify(mockedRequestContextStack).createRequestContext();
-        verify(mockedOutboundQueue).commitEntry(eq(Uint32.valueOf(2121)), any(), any());
+        verify(mockedOutboundQueue).commitEntry(eq(Uint32.valueOf(2121)), any(), any(),
+            eq(OutboundQueuePriority.CONTROL));
     }
 }
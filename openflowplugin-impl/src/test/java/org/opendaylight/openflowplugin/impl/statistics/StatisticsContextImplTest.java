@@ -73,7 +73,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                 MoreExecutors.directExecutor(),
                 config,
                 true,
-                false);
+                false,
+                null);
 
         statisticsContext.setStatisticsGatheringService(mockedStatisticsGatheringService);
         statisticsContext.setStatisticsGatheringOnTheFlyService(mockedStatisticsOnFlyGatheringService);
@@ -100,7 +101,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                         MoreExecutors.directExecutor(),
                         config,
                         true,
-                        false);
+                        false,
+                        null);
 
         final RequestContext<Object> requestContext = statisticsContext.createRequestContext();
         statisticsContext.close();
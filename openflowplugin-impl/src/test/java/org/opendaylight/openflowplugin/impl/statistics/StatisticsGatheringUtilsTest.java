@@ -16,6 +16,8 @@ import static org.mockito.Mockito.when;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -45,6 +47,7 @@ import org.opendaylight.openflowplugin.api.openflow.registry.group.DeviceGroupRe
 import org.opendaylight.openflowplugin.api.openflow.registry.meter.DeviceMeterRegistry;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.StatisticsGatherer;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsSink;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFactory;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManagerFactory;
@@ -168,6 +171,8 @@ public class StatisticsGatheringUtilsTest {
     private StatisticsGatherer<MultipartReply> statisticsService;
     @Mock
     private DeviceInfo deviceInfo;
+    @Mock
+    private StatisticsSink statisticsSink;
 
     private MultipartWriterProvider provider;
 
@@ -256,6 +261,42 @@ public class StatisticsGatheringUtilsTest {
                 eq(groupPath), any(GroupStatistics.class));
     }
 
+    @Test
+    public void testGatherStatistics_noLockOnTranslateExecutor() throws Exception {
+        final MultipartType type = MultipartType.OFPMPGROUP;
+        final MultipartReplyGroupCaseBuilder mpReplyGroupCaseBld = new MultipartReplyGroupCaseBuilder()
+                .setMultipartReplyGroup(new MultipartReplyGroupBuilder()
+                    .setGroupStats(List.of(new GroupStatsBuilder()
+                        .setBucketStats(List.of(createBucketStat(21L, 42L)))
+                        .setByteCount(Uint64.valueOf(84))
+                        .setPacketCount(Uint64.valueOf(63))
+                        .setDurationSec(Uint32.valueOf(11))
+                        .setDurationNsec(Uint32.valueOf(12))
+                        .setRefCount(Uint32.valueOf(13))
+                        .setGroupId(new GroupId(Uint32.valueOf(19)))
+                        .build()))
+                    .build());
+        when(statisticsService.getStatisticsOfType(any(EventIdentifier.class), eq(type)))
+                .thenReturn(Futures.immediateFuture(RpcResultBuilder.success(
+                    List.of(assembleMPReplyMessage(type, mpReplyGroupCaseBld.build()))).build()));
+
+        // Translation runs inline, as if on the event loop, writes are queued
+        final Deque<Runnable> writes = new ArrayDeque<>();
+        final ListenableFuture<Boolean> gatherStatisticsResult = StatisticsGatheringUtils.gatherStatistics(
+            statisticsService, deviceInfo, type, deviceContext, deviceContext,
+            ConvertorManagerFactory.createDefaultManager(), provider, MoreExecutors.directExecutor(), writes::add);
+
+        Assert.assertEquals(1, writes.size());
+        verify(deviceContext, Mockito.never()).acquireWriteTransactionLock();
+        verify(deviceContext, Mockito.never()).writeToTransaction(any(), any(), any());
+        Assert.assertFalse(gatherStatisticsResult.isDone());
+
+        writes.forEach(Runnable::run);
+        verify(deviceContext).acquireWriteTransactionLock();
+        verify(deviceContext).releaseWriteTransactionLock();
+        Assert.assertTrue(gatherStatisticsResult.get(1, TimeUnit.SECONDS));
+    }
+
     @Test
     public void testGatherStatistics_groupDesc() throws Exception {
         final MultipartType type = MultipartType.OFPMPGROUPDESC;
@@ -479,6 +520,37 @@ public class StatisticsGatheringUtilsTest {
                                                          any());
     }
 
+    @Test
+    public void testGatherStatistics_flowToSink() throws Exception {
+        final MultipartType type = MultipartType.OFPMPFLOW;
+        when(statisticsSink.handles(any())).thenReturn(true);
+        when(flowDescriptor.getFlowId()).thenReturn(flowId);
+        provider = MultipartWriterProviderFactory.createDefaultProvider(deviceContext, statisticsSink);
+        Assert.assertFalse(provider.lookup(type).orElseThrow().writesToDatastore());
+
+        final FlowStatsBuilder flowStatsBld = new FlowStatsBuilder()
+                .setByteCount(Uint64.valueOf(55))
+                .setPacketCount(Uint64.valueOf(56))
+                .setDurationSec(Uint32.valueOf(57))
+                .setDurationNsec(Uint32.valueOf(58L))
+                .setTableId(Uint8.ZERO)
+                .setMatch(new org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping
+                    .MatchBuilder().setMatchEntry(List.of()).build())
+                .setFlags(new FlowModFlags(true, false, false, false, true));
+        final MultipartReplyFlowCaseBuilder mpReplyFlowCaseBld = new MultipartReplyFlowCaseBuilder()
+                .setMultipartReplyFlow(new MultipartReplyFlowBuilder()
+                    .setFlowStats(List.of(flowStatsBld.build()))
+                    .build());
+        fireAndCheck(type, List.of(assembleMPReplyMessage(type, mpReplyFlowCaseBld.build())));
+
+        // Flows are not present in the operational datastore, there is nothing to delete
+        verify(deviceContext, Mockito.never()).getReadTransaction();
+        verify(deviceContext, Mockito.never()).writeToTransaction(any(), any(), any());
+        verify(deviceFlowRegistry).processMarks();
+        verify(statisticsSink).writeFlowStatistics(eq(deviceInfo), eq(flowId), any());
+        verify(statisticsSink).statisticsGathered(deviceInfo, type);
+    }
+
     @Test
     public void testGatherStatistics_meterConfig() throws Exception {
         final MultipartType type = MultipartType.OFPMPMETERCONFIG;
@@ -110,7 +110,9 @@ public class StatisticsManagerImplTest {
                         .setIsStatisticsPollingOn(false)
                         .build(), rpcProviderRegistry,
                 convertorManager,
-                MoreExecutors.directExecutor());
+                MoreExecutors.directExecutor(),
+                null,
+                null);
     }
 
     @Test
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.ofpspecific;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.BarrierWindow;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BarrierStatisticsTest {
+    private static final String DEVICE = "openflow:1";
+
+    @Mock
+    private ConnectionAdapter oldConnection;
+    @Mock
+    private ConnectionAdapter newConnection;
+    @Mock
+    private BarrierWindow window;
+
+    @After
+    public void tearDown() {
+        BarrierStatistics.unregister(DEVICE, oldConnection);
+        BarrierStatistics.unregister(DEVICE, newConnection);
+    }
+
+    @Test
+    public void testStaleUnregister() {
+        doReturn(window).when(newConnection).getBarrierWindow();
+        doReturn(100).when(window).getMessageCount();
+        doReturn(TimeUnit.MILLISECONDS.toNanos(50)).when(window).getIntervalNanos();
+        doReturn(TimeUnit.MILLISECONDS.toNanos(2)).when(window).getRoundTripNanos();
+
+        // the device reconnects before its old connection is removed
+        BarrierStatistics.register(DEVICE, oldConnection);
+        BarrierStatistics.register(DEVICE, newConnection);
+        BarrierStatistics.unregister(DEVICE, oldConnection);
+
+        assertEquals(List.of("openflow:1 : count=100, interval=50ms, rtt=2000us"),
+            BarrierStatistics.provideStatistics());
+
+        BarrierStatistics.unregister(DEVICE, newConnection);
+        assertTrue(BarrierStatistics.provideStatistics().isEmpty());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.services.direct;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.impl.common.MultipartRequestInputFactory;
+import org.opendaylight.openflowplugin.impl.statistics.services.direct.DirectStatisticsCache.DeviceCache;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReply;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DirectStatisticsCacheTest {
+    private static final long TTL = 1000;
+    private static final OfHeader PORT_STATS = request(MultipartType.OFPMPPORTSTATS);
+    private static final OfHeader QUEUE_STATS = request(MultipartType.OFPMPQUEUE);
+
+    @Mock
+    private DeviceInfo deviceInfo;
+    @Mock
+    private MultipartReply reply;
+
+    private final AtomicInteger sent = new AtomicInteger();
+    private long now;
+    private DirectStatisticsCache cache;
+    private DeviceCache deviceCache;
+
+    @Before
+    public void setUp() {
+        when(deviceInfo.getNodeId()).thenReturn(new NodeId("openflow:1"));
+        cache = new DirectStatisticsCache(TTL, () -> now);
+        deviceCache = cache.forDevice(deviceInfo);
+    }
+
+    @Test
+    public void testCoalesceOutstanding() throws Exception {
+        final var pending = SettableFuture.<RpcResult<List<MultipartReply>>>create();
+        final var first = deviceCache.lookup(PORT_STATS, false, () -> send(pending));
+        final var second = deviceCache.lookup(PORT_STATS, false, () -> send(pending));
+        final var other = deviceCache.lookup(QUEUE_STATS, false, () -> send(success()));
+        assertEquals(2, sent.get());
+        assertFalse(first.isDone());
+        assertSame(first, second);
+        assertTrue(other.isDone());
+
+        pending.set(success().get());
+        assertEquals(List.of(reply), second.get().getResult());
+    }
+
+    @Test
+    public void testExpiry() {
+        final var first = deviceCache.lookup(PORT_STATS, false, () -> send(success()));
+        now += TTL;
+        assertSame(first, deviceCache.lookup(PORT_STATS, false, () -> send(success())));
+        assertEquals(1, sent.get());
+
+        now++;
+        assertNotSame(first, deviceCache.lookup(PORT_STATS, false, () -> send(success())));
+        assertEquals(2, sent.get());
+    }
+
+    @Test
+    public void testBypass() {
+        final var first = deviceCache.lookup(PORT_STATS, false, () -> send(success()));
+        final var bypassed = deviceCache.lookup(PORT_STATS, true, () -> send(success()));
+        assertNotSame(first, bypassed);
+        assertEquals(2, sent.get());
+
+        // the bypassing request refreshes the cache
+        assertSame(bypassed, deviceCache.lookup(PORT_STATS, false, () -> send(success())));
+        assertEquals(2, sent.get());
+    }
+
+    @Test
+    public void testFailuresNotCached() throws Exception {
+        final var failed = deviceCache.lookup(PORT_STATS, false, () -> send(Futures.immediateFuture(
+            RpcResultBuilder.<List<MultipartReply>>failed().withError(ErrorType.APPLICATION, "failed").build())));
+        assertFalse(failed.get().isSuccessful());
+        assertEquals(0, deviceCache.size());
+
+        final var thrown = deviceCache.lookup(PORT_STATS, false, () -> {
+            throw new IllegalStateException("not connected");
+        });
+        assertTrue(thrown.isDone());
+        assertEquals(0, deviceCache.size());
+        final var ex = assertThrows(ExecutionException.class, thrown::get);
+        assertTrue(ex.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testPublish() throws Exception {
+        final var poll = SettableFuture.<RpcResult<List<MultipartReply>>>create();
+        deviceCache.publish(PORT_STATS, poll);
+
+        // outstanding polls are joined as well
+        final var joined = deviceCache.<MultipartReply>lookup(PORT_STATS, false, () -> send(success()));
+        assertEquals(0, sent.get());
+        poll.set(success().get());
+        assertEquals(List.of(reply), joined.get().getResult());
+    }
+
+    @Test
+    public void testDeviceRemoved() {
+        deviceCache.lookup(PORT_STATS, false, () -> send(success()));
+        assertSame(deviceCache, cache.forDevice(deviceInfo));
+
+        cache.onDeviceRemoved(deviceInfo);
+        final var newDeviceCache = cache.forDevice(deviceInfo);
+        assertNotSame(deviceCache, newDeviceCache);
+        assertEquals(0, newDeviceCache.size());
+    }
+
+    private ListenableFuture<RpcResult<List<MultipartReply>>> send(
+            final ListenableFuture<RpcResult<List<MultipartReply>>> result) {
+        sent.incrementAndGet();
+        return result;
+    }
+
+    private ListenableFuture<RpcResult<List<MultipartReply>>> success() {
+        return RpcResultBuilder.success(List.of(reply)).buildFuture();
+    }
+
+    private static OfHeader request(final MultipartType type) {
+        return MultipartRequestInputFactory.makeMultipartRequest(Uint32.ZERO, OFConstants.OFP_VERSION_1_3, type,
+            false);
+    }
+}
@@ -47,7 +47,7 @@ public class FlowDirectStatisticsServiceTest extends AbstractDirectStatisticsSer
         service = new MultiGetFlowStatistics(requestContextStack,
                                                   deviceContext,
                                                   convertorManager,
-                                                  multipartWriterProvider);
+                                                  multipartWriterProvider, null);
         final DeviceFlowRegistry registry = mock(DeviceFlowRegistry.class);
         when(registry.retrieveDescriptor(any())).thenReturn(FlowDescriptorFactory.create(TABLE_NO, new FlowId("1")));
         when(deviceContext.getDeviceFlowRegistry()).thenReturn(registry);
@@ -45,7 +45,7 @@ public class GroupDirectStatisticsServiceTest extends AbstractDirectStatisticsSe
         service = new MultiGetGroupStatistics(requestContextStack,
                                                    deviceContext,
                                                    convertorManager,
-                                                   multipartWriterProvider);
+                                                   multipartWriterProvider, null);
     }
 
     @Override
@@ -44,7 +44,7 @@ public class MeterDirectStatisticsServiceTest extends AbstractDirectStatisticsSe
     @Override
     public void setUp() {
         service = new MultiGetMeterStatistics(requestContextStack, deviceContext, convertorManager,
-            multipartWriterProvider);
+            multipartWriterProvider, null);
     }
 
     @Override
@@ -43,7 +43,7 @@ public class NodeConnectorDirectStatisticsServiceTest extends AbstractDirectStat
     @Override
     public void setUp() {
         service = new MultiGetNodeConnectorStatistics(requestContextStack, deviceContext, convertorManager,
-            multipartWriterProvider);
+            multipartWriterProvider, null);
     }
 
     @Override
@@ -46,7 +46,7 @@ public class QueueDirectStatisticsServiceTest extends AbstractDirectStatisticsSe
     @Override
     public void setUp() {
         service = new MultiGetQueueStatistics(requestContextStack, deviceContext, convertorManager,
-            multipartWriterProvider);
+            multipartWriterProvider, null);
     }
 
     @Override
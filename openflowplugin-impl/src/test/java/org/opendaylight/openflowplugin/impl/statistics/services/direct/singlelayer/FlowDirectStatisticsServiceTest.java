@@ -59,7 +59,7 @@ public class FlowDirectStatisticsServiceTest extends AbstractDirectStatisticsSer
         service = new SingleGetFlowStatistics(requestContextStack,
                                                   deviceContext,
                                                   convertorManager,
-                                                  multipartWriterProvider);
+                                                  multipartWriterProvider, null);
         when(registry.retrieveDescriptor(any())).thenReturn(FlowDescriptorFactory.create(TABLE_NO, new FlowId("1")));
         when(deviceContext.getDeviceFlowRegistry()).thenReturn(registry);
     }
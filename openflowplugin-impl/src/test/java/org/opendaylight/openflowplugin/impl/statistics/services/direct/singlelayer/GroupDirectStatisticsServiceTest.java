@@ -38,7 +38,7 @@ public class GroupDirectStatisticsServiceTest extends AbstractDirectStatisticsSe
         service = new SingleGetGroupStatistics(requestContextStack,
                                                    deviceContext,
                                                    convertorManager,
-                                                   multipartWriterProvider);
+                                                   multipartWriterProvider, null);
     }
 
     @Override
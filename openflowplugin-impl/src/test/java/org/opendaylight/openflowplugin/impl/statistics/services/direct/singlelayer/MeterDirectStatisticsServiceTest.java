@@ -44,7 +44,7 @@ public class MeterDirectStatisticsServiceTest extends AbstractDirectStatisticsSe
         service = new SingleGetMeterStatistics(requestContextStack,
                                                    deviceContext,
                                                    convertorManager,
-                                                   multipartWriterProvider);
+                                                   multipartWriterProvider, null);
     }
 
     @Override
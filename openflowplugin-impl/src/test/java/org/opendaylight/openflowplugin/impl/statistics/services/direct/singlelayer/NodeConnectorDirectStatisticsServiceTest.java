@@ -34,7 +34,7 @@ public class NodeConnectorDirectStatisticsServiceTest extends AbstractDirectStat
     @Override
     public void setUp() {
         service = new SingleGetNodeConnectorStatistics(requestContextStack, deviceContext, convertorManager,
-            multipartWriterProvider);
+            multipartWriterProvider, null);
     }
 
     @Override
@@ -45,7 +45,7 @@ public class QueueDirectStatisticsServiceTest extends AbstractDirectStatisticsSe
     @Override
     public void setUp() {
         service = new SingleGetQueueStatistics(requestContextStack, deviceContext, convertorManager,
-            multipartWriterProvider);
+            multipartWriterProvider, null);
     }
 
     @Override
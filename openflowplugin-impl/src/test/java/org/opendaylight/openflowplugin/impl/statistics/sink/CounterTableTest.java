@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.sink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class CounterTableTest {
+    private final CounterTable<String> table = new CounterTable<>(2, 1);
+
+    @Test
+    public void testPutDetectsChanges() {
+        assertTrue(table.put("a", 1, 10, 100));
+        assertFalse(table.put("a", 2, 10, 100));
+        // Untracked column only
+        assertFalse(table.put("a", 3, 10, 200));
+        assertTrue(table.put("a", 4, 11, 200));
+
+        final var rows = table.select((key, values, timestamp) -> key + values[0] + "/" + values[1] + "@" + timestamp);
+        assertEquals(1, rows.size());
+        assertEquals("a11/200@4", rows.get(0));
+    }
+
+    @Test
+    public void testSweep() {
+        table.put("a", 1, 10, 100);
+        table.put("b", 1, 20, 200);
+        assertEquals(List.of(), table.sweep((key, values, timestamp) -> key));
+        assertEquals(2, table.size());
+
+        // "b" was not reported by the next poll
+        table.put("a", 2, 11, 100);
+        assertEquals(List.of("b20@1"), table.sweep((key, values, timestamp) -> key + values[0] + "@" + timestamp));
+        assertEquals(1, table.size());
+
+        // A new key reuses the row of the removed one
+        assertTrue(table.put("c", 3, 30, 300));
+        table.put("a", 3, 11, 100);
+        assertEquals(List.of(), table.sweep((key, values, timestamp) -> key));
+        assertEquals(2, table.size());
+        assertEquals(16, table.capacity());
+    }
+
+    @Test
+    public void testGrowAndReuse() {
+        for (int i = 0; i < 100; i++) {
+            table.put("key" + i, i, i, i * 2L);
+        }
+        assertEquals(100, table.size());
+        assertEquals(128, table.capacity());
+
+        final Map<String, Long> values = table.select((key, row, timestamp) -> Map.entry(key, row[1])).stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertEquals(Long.valueOf(198), values.get("key99"));
+        assertEquals(Long.valueOf(0), values.get("key0"));
+
+        assertTrue(table.remove("key5"));
+        assertFalse(table.remove("key5"));
+        assertTrue(table.put("other", 1, 1, 1));
+        assertEquals(100, table.size());
+        assertEquals(128, table.capacity());
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.sink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.RpcProviderService;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationProperty;
+import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.FlowCounters;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.PortCounters;
+import org.opendaylight.openflowplugin.api.openflow.statistics.sink.StatisticsCounterListener;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.and.statistics.map.list.FlowAndStatisticsMapListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.statistics.types.rev130925.duration.DurationBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.statistics.types.rev130925.node.connector.statistics.BytesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.statistics.types.rev130925.node.connector.statistics.PacketsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetFlowCountersInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.statistics.counters.rev261019.GetPortCountersInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.port.statistics.rev131214.node.connector.statistics.and.port.number.map.NodeConnectorStatisticsAndPortNumberMapBuilder;
+import org.opendaylight.yangtools.binding.Rpc;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsCounterStoreImplTest {
+    private static final NodeId NODE_ID = new NodeId("openflow:1");
+    private static final FlowId FLOW_ID = new FlowId("flow1");
+    private static final FlowId OTHER_FLOW_ID = new FlowId("flow2");
+    private static final NodeConnectorId PORT_ID = new NodeConnectorId("openflow:1:2");
+
+    @Mock
+    private ConfigurationService configurationService;
+    @Mock
+    private RpcProviderService rpcProviderService;
+    @Mock
+    private Registration rpcRegistration;
+    @Mock
+    private DeviceInfo deviceInfo;
+    @Mock
+    private StatisticsCounterListener listener;
+
+    private StatisticsCounterStoreImpl store;
+
+    @Before
+    public void setUp() {
+        when(rpcProviderService.registerRpcImplementations(any(Rpc[].class))).thenReturn(rpcRegistration);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString()),
+            any())).thenReturn(true);
+        when(deviceInfo.getNodeId()).thenReturn(NODE_ID);
+        store = new StatisticsCounterStoreImpl(configurationService, rpcProviderService);
+    }
+
+    @After
+    public void tearDown() {
+        store.close();
+        verify(rpcRegistration).close();
+    }
+
+    @Test
+    public void testFlowCounters() {
+        writeFlow(10, 1000, 5);
+
+        final var counters = store.getFlowCounters(NODE_ID);
+        assertEquals(1, counters.size());
+        final var flow = counters.get(0);
+        assertEquals(NODE_ID, flow.nodeId());
+        assertEquals(3, flow.tableId());
+        assertEquals(FLOW_ID, flow.flowId());
+        assertEquals(10, flow.packetCount());
+        assertEquals(1000, flow.byteCount());
+        assertEquals(5, flow.durationSeconds());
+        assertTrue(store.getFlowCounters(new NodeId("openflow:2")).isEmpty());
+    }
+
+    @Test
+    public void testPortCounters() {
+        writePort(1, 2);
+
+        final var counters = store.getPortCounters(NODE_ID);
+        assertEquals(1, counters.size());
+        final var port = counters.get(0);
+        assertEquals(PORT_ID, port.nodeConnectorId());
+        assertEquals(1, port.receivedPackets());
+        assertEquals(2, port.transmittedPackets());
+        assertEquals(100, port.receivedBytes());
+        assertEquals(200, port.transmittedBytes());
+        assertEquals(7, port.receiveDrops());
+        assertEquals(0, port.transmitErrors());
+    }
+
+    @Test
+    public void testChangeFeed() {
+        final var registration = store.registerListener(listener);
+        writeFlow(10, 1000, 5);
+        // Only the duration moved on
+        writeFlow(10, 1000, 6);
+        writeFlow(11, 1100, 7);
+        verify(listener, times(2)).onFlowCountersChanged(any(FlowCounters.class));
+
+        writePort(1, 2);
+        writePort(1, 2);
+        verify(listener, times(1)).onPortCountersChanged(any(PortCounters.class));
+
+        registration.close();
+        writePort(3, 4);
+        verify(listener, times(1)).onPortCountersChanged(any(PortCounters.class));
+    }
+
+    @Test
+    public void testFlowRemovedBetweenPolls() {
+        final var registration = store.registerListener(listener);
+        writeFlow(FLOW_ID, 10, 1000, 5);
+        writeFlow(OTHER_FLOW_ID, 20, 2000, 5);
+        writePort(1, 2);
+        store.statisticsGathered(deviceInfo, MultipartType.OFPMPFLOW);
+        store.statisticsGathered(deviceInfo, MultipartType.OFPMPPORTSTATS);
+        assertEquals(2, store.getFlowCounters(NODE_ID).size());
+        verify(listener, never()).onFlowCountersRemoved(any());
+
+        // The second flow is gone by the next poll, the port was not polled again yet
+        writeFlow(FLOW_ID, 11, 1100, 6);
+        store.statisticsGathered(deviceInfo, MultipartType.OFPMPFLOW);
+        final var counters = store.getFlowCounters(NODE_ID);
+        assertEquals(1, counters.size());
+        assertEquals(FLOW_ID, counters.get(0).flowId());
+        assertEquals(1, store.getPortCounters(NODE_ID).size());
+
+        final var captor = ArgumentCaptor.forClass(FlowCounters.class);
+        verify(listener).onFlowCountersRemoved(captor.capture());
+        assertEquals(OTHER_FLOW_ID, captor.getValue().flowId());
+        assertEquals(20, captor.getValue().packetCount());
+        verify(listener, never()).onPortCountersRemoved(any());
+
+        // The port is gone as well
+        store.statisticsGathered(deviceInfo, MultipartType.OFPMPPORTSTATS);
+        assertTrue(store.getPortCounters(NODE_ID).isEmpty());
+        verify(listener).onPortCountersRemoved(any());
+        registration.close();
+    }
+
+    @Test
+    public void testStaleSessionDoesNotSweep() {
+        final var newDeviceInfo = mock(DeviceInfo.class);
+        when(newDeviceInfo.getNodeId()).thenReturn(NODE_ID);
+        writeFlow(10, 1000, 5);
+        store.statisticsGathered(deviceInfo, MultipartType.OFPMPFLOW);
+        writePort(newDeviceInfo, 1, 2);
+
+        // The old session completes a poll after the new one took over
+        store.statisticsGathered(deviceInfo, MultipartType.OFPMPFLOW);
+        assertEquals(1, store.getFlowCounters(NODE_ID).size());
+    }
+
+    @Test
+    public void testRemoveDevice() {
+        writeFlow(10, 1000, 5);
+        writePort(1, 2);
+        store.removeDevice(deviceInfo);
+        assertTrue(store.getFlowCounters(NODE_ID).isEmpty());
+        assertTrue(store.getPortCounters(NODE_ID).isEmpty());
+    }
+
+    @Test
+    public void testRemoveStaleDevice() {
+        // The node reconnected and its new session wrote counters before the old session got removed
+        final var newDeviceInfo = mock(DeviceInfo.class);
+        when(newDeviceInfo.getNodeId()).thenReturn(NODE_ID);
+        writeFlow(10, 1000, 5);
+        writePort(newDeviceInfo, 1, 2);
+
+        store.removeDevice(deviceInfo);
+        assertEquals(1, store.getFlowCounters(NODE_ID).size());
+        assertEquals(1, store.getPortCounters(NODE_ID).size());
+
+        store.removeDevice(newDeviceInfo);
+        assertTrue(store.getFlowCounters(NODE_ID).isEmpty());
+        assertTrue(store.getPortCounters(NODE_ID).isEmpty());
+    }
+
+    @Test
+    public void testRpcsNotRegisteredWhenDisabled() {
+        final var disabledConfiguration = mock(ConfigurationService.class);
+        final var disabledRpcProviderService = mock(RpcProviderService.class);
+        when(disabledConfiguration.getProperty(eq(ConfigurationProperty.ENABLE_STATISTICS_COUNTER_STORE.toString()),
+            any())).thenReturn(false);
+
+        new StatisticsCounterStoreImpl(disabledConfiguration, disabledRpcProviderService).close();
+        verify(disabledRpcProviderService, never()).registerRpcImplementations(any(Rpc[].class));
+    }
+
+    @Test
+    public void testRpcs() throws InterruptedException, ExecutionException {
+        writeFlow(10, 1000, 5);
+        writePort(1, 2);
+
+        final var flowResult = store.invokeGetFlowCounters(new GetFlowCountersInputBuilder().setNode(NODE_ID).build())
+            .get();
+        assertTrue(flowResult.isSuccessful());
+        final var flow = flowResult.getResult().nonnullFlowCounter().get(0);
+        assertEquals(Uint8.valueOf(3), flow.getTableId());
+        assertEquals(FLOW_ID.getValue(), flow.getFlowId());
+        assertEquals(Uint64.valueOf(10), flow.getPacketCount());
+
+        final var portResult = store.invokeGetPortCounters(new GetPortCountersInputBuilder().setNode(NODE_ID).build())
+            .get();
+        assertTrue(portResult.isSuccessful());
+        final var port = portResult.getResult().nonnullPortCounter().get(0);
+        assertEquals(PORT_ID, port.getNodeConnectorId());
+        assertEquals(Uint64.valueOf(200), port.getTransmittedBytes());
+
+        assertTrue(store.invokeGetFlowCounters(new GetFlowCountersInputBuilder()
+            .setNode(new NodeId("openflow:2")).build()).get().getResult().nonnullFlowCounter().isEmpty());
+    }
+
+    private void writeFlow(final long packets, final long bytes, final long seconds) {
+        writeFlow(FLOW_ID, packets, bytes, seconds);
+    }
+
+    private void writeFlow(final FlowId flowId, final long packets, final long bytes, final long seconds) {
+        store.writeFlowStatistics(deviceInfo, flowId, new FlowAndStatisticsMapListBuilder()
+            .setTableId(Uint8.valueOf(3))
+            .setPacketCount(new Counter64(Uint64.valueOf(packets)))
+            .setByteCount(new Counter64(Uint64.valueOf(bytes)))
+            .setDuration(new DurationBuilder()
+                .setSecond(new Counter32(Uint32.valueOf(seconds)))
+                .setNanosecond(new Counter32(Uint32.ZERO))
+                .build())
+            .build());
+    }
+
+    private void writePort(final long received, final long transmitted) {
+        writePort(deviceInfo, received, transmitted);
+    }
+
+    private void writePort(final DeviceInfo session, final long received, final long transmitted) {
+        store.writePortStatistics(session, PORT_ID, new NodeConnectorStatisticsAndPortNumberMapBuilder()
+            .setNodeConnectorId(PORT_ID)
+            .setPackets(new PacketsBuilder()
+                .setReceived(Uint64.valueOf(received))
+                .setTransmitted(Uint64.valueOf(transmitted))
+                .build())
+            .setBytes(new BytesBuilder()
+                .setReceived(Uint64.valueOf(received * 100))
+                .setTransmitted(Uint64.valueOf(transmitted * 100))
+                .build())
+            .setReceiveDrops(Uint64.valueOf(7))
+            .build());
+    }
+}
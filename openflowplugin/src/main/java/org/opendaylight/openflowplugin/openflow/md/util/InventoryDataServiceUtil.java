@@ -70,6 +70,14 @@ public abstract class InventoryDataServiceUtil {
 
     public static NodeConnectorId nodeConnectorIdfromDatapathPortNo(final Uint64 datapathid, final Uint32 portNo,
                                                                     final OpenflowVersion ofVersion) {
+        final var interner = datapathid == null || portNo == null ? null
+            : NodeConnectorInterner.forDatapathId(datapathid);
+        return interner == null ? newNodeConnectorId(datapathid, portNo, ofVersion)
+            : interner.nodeConnectorId(portNo, ofVersion);
+    }
+
+    static NodeConnectorId newNodeConnectorId(final Uint64 datapathid, final Uint32 portNo,
+            final OpenflowVersion ofVersion) {
         String logicalName = OpenflowPortsUtil.getPortLogicalName(ofVersion, portNo);
         return new NodeConnectorId(OFConstants.OF_URI_PREFIX + datapathid + ":" + (logicalName == null
                 ? portNo : logicalName));
@@ -100,7 +108,11 @@ public abstract class InventoryDataServiceUtil {
 
     public static NodeConnectorRef nodeConnectorRefFromDatapathIdPortno(final Uint64 datapathId, final Uint32 portNo,
             final OpenflowVersion ofVersion) {
-        return new NodeConnectorRef(nodeConnectorInstanceIdentifierFromDatapathIdPortno(datapathId, portNo, ofVersion));
+        final var interner = datapathId == null || portNo == null ? null
+            : NodeConnectorInterner.forDatapathId(datapathId);
+        return interner == null
+            ? new NodeConnectorRef(nodeConnectorInstanceIdentifierFromDatapathIdPortno(datapathId, portNo, ofVersion))
+            : interner.nodeConnectorRef(portNo, ofVersion);
     }
 
     public static NodeConnectorRef nodeConnectorRefFromDatapathIdPortno(final Uint64 datapathId, final Uint32 portNo,
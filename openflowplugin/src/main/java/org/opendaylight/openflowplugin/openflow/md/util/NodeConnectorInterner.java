@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.openflow.md.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Bounded caches of {@link NodeConnectorId} and {@link NodeConnectorRef} instances, so that translating the same
+ * port of the same device over and over does not create and format new objects each time. There is one cache per
+ * device, keyed by its datapath ID, and each cache holds entries keyed by port number and OpenFlow version.
+ *
+ * <p>
+ * Per-device caches are direct-mapped: a port maps to a single slot, which retains the port looked up last. Lookups
+ * are lock-free and do not allocate on a hit. Slots are replaced without synchronization, which is safe as entries
+ * are immutable and only ever replaced as a whole.
+ *
+ * <p>
+ * A direct-mapped cache with as many slots as there are ports still loses about a third of them to conflicts, hence
+ * each cache starts small and doubles whenever it has evicted more ports than it has slots, up to the number of slots
+ * set by the {@value #MAX_SLOTS_PROPERTY} system property, 4096 by default. Devices with more ports than that keep
+ * working, only a part of their ports is not interned. Setting the property to {@code 0} disables interning.
+ */
+final class NodeConnectorInterner {
+    private record Entry(
+            @NonNull Uint32 portNo,
+            @NonNull OpenflowVersion ofVersion,
+            @NonNull NodeConnectorId id,
+            @Nullable NodeConnectorRef ref) {
+        boolean matches(final Uint32 otherPortNo, final OpenflowVersion otherOfVersion) {
+            return ofVersion == otherOfVersion && portNo.equals(otherPortNo);
+        }
+    }
+
+    static final String MAX_SLOTS_PROPERTY = "openflowplugin.node-connector-interner.max-slots";
+    static final int MAX_SLOTS = maxSlots(Integer.getInteger(MAX_SLOTS_PROPERTY, 4096));
+
+    private static final int INITIAL_SLOTS = 16;
+    private static final int MAX_DEVICES = 4096;
+    private static final LoadingCache<Uint64, NodeConnectorInterner> DEVICES = CacheBuilder.newBuilder()
+        .maximumSize(MAX_DEVICES)
+        .build(CacheLoader.from(NodeConnectorInterner::new));
+
+    private final @NonNull Uint64 datapathId;
+
+    // Replaced as a whole when growing, a lookup racing with that just misses
+    private volatile Entry[] slots = new Entry[Math.min(INITIAL_SLOTS, MAX_SLOTS)];
+    // Not synchronized, a lost update merely delays growing
+    private int evictions;
+
+    private NodeConnectorInterner(final Uint64 datapathId) {
+        this.datapathId = requireNonNull(datapathId);
+    }
+
+    /**
+     * Return the cache of a device, or {@code null} if interning is disabled.
+     *
+     * @param datapathId datapath ID of the device
+     * @return the device's cache, or {@code null}
+     */
+    static @Nullable NodeConnectorInterner forDatapathId(final Uint64 datapathId) {
+        return MAX_SLOTS == 0 ? null : DEVICES.getUnchecked(datapathId);
+    }
+
+    @NonNull NodeConnectorId nodeConnectorId(final Uint32 portNo, final OpenflowVersion ofVersion) {
+        return lookup(slots, portNo, ofVersion).id;
+    }
+
+    @NonNull NodeConnectorRef nodeConnectorRef(final Uint32 portNo, final OpenflowVersion ofVersion) {
+        final var local = slots;
+        final var entry = lookup(local, portNo, ofVersion);
+        final var existing = entry.ref;
+        if (existing != null) {
+            return existing;
+        }
+
+        final var ref = new NodeConnectorRef(InventoryDataServiceUtil
+            .nodeConnectorInstanceIdentifierFromDatapathIdPortno(datapathId, portNo, ofVersion));
+        local[slot(local, portNo, ofVersion)] = new Entry(entry.portNo, entry.ofVersion, entry.id, ref);
+        return ref;
+    }
+
+    int slotCount() {
+        return slots.length;
+    }
+
+    private @NonNull Entry lookup(final Entry[] local, final Uint32 portNo, final OpenflowVersion ofVersion) {
+        final int slot = slot(local, portNo, ofVersion);
+        final var entry = local[slot];
+        if (entry != null && entry.matches(portNo, ofVersion)) {
+            return entry;
+        }
+
+        final var created = new Entry(portNo, ofVersion,
+            InventoryDataServiceUtil.newNodeConnectorId(datapathId, portNo, ofVersion), null);
+        local[slot] = created;
+        if (entry != null && ++evictions > local.length && local.length < MAX_SLOTS) {
+            grow(local);
+        }
+        return created;
+    }
+
+    private synchronized void grow(final Entry[] local) {
+        if (slots != local) {
+            // Somebody else grew the table already
+            return;
+        }
+
+        final var grown = new Entry[local.length << 1];
+        for (var entry : local) {
+            if (entry != null) {
+                grown[slot(grown, entry.portNo, entry.ofVersion)] = entry;
+            }
+        }
+        evictions = 0;
+        slots = grown;
+    }
+
+    private static int slot(final Entry[] local, final Uint32 portNo, final OpenflowVersion ofVersion) {
+        // Fibonacci hashing, so that both regular and reserved port numbers spread over the table
+        return (portNo.intValue() + ofVersion.ordinal()) * 0x9E3779B9 >>> Integer.SIZE
+            - Integer.numberOfTrailingZeros(local.length);
+    }
+
+    private static int maxSlots(final int configured) {
+        // Round up to a power of two, so that slots can be picked by shifting
+        return configured <= 0 ? 0 : Integer.highestOneBit(Math.clamp(configured, 2, 1 << 16) * 2 - 1);
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorUpdatedBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
@@ -164,4 +165,64 @@ public class InventoryDataServiceUtilTest {
             Assert.assertEquals(expectedPortNoStrings[i], portNoString);
         }
     }
+
+    /**
+     * Test that node connector identifiers and references are interned per device, port and version.
+     */
+    @Test
+    public void testNodeConnectorInterning() {
+        final var id = InventoryDataServiceUtil.nodeConnectorIdfromDatapathPortNo(PATH_ID, PORT_NO,
+            OpenflowVersion.OF10);
+        Assert.assertEquals("openflow:10:CONTROLLER", id.getValue());
+        Assert.assertSame(id, InventoryDataServiceUtil.nodeConnectorIdfromDatapathPortNo(PATH_ID, PORT_NO,
+            OpenflowVersion.OF10));
+
+        // Same port number means a different port in a different version
+        Assert.assertEquals("openflow:10:" + PORT_NO, InventoryDataServiceUtil.nodeConnectorIdfromDatapathPortNo(
+            PATH_ID, PORT_NO, OpenflowVersion.OF13).getValue());
+        Assert.assertEquals("openflow:11:CONTROLLER", InventoryDataServiceUtil.nodeConnectorIdfromDatapathPortNo(
+            Uint64.valueOf(11), PORT_NO, OpenflowVersion.OF10).getValue());
+
+        final var ref = InventoryDataServiceUtil.nodeConnectorRefFromDatapathIdPortno(PATH_ID, PORT_NO,
+            OpenflowVersion.OF10);
+        Assert.assertEquals(new NodeConnectorRef(InventoryDataServiceUtil
+            .nodeConnectorInstanceIdentifierFromDatapathIdPortno(PATH_ID, PORT_NO, OpenflowVersion.OF10)), ref);
+        Assert.assertSame(ref, InventoryDataServiceUtil.nodeConnectorRefFromDatapathIdPortno(PATH_ID, PORT_NO,
+            OpenflowVersion.OF10));
+    }
+
+    /**
+     * Test that per-device node connector caches grow with the number of ports in use, up to their limit.
+     */
+    @Test
+    public void testNodeConnectorInternerGrowth() {
+        final var small = NodeConnectorInterner.forDatapathId(Uint64.valueOf(12));
+        for (int pass = 0; pass < 10; pass++) {
+            small.nodeConnectorId(Uint32.ONE, OpenflowVersion.OF13);
+        }
+        Assert.assertEquals(16, small.slotCount());
+
+        final var large = NodeConnectorInterner.forDatapathId(Uint64.valueOf(13));
+        for (int pass = 0; pass < 10; pass++) {
+            for (int port = 1; port <= 500; port++) {
+                Assert.assertEquals("openflow:13:" + port,
+                    large.nodeConnectorId(Uint32.valueOf(port), OpenflowVersion.OF13).getValue());
+            }
+        }
+        Assert.assertTrue(large.slotCount() >= 1024);
+        Assert.assertTrue(large.slotCount() <= NodeConnectorInterner.MAX_SLOTS);
+
+        // Most ports are served from the cache now
+        final var ids = new NodeConnectorId[501];
+        for (int port = 1; port <= 500; port++) {
+            ids[port] = large.nodeConnectorId(Uint32.valueOf(port), OpenflowVersion.OF13);
+        }
+        int hits = 0;
+        for (int port = 1; port <= 500; port++) {
+            if (ids[port] == large.nodeConnectorId(Uint32.valueOf(port), OpenflowVersion.OF13)) {
+                hits++;
+            }
+        }
+        Assert.assertTrue("Only " + hits + " ports interned", hits > 400);
+    }
 }